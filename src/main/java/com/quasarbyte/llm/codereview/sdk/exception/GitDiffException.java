@@ -0,0 +1,11 @@
+package com.quasarbyte.llm.codereview.sdk.exception;
+
+public class GitDiffException extends LLMCodeReviewRuntimeException {
+    public GitDiffException(String message) {
+        super(message);
+    }
+
+    public GitDiffException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,19 @@
+package com.quasarbyte.llm.codereview.sdk.exception;
+
+/**
+ * Thrown when a review was stopped by its cancellation token. The finished inferences are saved,
+ * the review is resumed by running it again with {@link #getReviewId()}.
+ */
+public class ReviewCancelledException extends LLMCodeReviewRuntimeException {
+
+    private final Long reviewId;
+
+    public ReviewCancelledException(String message, Long reviewId, Throwable cause) {
+        super(message, cause);
+        this.reviewId = reviewId;
+    }
+
+    public Long getReviewId() {
+        return reviewId;
+    }
+}
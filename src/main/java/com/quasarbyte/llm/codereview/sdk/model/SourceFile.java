@@ -1,6 +1,9 @@
 package com.quasarbyte.llm.codereview.sdk.model;
 
+import com.quasarbyte.llm.codereview.sdk.model.diff.DiffHunk;
+
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class SourceFile {
     private String fileName;
@@ -12,6 +15,7 @@ public class SourceFile {
     private LocalDateTime modifiedAt;
     private LocalDateTime accessedAt;
     private String codePage;
+    private List<DiffHunk> diffHunks;
 
     public String getFileName() {
         return fileName;
@@ -93,4 +97,17 @@ public class SourceFile {
         this.codePage = codePage;
         return this;
     }
+
+    public List<DiffHunk> getDiffHunks() {
+        return diffHunks;
+    }
+
+    /**
+     * The changed hunks of a diff scoped review, only these are sent to the LLM.
+     * {@code null} when the whole file is reviewed.
+     */
+    public SourceFile setDiffHunks(List<DiffHunk> diffHunks) {
+        this.diffHunks = diffHunks;
+        return this;
+    }
 }
@@ -0,0 +1,88 @@
+package com.quasarbyte.llm.codereview.sdk.model.concurrency;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+
+public class AdaptiveConcurrencyAdjustment {
+    private LlmClient llmClient;
+    private Integer previousLimit;
+    private Integer newLimit;
+    private Integer inFlight;
+    private AdaptiveConcurrencySignal signal;
+    private Long latencyMillis;
+    private Long smoothedLatencyMillis;
+
+    public LlmClient getLlmClient() {
+        return llmClient;
+    }
+
+    public AdaptiveConcurrencyAdjustment setLlmClient(LlmClient llmClient) {
+        this.llmClient = llmClient;
+        return this;
+    }
+
+    public Integer getPreviousLimit() {
+        return previousLimit;
+    }
+
+    public AdaptiveConcurrencyAdjustment setPreviousLimit(Integer previousLimit) {
+        this.previousLimit = previousLimit;
+        return this;
+    }
+
+    public Integer getNewLimit() {
+        return newLimit;
+    }
+
+    public AdaptiveConcurrencyAdjustment setNewLimit(Integer newLimit) {
+        this.newLimit = newLimit;
+        return this;
+    }
+
+    public Integer getInFlight() {
+        return inFlight;
+    }
+
+    public AdaptiveConcurrencyAdjustment setInFlight(Integer inFlight) {
+        this.inFlight = inFlight;
+        return this;
+    }
+
+    public AdaptiveConcurrencySignal getSignal() {
+        return signal;
+    }
+
+    public AdaptiveConcurrencyAdjustment setSignal(AdaptiveConcurrencySignal signal) {
+        this.signal = signal;
+        return this;
+    }
+
+    public Long getLatencyMillis() {
+        return latencyMillis;
+    }
+
+    public AdaptiveConcurrencyAdjustment setLatencyMillis(Long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+        return this;
+    }
+
+    public Long getSmoothedLatencyMillis() {
+        return smoothedLatencyMillis;
+    }
+
+    public AdaptiveConcurrencyAdjustment setSmoothedLatencyMillis(Long smoothedLatencyMillis) {
+        this.smoothedLatencyMillis = smoothedLatencyMillis;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "AdaptiveConcurrencyAdjustment{" +
+                "previousLimit=" + previousLimit +
+                ", newLimit=" + newLimit +
+                ", inFlight=" + inFlight +
+                ", signal=" + signal +
+                ", latencyMillis=" + latencyMillis +
+                ", smoothedLatencyMillis=" + smoothedLatencyMillis +
+                '}';
+    }
+}
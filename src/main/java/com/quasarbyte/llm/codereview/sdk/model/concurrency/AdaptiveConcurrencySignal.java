@@ -0,0 +1,21 @@
+package com.quasarbyte.llm.codereview.sdk.model.concurrency;
+
+public enum AdaptiveConcurrencySignal {
+    /**
+     * Request succeeded within the latency tolerance, the limit is increased.
+     */
+    STABLE_LATENCY,
+    /**
+     * Request succeeded but was slower than the latency tolerance allows, the limit is decreased.
+     * Throttled requests that the OpenAI client retried internally usually show up this way.
+     */
+    HIGH_LATENCY,
+    /**
+     * Request failed with HTTP 429, the limit is decreased.
+     */
+    RATE_LIMITED,
+    /**
+     * Request failed with HTTP 5xx, the limit is decreased.
+     */
+    SERVER_ERROR
+}
@@ -0,0 +1,16 @@
+package com.quasarbyte.llm.codereview.sdk.model.concurrency;
+
+public enum CircuitBreakerState {
+    /**
+     * Requests are sent to the client.
+     */
+    CLOSED,
+    /**
+     * The client failed repeatedly, requests are routed to other clients until the open duration elapses.
+     */
+    OPEN,
+    /**
+     * The open duration elapsed, a limited number of trial requests decide whether the breaker closes or opens again.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,59 @@
+package com.quasarbyte.llm.codereview.sdk.model.concurrency;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+
+public class CircuitBreakerStateChange {
+    private LlmClient llmClient;
+    private CircuitBreakerState previousState;
+    private CircuitBreakerState newState;
+    private Integer consecutiveFailures;
+    private Throwable failure;
+
+    public LlmClient getLlmClient() {
+        return llmClient;
+    }
+
+    public CircuitBreakerStateChange setLlmClient(LlmClient llmClient) {
+        this.llmClient = llmClient;
+        return this;
+    }
+
+    public CircuitBreakerState getPreviousState() {
+        return previousState;
+    }
+
+    public CircuitBreakerStateChange setPreviousState(CircuitBreakerState previousState) {
+        this.previousState = previousState;
+        return this;
+    }
+
+    public CircuitBreakerState getNewState() {
+        return newState;
+    }
+
+    public CircuitBreakerStateChange setNewState(CircuitBreakerState newState) {
+        this.newState = newState;
+        return this;
+    }
+
+    public Integer getConsecutiveFailures() {
+        return consecutiveFailures;
+    }
+
+    public CircuitBreakerStateChange setConsecutiveFailures(Integer consecutiveFailures) {
+        this.consecutiveFailures = consecutiveFailures;
+        return this;
+    }
+
+    /**
+     * The failure that opened the breaker, {@code null} for the other transitions.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public CircuitBreakerStateChange setFailure(Throwable failure) {
+        this.failure = failure;
+        return this;
+    }
+}
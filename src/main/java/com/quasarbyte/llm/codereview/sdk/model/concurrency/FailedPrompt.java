@@ -0,0 +1,39 @@
+package com.quasarbyte.llm.codereview.sdk.model.concurrency;
+
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+
+public class FailedPrompt {
+    private ReviewPrompt reviewPrompt;
+    private Integer attempts;
+    private Throwable failure;
+
+    public ReviewPrompt getReviewPrompt() {
+        return reviewPrompt;
+    }
+
+    public FailedPrompt setReviewPrompt(ReviewPrompt reviewPrompt) {
+        this.reviewPrompt = reviewPrompt;
+        return this;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+
+    public FailedPrompt setAttempts(Integer attempts) {
+        this.attempts = attempts;
+        return this;
+    }
+
+    /**
+     * The failure of the last attempt.
+     */
+    public Throwable getFailure() {
+        return failure;
+    }
+
+    public FailedPrompt setFailure(Throwable failure) {
+        this.failure = failure;
+        return this;
+    }
+}
@@ -0,0 +1,82 @@
+package com.quasarbyte.llm.codereview.sdk.model.concurrency;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+
+public class HedgedRequest {
+    private Long promptId;
+    private LlmClient primaryLlmClient;
+    private LlmClient hedgeLlmClient;
+    private Long hedgeDelayMillis;
+    private Boolean hedgeWon;
+    private Long wastedTokens;
+    private Boolean wastedTokensEstimated;
+
+    public Long getPromptId() {
+        return promptId;
+    }
+
+    public HedgedRequest setPromptId(Long promptId) {
+        this.promptId = promptId;
+        return this;
+    }
+
+    public LlmClient getPrimaryLlmClient() {
+        return primaryLlmClient;
+    }
+
+    public HedgedRequest setPrimaryLlmClient(LlmClient primaryLlmClient) {
+        this.primaryLlmClient = primaryLlmClient;
+        return this;
+    }
+
+    public LlmClient getHedgeLlmClient() {
+        return hedgeLlmClient;
+    }
+
+    public HedgedRequest setHedgeLlmClient(LlmClient hedgeLlmClient) {
+        this.hedgeLlmClient = hedgeLlmClient;
+        return this;
+    }
+
+    public Long getHedgeDelayMillis() {
+        return hedgeDelayMillis;
+    }
+
+    public HedgedRequest setHedgeDelayMillis(Long hedgeDelayMillis) {
+        this.hedgeDelayMillis = hedgeDelayMillis;
+        return this;
+    }
+
+    public Boolean getHedgeWon() {
+        return hedgeWon;
+    }
+
+    public HedgedRequest setHedgeWon(Boolean hedgeWon) {
+        this.hedgeWon = hedgeWon;
+        return this;
+    }
+
+    /**
+     * Total tokens of the losing request.
+     */
+    public Long getWastedTokens() {
+        return wastedTokens;
+    }
+
+    public HedgedRequest setWastedTokens(Long wastedTokens) {
+        this.wastedTokens = wastedTokens;
+        return this;
+    }
+
+    /**
+     * {@code true} if the losing request was cancelled before its usage was reported and {@code wastedTokens} is the estimated prompt size.
+     */
+    public Boolean getWastedTokensEstimated() {
+        return wastedTokensEstimated;
+    }
+
+    public HedgedRequest setWastedTokensEstimated(Boolean wastedTokensEstimated) {
+        this.wastedTokensEstimated = wastedTokensEstimated;
+        return this;
+    }
+}
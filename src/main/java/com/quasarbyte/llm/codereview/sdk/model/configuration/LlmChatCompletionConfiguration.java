@@ -13,6 +13,7 @@ public class LlmChatCompletionConfiguration {
     private Long topLogprobs;
     private Double topP;
     private String user;
+    private Boolean stream;
 
     public String getModel() {
         return model;
@@ -121,4 +122,18 @@ public class LlmChatCompletionConfiguration {
         this.user = user;
         return this;
     }
+
+    public Boolean getStream() {
+        return stream;
+    }
+
+    /**
+     * Receives the response as a stream of server-sent events and parses it while it arrives. Each reviewed file is
+     * reported to {@link com.quasarbyte.llm.codereview.sdk.service.ReviewResultListener#onReviewedFile} as soon as
+     * the LLM has finished it. Disabled by default.
+     */
+    public LlmChatCompletionConfiguration setStream(Boolean stream) {
+        this.stream = stream;
+        return this;
+    }
 }
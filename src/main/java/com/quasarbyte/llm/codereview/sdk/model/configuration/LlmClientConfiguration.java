@@ -1,6 +1,7 @@
 package com.quasarbyte.llm.codereview.sdk.model.configuration;
 
 import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmRateLimit;
 
 import java.net.Proxy;
 import java.time.Duration;
@@ -20,6 +21,9 @@ public class LlmClientConfiguration {
     private String baseUrl;
     private String organization;
     private String project;
+    private LlmRateLimit rateLimit;
+    private Integer weight;
+    private Integer maxConcurrency;
 
     public Boolean getCheckJacksonVersionCompatibility() {
         return checkJacksonVersionCompatibility;
@@ -137,4 +141,37 @@ public class LlmClientConfiguration {
         this.project = project;
         return this;
     }
+
+    public LlmRateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public LlmClientConfiguration setRateLimit(LlmRateLimit rateLimit) {
+        this.rateLimit = rateLimit;
+        return this;
+    }
+
+    public Integer getWeight() {
+        return weight;
+    }
+
+    /**
+     * Relative capacity of the client for the WEIGHTED load-balancing strategy. Defaults to 1.
+     */
+    public LlmClientConfiguration setWeight(Integer weight) {
+        this.weight = weight;
+        return this;
+    }
+
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Maximum number of in-flight requests to this client in load-balanced dispatch, {@code null} or 0 for no limit.
+     */
+    public LlmClientConfiguration setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
 }
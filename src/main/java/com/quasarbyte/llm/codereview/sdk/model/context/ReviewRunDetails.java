@@ -1,18 +1,25 @@
 package com.quasarbyte.llm.codereview.sdk.model.context;
 
 import com.quasarbyte.llm.codereview.sdk.model.parameter.PersistenceConfiguration;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultListener;
 
 public class ReviewRunDetails {
     private final Boolean reviewIsNew;
     private final Long reviewId;
     private final Long runId;
     private final PersistenceConfiguration persistenceConfiguration;
+    private final ReviewResultListener reviewResultListener;
 
     public ReviewRunDetails(Boolean reviewIsNew, Long reviewId, Long runId, PersistenceConfiguration persistenceConfiguration) {
+        this(reviewIsNew, reviewId, runId, persistenceConfiguration, null);
+    }
+
+    public ReviewRunDetails(Boolean reviewIsNew, Long reviewId, Long runId, PersistenceConfiguration persistenceConfiguration, ReviewResultListener reviewResultListener) {
         this.reviewIsNew = reviewIsNew;
         this.reviewId = reviewId;
         this.runId = runId;
         this.persistenceConfiguration = persistenceConfiguration;
+        this.reviewResultListener = reviewResultListener;
     }
 
     public Boolean getReviewIsNew() {
@@ -30,4 +37,8 @@ public class ReviewRunDetails {
     public PersistenceConfiguration getPersistenceConfiguration() {
         return persistenceConfiguration;
     }
+
+    public ReviewResultListener getReviewResultListener() {
+        return reviewResultListener;
+    }
 }
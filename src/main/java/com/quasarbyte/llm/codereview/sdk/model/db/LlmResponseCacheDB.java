@@ -0,0 +1,56 @@
+package com.quasarbyte.llm.codereview.sdk.model.db;
+
+import java.time.LocalDateTime;
+
+public class LlmResponseCacheDB {
+    private Long id;
+    private String cacheKey;
+    private String response;
+    private LocalDateTime createdAt;
+    private LocalDateTime accessedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public LlmResponseCacheDB setId(Long id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public LlmResponseCacheDB setCacheKey(String cacheKey) {
+        this.cacheKey = cacheKey;
+        return this;
+    }
+
+    public String getResponse() {
+        return response;
+    }
+
+    public LlmResponseCacheDB setResponse(String response) {
+        this.response = response;
+        return this;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LlmResponseCacheDB setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    public LocalDateTime getAccessedAt() {
+        return accessedAt;
+    }
+
+    public LlmResponseCacheDB setAccessedAt(LocalDateTime accessedAt) {
+        this.accessedAt = accessedAt;
+        return this;
+    }
+}
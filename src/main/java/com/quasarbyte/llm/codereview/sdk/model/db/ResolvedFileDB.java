@@ -10,6 +10,7 @@ public class ResolvedFileDB {
     private String fileNameExtension;
     private String filePath;
     private String codePage;
+    private String contentHash;
 
     public Long getId() {
         return id;
@@ -91,4 +92,13 @@ public class ResolvedFileDB {
         this.codePage = codePage;
         return this;
     }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public ResolvedFileDB setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+        return this;
+    }
 }
@@ -0,0 +1,59 @@
+package com.quasarbyte.llm.codereview.sdk.model.diff;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A changed hunk of a file with its context lines, as the lines are in the new version of the file.
+ */
+public class DiffHunk {
+    private Integer startLine;
+    private List<String> lines;
+    private Set<Integer> changedLines;
+    private Set<Integer> removedLines;
+
+    public Integer getStartLine() {
+        return startLine;
+    }
+
+    /**
+     * Line number of the first line of the hunk, starting with 1.
+     */
+    public DiffHunk setStartLine(Integer startLine) {
+        this.startLine = startLine;
+        return this;
+    }
+
+    public List<String> getLines() {
+        return lines;
+    }
+
+    public DiffHunk setLines(List<String> lines) {
+        this.lines = lines;
+        return this;
+    }
+
+    public Set<Integer> getChangedLines() {
+        return changedLines;
+    }
+
+    /**
+     * Numbers of the added or modified lines.
+     */
+    public DiffHunk setChangedLines(Set<Integer> changedLines) {
+        this.changedLines = changedLines;
+        return this;
+    }
+
+    public Set<Integer> getRemovedLines() {
+        return removedLines;
+    }
+
+    /**
+     * Numbers of the lines that directly follow removed lines, the line after the end of the hunk for lines removed at its end.
+     */
+    public DiffHunk setRemovedLines(Set<Integer> removedLines) {
+        this.removedLines = removedLines;
+        return this;
+    }
+}
@@ -0,0 +1,29 @@
+package com.quasarbyte.llm.codereview.sdk.model.diff;
+
+import java.util.List;
+
+public class FileDiff {
+    private String filePath;
+    private List<DiffHunk> hunks;
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Absolute, normalized path of the file in the working tree.
+     */
+    public FileDiff setFilePath(String filePath) {
+        this.filePath = filePath;
+        return this;
+    }
+
+    public List<DiffHunk> getHunks() {
+        return hunks;
+    }
+
+    public FileDiff setHunks(List<DiffHunk> hunks) {
+        this.hunks = hunks;
+        return this;
+    }
+}
@@ -0,0 +1,107 @@
+package com.quasarbyte.llm.codereview.sdk.model.parameter;
+
+import com.quasarbyte.llm.codereview.sdk.service.AdaptiveConcurrencyListener;
+
+/**
+ * Additive-increase / multiplicative-decrease (AIMD) limit of in-flight requests per {@link LlmClient}.
+ * <p>
+ * The limit grows by {@code additiveIncrease} per window of successful requests while latency is stable
+ * and is multiplied by {@code decreaseFactor} on rate limiting (HTTP 429), server errors (HTTP 5xx)
+ * or a latency spike above {@code latencyTolerance} times the smoothed latency.
+ * <p>
+ * The worker pool still caps the total number of in-flight requests, so {@code batchSize} should be
+ * at least the sum of {@code maxLimit} over all clients.
+ */
+public class AdaptiveConcurrencyParameter {
+    private Integer minLimit;
+    private Integer maxLimit;
+    private Integer initialLimit;
+    private Double additiveIncrease;
+    private Double decreaseFactor;
+    private Double latencyTolerance;
+    private AdaptiveConcurrencyListener listener;
+
+    public Integer getMinLimit() {
+        return minLimit;
+    }
+
+    /**
+     * Lower bound of the limit. Defaults to 1.
+     */
+    public AdaptiveConcurrencyParameter setMinLimit(Integer minLimit) {
+        this.minLimit = minLimit;
+        return this;
+    }
+
+    public Integer getMaxLimit() {
+        return maxLimit;
+    }
+
+    /**
+     * Upper bound of the limit. Defaults to the batch size.
+     */
+    public AdaptiveConcurrencyParameter setMaxLimit(Integer maxLimit) {
+        this.maxLimit = maxLimit;
+        return this;
+    }
+
+    public Integer getInitialLimit() {
+        return initialLimit;
+    }
+
+    /**
+     * Limit at the start of the review. Defaults to half of the upper bound.
+     */
+    public AdaptiveConcurrencyParameter setInitialLimit(Integer initialLimit) {
+        this.initialLimit = initialLimit;
+        return this;
+    }
+
+    public Double getAdditiveIncrease() {
+        return additiveIncrease;
+    }
+
+    /**
+     * Increase of the limit after a full window of successful requests. Defaults to 1.
+     */
+    public AdaptiveConcurrencyParameter setAdditiveIncrease(Double additiveIncrease) {
+        this.additiveIncrease = additiveIncrease;
+        return this;
+    }
+
+    public Double getDecreaseFactor() {
+        return decreaseFactor;
+    }
+
+    /**
+     * Factor applied to the limit on throttling, between 0 and 1 exclusive. Defaults to 0.5.
+     */
+    public AdaptiveConcurrencyParameter setDecreaseFactor(Double decreaseFactor) {
+        this.decreaseFactor = decreaseFactor;
+        return this;
+    }
+
+    public Double getLatencyTolerance() {
+        return latencyTolerance;
+    }
+
+    /**
+     * A request slower than this multiple of the smoothed latency is treated as congestion. Defaults to 2.
+     */
+    public AdaptiveConcurrencyParameter setLatencyTolerance(Double latencyTolerance) {
+        this.latencyTolerance = latencyTolerance;
+        return this;
+    }
+
+    public AdaptiveConcurrencyListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Optional listener notified each time the limit of a client changes.
+     */
+    public AdaptiveConcurrencyParameter setListener(AdaptiveConcurrencyListener listener) {
+        this.listener = listener;
+        return this;
+    }
+}
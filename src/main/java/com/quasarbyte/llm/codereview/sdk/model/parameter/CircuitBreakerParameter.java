@@ -0,0 +1,81 @@
+package com.quasarbyte.llm.codereview.sdk.model.parameter;
+
+import com.quasarbyte.llm.codereview.sdk.service.CircuitBreakerListener;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker per {@link LlmClient} of a load-balanced review.
+ * <p>
+ * After {@code failureThreshold} consecutive endpoint failures (timeouts, I/O errors, HTTP 408, 429 and 5xx) the breaker opens
+ * and the load balancer routes around the client for {@code openDuration}. Then up to {@code halfOpenMaxCalls} trial requests
+ * decide whether the breaker closes again. A prompt that failed with an endpoint failure is retried on another client,
+ * at most {@code maxFailoverAttempts} times.
+ */
+public class CircuitBreakerParameter {
+    private Integer failureThreshold;
+    private Duration openDuration;
+    private Integer halfOpenMaxCalls;
+    private Integer maxFailoverAttempts;
+    private CircuitBreakerListener listener;
+
+    public Integer getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * Consecutive endpoint failures that open the breaker. Defaults to 5.
+     */
+    public CircuitBreakerParameter setFailureThreshold(Integer failureThreshold) {
+        this.failureThreshold = failureThreshold;
+        return this;
+    }
+
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    /**
+     * Time the breaker stays open before trial requests are sent. Defaults to 30 seconds.
+     */
+    public CircuitBreakerParameter setOpenDuration(Duration openDuration) {
+        this.openDuration = openDuration;
+        return this;
+    }
+
+    public Integer getHalfOpenMaxCalls() {
+        return halfOpenMaxCalls;
+    }
+
+    /**
+     * Concurrent trial requests in the half-open state. Defaults to 1.
+     */
+    public CircuitBreakerParameter setHalfOpenMaxCalls(Integer halfOpenMaxCalls) {
+        this.halfOpenMaxCalls = halfOpenMaxCalls;
+        return this;
+    }
+
+    public Integer getMaxFailoverAttempts() {
+        return maxFailoverAttempts;
+    }
+
+    /**
+     * Retries of a failed prompt on other clients, 0 disables failover. Defaults to and is capped by the number of clients minus one.
+     */
+    public CircuitBreakerParameter setMaxFailoverAttempts(Integer maxFailoverAttempts) {
+        this.maxFailoverAttempts = maxFailoverAttempts;
+        return this;
+    }
+
+    public CircuitBreakerListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Optional listener notified each time the state of a breaker changes.
+     */
+    public CircuitBreakerParameter setListener(CircuitBreakerListener listener) {
+        this.listener = listener;
+        return this;
+    }
+}
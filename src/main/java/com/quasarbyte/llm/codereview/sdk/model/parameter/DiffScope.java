@@ -0,0 +1,60 @@
+package com.quasarbyte.llm.codereview.sdk.model.parameter;
+
+/**
+ * Limits the review to the lines changed between two states of a local git repository.
+ */
+public class DiffScope {
+    private String repositoryPath;
+    private String baseRef;
+    private String headRef;
+    private Integer contextLines;
+
+    public String getRepositoryPath() {
+        return repositoryPath;
+    }
+
+    /**
+     * Any directory inside the git working tree.
+     */
+    public DiffScope setRepositoryPath(String repositoryPath) {
+        this.repositoryPath = repositoryPath;
+        return this;
+    }
+
+    public String getBaseRef() {
+        return baseRef;
+    }
+
+    /**
+     * The commit, branch or tag the changes are compared with. Defaults to {@code HEAD}.
+     */
+    public DiffScope setBaseRef(String baseRef) {
+        this.baseRef = baseRef;
+        return this;
+    }
+
+    public String getHeadRef() {
+        return headRef;
+    }
+
+    /**
+     * The commit, branch or tag with the changes, {@code null} (the default) compares the working tree.
+     * The reviewed files are still read from the working tree, it should have the head ref checked out.
+     */
+    public DiffScope setHeadRef(String headRef) {
+        this.headRef = headRef;
+        return this;
+    }
+
+    public Integer getContextLines() {
+        return contextLines;
+    }
+
+    /**
+     * Unchanged lines sent before and after each changed hunk. Defaults to 3.
+     */
+    public DiffScope setContextLines(Integer contextLines) {
+        this.contextLines = contextLines;
+        return this;
+    }
+}
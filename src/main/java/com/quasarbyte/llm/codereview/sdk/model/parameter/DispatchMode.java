@@ -0,0 +1,20 @@
+package com.quasarbyte.llm.codereview.sdk.model.parameter;
+
+public enum DispatchMode {
+    /**
+     * Prompts are split into groups of {@code batchSize} and each group is submitted with invokeAll.
+     * The next group starts only after the slowest request of the current group has returned.
+     */
+    BATCH_GROUP,
+    /**
+     * A continuous window of {@code batchSize} in-flight requests. A new prompt is started as soon as any slot frees up.
+     */
+    SLIDING_WINDOW,
+    /**
+     * A sliding window of {@code batchSize} requests sent with the async LLM client, no executorService is needed
+     * because no thread waits for a response. Adaptive concurrency and request hedging are not supported, the dispatch
+     * is rejected with a {@link com.quasarbyte.llm.codereview.sdk.exception.ValidationException} when either is set.
+     * A failed request is not sent to another client, configure a retry to repeat failed prompts.
+     */
+    ASYNC
+}
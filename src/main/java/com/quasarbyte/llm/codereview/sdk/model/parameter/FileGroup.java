@@ -7,6 +7,7 @@ public class FileGroup {
     private List<String> paths;
     private List<String> excludePaths;
     private Integer filesBatchSize;
+    private Integer filesBatchTokenBudget;
     private List<Rule> rules;
     private List<String> fileGroupPrompts;
     private String codePage;
@@ -47,6 +48,20 @@ public class FileGroup {
         return this;
     }
 
+    public Integer getFilesBatchTokenBudget() {
+        return filesBatchTokenBudget;
+    }
+
+    /**
+     * Maximum estimated tokens of the file contents of a prompt. When set, files are packed into prompts
+     * by estimated size (first-fit-decreasing) instead of by file count, {@code filesBatchSize} still limits the files per prompt.
+     * A file larger than the budget is reviewed in a prompt of its own.
+     */
+    public FileGroup setFilesBatchTokenBudget(Integer filesBatchTokenBudget) {
+        this.filesBatchTokenBudget = filesBatchTokenBudget;
+        return this;
+    }
+
     public List<Rule> getRules() {
         return rules;
     }
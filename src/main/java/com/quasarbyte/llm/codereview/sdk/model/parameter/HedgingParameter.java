@@ -0,0 +1,68 @@
+package com.quasarbyte.llm.codereview.sdk.model.parameter;
+
+import com.quasarbyte.llm.codereview.sdk.service.HedgingListener;
+
+/**
+ * Hedged requests of a load-balanced review.
+ * <p>
+ * When a request has not completed within the {@code percentile} of the recent request latencies, a duplicate request
+ * is sent to another {@link LlmClient}. The first successful response wins and the other request is cancelled.
+ * The number of duplicate requests is capped by {@code maxExtraRequestRatio} of the requests of the review.
+ * <p>
+ * A cancelled request may still be billed by the provider, the tokens it used are reported as wasted tokens.
+ * It is still stored as a failed inference of the run, but its result is never returned nor published.
+ */
+public class HedgingParameter {
+    private Double percentile;
+    private Integer minSamples;
+    private Double maxExtraRequestRatio;
+    private HedgingListener listener;
+
+    public Double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Latency percentile after which a request is hedged, between 0 and 1 exclusive. Defaults to 0.95.
+     */
+    public HedgingParameter setPercentile(Double percentile) {
+        this.percentile = percentile;
+        return this;
+    }
+
+    public Integer getMinSamples() {
+        return minSamples;
+    }
+
+    /**
+     * Successful requests needed before the percentile is trusted, no request is hedged before. Defaults to 20.
+     */
+    public HedgingParameter setMinSamples(Integer minSamples) {
+        this.minSamples = minSamples;
+        return this;
+    }
+
+    public Double getMaxExtraRequestRatio() {
+        return maxExtraRequestRatio;
+    }
+
+    /**
+     * Maximum hedged requests per request of the review, between 0 exclusive and 1 inclusive. Defaults to 0.05.
+     */
+    public HedgingParameter setMaxExtraRequestRatio(Double maxExtraRequestRatio) {
+        this.maxExtraRequestRatio = maxExtraRequestRatio;
+        return this;
+    }
+
+    public HedgingListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Optional listener notified after each hedged request.
+     */
+    public HedgingParameter setListener(HedgingListener listener) {
+        this.listener = listener;
+        return this;
+    }
+}
@@ -5,6 +5,11 @@ import com.openai.client.OpenAIClient;
 public class LlmClient {
 
     private OpenAIClient openAIClient;
+    private String baseUrl;
+    private Integer maxRetries;
+    private LlmRateLimit rateLimit;
+    private Integer weight;
+    private Integer maxConcurrency;
 
     public OpenAIClient getOpenAIClient() {
         return openAIClient;
@@ -14,4 +19,63 @@ public class LlmClient {
         this.openAIClient = openAIClient;
         return this;
     }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Base URL the OpenAI client sends its requests to, {@code null} for the provider default.
+     * Part of the LLM response cache key, so that the same request to different endpoints is cached separately.
+     */
+    public LlmClient setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+        return this;
+    }
+
+    public Integer getMaxRetries() {
+        return maxRetries;
+    }
+
+    /**
+     * Retries of the OpenAI client, {@code null} for the client default of 2. The time left until the review deadline
+     * is shared by the first attempt and the retries of a request.
+     */
+    public LlmClient setMaxRetries(Integer maxRetries) {
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    public LlmRateLimit getRateLimit() {
+        return rateLimit;
+    }
+
+    public LlmClient setRateLimit(LlmRateLimit rateLimit) {
+        this.rateLimit = rateLimit;
+        return this;
+    }
+
+    public Integer getWeight() {
+        return weight;
+    }
+
+    /**
+     * Relative capacity of the client for the WEIGHTED load-balancing strategy. Defaults to 1.
+     */
+    public LlmClient setWeight(Integer weight) {
+        this.weight = weight;
+        return this;
+    }
+
+    public Integer getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Maximum number of in-flight requests to this client in load-balanced dispatch, {@code null} or 0 for no limit.
+     */
+    public LlmClient setMaxConcurrency(Integer maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+        return this;
+    }
 }
@@ -0,0 +1,30 @@
+package com.quasarbyte.llm.codereview.sdk.model.parameter;
+
+/**
+ * Provider rate limits of a single LLM client (deployment). Requests are delayed to stay under them.
+ */
+public class LlmRateLimit {
+    private Integer requestsPerMinute;
+    private Long tokensPerMinute;
+
+    public Integer getRequestsPerMinute() {
+        return requestsPerMinute;
+    }
+
+    public LlmRateLimit setRequestsPerMinute(Integer requestsPerMinute) {
+        this.requestsPerMinute = requestsPerMinute;
+        return this;
+    }
+
+    public Long getTokensPerMinute() {
+        return tokensPerMinute;
+    }
+
+    /**
+     * Tokens per minute, counted as estimated prompt tokens plus {@code maxCompletionTokens} and corrected by the reported usage.
+     */
+    public LlmRateLimit setTokensPerMinute(Long tokensPerMinute) {
+        this.tokensPerMinute = tokensPerMinute;
+        return this;
+    }
+}
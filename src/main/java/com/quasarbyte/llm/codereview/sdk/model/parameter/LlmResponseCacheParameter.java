@@ -0,0 +1,69 @@
+package com.quasarbyte.llm.codereview.sdk.model.parameter;
+
+import com.quasarbyte.llm.codereview.sdk.model.statistics.LlmResponseCacheStatistics;
+
+import java.time.Duration;
+
+/**
+ * Response cache stored in the review database, see {@link PersistenceConfiguration#setResponseCache}.
+ * <p>
+ * A response is reused when the client base URL, the model, the chat completion configuration, the mapped LLM messages and the reasoning flag
+ * of a prompt are the same, a cache hit does not send a request and reports no token usage.
+ * Only successful, complete responses are stored.
+ */
+public class LlmResponseCacheParameter {
+    private Duration timeToLive;
+    private Integer maxEntries;
+    private Integer evictionInterval;
+    private LlmResponseCacheStatistics statistics = new LlmResponseCacheStatistics();
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Age after which a cached response is no longer used and is removed. {@code null} keeps the responses without time limit.
+     */
+    public LlmResponseCacheParameter setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+        return this;
+    }
+
+    public Integer getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Maximum number of cached responses, the least recently used ones are removed by the eviction, see {@link #setEvictionInterval}.
+     * {@code null} for no limit.
+     */
+    public LlmResponseCacheParameter setMaxEntries(Integer maxEntries) {
+        this.maxEntries = maxEntries;
+        return this;
+    }
+
+    public Integer getEvictionInterval() {
+        return evictionInterval;
+    }
+
+    /**
+     * Number of stored responses between two evictions of expired and least recently used responses, 100 by default.
+     * The first stored response evicts, the cache may exceed {@code maxEntries} by less than this number in between.
+     */
+    public LlmResponseCacheParameter setEvictionInterval(Integer evictionInterval) {
+        this.evictionInterval = evictionInterval;
+        return this;
+    }
+
+    public LlmResponseCacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Counters of the cache, a new instance by default. Pass the same instance to several reviews to count across them.
+     */
+    public LlmResponseCacheParameter setStatistics(LlmResponseCacheStatistics statistics) {
+        this.statistics = statistics;
+        return this;
+    }
+}
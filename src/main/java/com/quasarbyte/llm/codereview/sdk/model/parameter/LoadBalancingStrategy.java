@@ -2,5 +2,18 @@ package com.quasarbyte.llm.codereview.sdk.model.parameter;
 
 public enum LoadBalancingStrategy {
     ROUND_ROBIN,
-    RANDOM
+    RANDOM,
+    /**
+     * Sends each request to the client with the fewest in-flight requests.
+     */
+    LEAST_OUTSTANDING,
+    /**
+     * Sends each request to the client with the lowest decaying latency average weighted by its in-flight requests,
+     * so slower clients receive proportionally less traffic.
+     */
+    LATENCY_EWMA,
+    /**
+     * Smooth weighted round-robin, each client receives traffic in proportion to its weight.
+     */
+    WEIGHTED
 }
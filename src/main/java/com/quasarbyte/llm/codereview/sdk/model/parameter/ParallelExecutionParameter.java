@@ -1,11 +1,25 @@
 package com.quasarbyte.llm.codereview.sdk.model.parameter;
 
+import com.quasarbyte.llm.codereview.sdk.service.LlmRequestScheduler;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewCancellationToken;
+
 import java.util.concurrent.ExecutorService;
 
 public class ParallelExecutionParameter {
     private Integer batchSize;
     private ExecutorService executorService;
     private LoadBalancingStrategy loadBalancingStrategy;
+    private DispatchMode dispatchMode;
+    private Integer promptQueueCapacity;
+    private AdaptiveConcurrencyParameter adaptiveConcurrency;
+    private CircuitBreakerParameter circuitBreaker;
+    private HedgingParameter hedging;
+    private RetryParameter retry;
+    private PromptSchedulingPolicy schedulingPolicy;
+    private TaskExecutorMode taskExecutorMode;
+    private LlmRequestScheduler requestScheduler;
+    private Double requestSchedulingWeight;
+    private ReviewCancellationToken cancellationToken;
 
     public Integer getBatchSize() {
         return batchSize;
@@ -33,4 +47,138 @@ public class ParallelExecutionParameter {
         this.loadBalancingStrategy = loadBalancingStrategy;
         return this;
     }
+
+    public DispatchMode getDispatchMode() {
+        return dispatchMode;
+    }
+
+    public ParallelExecutionParameter setDispatchMode(DispatchMode dispatchMode) {
+        this.dispatchMode = dispatchMode;
+        return this;
+    }
+
+    public Integer getPromptQueueCapacity() {
+        return promptQueueCapacity;
+    }
+
+    /**
+     * Maximum number of prompts built ahead of the dispatcher. Defaults to twice the batch size.
+     */
+    public ParallelExecutionParameter setPromptQueueCapacity(Integer promptQueueCapacity) {
+        this.promptQueueCapacity = promptQueueCapacity;
+        return this;
+    }
+
+    public AdaptiveConcurrencyParameter getAdaptiveConcurrency() {
+        return adaptiveConcurrency;
+    }
+
+    /**
+     * Enables the adaptive (AIMD) in-flight limit per LLM client. When {@code null}, every worker sends its request immediately.
+     * Not supported in {@link DispatchMode#ASYNC}.
+     */
+    public ParallelExecutionParameter setAdaptiveConcurrency(AdaptiveConcurrencyParameter adaptiveConcurrency) {
+        this.adaptiveConcurrency = adaptiveConcurrency;
+        return this;
+    }
+
+    public CircuitBreakerParameter getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    /**
+     * Enables the circuit breaker and failover per LLM client of a load-balanced review. Ignored for a single LLM client.
+     */
+    public ParallelExecutionParameter setCircuitBreaker(CircuitBreakerParameter circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        return this;
+    }
+
+    public HedgingParameter getHedging() {
+        return hedging;
+    }
+
+    /**
+     * Enables hedged requests of a load-balanced review with at least two LLM clients. Ignored for a single LLM client.
+     * Not supported in {@link DispatchMode#ASYNC}.
+     */
+    public ParallelExecutionParameter setHedging(HedgingParameter hedging) {
+        this.hedging = hedging;
+        return this;
+    }
+
+    public RetryParameter getRetry() {
+        return retry;
+    }
+
+    /**
+     * Enables the retry queue of failed prompts. When {@code null}, the first failed prompt cancels the prompts in flight and fails the review.
+     */
+    public ParallelExecutionParameter setRetry(RetryParameter retry) {
+        this.retry = retry;
+        return this;
+    }
+
+    public PromptSchedulingPolicy getSchedulingPolicy() {
+        return schedulingPolicy;
+    }
+
+    /**
+     * Order in which prompts are dispatched. Results are always returned in pipeline order. Defaults to {@link PromptSchedulingPolicy#PIPELINE_ORDER}.
+     */
+    public ParallelExecutionParameter setSchedulingPolicy(PromptSchedulingPolicy schedulingPolicy) {
+        this.schedulingPolicy = schedulingPolicy;
+        return this;
+    }
+
+    public TaskExecutorMode getTaskExecutorMode() {
+        return taskExecutorMode;
+    }
+
+    /**
+     * Threads the tasks run on. With {@link TaskExecutorMode#VIRTUAL_THREAD_PER_TASK} no {@code executorService} is needed.
+     * Defaults to {@link TaskExecutorMode#EXECUTOR_SERVICE}.
+     */
+    public ParallelExecutionParameter setTaskExecutorMode(TaskExecutorMode taskExecutorMode) {
+        this.taskExecutorMode = taskExecutorMode;
+        return this;
+    }
+
+    public LlmRequestScheduler getRequestScheduler() {
+        return requestScheduler;
+    }
+
+    /**
+     * Scheduler shared by the reviews of the JVM, it caps the requests in flight of all reviews and admits them by weighted fair queuing.
+     * Each dispatch is a flow of its own. When {@code null}, requests are only limited by {@code batchSize}.
+     */
+    public ParallelExecutionParameter setRequestScheduler(LlmRequestScheduler requestScheduler) {
+        this.requestScheduler = requestScheduler;
+        return this;
+    }
+
+    public Double getRequestSchedulingWeight() {
+        return requestSchedulingWeight;
+    }
+
+    /**
+     * Share of this review in the request scheduler relative to other reviews. Defaults to 1.
+     */
+    public ParallelExecutionParameter setRequestSchedulingWeight(Double requestSchedulingWeight) {
+        this.requestSchedulingWeight = requestSchedulingWeight;
+        return this;
+    }
+
+    public ReviewCancellationToken getCancellationToken() {
+        return cancellationToken;
+    }
+
+    /**
+     * Token to cancel the review from another thread. When it is cancelled no new prompts are dispatched, the HTTP calls in flight
+     * are aborted and the review fails with {@link com.quasarbyte.llm.codereview.sdk.exception.ReviewCancelledException}.
+     */
+    public ParallelExecutionParameter setCancellationToken(ReviewCancellationToken cancellationToken) {
+        this.cancellationToken = cancellationToken;
+        return this;
+    }
 }
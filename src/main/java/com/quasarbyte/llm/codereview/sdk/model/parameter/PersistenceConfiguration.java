@@ -5,6 +5,8 @@ import com.quasarbyte.llm.codereview.sdk.model.datasource.DataSourceConfiguratio
 public class PersistenceConfiguration {
     private DataSourceConfiguration dataSourceConfiguration;
     private Boolean persistFileContent;
+    private LlmResponseCacheParameter responseCache;
+    private Boolean incrementalReview;
 
     public DataSourceConfiguration getDataSourceConfiguration() {
         return dataSourceConfiguration;
@@ -23,4 +25,30 @@ public class PersistenceConfiguration {
         this.persistFileContent = persistFileContent;
         return this;
     }
+
+    public LlmResponseCacheParameter getResponseCache() {
+        return responseCache;
+    }
+
+    /**
+     * Caches the LLM responses in the review database, {@code null} (the default) sends every prompt to the LLM.
+     */
+    public PersistenceConfiguration setResponseCache(LlmResponseCacheParameter responseCache) {
+        this.responseCache = responseCache;
+        return this;
+    }
+
+    public Boolean getIncrementalReview() {
+        return incrementalReview;
+    }
+
+    /**
+     * When a review is run again under an existing review id, rebuilds the prompts from the current files and only sends
+     * the files whose content changed to the LLM. The results of unchanged files reviewed with the same rules and prompts
+     * are carried forward from the previous runs. {@code null} (the default) resumes the review instead.
+     */
+    public PersistenceConfiguration setIncrementalReview(Boolean incrementalReview) {
+        this.incrementalReview = incrementalReview;
+        return this;
+    }
 }
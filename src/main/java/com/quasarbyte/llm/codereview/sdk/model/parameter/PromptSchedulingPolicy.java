@@ -0,0 +1,19 @@
+package com.quasarbyte.llm.codereview.sdk.model.parameter;
+
+public enum PromptSchedulingPolicy {
+    /**
+     * Prompts are dispatched in the order they are built, prompts are built while earlier prompts are being reviewed.
+     */
+    PIPELINE_ORDER,
+    /**
+     * The most expensive prompts (estimated prompt and completion tokens) are dispatched first,
+     * so the review does not end with one long request while every other slot is idle.
+     * All prompts are built before the first request is sent.
+     */
+    LONGEST_FIRST,
+    /**
+     * Prompts with the most severe rules are dispatched first, the most expensive first among prompts of the same severity.
+     * All prompts are built before the first request is sent.
+     */
+    CRITICAL_SEVERITY_FIRST
+}
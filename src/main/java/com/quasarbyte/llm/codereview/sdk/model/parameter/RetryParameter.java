@@ -0,0 +1,82 @@
+package com.quasarbyte.llm.codereview.sdk.model.parameter;
+
+import com.quasarbyte.llm.codereview.sdk.service.FailedPromptListener;
+
+import java.time.Duration;
+
+/**
+ * Retry queue of failed prompts.
+ * <p>
+ * A failed prompt no longer cancels the other prompts. It is put back on a retry queue and dispatched again after an
+ * exponential backoff, with at most {@code maxAttempts} attempts. A prompt that exhausted its attempts is reported to the
+ * {@code listener} and left out of the review result instead of aborting the review. Every attempt is stored as an inference of the run.
+ * <p>
+ * Quota, validation and interruption failures are not retried.
+ */
+public class RetryParameter {
+    private Integer maxAttempts;
+    private Duration initialBackoff;
+    private Duration maxBackoff;
+    private Double backoffMultiplier;
+    private FailedPromptListener listener;
+
+    public Integer getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Attempts per prompt including the first one. Defaults to 3.
+     */
+    public RetryParameter setMaxAttempts(Integer maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    public Duration getInitialBackoff() {
+        return initialBackoff;
+    }
+
+    /**
+     * Backoff before the second attempt. Defaults to 1 second.
+     */
+    public RetryParameter setInitialBackoff(Duration initialBackoff) {
+        this.initialBackoff = initialBackoff;
+        return this;
+    }
+
+    public Duration getMaxBackoff() {
+        return maxBackoff;
+    }
+
+    /**
+     * Upper bound of the backoff. Defaults to 30 seconds.
+     */
+    public RetryParameter setMaxBackoff(Duration maxBackoff) {
+        this.maxBackoff = maxBackoff;
+        return this;
+    }
+
+    public Double getBackoffMultiplier() {
+        return backoffMultiplier;
+    }
+
+    /**
+     * Factor applied to the backoff after each attempt, at least 1. Defaults to 2.
+     */
+    public RetryParameter setBackoffMultiplier(Double backoffMultiplier) {
+        this.backoffMultiplier = backoffMultiplier;
+        return this;
+    }
+
+    public FailedPromptListener getListener() {
+        return listener;
+    }
+
+    /**
+     * Optional listener notified of every prompt that exhausted its attempts.
+     */
+    public RetryParameter setListener(FailedPromptListener listener) {
+        this.listener = listener;
+        return this;
+    }
+}
@@ -16,9 +16,12 @@ public class ReviewParameter {
     private LlmChatCompletionConfiguration llmChatCompletionConfiguration;
     private LlmMessagesMapperConfiguration llmMessagesMapperConfiguration;
     private Integer rulesBatchSize;
+    private Integer rulesBatchTokenBudget;
+    private RulesBatchGrouping rulesBatchGrouping;
     private Duration timeoutDuration;
     private LlmQuota llmQuota;
     private Boolean useReasoning;
+    private DiffScope diffScope;
 
     public Long getReviewId() {
         return reviewId;
@@ -101,6 +104,31 @@ public class ReviewParameter {
         return this;
     }
 
+    public Integer getRulesBatchTokenBudget() {
+        return rulesBatchTokenBudget;
+    }
+
+    /**
+     * Maximum estimated tokens of the rule descriptions of a batch. When set, rules are packed into batches
+     * by estimated size instead of by count, {@code rulesBatchSize} still limits the rules per batch.
+     */
+    public ReviewParameter setRulesBatchTokenBudget(Integer rulesBatchTokenBudget) {
+        this.rulesBatchTokenBudget = rulesBatchTokenBudget;
+        return this;
+    }
+
+    public RulesBatchGrouping getRulesBatchGrouping() {
+        return rulesBatchGrouping;
+    }
+
+    /**
+     * Keeps related rules in the same batches. Defaults to {@link RulesBatchGrouping#NONE}.
+     */
+    public ReviewParameter setRulesBatchGrouping(RulesBatchGrouping rulesBatchGrouping) {
+        this.rulesBatchGrouping = rulesBatchGrouping;
+        return this;
+    }
+
     public Duration getTimeoutDuration() {
         return timeoutDuration;
     }
@@ -127,4 +155,17 @@ public class ReviewParameter {
         this.useReasoning = useReasoning;
         return this;
     }
+
+    public DiffScope getDiffScope() {
+        return diffScope;
+    }
+
+    /**
+     * Reviews only the files changed in a local git repository, and sends only their changed hunks with some context
+     * to the LLM. Comments outside the changed lines are dropped. {@code null} (the default) reviews whole files.
+     */
+    public ReviewParameter setDiffScope(DiffScope diffScope) {
+        this.diffScope = diffScope;
+        return this;
+    }
 }
@@ -0,0 +1,16 @@
+package com.quasarbyte.llm.codereview.sdk.model.parameter;
+
+public enum RulesBatchGrouping {
+    /**
+     * Rules of any kind may share a batch.
+     */
+    NONE,
+    /**
+     * Only rules of the same severity share a batch.
+     */
+    SEVERITY,
+    /**
+     * Only rules whose codes start with the same letters share a batch, for example {@code SEC-1} and {@code SEC-2}.
+     */
+    CODE_PREFIX
+}
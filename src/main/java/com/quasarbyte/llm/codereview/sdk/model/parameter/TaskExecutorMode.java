@@ -0,0 +1,14 @@
+package com.quasarbyte.llm.codereview.sdk.model.parameter;
+
+public enum TaskExecutorMode {
+    /**
+     * Tasks run on the {@code executorService} of the {@link ParallelExecutionParameter}.
+     */
+    EXECUTOR_SERVICE,
+    /**
+     * Each task runs on a new virtual thread created for the dispatch, the {@code executorService} is not used.
+     * The prompt producer and the callback thread of the async dispatch mode are virtual threads too.
+     * Requires a Java 21+ runtime, older runtimes fall back to a new platform thread per task.
+     */
+    VIRTUAL_THREAD_PER_TASK
+}
@@ -1,5 +1,7 @@
 package com.quasarbyte.llm.codereview.sdk.model.prompt;
 
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedFile;
+
 import java.util.List;
 
 public class ReviewPrompt {
@@ -11,6 +13,7 @@ public class ReviewPrompt {
     private List<PromptRule> rules;
     private List<PromptFile> files;
     private Boolean useReasoning;
+    private List<ReviewedFile> carriedForwardFiles;
 
     public Long getId() {
         return id;
@@ -83,4 +86,17 @@ public class ReviewPrompt {
         this.useReasoning = useReasoning;
         return this;
     }
+
+    public List<ReviewedFile> getCarriedForwardFiles() {
+        return carriedForwardFiles;
+    }
+
+    /**
+     * Results of files taken over from a previous run of the review, these files are not sent to the LLM.
+     * They are not persisted with the prompt.
+     */
+    public ReviewPrompt setCarriedForwardFiles(List<ReviewedFile> carriedForwardFiles) {
+        this.carriedForwardFiles = carriedForwardFiles;
+        return this;
+    }
 }
@@ -1,12 +1,15 @@
 package com.quasarbyte.llm.codereview.sdk.model.resolved;
 
+import com.quasarbyte.llm.codereview.sdk.model.diff.FileDiff;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
 
 import java.util.List;
+import java.util.Map;
 
 public class ResolvedReviewConfiguration {
     private ReviewParameter reviewParameter;
     private List<ResolvedReviewTarget> resolvedReviewTargets;
+    private Map<String, FileDiff> fileDiffs;
 
     public ReviewParameter getReviewConfiguration() {
         return reviewParameter;
@@ -25,4 +28,16 @@ public class ResolvedReviewConfiguration {
         this.resolvedReviewTargets = resolvedReviewTargets;
         return this;
     }
+
+    public Map<String, FileDiff> getFileDiffs() {
+        return fileDiffs;
+    }
+
+    /**
+     * The changed files of a diff scoped review by real path, {@code null} when the review has no diff scope.
+     */
+    public ResolvedReviewConfiguration setFileDiffs(Map<String, FileDiff> fileDiffs) {
+        this.fileDiffs = fileDiffs;
+        return this;
+    }
 }
@@ -4,6 +4,7 @@ public class ReviewCompletionUsage {
     private Long completionTokens;
     private Long promptTokens;
     private Long totalTokens;
+    private Long cachedPromptTokens;
 
     public Long getCompletionTokens() {
         return completionTokens;
@@ -31,4 +32,17 @@ public class ReviewCompletionUsage {
         this.totalTokens = totalTokens;
         return this;
     }
+
+    public Long getCachedPromptTokens() {
+        return cachedPromptTokens;
+    }
+
+    /**
+     * The prompt tokens the provider served from its prompt cache, part of the prompt tokens.
+     * {@code null} if the provider does not report them.
+     */
+    public ReviewCompletionUsage setCachedPromptTokens(Long cachedPromptTokens) {
+        this.cachedPromptTokens = cachedPromptTokens;
+        return this;
+    }
 }
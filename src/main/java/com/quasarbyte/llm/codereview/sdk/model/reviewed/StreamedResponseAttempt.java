@@ -0,0 +1,31 @@
+package com.quasarbyte.llm.codereview.sdk.model.reviewed;
+
+/**
+ * A single streamed LLM response of a prompt. A prompt is streamed more than once if it is hedged, retried,
+ * failed over to another client or split, each response has an attempt id of its own.
+ */
+public class StreamedResponseAttempt {
+    private Long promptId;
+    private String attemptId;
+
+    public Long getPromptId() {
+        return promptId;
+    }
+
+    public StreamedResponseAttempt setPromptId(Long promptId) {
+        this.promptId = promptId;
+        return this;
+    }
+
+    /**
+     * @return unique id of the streamed response
+     */
+    public String getAttemptId() {
+        return attemptId;
+    }
+
+    public StreamedResponseAttempt setAttemptId(String attemptId) {
+        this.attemptId = attemptId;
+        return this;
+    }
+}
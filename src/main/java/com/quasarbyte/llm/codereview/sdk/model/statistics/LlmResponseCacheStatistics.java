@@ -0,0 +1,52 @@
+package com.quasarbyte.llm.codereview.sdk.model.statistics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hit and miss counters of the LLM response cache, updated by the concurrent review workers.
+ * The same instance can be shared by several reviews to count across runs.
+ */
+public class LlmResponseCacheStatistics {
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong storeCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    /**
+     * Responses written to the cache.
+     */
+    public long getStoreCount() {
+        return storeCount.get();
+    }
+
+    /**
+     * Entries removed because they expired or exceeded the maximum number of entries.
+     */
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public void recordHit() {
+        hitCount.incrementAndGet();
+    }
+
+    public void recordMiss() {
+        missCount.incrementAndGet();
+    }
+
+    public void recordStore() {
+        storeCount.incrementAndGet();
+    }
+
+    public void recordEvictions(long count) {
+        evictionCount.addAndGet(count);
+    }
+}
@@ -0,0 +1,25 @@
+package com.quasarbyte.llm.codereview.sdk.repository;
+
+import com.quasarbyte.llm.codereview.sdk.model.db.LlmResponseCacheDB;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface LlmResponseCacheRepository {
+    Optional<LlmResponseCacheDB> findByCacheKey(String cacheKey);
+
+    Long save(LlmResponseCacheDB llmResponseCacheDB);
+
+    void updateAccessedAt(Long id, LocalDateTime accessedAt);
+
+    void deleteById(Long id);
+
+    int deleteCreatedBefore(LocalDateTime createdAt);
+
+    /**
+     * Deletes the least recently accessed entries, so that at most {@code maxEntries} entries remain.
+     *
+     * @return the number of deleted entries
+     */
+    int deleteLeastRecentlyAccessed(int maxEntries);
+}
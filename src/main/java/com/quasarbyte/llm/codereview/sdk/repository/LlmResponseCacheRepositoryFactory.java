@@ -0,0 +1,5 @@
+package com.quasarbyte.llm.codereview.sdk.repository;
+
+public interface LlmResponseCacheRepositoryFactory {
+    LlmResponseCacheRepository create();
+}
@@ -0,0 +1,24 @@
+package com.quasarbyte.llm.codereview.sdk.repository.impl;
+
+import com.quasarbyte.llm.codereview.sdk.repository.LlmResponseCacheRepository;
+import com.quasarbyte.llm.codereview.sdk.repository.LlmResponseCacheRepositoryFactory;
+import com.quasarbyte.llm.codereview.sdk.service.db.core.template.JDBCTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class LlmResponseCacheRepositoryFactoryImpl implements LlmResponseCacheRepositoryFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmResponseCacheRepositoryFactoryImpl.class);
+
+    private final JDBCTemplate jdbcTemplate;
+
+    public LlmResponseCacheRepositoryFactoryImpl(JDBCTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public LlmResponseCacheRepository create() {
+        logger.debug("Instantiating LlmResponseCacheRepository");
+        return new LlmResponseCacheRepositoryImpl(jdbcTemplate);
+    }
+}
@@ -0,0 +1,146 @@
+package com.quasarbyte.llm.codereview.sdk.repository.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.db.LlmResponseCacheDB;
+import com.quasarbyte.llm.codereview.sdk.repository.LlmResponseCacheRepository;
+import com.quasarbyte.llm.codereview.sdk.service.db.core.template.JDBCTemplate;
+import com.quasarbyte.llm.codereview.sdk.service.db.core.template.util.ParameterSources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * LlmResponseCacheRepository implementation using JDBCTemplate.
+ */
+public class LlmResponseCacheRepositoryImpl implements LlmResponseCacheRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmResponseCacheRepositoryImpl.class);
+
+    private final JDBCTemplate jdbcTemplate;
+
+    public LlmResponseCacheRepositoryImpl(JDBCTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate, "jdbcTemplate must not be null");
+    }
+
+    @Override
+    public Optional<LlmResponseCacheDB> findByCacheKey(String cacheKey) {
+        logger.debug("Finding cached LLM response by key: {}", cacheKey);
+
+        String sql = "SELECT id, cache_key, response, created_at, accessed_at " +
+                "FROM llm_response_cache WHERE cache_key = ?";
+
+        return jdbcTemplate.queryForObject(sql, this::mapRowToLlmResponseCacheDB, cacheKey);
+    }
+
+    @Override
+    public Long save(LlmResponseCacheDB llmResponseCacheDB) {
+        Objects.requireNonNull(llmResponseCacheDB, "llmResponseCacheDB must not be null");
+        logger.debug("Saving cached LLM response with key: {}", llmResponseCacheDB.getCacheKey());
+
+        String sql = "INSERT INTO llm_response_cache (cache_key, response, created_at, accessed_at) " +
+                "VALUES (:cacheKey, :response, :createdAt, :accessedAt)";
+
+        Long id = jdbcTemplate.insertAndReturnKey(sql,
+                ParameterSources.of(
+                        "cacheKey", llmResponseCacheDB.getCacheKey(),
+                        "response", llmResponseCacheDB.getResponse(),
+                        "createdAt", toTimestamp(llmResponseCacheDB.getCreatedAt()),
+                        "accessedAt", toTimestamp(llmResponseCacheDB.getAccessedAt())
+                ),
+                Long.class);
+
+        logger.debug("Saved cached LLM response with ID: {}", id);
+        return id;
+    }
+
+    @Override
+    public void updateAccessedAt(Long id, LocalDateTime accessedAt) {
+        logger.debug("Updating access time of cached LLM response ID: {}", id);
+
+        String sql = "UPDATE llm_response_cache SET accessed_at = :accessedAt WHERE id = :id";
+        jdbcTemplate.update(sql, ParameterSources.of("accessedAt", toTimestamp(accessedAt), "id", id));
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        logger.debug("Deleting cached LLM response with ID: {}", id);
+
+        String sql = "DELETE FROM llm_response_cache WHERE id = ?";
+        int deletedCount = jdbcTemplate.update(sql, id);
+
+        logger.debug("Deleted {} cached LLM response(s) with ID: {}", deletedCount, id);
+    }
+
+    @Override
+    public int deleteCreatedBefore(LocalDateTime createdAt) {
+        logger.debug("Deleting cached LLM responses created before: {}", createdAt);
+
+        String sql = "DELETE FROM llm_response_cache WHERE created_at < ?";
+        int deletedCount = jdbcTemplate.update(sql, toTimestamp(createdAt));
+
+        logger.debug("Deleted {} expired cached LLM response(s)", deletedCount);
+        return deletedCount;
+    }
+
+    @Override
+    public int deleteLeastRecentlyAccessed(int maxEntries) {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM llm_response_cache", Integer.class);
+        int excess = (count != null ? count : 0) - maxEntries;
+        if (excess <= 0) {
+            return 0;
+        }
+
+        logger.debug("Deleting {} least recently accessed cached LLM response(s)", excess);
+
+        // Selected first and deleted by ID, DELETE ... LIMIT and LIMIT in subqueries are not portable
+        List<Long> ids = jdbcTemplate.query("SELECT id FROM llm_response_cache ORDER BY accessed_at, id LIMIT ?",
+                (rs, rowNum) -> rs.getLong("id"), excess);
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long id : ids) {
+            batchArgs.add(new Object[]{id});
+        }
+        int[] results = jdbcTemplate.batchUpdate("DELETE FROM llm_response_cache WHERE id = ?", batchArgs);
+
+        int deletedCount = 0;
+        for (int result : results) {
+            deletedCount += Math.max(result, 0);
+        }
+
+        logger.debug("Deleted {} least recently accessed cached LLM response(s)", deletedCount);
+        return deletedCount;
+    }
+
+    /**
+     * Maps a database row to a LlmResponseCacheDB object.
+     */
+    private LlmResponseCacheDB mapRowToLlmResponseCacheDB(ResultSet rs, int rowNum) throws SQLException {
+        return new LlmResponseCacheDB()
+                .setId(rs.getLong("id"))
+                .setCacheKey(rs.getString("cache_key"))
+                .setResponse(rs.getString("response"))
+                .setCreatedAt(toLocalDateTime(rs.getTimestamp("created_at")))
+                .setAccessedAt(toLocalDateTime(rs.getTimestamp("accessed_at")));
+    }
+
+    /**
+     * Converts LocalDateTime to Timestamp for database storage.
+     */
+    private Timestamp toTimestamp(LocalDateTime localDateTime) {
+        return localDateTime != null ? Timestamp.valueOf(localDateTime) : null;
+    }
+
+    /**
+     * Converts Timestamp to LocalDateTime for object mapping.
+     */
+    private LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -30,9 +30,9 @@ public class ResolvedFileRepositoryImpl implements ResolvedFileRepository {
         logger.debug("Saving resolvedFile: {} for review ID: {}", resolvedFileDB.getFileName(), resolvedFileDB.getReviewId());
 
         String sql = "INSERT INTO resolved_file (file_id, group_id, target_id, review_id, file_name, file_name_extension, " +
-                "file_path, code_page) " +
+                "file_path, code_page, content_hash) " +
                 "VALUES (:fileId, :groupId, :targetId, :reviewId, :fileName, :fileNameExtension, " +
-                ":filePath, :codePage)";
+                ":filePath, :codePage, :contentHash)";
 
         Long resolvedFileId = jdbcTemplate.insertAndReturnKey(sql,
                 ParameterSources.of(
@@ -43,7 +43,8 @@ public class ResolvedFileRepositoryImpl implements ResolvedFileRepository {
                         "fileName", resolvedFileDB.getFileName(),
                         "fileNameExtension", resolvedFileDB.getFileNameExtension(),
                         "filePath", resolvedFileDB.getFilePath(),
-                        "codePage", resolvedFileDB.getCodePage()
+                        "codePage", resolvedFileDB.getCodePage(),
+                        "contentHash", resolvedFileDB.getContentHash()
                 ),
                 Long.class);
 
@@ -56,7 +57,7 @@ public class ResolvedFileRepositoryImpl implements ResolvedFileRepository {
         logger.debug("Finding resolvedFile by ID: {}", resolvedFileId);
         
         String sql = "SELECT id, file_id, group_id, target_id, review_id, file_name, file_name_extension, " +
-                "file_path, code_page " +
+                "file_path, code_page, content_hash " +
                 "FROM resolved_file WHERE id = ?";
         
         Optional<ResolvedFileDB> resolvedFile = jdbcTemplate.queryForObject(sql, this::mapRowToResolvedFileDB, resolvedFileId);
@@ -70,7 +71,7 @@ public class ResolvedFileRepositoryImpl implements ResolvedFileRepository {
         logger.debug("Finding resolvedFiles for review ID: {}", reviewId);
 
         String sql = "SELECT id, file_id, group_id, target_id, review_id, file_name, file_name_extension, " +
-                "file_path, code_page " +
+                "file_path, code_page, content_hash " +
                 "FROM resolved_file WHERE review_id = ? ORDER BY id";
         
         List<ResolvedFileDB> resolvedFiles = jdbcTemplate.query(sql, this::mapRowToResolvedFileDB, reviewId);
@@ -84,7 +85,7 @@ public class ResolvedFileRepositoryImpl implements ResolvedFileRepository {
         logger.debug("Finding resolvedFiles for group ID: {}", groupId);
 
         String sql = "SELECT id, file_id, group_id, target_id, review_id, file_name, file_name_extension, " +
-                "file_path, code_page " +
+                "file_path, code_page, content_hash " +
                 "FROM resolved_file WHERE group_id = ? ORDER BY id";
         
         List<ResolvedFileDB> resolvedFiles = jdbcTemplate.query(sql, this::mapRowToResolvedFileDB, groupId);
@@ -98,7 +99,7 @@ public class ResolvedFileRepositoryImpl implements ResolvedFileRepository {
         logger.debug("Finding resolvedFiles for target ID: {}", targetId);
 
         String sql = "SELECT id, file_id, group_id, target_id, review_id, file_name, file_name_extension, " +
-                "file_path, code_page " +
+                "file_path, code_page, content_hash " +
                 "FROM resolved_file WHERE target_id = ? ORDER BY id";
         
         List<ResolvedFileDB> resolvedFiles = jdbcTemplate.query(sql, this::mapRowToResolvedFileDB, targetId);
@@ -112,7 +113,7 @@ public class ResolvedFileRepositoryImpl implements ResolvedFileRepository {
         logger.debug("Finding resolvedFiles for file ID: {}", fileId);
 
         String sql = "SELECT id, file_id, group_id, target_id, review_id, file_name, file_name_extension, " +
-                "file_path, code_page " +
+                "file_path, code_page, content_hash " +
                 "FROM resolved_file WHERE file_id = ? ORDER BY id";
         
         List<ResolvedFileDB> resolvedFiles = jdbcTemplate.query(sql, this::mapRowToResolvedFileDB, fileId);
@@ -126,7 +127,7 @@ public class ResolvedFileRepositoryImpl implements ResolvedFileRepository {
         logger.debug("Finding resolvedFile for file ID: {} and review ID: {}", fileId, reviewId);
         
         String sql = "SELECT id, file_id, group_id, target_id, review_id, file_name, file_name_extension, " +
-                "file_path, code_page " +
+                "file_path, code_page, content_hash " +
                 "FROM resolved_file WHERE file_id = ? AND review_id = ?";
         
         Optional<ResolvedFileDB> resolvedFile = jdbcTemplate.queryForObject(sql, this::mapRowToResolvedFileDB, fileId, reviewId);
@@ -238,7 +239,7 @@ public class ResolvedFileRepositoryImpl implements ResolvedFileRepository {
 
         String sql = "UPDATE resolved_file SET file_id = :fileId, group_id = :groupId, target_id = :targetId, review_id = :reviewId, " +
                 "file_name = :fileName, file_name_extension = :fileNameExtension, file_path = :filePath, " +
-                "code_page = :codePage WHERE id = :resolvedFileId";
+                "code_page = :codePage, content_hash = :contentHash WHERE id = :resolvedFileId";
 
         int updatedCount = jdbcTemplate.update(sql,
                 ParameterSources.of(
@@ -250,6 +251,7 @@ public class ResolvedFileRepositoryImpl implements ResolvedFileRepository {
                         "fileNameExtension", resolvedFileDB.getFileNameExtension(),
                         "filePath", resolvedFileDB.getFilePath(),
                         "codePage", resolvedFileDB.getCodePage(),
+                        "contentHash", resolvedFileDB.getContentHash(),
                         "resolvedFileId", resolvedFileId
                 ));
 
@@ -330,6 +332,7 @@ public class ResolvedFileRepositoryImpl implements ResolvedFileRepository {
         resolvedFile.setFilePath(rs.getString("file_path"));
 
         resolvedFile.setCodePage(rs.getString("code_page"));
+        resolvedFile.setContentHash(rs.getString("content_hash"));
         
         return resolvedFile;
     }
@@ -0,0 +1,28 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+/**
+ * AIMD limit of concurrent requests to a single LLM client.
+ */
+public interface AdaptiveConcurrencyLimiter {
+
+    /**
+     * Blocks until the number of in-flight requests is below the current limit.
+     *
+     * @return start time of the request, to be passed to {@link #onSuccess(long)} or {@link #onFailure(long, Throwable)}
+     */
+    long acquire() throws InterruptedException;
+
+    /**
+     * Releases the slot of a successful request and adjusts the limit by its latency.
+     */
+    void onSuccess(long startNanos);
+
+    /**
+     * Releases the slot of a failed request and decreases the limit if the failure is a throttling signal.
+     */
+    void onFailure(long startNanos, Throwable throwable);
+
+    int getLimit();
+
+    int getInFlight();
+}
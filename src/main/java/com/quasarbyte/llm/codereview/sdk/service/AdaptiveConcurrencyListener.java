@@ -0,0 +1,13 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.AdaptiveConcurrencyAdjustment;
+
+/**
+ * Receives the limit changes of the adaptive concurrency controller, e.g. to export them as metrics.
+ * <p>
+ * Called from dispatcher threads, implementations must be thread-safe. Exceptions are logged and ignored.
+ */
+public interface AdaptiveConcurrencyListener {
+
+    void onLimitChanged(AdaptiveConcurrencyAdjustment adjustment);
+}
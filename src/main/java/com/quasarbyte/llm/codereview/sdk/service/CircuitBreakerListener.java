@@ -0,0 +1,13 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.CircuitBreakerStateChange;
+
+/**
+ * Receives the state changes of the LLM client circuit breakers, e.g. to alert on an unhealthy endpoint.
+ * <p>
+ * Called from dispatcher threads, implementations must be thread-safe. Exceptions are logged and ignored.
+ */
+public interface CircuitBreakerListener {
+
+    void onStateChanged(CircuitBreakerStateChange stateChange);
+}
@@ -0,0 +1,13 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.FailedPrompt;
+
+/**
+ * Receives the prompts that exhausted their retry attempts, e.g. to report the files left unreviewed.
+ * <p>
+ * Called from the dispatching thread. Exceptions are logged and ignored.
+ */
+public interface FailedPromptListener {
+
+    void onPromptFailed(FailedPrompt failedPrompt);
+}
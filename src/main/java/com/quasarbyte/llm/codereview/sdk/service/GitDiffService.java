@@ -0,0 +1,14 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.diff.FileDiff;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.DiffScope;
+
+import java.util.Map;
+
+public interface GitDiffService {
+
+    /**
+     * @return the changed files of the diff scope by real file path, see {@link com.quasarbyte.llm.codereview.sdk.service.util.UnifiedDiffUtils#toFileDiffKey}
+     */
+    Map<String, FileDiff> diff(DiffScope diffScope);
+}
@@ -0,0 +1,13 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.HedgedRequest;
+
+/**
+ * Receives the outcome of each hedged request, e.g. to weigh the wasted tokens against the latency gain.
+ * <p>
+ * Called from dispatcher threads, implementations must be thread-safe. Exceptions are logged and ignored.
+ */
+public interface HedgingListener {
+
+    void onHedgedRequestCompleted(HedgedRequest hedgedRequest);
+}
@@ -0,0 +1,47 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.CircuitBreakerState;
+
+import java.time.Instant;
+
+/**
+ * Health of a single LLM client as a closed / open / half-open circuit breaker.
+ */
+public interface LlmClientCircuitBreaker {
+
+    /**
+     * Returns whether a request may be sent to the client now. Moves an open breaker to half-open once the open duration elapsed.
+     */
+    boolean isCallPermitted();
+
+    /**
+     * Registers a request sent to the client.
+     *
+     * @return {@code true} if the request is a trial request of the half-open state, to be passed back on completion
+     */
+    boolean onCallStarted();
+
+    void onSuccess(boolean trialCall);
+
+    /**
+     * Records a failed request. Only endpoint failures (timeouts, I/O errors, HTTP 408, 429 and 5xx) count towards opening the breaker,
+     * any other provider response proves the endpoint is reachable and counts as a success.
+     */
+    void onFailure(boolean trialCall, Throwable throwable);
+
+    /**
+     * Same as {@link #onFailure(boolean, Throwable)}, a failure once the review deadline has passed is not recorded.
+     *
+     * @param deadline the review deadline of the request, {@code null} for no deadline
+     */
+    default void onFailure(boolean trialCall, Throwable throwable, Instant deadline) {
+        onFailure(trialCall, throwable);
+    }
+
+    CircuitBreakerState getState();
+
+    /**
+     * @return nanoseconds until an open breaker lets a trial request through, 0 if the breaker is not open
+     */
+    long getRemainingOpenNanos();
+}
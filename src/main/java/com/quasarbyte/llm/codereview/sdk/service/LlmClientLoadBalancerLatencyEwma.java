@@ -0,0 +1,18 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+
+import java.util.List;
+
+public interface LlmClientLoadBalancerLatencyEwma {
+
+    /**
+     * Finds the LLM client with the lowest expected wait, i.e. latency average multiplied by in-flight requests plus one.
+     * Idle clients without a completed request are preferred, so every client gets a latency sample.
+     *
+     * @param llmClients  the list of available LLM clients
+     * @param loadTracker the in-flight counts and latency averages of the clients
+     * @return the LLM client expected to respond first
+     */
+    LlmClient findLlmClient(List<LlmClient> llmClients, LlmClientLoadTracker loadTracker);
+}
@@ -0,0 +1,17 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+
+import java.util.List;
+
+public interface LlmClientLoadBalancerLeastOutstanding {
+
+    /**
+     * Finds the LLM client with the fewest in-flight requests.
+     *
+     * @param llmClients  the list of available LLM clients
+     * @param loadTracker the in-flight counts of the clients
+     * @return the least busy LLM client, the first one on a tie
+     */
+    LlmClient findLlmClient(List<LlmClient> llmClients, LlmClientLoadTracker loadTracker);
+}
@@ -0,0 +1,19 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+
+import java.util.List;
+import java.util.Map;
+
+public interface LlmClientLoadBalancerWeighted {
+
+    /**
+     * Finds the next LLM client using smooth weighted round-robin, so each client receives traffic
+     * in proportion to its {@link LlmClient#getWeight() weight} and requests to the same client are interleaved.
+     *
+     * @param llmClients     the list of available LLM clients
+     * @param currentWeights the running weights of the clients, shared between calls of the same dispatch
+     * @return the next LLM client to use
+     */
+    LlmClient findLlmClient(List<LlmClient> llmClients, Map<LlmClient, Long> currentWeights);
+}
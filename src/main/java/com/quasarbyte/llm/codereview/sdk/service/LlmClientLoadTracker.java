@@ -0,0 +1,26 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+
+/**
+ * Tracks in-flight requests and a decaying latency average per LLM client, used by the load-aware load balancers.
+ */
+public interface LlmClientLoadTracker {
+
+    void onRequestStarted(LlmClient llmClient);
+
+    /**
+     * @param latencyNanos duration of the request
+     * @param succeeded    only successful requests update the latency average
+     */
+    void onRequestCompleted(LlmClient llmClient, long latencyNanos, boolean succeeded);
+
+    int getInFlight(LlmClient llmClient);
+
+    /**
+     * @return exponentially weighted moving average of the latency in milliseconds, or {@code null} if no request has completed yet
+     */
+    Double getLatencyEwmaMillis(LlmClient llmClient);
+
+    long getCompletedRequests(LlmClient llmClient);
+}
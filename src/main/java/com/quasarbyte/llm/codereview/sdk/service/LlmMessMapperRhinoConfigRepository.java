@@ -4,4 +4,10 @@ import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperCo
 
 public interface LlmMessMapperRhinoConfigRepository {
     LlmMessagesMapperConfigurationRhino findDefaultConfiguration();
+
+    /**
+     * The bundled script with a message layout for provider side prompt caching: the system prompts, review prompts
+     * and rules shared by the requests of a review come first, the file content last.
+     */
+    LlmMessagesMapperConfigurationRhino findCacheFriendlyConfiguration();
 }
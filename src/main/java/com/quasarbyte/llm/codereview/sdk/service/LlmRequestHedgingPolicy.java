@@ -0,0 +1,46 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.HedgedRequest;
+
+/**
+ * Decides when a request is hedged and keeps the number of hedged requests within the budget.
+ */
+public interface LlmRequestHedgingPolicy {
+
+    /**
+     * Registers a request of the review, every request adds to the hedging budget.
+     */
+    void onRequest();
+
+    /**
+     * Records the latency of a successful request.
+     */
+    void onRequestSucceeded(long latencyNanos);
+
+    /**
+     * @return the delay after which a request is hedged, or -1 while there are not enough latency samples
+     */
+    long getHedgeDelayNanos();
+
+    /**
+     * Takes a hedged request from the budget.
+     *
+     * @return {@code false} if the budget is exhausted
+     */
+    boolean tryAcquireHedge();
+
+    /**
+     * Returns a hedged request to the budget when it could not be sent, e.g. no other client was available.
+     */
+    void releaseHedge();
+
+    void onHedgedRequestCompleted(HedgedRequest hedgedRequest);
+
+    long getRequests();
+
+    long getHedgedRequests();
+
+    long getHedgeWins();
+
+    long getWastedTokens();
+}
@@ -0,0 +1,37 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmRateLimit;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedCompletionUsage;
+
+import java.time.Instant;
+
+/**
+ * Paces the requests sent to each {@link LlmClient} to stay under the requests-per-minute and tokens-per-minute limits
+ * of its {@link LlmRateLimit}. Requests are delayed rather than rejected.
+ */
+public interface LlmRequestRateLimiter {
+
+    /**
+     * Waits until the request fits the rate limit of the client and reserves one request permit and its estimated tokens.
+     * Must be called right before the request is sent, once per request.
+     *
+     * @param deadline the review deadline, {@code null} for no deadline. A request that would have to wait past the deadline
+     *                 is not reserved and fails with a {@link com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorTimeoutException}
+     * @return the reservation, to be completed once the response has arrived
+     */
+    Reservation reserve(ReviewPrompt prompt, LlmChatCompletionConfiguration llmChatCompletionConfiguration, LlmClient llmClient, Instant deadline);
+
+    interface Reservation {
+        /**
+         * Corrects the reserved tokens by the actual usage of the request. Must be called exactly once,
+         * also when the request has failed or was cancelled.
+         *
+         * @param completionUsage the usage reported by the LLM, {@code null} if the request has failed or reported no usage,
+         *                        the reserved tokens are then given back
+         */
+        void complete(ReviewedCompletionUsage completionUsage);
+    }
+}
@@ -0,0 +1,25 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+/**
+ * Process-wide scheduler of LLM requests shared by concurrent reviews.
+ * <p>
+ * Requests are grouped in flows, usually one per review. The scheduler caps the requests in flight across all flows,
+ * and waiting requests are admitted by weighted fair queuing: each flow gets a share of the capacity proportional
+ * to its weight, so a small review is not queued behind all requests of a large one.
+ */
+public interface LlmRequestScheduler {
+
+    /**
+     * Waits until the request of the flow is admitted. Every admitted request must be released with {@link #release(Object)}.
+     *
+     * @param flowKey key of the flow, compared with {@code equals}
+     * @param weight  share of the flow relative to other flows, greater than 0
+     * @param cost    size of the request, e.g. its estimated tokens, at least 1
+     */
+    void acquire(Object flowKey, double weight, long cost) throws InterruptedException;
+
+    /**
+     * Releases a request admitted by {@link #acquire(Object, double, long)} once its response has arrived.
+     */
+    void release(Object flowKey);
+}
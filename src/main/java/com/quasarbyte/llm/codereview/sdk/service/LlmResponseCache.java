@@ -0,0 +1,25 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmResponseCacheParameter;
+
+import java.util.Optional;
+
+/**
+ * Persistent cache of LLM responses keyed by the fingerprint of the request.
+ * A failing cache never fails the review, errors are logged and treated as a miss.
+ */
+public interface LlmResponseCache {
+
+    /**
+     * @param cacheKey  the fingerprint of the request
+     * @param parameter the cache configuration of the review
+     * @return the cached response, empty on a miss or if the cached response has expired
+     */
+    Optional<String> find(String cacheKey, LlmResponseCacheParameter parameter);
+
+    /**
+     * Stores the response. Once per eviction interval of stored responses, evicts the entries exceeding
+     * the configured time to live and maximum number of entries.
+     */
+    void put(String cacheKey, String response, LlmResponseCacheParameter parameter);
+}
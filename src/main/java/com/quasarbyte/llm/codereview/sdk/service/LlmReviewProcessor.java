@@ -6,9 +6,32 @@ import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public interface LlmReviewProcessor {
     ReviewedResultItem process(ReviewPrompt prompt,
                                LlmChatCompletionConfiguration llmChatCompletionConfiguration,
                                LlmMessagesMapperConfiguration messagesMapperConfiguration,
                                LlmClient llmClient);
+
+    /**
+     * Sends the request without waiting for the response. Processors that can not send requests asynchronously
+     * process the prompt on the calling thread and return a completed future.
+     *
+     * @param callbackExecutor runs the steps that need the review run context of the calling thread, e.g. persisting the inference
+     */
+    default CompletableFuture<ReviewedResultItem> processAsync(ReviewPrompt prompt,
+                                                               LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                                               LlmMessagesMapperConfiguration messagesMapperConfiguration,
+                                                               LlmClient llmClient,
+                                                               Executor callbackExecutor) {
+        CompletableFuture<ReviewedResultItem> future = new CompletableFuture<>();
+        try {
+            future.complete(process(prompt, llmChatCompletionConfiguration, messagesMapperConfiguration, llmClient));
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
 }
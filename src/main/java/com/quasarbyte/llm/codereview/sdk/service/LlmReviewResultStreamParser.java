@@ -0,0 +1,35 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmReviewResult;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmReviewedFile;
+
+import java.util.List;
+
+/**
+ * Parses the structured review result of a streamed chat completion while it arrives. Each reviewed file is handed
+ * over as soon as its JSON object is closed, only the unfinished file object is buffered.
+ */
+public interface LlmReviewResultStreamParser {
+
+    /**
+     * Parses the next part of the response content.
+     */
+    void feed(String content);
+
+    /**
+     * @return whether the response has been received completely
+     */
+    boolean isComplete();
+
+    /**
+     * @return the files closed so far, also of an incomplete response
+     */
+    List<LlmReviewedFile> getReviewedFiles();
+
+    /**
+     * Ends the input.
+     *
+     * @return the review result, or {@code null} if the response is incomplete
+     */
+    LlmReviewResult finish();
+}
@@ -5,6 +5,7 @@ import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperCo
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmTokensQuota;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LoadBalancingStrategy;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ParallelExecutionParameter;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
 import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilePath;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
@@ -99,4 +100,25 @@ public interface MultiThreadTaskDispatcher {
                                       Duration timeoutDuration,
                                       ExecutorService executorService,
                                       LlmTokensQuota tokensQuota);
+
+    // Methods driven by ParallelExecutionParameter (batch size, executor, load balancing strategy, dispatch mode)
+    List<ReviewedResultItem> dispatch(Boolean useReasoning,
+                                      List<List<Rule>> rulesBatches,
+                                      List<List<ResolvedFilePath>> resolvedFilePathBatches,
+                                      LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                      LlmMessagesMapperConfiguration messagesMapperConfiguration,
+                                      LlmClient llmClient,
+                                      ParallelExecutionParameter parallelExecutionParameter,
+                                      Duration timeoutDuration,
+                                      LlmTokensQuota tokensQuota);
+
+    List<ReviewedResultItem> dispatch(Boolean useReasoning,
+                                      List<List<Rule>> rulesBatches,
+                                      List<List<ResolvedFilePath>> resolvedFilePathBatches,
+                                      LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                      LlmMessagesMapperConfiguration messagesMapperConfiguration,
+                                      List<LlmClient> llmClients,
+                                      ParallelExecutionParameter parallelExecutionParameter,
+                                      Duration timeoutDuration,
+                                      LlmTokensQuota tokensQuota);
 }
@@ -0,0 +1,25 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.FailedPrompt;
+
+/**
+ * Decides whether a failed prompt is retried and after which backoff.
+ */
+public interface PromptRetryPolicy {
+
+    /**
+     * @param attempts attempts of the prompt so far, including the failed one
+     */
+    boolean shouldRetry(int attempts, Throwable failure);
+
+    /**
+     * @param attempts attempts of the prompt so far, including the failed one
+     * @return the backoff before the next attempt
+     */
+    long getBackoffNanos(int attempts);
+
+    /**
+     * Reports a prompt that is not retried anymore.
+     */
+    void onPromptFailed(FailedPrompt failedPrompt);
+}
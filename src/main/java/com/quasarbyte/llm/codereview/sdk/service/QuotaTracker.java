@@ -1,10 +1,33 @@
 package com.quasarbyte.llm.codereview.sdk.service;
 
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmTokensQuota;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedCompletionUsage;
 
 public interface QuotaTracker {
 
     void addUsage(ReviewedCompletionUsage usage);
 
+    /**
+     * Returns the tracked usage, including the reservations of requests that are still in flight.
+     */
     ReviewedCompletionUsage getCurrentUsage();
+
+    /**
+     * Reserves the estimated usage of a request before it is sent. Nothing is reserved if the current usage
+     * plus the estimate would exceed the quota.
+     *
+     * @param estimatedUsage the estimated token usage of the request
+     * @param quota          the configured token quota limits, {@code null} reserves without checking
+     * @return the reserved usage, to be passed to {@link #reconcile} once the request has completed
+     * @throws com.quasarbyte.llm.codereview.sdk.exception.LlmTokensQuotaException if the reservation would exceed the quota
+     */
+    ReviewedCompletionUsage reserve(ReviewedCompletionUsage estimatedUsage, LlmTokensQuota quota);
+
+    /**
+     * Replaces a reservation by the actual usage of the request.
+     *
+     * @param reservedUsage the usage returned by {@link #reserve}
+     * @param actualUsage   the usage reported by the LLM, {@code null} releases the reservation (e.g. the request failed)
+     */
+    void reconcile(ReviewedCompletionUsage reservedUsage, ReviewedCompletionUsage actualUsage);
 }
@@ -0,0 +1,30 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+/**
+ * Cancels a running review from another thread, e.g. a "cancel review" button.
+ * <p>
+ * Once cancelled, no new prompts are dispatched and the requests in flight are cancelled: their HTTP calls are aborted
+ * and streamed responses are closed, when the LLM clients are built by the SDK. Inferences that already finished stay
+ * saved, so the review can be resumed by running it again with its review ID.
+ */
+public interface ReviewCancellationToken {
+
+    /**
+     * Requests cancellation of the review, further calls have no effect.
+     */
+    void cancel();
+
+    boolean isCancelled();
+
+    /**
+     * Registers a callback that is run by the thread calling {@link #cancel()}, or right away if the token is already cancelled.
+     *
+     * @return the registration, closing it removes the callback
+     */
+    Registration onCancel(Runnable callback);
+
+    interface Registration extends AutoCloseable {
+        @Override
+        void close();
+    }
+}
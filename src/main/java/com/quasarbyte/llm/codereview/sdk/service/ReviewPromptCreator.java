@@ -4,7 +4,26 @@ import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
 import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilesRules;
 
 import java.util.List;
+import java.util.concurrent.ThreadFactory;
 
 public interface ReviewPromptCreator {
     List<ReviewPrompt> create(List<ResolvedFilesRules> resolvedFilesRulesList, boolean useReasoning);
+
+    /**
+     * Same as {@link #create(List, boolean)}, but prompts are built and persisted incrementally
+     * while the dispatcher consumes them.
+     *
+     * @param queueCapacity maximum number of built prompts waiting to be dispatched
+     */
+    default ReviewPromptPipeline createPipeline(List<ResolvedFilesRules> resolvedFilesRulesList, boolean useReasoning, int queueCapacity) {
+        return createPipeline(resolvedFilesRulesList, useReasoning, queueCapacity, null);
+    }
+
+    /**
+     * Same as {@link #createPipeline(List, boolean, int)}, the prompts are built on a thread of the given factory.
+     *
+     * @param producerThreadFactory creates the producer thread, {@code null} for a daemon platform thread
+     */
+    ReviewPromptPipeline createPipeline(List<ResolvedFilesRules> resolvedFilesRulesList, boolean useReasoning, int queueCapacity,
+                                        ThreadFactory producerThreadFactory);
 }
@@ -0,0 +1,39 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+
+/**
+ * Ordered source of review prompts consumed by the task dispatchers.
+ * Prompts may be built and persisted in the background while already available prompts are being processed.
+ */
+public interface ReviewPromptPipeline extends AutoCloseable {
+
+    /**
+     * @return total number of prompts this pipeline will provide
+     */
+    int size();
+
+    /**
+     * Returns the next prompt, waiting until it has been built if necessary.
+     *
+     * @return the next prompt or {@code null} when all prompts have been provided
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     */
+    ReviewPrompt next() throws InterruptedException;
+
+    /**
+     * Position in the original prompt order of the prompt returned by the given call of {@link #next()}.
+     * Dispatchers return results in this order.
+     *
+     * @param dispatchIndex zero-based index of the {@link #next()} call
+     */
+    default int getResultIndex(int dispatchIndex) {
+        return dispatchIndex;
+    }
+
+    /**
+     * Stops building prompts that have not been requested yet.
+     */
+    @Override
+    void close();
+}
@@ -0,0 +1,22 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+
+/**
+ * Decides the order in which review prompts are dispatched.
+ */
+public interface ReviewPromptScheduler {
+
+    /**
+     * Returns a pipeline that provides the prompts of the given pipeline in dispatch order.
+     * Closing the returned pipeline closes the given one.
+     *
+     * @throws InterruptedException if the current thread was interrupted while waiting for prompts to be built
+     */
+    ReviewPromptPipeline schedule(ReviewPromptPipeline reviewPromptPipeline) throws InterruptedException;
+
+    /**
+     * Estimated cost of a prompt in tokens, prompt tokens plus the expected completion tokens.
+     */
+    long estimateCost(ReviewPrompt reviewPrompt);
+}
@@ -0,0 +1,14 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+
+public interface ReviewResultCarryForward {
+
+    /**
+     * Moves the files of the prompt that were already reviewed with the same content, rules and prompt texts
+     * to {@link ReviewPrompt#getCarriedForwardFiles()}, together with their previous results.
+     *
+     * @return the same prompt, only the changed files are left in {@link ReviewPrompt#getFiles()}
+     */
+    ReviewPrompt carryForward(ReviewPrompt reviewPrompt);
+}
@@ -0,0 +1,9 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+public interface ReviewResultCarryForwardFactory {
+
+    /**
+     * Loads the finished results of the previous runs of the review.
+     */
+    ReviewResultCarryForward create(Long reviewId);
+}
@@ -0,0 +1,62 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResultItem;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedFile;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.StreamedResponseAttempt;
+
+import java.util.List;
+
+/**
+ * Receives review results as soon as each inference has finished and has been persisted,
+ * long before the whole review completes.
+ * <p>
+ * Methods are invoked from the dispatcher threads, possibly concurrently, so implementations must be thread-safe
+ * and should return quickly. Exceptions thrown by a listener are logged and do not fail the review.
+ */
+public interface ReviewResultListener {
+
+    /**
+     * Called with the raw result of a single inference.
+     */
+    default void onReviewedResultItem(ReviewedResultItem reviewedResultItem) {
+    }
+
+    /**
+     * Called with the comments of a single inference aggregated per file.
+     * A file reviewed against several rule batches is reported once per inference.
+     */
+    default void onReviewResultItems(List<ReviewResultItem> reviewResultItems) {
+    }
+
+    /**
+     * Called by the default {@link #onReviewedFile(ReviewedFile, StreamedResponseAttempt)}, without the attempt.
+     */
+    default void onReviewedFile(ReviewedFile reviewedFile) {
+    }
+
+    /**
+     * Called with the comments of a single file as soon as the streamed LLM response has finished the file, before
+     * the inference has finished or been persisted. Only called if the chat completion is streamed, see
+     * {@link com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration#setStream}.
+     * <p>
+     * Streamed files are a preview, the result of the prompt is the one passed to {@link #onReviewedResultItem}.
+     * The same file of a prompt is reported again by another attempt when
+     * <ul>
+     *     <li>the prompt is hedged, both the primary and the hedged response are streamed until the loser is cancelled,
+     *     a loser that has already finished keeps its reported files</li>
+     *     <li>the response fails in the middle of the stream, the files reported before the failure are reported again
+     *     when the prompt is retried or failed over to another client</li>
+     *     <li>the prompt fails after its response has been streamed, e.g. the result cannot be parsed or stored, and is retried</li>
+     *     <li>the response is truncated by the completion token limit, the halves of the split prompt report the files
+     *     again, each file in one of the halves</li>
+     * </ul>
+     * Files of the same prompt reported with different attempt ids are duplicates, a caller showing the streamed files
+     * keeps those of one attempt per prompt and file.
+     *
+     * @param attempt the prompt and the streamed response the file was reported by
+     */
+    default void onReviewedFile(ReviewedFile reviewedFile, StreamedResponseAttempt attempt) {
+        onReviewedFile(reviewedFile);
+    }
+}
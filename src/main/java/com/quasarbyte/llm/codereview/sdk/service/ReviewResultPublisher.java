@@ -0,0 +1,7 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
+
+public interface ReviewResultPublisher {
+    void publish(ReviewedResultItem reviewedResultItem);
+}
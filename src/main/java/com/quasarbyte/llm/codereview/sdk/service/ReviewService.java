@@ -7,8 +7,19 @@ import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
 import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResult;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface ReviewService {
     ReviewResult review(ReviewParameter reviewParameter, LlmClient llmClient, PersistenceConfiguration persistenceConfiguration);
     ReviewResult review(ReviewParameter reviewParameter, List<LlmClient> llmClients, PersistenceConfiguration persistenceConfiguration, ParallelExecutionParameter parallelExecutionParameter);
+
+    // Methods notifying a listener as soon as each inference has finished
+    ReviewResult review(ReviewParameter reviewParameter, LlmClient llmClient, PersistenceConfiguration persistenceConfiguration, ReviewResultListener reviewResultListener);
+    ReviewResult review(ReviewParameter reviewParameter, List<LlmClient> llmClients, PersistenceConfiguration persistenceConfiguration, ParallelExecutionParameter parallelExecutionParameter, ReviewResultListener reviewResultListener);
+
+    // Methods returning immediately, the review runs on its own thread and requests are sent with the async LLM client
+    // unless another dispatch mode is set. Cancelling the returned future cancels the requests in flight and the cancellation token
+    // of the parallel execution parameter, if set.
+    CompletableFuture<ReviewResult> reviewAsync(ReviewParameter reviewParameter, List<LlmClient> llmClients, PersistenceConfiguration persistenceConfiguration, ParallelExecutionParameter parallelExecutionParameter);
+    CompletableFuture<ReviewResult> reviewAsync(ReviewParameter reviewParameter, List<LlmClient> llmClients, PersistenceConfiguration persistenceConfiguration, ParallelExecutionParameter parallelExecutionParameter, ReviewResultListener reviewResultListener);
 }
@@ -1,9 +1,20 @@
 package com.quasarbyte.llm.codereview.sdk.service;
 
 import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RulesBatchGrouping;
 
 import java.util.List;
 
 public interface RulesToBatchesSplitter {
     List<List<Rule>> split(List<Rule> rules, Integer batchSize);
+
+    /**
+     * Splits rules into batches of at most {@code batchSize} rules and {@code tokenBudget} estimated tokens,
+     * rules of different groups never share a batch.
+     *
+     * @param batchSize   maximum rules per batch, {@code null} or non-positive for no limit
+     * @param tokenBudget maximum estimated tokens per batch, {@code null} or non-positive for no limit
+     * @param grouping    {@code null} for {@link RulesBatchGrouping#NONE}
+     */
+    List<List<Rule>> split(List<Rule> rules, Integer batchSize, Integer tokenBudget, RulesBatchGrouping grouping);
 }
@@ -0,0 +1,23 @@
+package com.quasarbyte.llm.codereview.sdk.service;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+public interface ThreadPerTaskExecutorFactory {
+    /**
+     * Creates an executor starting a new thread for each task. Threads inherit the inheritable thread locals
+     * of the thread submitting the task, e.g. the review run context.
+     */
+    ExecutorService create(String threadNamePrefix);
+
+    /**
+     * Creates the thread factory of the executors, for the long-lived threads of a dispatch that are not tasks,
+     * e.g. the prompt producer. Threads inherit the inheritable thread locals of the thread creating them.
+     */
+    ThreadFactory createThreadFactory(String threadNamePrefix);
+
+    /**
+     * @return whether the created executors run tasks on virtual threads
+     */
+    boolean isVirtual();
+}
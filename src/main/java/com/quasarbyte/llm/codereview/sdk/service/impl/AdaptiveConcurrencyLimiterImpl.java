@@ -0,0 +1,244 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.AdaptiveConcurrencyAdjustment;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.AdaptiveConcurrencySignal;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.AdaptiveConcurrencyParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.service.AdaptiveConcurrencyLimiter;
+import com.quasarbyte.llm.codereview.sdk.service.AdaptiveConcurrencyListener;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmServiceErrorUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD concurrency limiter of a single LLM client.
+ * <p>
+ * Every successful request within the latency tolerance adds {@code additiveIncrease / limit},
+ * so the limit grows by {@code additiveIncrease} per window of requests. A throttling signal multiplies
+ * the limit by {@code decreaseFactor}. Only requests started after the last decrease can decrease the limit again,
+ * so a burst of failures of the same window counts as a single signal.
+ * <p>
+ * Waiting requests park on a {@link ReentrantLock} condition rather than a monitor, so a virtual thread waiting
+ * for a slot does not pin its carrier thread.
+ */
+public class AdaptiveConcurrencyLimiterImpl implements AdaptiveConcurrencyLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimiterImpl.class);
+
+    private static final double LATENCY_SMOOTHING = 0.2;
+
+    private final LlmClient llmClient;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double additiveIncrease;
+    private final double decreaseFactor;
+    private final double latencyTolerance;
+    private final AdaptiveConcurrencyListener listener;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Signalled when a slot frees up or the limit changes
+    private final Condition slotAvailable = lock.newCondition();
+
+    private double limit;
+    private int inFlight = 0;
+    private double smoothedLatencyNanos = -1;
+    private long lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiterImpl(LlmClient llmClient, AdaptiveConcurrencyParameter parameter, int defaultMaxLimit) {
+        this(llmClient, parameter, defaultMaxLimit, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiterImpl(LlmClient llmClient, AdaptiveConcurrencyParameter parameter, int defaultMaxLimit, LongSupplier nanoClock) {
+        Objects.requireNonNull(parameter, "parameter must not be null");
+        this.llmClient = llmClient;
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock must not be null");
+
+        this.minLimit = parameter.getMinLimit() != null ? parameter.getMinLimit() : 1;
+        this.maxLimit = parameter.getMaxLimit() != null ? parameter.getMaxLimit() : Math.max(defaultMaxLimit, minLimit);
+        int initialLimit = parameter.getInitialLimit() != null ? parameter.getInitialLimit() : Math.max(minLimit, maxLimit / 2);
+        this.additiveIncrease = parameter.getAdditiveIncrease() != null ? parameter.getAdditiveIncrease() : 1.0;
+        this.decreaseFactor = parameter.getDecreaseFactor() != null ? parameter.getDecreaseFactor() : 0.5;
+        this.latencyTolerance = parameter.getLatencyTolerance() != null ? parameter.getLatencyTolerance() : 2.0;
+        this.listener = parameter.getListener();
+
+        if (minLimit < 1) {
+            throw new ValidationException("Adaptive concurrency minLimit cannot be less than 1");
+        }
+        if (maxLimit < minLimit) {
+            throw new ValidationException(String.format("Adaptive concurrency maxLimit (%d) cannot be less than minLimit (%d)", maxLimit, minLimit));
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new ValidationException(String.format("Adaptive concurrency initialLimit (%d) must be between %d and %d", initialLimit, minLimit, maxLimit));
+        }
+        if (additiveIncrease <= 0) {
+            throw new ValidationException("Adaptive concurrency additiveIncrease must be positive");
+        }
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new ValidationException("Adaptive concurrency decreaseFactor must be between 0 and 1 exclusive");
+        }
+        if (latencyTolerance <= 1) {
+            throw new ValidationException("Adaptive concurrency latencyTolerance must be greater than 1");
+        }
+
+        this.limit = initialLimit;
+        this.lastDecreaseNanos = nanoClock.getAsLong();
+    }
+
+    @Override
+    public long acquire() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlight >= getLimitInternal()) {
+                slotAvailable.await();
+            }
+            inFlight++;
+        } finally {
+            lock.unlock();
+        }
+        return nanoClock.getAsLong();
+    }
+
+    @Override
+    public void onSuccess(long startNanos) {
+        AdaptiveConcurrencyAdjustment adjustment;
+
+        lock.lock();
+        try {
+            long latencyNanos = nanoClock.getAsLong() - startNanos;
+            boolean saturated = inFlight * 2 >= getLimitInternal();
+            release();
+
+            if (smoothedLatencyNanos < 0) {
+                smoothedLatencyNanos = latencyNanos;
+            }
+
+            if (latencyNanos > smoothedLatencyNanos * latencyTolerance) {
+                adjustment = decrease(startNanos, AdaptiveConcurrencySignal.HIGH_LATENCY, latencyNanos);
+            } else if (saturated) {
+                // Grow only while at least half of the limit is used, otherwise it inflates without any evidence
+                adjustment = adjust(Math.min(maxLimit, limit + additiveIncrease / limit), AdaptiveConcurrencySignal.STABLE_LATENCY, latencyNanos);
+            } else {
+                adjustment = null;
+            }
+
+            smoothedLatencyNanos = smoothedLatencyNanos * (1 - LATENCY_SMOOTHING) + latencyNanos * LATENCY_SMOOTHING;
+        } finally {
+            lock.unlock();
+        }
+
+        notifyListener(adjustment);
+    }
+
+    @Override
+    public void onFailure(long startNanos, Throwable throwable) {
+        AdaptiveConcurrencyAdjustment adjustment = null;
+
+        lock.lock();
+        try {
+            long latencyNanos = nanoClock.getAsLong() - startNanos;
+            release();
+
+            if (LlmServiceErrorUtils.isRateLimited(throwable)) {
+                adjustment = decrease(startNanos, AdaptiveConcurrencySignal.RATE_LIMITED, latencyNanos);
+            } else if (LlmServiceErrorUtils.isServerError(throwable)) {
+                adjustment = decrease(startNanos, AdaptiveConcurrencySignal.SERVER_ERROR, latencyNanos);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        notifyListener(adjustment);
+    }
+
+    @Override
+    public int getLimit() {
+        lock.lock();
+        try {
+            return getLimitInternal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int getLimitInternal() {
+        return (int) limit;
+    }
+
+    private void release() {
+        inFlight--;
+        slotAvailable.signalAll();
+    }
+
+    private AdaptiveConcurrencyAdjustment decrease(long startNanos, AdaptiveConcurrencySignal signal, long latencyNanos) {
+        if (startNanos - lastDecreaseNanos < 0) {
+            logger.debug("Ignoring {} of a request started before the last limit decrease.", signal);
+            return null;
+        }
+        lastDecreaseNanos = nanoClock.getAsLong();
+        return adjust(Math.max(minLimit, limit * decreaseFactor), signal, latencyNanos);
+    }
+
+    /**
+     * Sets the new limit and wakes up waiting requests.
+     *
+     * @return the adjustment, or {@code null} if the integer limit has not changed
+     */
+    private AdaptiveConcurrencyAdjustment adjust(double newLimit, AdaptiveConcurrencySignal signal, long latencyNanos) {
+        int previousLimit = getLimitInternal();
+        limit = newLimit;
+
+        if (getLimitInternal() == previousLimit) {
+            return null;
+        }
+
+        slotAvailable.signalAll();
+
+        AdaptiveConcurrencyAdjustment adjustment = new AdaptiveConcurrencyAdjustment()
+                .setLlmClient(llmClient)
+                .setPreviousLimit(previousLimit)
+                .setNewLimit(getLimitInternal())
+                .setInFlight(inFlight)
+                .setSignal(signal)
+                .setLatencyMillis(TimeUnit.NANOSECONDS.toMillis(latencyNanos))
+                .setSmoothedLatencyMillis(smoothedLatencyNanos < 0 ? null : TimeUnit.NANOSECONDS.toMillis((long) smoothedLatencyNanos));
+
+        if (getLimitInternal() < previousLimit) {
+            logger.info("Adaptive concurrency limit decreased from {} to {} on {} (latency {} ms, smoothed {} ms).",
+                    previousLimit, getLimitInternal(), signal, adjustment.getLatencyMillis(), adjustment.getSmoothedLatencyMillis());
+        } else {
+            logger.debug("Adaptive concurrency limit increased from {} to {} (latency {} ms, smoothed {} ms).",
+                    previousLimit, getLimitInternal(), adjustment.getLatencyMillis(), adjustment.getSmoothedLatencyMillis());
+        }
+
+        return adjustment;
+    }
+
+    private void notifyListener(AdaptiveConcurrencyAdjustment adjustment) {
+        if (adjustment == null || listener == null) {
+            return;
+        }
+        try {
+            listener.onLimitChanged(adjustment);
+        } catch (Exception e) {
+            logger.warn("Adaptive concurrency listener failed: '{}'", e.getMessage(), e);
+        }
+    }
+}
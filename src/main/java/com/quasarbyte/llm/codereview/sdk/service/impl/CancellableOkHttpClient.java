@@ -0,0 +1,277 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.openai.core.RequestOptions;
+import com.openai.core.Timeout;
+import com.openai.core.http.Headers;
+import com.openai.core.http.HttpClient;
+import com.openai.core.http.HttpMethod;
+import com.openai.core.http.HttpRequest;
+import com.openai.core.http.HttpRequestBody;
+import com.openai.core.http.HttpResponse;
+import com.openai.errors.OpenAIIoException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorInterruptedException;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okhttp3.logging.HttpLoggingInterceptor;
+import okio.BufferedSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Proxy;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * The OkHttp client of openai-java, except that a call is aborted when the request is cancelled: cancelling the future
+ * returned by {@link #executeAsync}, interrupting the thread waiting in {@link #execute} or cancelling the
+ * {@link LlmRequestCancellation} of the request cancels the OkHttp {@link Call}, which closes its connection.
+ * The client of openai-java only abandons the future and lets the call run until it completes or times out.
+ * <p>
+ * The number of concurrent calls is not limited by the client, the dispatcher of the review limits it per endpoint.
+ */
+public class CancellableOkHttpClient implements HttpClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(CancellableOkHttpClient.class);
+
+    private static final String READ_TIMEOUT_HEADER = "X-Stainless-Read-Timeout";
+    private static final String TIMEOUT_HEADER = "X-Stainless-Timeout";
+
+    private final OkHttpClient okHttpClient;
+    private final HttpUrl baseUrl;
+
+    public CancellableOkHttpClient(String baseUrl, Timeout timeout, Proxy proxy) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Integer.MAX_VALUE);
+        dispatcher.setMaxRequestsPerHost(Integer.MAX_VALUE);
+        this.okHttpClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectTimeout(timeout.connect())
+                .readTimeout(timeout.read())
+                .writeTimeout(timeout.write())
+                .callTimeout(timeout.request())
+                .proxy(proxy)
+                .build();
+        this.baseUrl = HttpUrl.get(baseUrl);
+    }
+
+    @Override
+    public HttpResponse execute(HttpRequest request, RequestOptions requestOptions) {
+        CompletableFuture<HttpResponse> future = executeAsync(request, requestOptions);
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            // A response completed at the same time is not returned to anybody
+            future.thenAccept(HttpResponse::close);
+            Thread.currentThread().interrupt();
+            throw new TaskExecutorInterruptedException("Interrupted while waiting for the LLM Provider response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new OpenAIIoException("Request failed", cause);
+        }
+    }
+
+    @Override
+    public CompletableFuture<HttpResponse> executeAsync(HttpRequest request, RequestOptions requestOptions) {
+        CompletableFuture<HttpResponse> future = new CompletableFuture<>();
+        HttpRequestBody requestBody = request.body();
+        if (requestBody != null) {
+            future.whenComplete((response, failure) -> requestBody.close());
+        }
+
+        String requestId = getRequestId(request);
+        Optional<LlmRequestCancellation> cancellation = requestId != null ? LlmRequestCancellation.find(requestId) : Optional.empty();
+        if (requestId != null && (!cancellation.isPresent() || cancellation.get().isCancelled())) {
+            logger.debug("LLM request {} has been cancelled, the HTTP call is not sent", requestId);
+            future.completeExceptionally(new CancellationException("LLM request " + requestId + " has been cancelled"));
+            return future;
+        }
+
+        Call call = newCall(request, requestOptions);
+        future.whenComplete((response, failure) -> {
+            if (future.isCancelled()) {
+                call.cancel();
+            }
+        });
+        cancellation.ifPresent(requestCancellation -> requestCancellation.onCancel(call::cancel));
+
+        call.enqueue(new Callback() {
+            @Override
+            public void onResponse(Call call, Response response) {
+                if (!future.complete(toResponse(response))) {
+                    response.close();
+                }
+            }
+
+            @Override
+            public void onFailure(Call call, IOException e) {
+                if (call.isCanceled()) {
+                    CancellationException cancellationException = new CancellationException("HTTP call has been cancelled");
+                    cancellationException.initCause(e);
+                    future.completeExceptionally(cancellationException);
+                } else {
+                    future.completeExceptionally(new OpenAIIoException("Request failed", e));
+                }
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void close() {
+        okHttpClient.dispatcher().executorService().shutdown();
+        okHttpClient.connectionPool().evictAll();
+    }
+
+    private Call newCall(HttpRequest request, RequestOptions requestOptions) {
+        OkHttpClient.Builder clientBuilder = okHttpClient.newBuilder();
+
+        String logLevel = System.getenv("OPENAI_LOG");
+        if (logLevel != null) {
+            HttpLoggingInterceptor loggingInterceptor = new HttpLoggingInterceptor();
+            String level = logLevel.toLowerCase(Locale.ROOT);
+            if ("info".equals(level)) {
+                loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BASIC);
+            } else if ("debug".equals(level)) {
+                loggingInterceptor.setLevel(HttpLoggingInterceptor.Level.BODY);
+            }
+            loggingInterceptor.redactHeader("Authorization");
+            clientBuilder.addNetworkInterceptor(loggingInterceptor);
+        }
+
+        Timeout timeout = requestOptions.getTimeout();
+        if (timeout != null) {
+            clientBuilder.connectTimeout(timeout.connect())
+                    .readTimeout(timeout.read())
+                    .writeTimeout(timeout.write())
+                    .callTimeout(timeout.request());
+        }
+
+        OkHttpClient client = clientBuilder.build();
+        return client.newCall(toRequest(request, client));
+    }
+
+    private Request toRequest(HttpRequest request, OkHttpClient client) {
+        RequestBody body = request.body() != null ? toRequestBody(request.body()) : null;
+        if (body == null && requiresBody(request.method())) {
+            body = RequestBody.create(new byte[0], (MediaType) null);
+        }
+
+        Request.Builder builder = new Request.Builder()
+                .url(toUrl(request))
+                .method(request.method().name(), body);
+        Headers headers = request.headers();
+        for (String name : headers.names()) {
+            // The request id only finds the cancellation of the request, it is not sent to the LLM Provider
+            if (!LlmRequestCancellation.REQUEST_HEADER.equalsIgnoreCase(name)) {
+                headers.values(name).forEach(value -> builder.addHeader(name, value));
+            }
+        }
+        if (headers.values(READ_TIMEOUT_HEADER).isEmpty() && client.readTimeoutMillis() != 0) {
+            builder.header(READ_TIMEOUT_HEADER, String.valueOf(client.readTimeoutMillis() / 1000));
+        }
+        if (headers.values(TIMEOUT_HEADER).isEmpty() && client.callTimeoutMillis() != 0) {
+            builder.header(TIMEOUT_HEADER, String.valueOf(client.callTimeoutMillis() / 1000));
+        }
+        return builder.build();
+    }
+
+    private static boolean requiresBody(HttpMethod method) {
+        return method == HttpMethod.POST || method == HttpMethod.PUT || method == HttpMethod.PATCH;
+    }
+
+    private String toUrl(HttpRequest request) {
+        if (request.url() != null) {
+            return request.url();
+        }
+        HttpUrl.Builder builder = baseUrl.newBuilder();
+        request.pathSegments().forEach(builder::addPathSegment);
+        for (String key : request.queryParams().keys()) {
+            request.queryParams().values(key).forEach(value -> builder.addQueryParameter(key, value));
+        }
+        return builder.toString();
+    }
+
+    private static RequestBody toRequestBody(HttpRequestBody body) {
+        MediaType mediaType = body.contentType() != null ? MediaType.parse(body.contentType()) : null;
+        long contentLength = body.contentLength();
+        return new RequestBody() {
+            @Override
+            public MediaType contentType() {
+                return mediaType;
+            }
+
+            @Override
+            public long contentLength() {
+                return contentLength;
+            }
+
+            @Override
+            public boolean isOneShot() {
+                return !body.repeatable();
+            }
+
+            @Override
+            public void writeTo(BufferedSink sink) {
+                body.writeTo(sink.outputStream());
+            }
+        };
+    }
+
+    private static HttpResponse toResponse(Response response) {
+        Headers.Builder headersBuilder = Headers.builder();
+        for (int i = 0; i < response.headers().size(); i++) {
+            headersBuilder.put(response.headers().name(i), response.headers().value(i));
+        }
+        Headers headers = headersBuilder.build();
+        return new HttpResponse() {
+            @Override
+            public int statusCode() {
+                return response.code();
+            }
+
+            @Override
+            public Headers headers() {
+                return headers;
+            }
+
+            @Override
+            public InputStream body() {
+                return response.body().byteStream();
+            }
+
+            @Override
+            public void close() {
+                ResponseBody responseBody = response.body();
+                if (responseBody != null) {
+                    responseBody.close();
+                }
+            }
+        };
+    }
+
+    private static String getRequestId(HttpRequest request) {
+        List<String> values = request.headers().values(LlmRequestCancellation.REQUEST_HEADER);
+        return values.isEmpty() ? null : values.get(0);
+    }
+}
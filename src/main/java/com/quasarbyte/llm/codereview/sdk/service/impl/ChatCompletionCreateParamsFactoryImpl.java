@@ -82,6 +82,7 @@ public class ChatCompletionCreateParamsFactoryImpl implements ChatCompletionCrea
                 ", topLogprobs=" + configuration.getTopLogprobs() +
                 ", topP=" + configuration.getTopP() +
                 ", user='" + configuration.getUser() + '\'' +
+                ", stream=" + configuration.getStream() +
                 '}';
     }
 }
@@ -0,0 +1,123 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.GitDiffException;
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.diff.FileDiff;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.DiffScope;
+import com.quasarbyte.llm.codereview.sdk.service.GitDiffService;
+import com.quasarbyte.llm.codereview.sdk.service.util.UnifiedDiffUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Computes the diff with the {@code git} command line client of the local installation, no remote is contacted.
+ */
+public class GitDiffServiceImpl implements GitDiffService {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitDiffServiceImpl.class);
+
+    private static final String GIT_COMMAND = "git";
+    private static final String DEFAULT_BASE_REF = "HEAD";
+    private static final int DEFAULT_CONTEXT_LINES = 3;
+
+    @Override
+    public Map<String, FileDiff> diff(DiffScope diffScope) {
+        Objects.requireNonNull(diffScope, "diffScope must not be null");
+        Objects.requireNonNull(diffScope.getRepositoryPath(), "diffScope.repositoryPath must not be null");
+
+        String baseRef = diffScope.getBaseRef() != null ? diffScope.getBaseRef() : DEFAULT_BASE_REF;
+        int contextLines = diffScope.getContextLines() != null ? diffScope.getContextLines() : DEFAULT_CONTEXT_LINES;
+        if (contextLines < 0) {
+            throw new ValidationException("diffScope.contextLines must not be negative, got: " + contextLines);
+        }
+
+        Path repositoryPath = Paths.get(diffScope.getRepositoryPath()).toAbsolutePath().normalize();
+
+        Path repositoryRoot = Paths.get(run(repositoryPath, Arrays.asList("rev-parse", "--show-toplevel")).trim())
+                .toAbsolutePath()
+                .normalize();
+
+        List<String> diffArguments = new ArrayList<>(Arrays.asList(
+                "-c", "core.quotePath=false",
+                "diff",
+                "--no-color",
+                "--no-ext-diff",
+                "--no-prefix",
+                "--diff-filter=d",
+                "--unified=" + contextLines,
+                baseRef));
+        if (diffScope.getHeadRef() != null) {
+            diffArguments.add(diffScope.getHeadRef());
+        }
+        diffArguments.add("--");
+
+        Map<String, FileDiff> fileDiffs = UnifiedDiffUtils.parse(run(repositoryPath, diffArguments), repositoryRoot);
+
+        logger.info("Git diff {}..{} of '{}' has {} changed file(s).",
+                baseRef,
+                diffScope.getHeadRef() != null ? diffScope.getHeadRef() : "working tree",
+                repositoryRoot,
+                fileDiffs.size());
+
+        return fileDiffs;
+    }
+
+    private String run(Path workingDirectory, List<String> arguments) {
+        List<String> command = new ArrayList<>();
+        command.add(GIT_COMMAND);
+        command.addAll(arguments);
+
+        logger.debug("Running {} in '{}'", command, workingDirectory);
+
+        try {
+            Process process = new ProcessBuilder(command)
+                    .directory(workingDirectory.toFile())
+                    .start();
+            process.getOutputStream().close();
+
+            // Read stderr concurrently so a full error pipe cannot block the diff output
+            CompletableFuture<String> error = CompletableFuture.supplyAsync(() -> readFully(process.getErrorStream()));
+            String output = readFully(process.getInputStream());
+            int exitCode = process.waitFor();
+
+            if (exitCode != 0) {
+                throw new GitDiffException(String.format("Command %s failed in '%s' with exit code %d: %s",
+                        command, workingDirectory, exitCode, error.join().trim()));
+            }
+
+            return output;
+        } catch (IOException e) {
+            throw new GitDiffException(String.format("Cannot run %s in '%s'", command, workingDirectory), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GitDiffException(String.format("Interrupted while running %s in '%s'", command, workingDirectory), e);
+        }
+    }
+
+    private static String readFully(InputStream inputStream) {
+        try (InputStream stream = inputStream) {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = stream.read(buffer)) != -1) {
+                output.write(buffer, 0, read);
+            }
+            return new String(output.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new GitDiffException("Cannot read the output of git", e);
+        }
+    }
+}
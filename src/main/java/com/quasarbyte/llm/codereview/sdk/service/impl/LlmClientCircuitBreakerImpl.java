@@ -0,0 +1,215 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.CircuitBreakerState;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.CircuitBreakerStateChange;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.CircuitBreakerParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.service.CircuitBreakerListener;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientCircuitBreaker;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmRequestDeadlineUtils;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmServiceErrorUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker of a single LLM client.
+ * <p>
+ * Only trial requests decide the outcome of the half-open state, requests started before the breaker opened
+ * are still counted as failures but do not change the state.
+ */
+public class LlmClientCircuitBreakerImpl implements LlmClientCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmClientCircuitBreakerImpl.class);
+
+    private final LlmClient llmClient;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenMaxCalls;
+    private final CircuitBreakerListener listener;
+    private final LongSupplier nanoClock;
+
+    private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAtNanos;
+    private int trialCallsInFlight = 0;
+
+    public LlmClientCircuitBreakerImpl(LlmClient llmClient, CircuitBreakerParameter parameter) {
+        this(llmClient, parameter, System::nanoTime);
+    }
+
+    LlmClientCircuitBreakerImpl(LlmClient llmClient, CircuitBreakerParameter parameter, LongSupplier nanoClock) {
+        Objects.requireNonNull(parameter, "parameter must not be null");
+        this.llmClient = llmClient;
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock must not be null");
+
+        this.failureThreshold = parameter.getFailureThreshold() != null ? parameter.getFailureThreshold() : 5;
+        Duration openDuration = parameter.getOpenDuration() != null ? parameter.getOpenDuration() : Duration.ofSeconds(30);
+        this.halfOpenMaxCalls = parameter.getHalfOpenMaxCalls() != null ? parameter.getHalfOpenMaxCalls() : 1;
+        this.listener = parameter.getListener();
+
+        if (failureThreshold < 1) {
+            throw new ValidationException("Circuit breaker failureThreshold cannot be less than 1");
+        }
+        if (openDuration.isNegative() || openDuration.isZero()) {
+            throw new ValidationException("Circuit breaker openDuration must be positive");
+        }
+        if (halfOpenMaxCalls < 1) {
+            throw new ValidationException("Circuit breaker halfOpenMaxCalls cannot be less than 1");
+        }
+        if (parameter.getMaxFailoverAttempts() != null && parameter.getMaxFailoverAttempts() < 0) {
+            throw new ValidationException("Circuit breaker maxFailoverAttempts cannot be negative");
+        }
+
+        this.openDurationNanos = openDuration.toNanos();
+    }
+
+    @Override
+    public boolean isCallPermitted() {
+        CircuitBreakerStateChange stateChange = null;
+        boolean permitted;
+
+        synchronized (this) {
+            if (state == CircuitBreakerState.OPEN && getRemainingOpenNanosInternal() == 0) {
+                stateChange = transition(CircuitBreakerState.HALF_OPEN, null);
+            }
+            permitted = state == CircuitBreakerState.CLOSED
+                    || (state == CircuitBreakerState.HALF_OPEN && trialCallsInFlight < halfOpenMaxCalls);
+        }
+
+        notifyListener(stateChange);
+        return permitted;
+    }
+
+    @Override
+    public synchronized boolean onCallStarted() {
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            trialCallsInFlight++;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void onSuccess(boolean trialCall) {
+        CircuitBreakerStateChange stateChange = null;
+
+        synchronized (this) {
+            if (trialCall) {
+                trialCallsInFlight--;
+            }
+            if (state == CircuitBreakerState.CLOSED) {
+                consecutiveFailures = 0;
+            } else if (trialCall && state == CircuitBreakerState.HALF_OPEN) {
+                consecutiveFailures = 0;
+                stateChange = transition(CircuitBreakerState.CLOSED, null);
+            }
+        }
+
+        notifyListener(stateChange);
+    }
+
+    @Override
+    public void onFailure(boolean trialCall, Throwable throwable) {
+        onFailure(trialCall, throwable, null);
+    }
+
+    @Override
+    public void onFailure(boolean trialCall, Throwable throwable, Instant deadline) {
+        // A cancelled request says nothing about the endpoint, e.g. the dispatch timed out
+        if (Thread.currentThread().isInterrupted() || throwable == null) {
+            onIgnored(trialCall);
+            return;
+        }
+
+        // Neither does a request cut off by the review deadline
+        if (LlmRequestDeadlineUtils.isExpired(deadline)) {
+            onIgnored(trialCall);
+            return;
+        }
+
+        if (!LlmServiceErrorUtils.isEndpointFailure(throwable)) {
+            if (LlmServiceErrorUtils.findStatusCode(throwable) != null) {
+                onSuccess(trialCall);
+            } else {
+                onIgnored(trialCall);
+            }
+            return;
+        }
+
+        CircuitBreakerStateChange stateChange = null;
+
+        synchronized (this) {
+            if (trialCall) {
+                trialCallsInFlight--;
+            }
+            consecutiveFailures++;
+            if (state == CircuitBreakerState.CLOSED && consecutiveFailures >= failureThreshold) {
+                stateChange = transition(CircuitBreakerState.OPEN, throwable);
+            } else if (trialCall && state == CircuitBreakerState.HALF_OPEN) {
+                stateChange = transition(CircuitBreakerState.OPEN, throwable);
+            }
+        }
+
+        notifyListener(stateChange);
+    }
+
+    @Override
+    public synchronized CircuitBreakerState getState() {
+        return state;
+    }
+
+    @Override
+    public synchronized long getRemainingOpenNanos() {
+        return getRemainingOpenNanosInternal();
+    }
+
+    private synchronized void onIgnored(boolean trialCall) {
+        if (trialCall) {
+            trialCallsInFlight--;
+        }
+    }
+
+    private long getRemainingOpenNanosInternal() {
+        if (state != CircuitBreakerState.OPEN) {
+            return 0;
+        }
+        return Math.max(0, openDurationNanos - (nanoClock.getAsLong() - openedAtNanos));
+    }
+
+    private CircuitBreakerStateChange transition(CircuitBreakerState newState, Throwable failure) {
+        CircuitBreakerState previousState = state;
+        state = newState;
+
+        if (newState == CircuitBreakerState.OPEN) {
+            openedAtNanos = nanoClock.getAsLong();
+            logger.warn("Circuit breaker opened after {} consecutive failures ({} -> {}), last failure: '{}'",
+                    consecutiveFailures, previousState, newState, failure != null ? failure.getMessage() : null);
+        } else {
+            logger.info("Circuit breaker state changed from {} to {}.", previousState, newState);
+        }
+
+        return new CircuitBreakerStateChange()
+                .setLlmClient(llmClient)
+                .setPreviousState(previousState)
+                .setNewState(newState)
+                .setConsecutiveFailures(consecutiveFailures)
+                .setFailure(failure);
+    }
+
+    private void notifyListener(CircuitBreakerStateChange stateChange) {
+        if (stateChange == null || listener == null) {
+            return;
+        }
+        try {
+            listener.onStateChanged(stateChange);
+        } catch (Exception e) {
+            logger.warn("Circuit breaker listener failed: '{}'", e.getMessage(), e);
+        }
+    }
+}
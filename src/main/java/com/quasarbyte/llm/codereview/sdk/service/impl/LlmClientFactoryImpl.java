@@ -4,7 +4,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.openai.azure.AzureOpenAIServiceVersion;
 import com.openai.client.OpenAIClient;
-import com.openai.client.okhttp.OpenAIOkHttpClient;
+import com.openai.client.OpenAIClientImpl;
+import com.openai.core.ClientOptions;
+import com.openai.core.Timeout;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmClientConfiguration;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
 import com.quasarbyte.llm.codereview.sdk.service.LlmClientFactory;
@@ -33,8 +35,8 @@ public class LlmClientFactoryImpl implements LlmClientFactory {
             }
         }
 
-        OpenAIOkHttpClient.Builder builder = OpenAIOkHttpClient.builder();
-        logger.debug("Initialized OpenAIOkHttpClient.Builder");
+        ClientOptions.Builder builder = ClientOptions.builder();
+        logger.debug("Initialized ClientOptions.Builder");
 
         // Set base URL if specified
         if (config.getBaseUrl() != null) {
@@ -76,11 +78,6 @@ public class LlmClientFactoryImpl implements LlmClientFactory {
             builder.maxRetries(config.getMaxRetries());
         }
 
-        // Set proxy if specified
-        if (config.getProxy() != null) {
-            builder.proxy(config.getProxy());
-        }
-
         // Set headers if specified
         if (config.getHeadersMap() != null && !config.getHeadersMap().isEmpty()) {
             builder.headers(config.getHeadersMap());
@@ -97,17 +94,27 @@ public class LlmClientFactoryImpl implements LlmClientFactory {
         }
 
         // Set timeout duration is specified
+        Timeout timeout = Timeout.builder().build();
         if (config.getTimeoutDuration() != null) {
             // If only timeout duration is specified, set as request timeout
-            builder.timeout(config.getTimeoutDuration());
+            timeout = Timeout.builder().request(config.getTimeoutDuration()).build();
         }
+        builder.timeout(timeout);
+
+        // The HTTP client aborts the calls of cancelled review requests, the proxy is set on it if specified
+        builder.httpClient(new CancellableOkHttpClient(builder.baseUrl(), timeout, config.getProxy()));
 
         logger.debug("Building OpenAIClient...");
-        OpenAIClient openAIClient = builder.build();
+        OpenAIClient openAIClient = new OpenAIClientImpl(builder.build());
         logger.debug("OpenAIClient built successfully.");
 
         LlmClient llmClient = new LlmClient()
-                .setOpenAIClient(openAIClient);
+                .setOpenAIClient(openAIClient)
+                .setBaseUrl(config.getBaseUrl())
+                .setMaxRetries(config.getMaxRetries())
+                .setRateLimit(config.getRateLimit())
+                .setWeight(config.getWeight())
+                .setMaxConcurrency(config.getMaxConcurrency());
 
         logger.debug("Returning new LlmClient...");
 
@@ -134,7 +141,10 @@ public class LlmClientFactoryImpl implements LlmClientFactory {
                 .setAzureServiceVersion(configuration.getAzureServiceVersion())
                 .setBaseUrl(configuration.getBaseUrl())
                 .setOrganization(configuration.getOrganization())
-                .setProject(configuration.getProject());
+                .setProject(configuration.getProject())
+                .setRateLimit(configuration.getRateLimit())
+                .setWeight(configuration.getWeight())
+                .setMaxConcurrency(configuration.getMaxConcurrency());
         return masked;
     }
 
@@ -0,0 +1,72 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerLatencyEwma;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class LlmClientLoadBalancerLatencyEwmaImpl implements LlmClientLoadBalancerLatencyEwma {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmClientLoadBalancerLatencyEwmaImpl.class);
+
+    @Override
+    public LlmClient findLlmClient(List<LlmClient> llmClients, LlmClientLoadTracker loadTracker) {
+        if (llmClients == null || llmClients.isEmpty()) {
+            throw new ValidationException("LLM clients list cannot be null or empty");
+        }
+        if (loadTracker == null) {
+            throw new ValidationException("Load tracker cannot be null for latency EWMA load balancing");
+        }
+
+        Double defaultLatencyMillis = getAverageLatencyEwmaMillis(llmClients, loadTracker);
+
+        int selectedIndex = 0;
+        double selectedCost = Double.MAX_VALUE;
+        int selectedInFlight = Integer.MAX_VALUE;
+
+        for (int i = 0; i < llmClients.size(); i++) {
+            LlmClient llmClient = llmClients.get(i);
+            int inFlight = loadTracker.getInFlight(llmClient);
+            Double latencyEwmaMillis = loadTracker.getLatencyEwmaMillis(llmClient);
+
+            final double cost;
+            if (latencyEwmaMillis != null) {
+                cost = latencyEwmaMillis * (inFlight + 1);
+            } else if (inFlight == 0 || defaultLatencyMillis == null) {
+                // An idle client without samples is tried first to get its latency
+                cost = 0;
+            } else {
+                // Until its first request completes, a client is assumed to be as fast as the others on average
+                cost = defaultLatencyMillis * (inFlight + 1);
+            }
+
+            if (cost < selectedCost || (cost == selectedCost && inFlight < selectedInFlight)) {
+                selectedIndex = i;
+                selectedCost = cost;
+                selectedInFlight = inFlight;
+            }
+        }
+
+        logger.debug("Latency EWMA load balancer selected client at index {} out of {} clients (cost {} ms, {} in flight)",
+                selectedIndex, llmClients.size(), selectedCost, selectedInFlight);
+
+        return llmClients.get(selectedIndex);
+    }
+
+    private static Double getAverageLatencyEwmaMillis(List<LlmClient> llmClients, LlmClientLoadTracker loadTracker) {
+        double sum = 0;
+        int count = 0;
+        for (LlmClient llmClient : llmClients) {
+            Double latencyEwmaMillis = loadTracker.getLatencyEwmaMillis(llmClient);
+            if (latencyEwmaMillis != null) {
+                sum += latencyEwmaMillis;
+                count++;
+            }
+        }
+        return count == 0 ? null : sum / count;
+    }
+}
@@ -0,0 +1,41 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerLeastOutstanding;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+public class LlmClientLoadBalancerLeastOutstandingImpl implements LlmClientLoadBalancerLeastOutstanding {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmClientLoadBalancerLeastOutstandingImpl.class);
+
+    @Override
+    public LlmClient findLlmClient(List<LlmClient> llmClients, LlmClientLoadTracker loadTracker) {
+        if (llmClients == null || llmClients.isEmpty()) {
+            throw new ValidationException("LLM clients list cannot be null or empty");
+        }
+        if (loadTracker == null) {
+            throw new ValidationException("Load tracker cannot be null for least-outstanding load balancing");
+        }
+
+        int selectedIndex = 0;
+        int selectedInFlight = Integer.MAX_VALUE;
+
+        for (int i = 0; i < llmClients.size(); i++) {
+            int inFlight = loadTracker.getInFlight(llmClients.get(i));
+            if (inFlight < selectedInFlight) {
+                selectedIndex = i;
+                selectedInFlight = inFlight;
+            }
+        }
+
+        logger.debug("Least-outstanding load balancer selected client at index {} out of {} clients ({} in flight)",
+                selectedIndex, llmClients.size(), selectedInFlight);
+
+        return llmClients.get(selectedIndex);
+    }
+}
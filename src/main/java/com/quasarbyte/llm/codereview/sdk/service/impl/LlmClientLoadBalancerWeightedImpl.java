@@ -0,0 +1,64 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerWeighted;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+
+public class LlmClientLoadBalancerWeightedImpl implements LlmClientLoadBalancerWeighted {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmClientLoadBalancerWeightedImpl.class);
+
+    @Override
+    public LlmClient findLlmClient(List<LlmClient> llmClients, Map<LlmClient, Long> currentWeights) {
+        if (llmClients == null || llmClients.isEmpty()) {
+            throw new ValidationException("LLM clients list cannot be null or empty");
+        }
+        if (currentWeights == null) {
+            throw new ValidationException("Current weights cannot be null for weighted load balancing");
+        }
+
+        synchronized (currentWeights) {
+            long totalWeight = 0;
+            int selectedIndex = -1;
+            long selectedWeight = Long.MIN_VALUE;
+
+            for (int i = 0; i < llmClients.size(); i++) {
+                LlmClient llmClient = llmClients.get(i);
+                int weight = getWeight(llmClient);
+
+                long currentWeight = currentWeights.getOrDefault(llmClient, 0L) + weight;
+                currentWeights.put(llmClient, currentWeight);
+                totalWeight += weight;
+
+                if (currentWeight > selectedWeight) {
+                    selectedIndex = i;
+                    selectedWeight = currentWeight;
+                }
+            }
+
+            LlmClient selectedClient = llmClients.get(selectedIndex);
+            currentWeights.put(selectedClient, selectedWeight - totalWeight);
+
+            logger.debug("Weighted load balancer selected client at index {} out of {} clients (weight {})",
+                    selectedIndex, llmClients.size(), getWeight(selectedClient));
+
+            return selectedClient;
+        }
+    }
+
+    private static int getWeight(LlmClient llmClient) {
+        Integer weight = llmClient.getWeight();
+        if (weight == null) {
+            return 1;
+        }
+        if (weight < 1) {
+            throw new ValidationException(String.format("LLM client weight cannot be less than 1, got %d", weight));
+        }
+        return weight;
+    }
+}
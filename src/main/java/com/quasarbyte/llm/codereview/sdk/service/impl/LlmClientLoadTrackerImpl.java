@@ -0,0 +1,95 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadTracker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread-safe load tracker for parallel execution
+ */
+public class LlmClientLoadTrackerImpl implements LlmClientLoadTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmClientLoadTrackerImpl.class);
+
+    private static final double DEFAULT_LATENCY_SMOOTHING = 0.3;
+
+    private final double latencySmoothing;
+    private final Map<LlmClient, ClientLoad> clientLoads = new ConcurrentHashMap<>();
+
+    public LlmClientLoadTrackerImpl() {
+        this(DEFAULT_LATENCY_SMOOTHING);
+    }
+
+    /**
+     * @param latencySmoothing weight of the latest sample in the latency average, between 0 and 1
+     */
+    public LlmClientLoadTrackerImpl(double latencySmoothing) {
+        this.latencySmoothing = latencySmoothing;
+    }
+
+    @Override
+    public void onRequestStarted(LlmClient llmClient) {
+        ClientLoad clientLoad = getClientLoad(llmClient);
+        synchronized (clientLoad) {
+            clientLoad.inFlight++;
+        }
+    }
+
+    @Override
+    public void onRequestCompleted(LlmClient llmClient, long latencyNanos, boolean succeeded) {
+        ClientLoad clientLoad = getClientLoad(llmClient);
+        synchronized (clientLoad) {
+            clientLoad.inFlight--;
+            if (succeeded) {
+                double latencyMillis = (double) latencyNanos / TimeUnit.MILLISECONDS.toNanos(1);
+                clientLoad.latencyEwmaMillis = clientLoad.latencyEwmaMillis == null
+                        ? latencyMillis
+                        : clientLoad.latencyEwmaMillis * (1 - latencySmoothing) + latencyMillis * latencySmoothing;
+                clientLoad.completedRequests++;
+            }
+            logger.debug("LLM client request completed (succeeded: {}), in flight: {}, latency EWMA: {} ms",
+                    succeeded, clientLoad.inFlight, clientLoad.latencyEwmaMillis);
+        }
+    }
+
+    @Override
+    public int getInFlight(LlmClient llmClient) {
+        ClientLoad clientLoad = getClientLoad(llmClient);
+        synchronized (clientLoad) {
+            return clientLoad.inFlight;
+        }
+    }
+
+    @Override
+    public Double getLatencyEwmaMillis(LlmClient llmClient) {
+        ClientLoad clientLoad = getClientLoad(llmClient);
+        synchronized (clientLoad) {
+            return clientLoad.latencyEwmaMillis;
+        }
+    }
+
+    @Override
+    public long getCompletedRequests(LlmClient llmClient) {
+        ClientLoad clientLoad = getClientLoad(llmClient);
+        synchronized (clientLoad) {
+            return clientLoad.completedRequests;
+        }
+    }
+
+    private ClientLoad getClientLoad(LlmClient llmClient) {
+        Objects.requireNonNull(llmClient, "llmClient must not be null");
+        return clientLoads.computeIfAbsent(llmClient, client -> new ClientLoad());
+    }
+
+    private static class ClientLoad {
+        private int inFlight = 0;
+        private Double latencyEwmaMillis = null;
+        private long completedRequests = 0;
+    }
+}
@@ -12,6 +12,7 @@ import java.io.IOException;
 public class LlmMessMapperRhinoConfigRepositoryImpl implements LlmMessMapperRhinoConfigRepository {
 
     public static final String MAP_PROMPT_TO_MESSAGES_FUNCTION_NAME = "mapPromptToMessages";
+    public static final String MAP_PROMPT_TO_MESSAGES_CACHE_FRIENDLY_FUNCTION_NAME = "mapPromptToMessagesCacheFriendly";
     public static final String SCRIPT_BODY_LOCATION = "classpath:com/quasarbyte/llm/codereview/sdk/rhino/script/rhino-llm-messages-mapper.js";
 
     private static final Logger logger = LoggerFactory.getLogger(LlmMessMapperRhinoConfigRepositoryImpl.class);
@@ -24,6 +25,15 @@ public class LlmMessMapperRhinoConfigRepositoryImpl implements LlmMessMapperRhin
 
     @Override
     public LlmMessagesMapperConfigurationRhino findDefaultConfiguration() {
+        return findConfiguration(MAP_PROMPT_TO_MESSAGES_FUNCTION_NAME);
+    }
+
+    @Override
+    public LlmMessagesMapperConfigurationRhino findCacheFriendlyConfiguration() {
+        return findConfiguration(MAP_PROMPT_TO_MESSAGES_CACHE_FRIENDLY_FUNCTION_NAME);
+    }
+
+    private LlmMessagesMapperConfigurationRhino findConfiguration(String functionName) {
         logger.debug("Attempting to load Rhino messages mapper script from resource: {}", SCRIPT_BODY_LOCATION);
         try {
             String scriptBody = resourceLoader.load(SCRIPT_BODY_LOCATION);
@@ -31,11 +41,11 @@ public class LlmMessMapperRhinoConfigRepositoryImpl implements LlmMessMapperRhin
 
             logger.trace("Script body:\n{}", scriptBody);
 
-            logger.debug("Map Prompt to messages function name: '{}'", MAP_PROMPT_TO_MESSAGES_FUNCTION_NAME);
+            logger.debug("Map Prompt to messages function name: '{}'", functionName);
 
             return new LlmMessagesMapperConfigurationRhino()
                     .setScriptBody(scriptBody)
-                    .setFunctionName(MAP_PROMPT_TO_MESSAGES_FUNCTION_NAME);
+                    .setFunctionName(functionName);
 
         } catch (IOException e) {
             logger.error("Failed to load resource: {}", SCRIPT_BODY_LOCATION, e);
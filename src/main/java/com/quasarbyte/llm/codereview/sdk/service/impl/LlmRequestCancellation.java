@@ -0,0 +1,97 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cancels the HTTP calls of one review request. The request id is sent in the {@link #REQUEST_HEADER} header,
+ * {@link CancellableOkHttpClient} looks the request up by the header and registers each of its calls,
+ * the retries of the client and the halves of a split prompt included.
+ * <p>
+ * A request id that is no longer open belongs to a request nobody waits for, its further calls are not sent.
+ */
+final class LlmRequestCancellation implements AutoCloseable {
+
+    static final String REQUEST_HEADER = "X-Llm-Codereview-Request-Id";
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmRequestCancellation.class);
+
+    private static final Map<String, LlmRequestCancellation> openRequests = new ConcurrentHashMap<>();
+
+    private final String requestId = UUID.randomUUID().toString();
+    private final List<Runnable> cancelCallbacks = new ArrayList<>();
+    private boolean cancelled;
+
+    private LlmRequestCancellation() {
+    }
+
+    static LlmRequestCancellation open() {
+        LlmRequestCancellation cancellation = new LlmRequestCancellation();
+        openRequests.put(cancellation.requestId, cancellation);
+        return cancellation;
+    }
+
+    static Optional<LlmRequestCancellation> find(String requestId) {
+        return Optional.ofNullable(openRequests.get(requestId));
+    }
+
+    String getRequestId() {
+        return requestId;
+    }
+
+    /**
+     * Runs the callback when the request is cancelled, at once if it already is.
+     */
+    void onCancel(Runnable callback) {
+        synchronized (cancelCallbacks) {
+            if (!cancelled) {
+                cancelCallbacks.add(callback);
+                return;
+            }
+        }
+        run(callback);
+    }
+
+    void cancel() {
+        List<Runnable> callbacks;
+        synchronized (cancelCallbacks) {
+            if (cancelled) {
+                return;
+            }
+            cancelled = true;
+            callbacks = new ArrayList<>(cancelCallbacks);
+            cancelCallbacks.clear();
+        }
+        logger.debug("Cancelling {} HTTP call(s) of LLM request {}", callbacks.size(), requestId);
+        callbacks.forEach(LlmRequestCancellation::run);
+    }
+
+    boolean isCancelled() {
+        synchronized (cancelCallbacks) {
+            return cancelled;
+        }
+    }
+
+    @Override
+    public void close() {
+        openRequests.remove(requestId, this);
+        synchronized (cancelCallbacks) {
+            cancelCallbacks.clear();
+        }
+    }
+
+    private static void run(Runnable callback) {
+        try {
+            callback.run();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to cancel HTTP call of LLM request: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.HedgedRequest;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.HedgingParameter;
+import com.quasarbyte.llm.codereview.sdk.service.HedgingListener;
+import com.quasarbyte.llm.codereview.sdk.service.LlmRequestHedgingPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Hedging policy over a sliding window of the latest request latencies.
+ */
+public class LlmRequestHedgingPolicyImpl implements LlmRequestHedgingPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmRequestHedgingPolicyImpl.class);
+
+    private static final int LATENCY_WINDOW_SIZE = 1000;
+
+    private final double percentile;
+    private final int minSamples;
+    private final double maxExtraRequestRatio;
+    private final HedgingListener listener;
+
+    private final long[] latencyWindow = new long[LATENCY_WINDOW_SIZE];
+    private int latencySamples = 0;
+    private int nextLatencyIndex = 0;
+
+    private long requests = 0;
+    private long hedgedRequests = 0;
+    private long hedgeWins = 0;
+    private long wastedTokens = 0;
+
+    public LlmRequestHedgingPolicyImpl(HedgingParameter parameter) {
+        Objects.requireNonNull(parameter, "parameter must not be null");
+
+        this.percentile = parameter.getPercentile() != null ? parameter.getPercentile() : 0.95;
+        this.minSamples = parameter.getMinSamples() != null ? parameter.getMinSamples() : 20;
+        this.maxExtraRequestRatio = parameter.getMaxExtraRequestRatio() != null ? parameter.getMaxExtraRequestRatio() : 0.05;
+        this.listener = parameter.getListener();
+
+        if (percentile <= 0 || percentile >= 1) {
+            throw new ValidationException("Hedging percentile must be between 0 and 1 exclusive");
+        }
+        if (minSamples < 1 || minSamples > LATENCY_WINDOW_SIZE) {
+            throw new ValidationException(String.format("Hedging minSamples must be between 1 and %d", LATENCY_WINDOW_SIZE));
+        }
+        if (maxExtraRequestRatio <= 0 || maxExtraRequestRatio > 1) {
+            throw new ValidationException("Hedging maxExtraRequestRatio must be between 0 exclusive and 1 inclusive");
+        }
+    }
+
+    @Override
+    public synchronized void onRequest() {
+        requests++;
+    }
+
+    @Override
+    public synchronized void onRequestSucceeded(long latencyNanos) {
+        latencyWindow[nextLatencyIndex] = latencyNanos;
+        nextLatencyIndex = (nextLatencyIndex + 1) % LATENCY_WINDOW_SIZE;
+        latencySamples = Math.min(latencySamples + 1, LATENCY_WINDOW_SIZE);
+    }
+
+    @Override
+    public synchronized long getHedgeDelayNanos() {
+        if (latencySamples < minSamples) {
+            return -1;
+        }
+        long[] sortedLatencies = Arrays.copyOf(latencyWindow, latencySamples);
+        Arrays.sort(sortedLatencies);
+        int index = (int) Math.ceil(percentile * latencySamples) - 1;
+        return sortedLatencies[Math.max(0, index)];
+    }
+
+    @Override
+    public synchronized boolean tryAcquireHedge() {
+        if (hedgedRequests + 1 > maxExtraRequestRatio * requests) {
+            return false;
+        }
+        hedgedRequests++;
+        return true;
+    }
+
+    @Override
+    public synchronized void releaseHedge() {
+        hedgedRequests--;
+    }
+
+    @Override
+    public void onHedgedRequestCompleted(HedgedRequest hedgedRequest) {
+        synchronized (this) {
+            if (Boolean.TRUE.equals(hedgedRequest.getHedgeWon())) {
+                hedgeWins++;
+            }
+            if (hedgedRequest.getWastedTokens() != null) {
+                wastedTokens += hedgedRequest.getWastedTokens();
+            }
+        }
+
+        if (listener != null) {
+            try {
+                listener.onHedgedRequestCompleted(hedgedRequest);
+            } catch (Exception e) {
+                logger.warn("Hedging listener failed: '{}'", e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized long getRequests() {
+        return requests;
+    }
+
+    @Override
+    public synchronized long getHedgedRequests() {
+        return hedgedRequests;
+    }
+
+    @Override
+    public synchronized long getHedgeWins() {
+        return hedgeWins;
+    }
+
+    @Override
+    public synchronized long getWastedTokens() {
+        return wastedTokens;
+    }
+}
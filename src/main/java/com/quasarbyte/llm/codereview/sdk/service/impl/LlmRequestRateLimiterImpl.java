@@ -0,0 +1,126 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorInterruptedException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorTimeoutException;
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmRateLimit;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedCompletionUsage;
+import com.quasarbyte.llm.codereview.sdk.service.LlmRequestRateLimiter;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmTokenEstimator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token bucket rate limiter. Each request reserves one request permit and its estimated tokens
+ * (prompt estimate plus {@code maxCompletionTokens}), and the token reservation is corrected by the actual usage
+ * once the response arrives, a failed request gives its tokens back. Clients without a {@link LlmRateLimit} are not paced.
+ */
+public class LlmRequestRateLimiterImpl implements LlmRequestRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmRequestRateLimiterImpl.class);
+
+    private static final Reservation NO_RESERVATION = completionUsage -> {
+    };
+
+    // Keyed by client identity, buckets go away together with the client
+    private final Map<LlmClient, ClientBuckets> clientBuckets = Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public Reservation reserve(ReviewPrompt prompt, LlmChatCompletionConfiguration llmChatCompletionConfiguration, LlmClient llmClient, Instant deadline) {
+
+        LlmRateLimit rateLimit = llmClient != null ? llmClient.getRateLimit() : null;
+
+        if (rateLimit == null || (rateLimit.getRequestsPerMinute() == null && rateLimit.getTokensPerMinute() == null)) {
+            return NO_RESERVATION;
+        }
+
+        ClientBuckets buckets = clientBuckets.computeIfAbsent(llmClient, client -> new ClientBuckets(rateLimit));
+
+        long estimatedTokens = estimateTokens(prompt, llmChatCompletionConfiguration);
+
+        awaitReservation(buckets, estimatedTokens, prompt, deadline);
+
+        return completionUsage -> correctReservation(buckets, estimatedTokens, completionUsage, prompt);
+    }
+
+    private static void awaitReservation(ClientBuckets buckets, long estimatedTokens, ReviewPrompt prompt, Instant deadline) {
+        long waitNanos = 0;
+        if (buckets.requestBucket != null) {
+            waitNanos = buckets.requestBucket.reserve(1);
+        }
+        if (buckets.tokenBucket != null) {
+            waitNanos = Math.max(waitNanos, buckets.tokenBucket.reserve(estimatedTokens));
+        }
+
+        if (waitNanos > 0 && deadline != null && Instant.now().plusNanos(waitNanos).isAfter(deadline)) {
+            // The request could not be sent before the deadline, the permits are left to other requests
+            release(buckets, estimatedTokens);
+            throw new TaskExecutorTimeoutException(String.format(
+                    "Rate limit delay of %d ms exceeds the review deadline %s, the LLM request of prompt id %s is not sent",
+                    TimeUnit.NANOSECONDS.toMillis(waitNanos), deadline, prompt.getId()));
+        }
+
+        if (waitNanos > 0) {
+            logger.info("Rate limit reached, delaying request of prompt id {} by {} ms (estimated tokens: {}).",
+                    prompt.getId(), TimeUnit.NANOSECONDS.toMillis(waitNanos), estimatedTokens);
+            sleep(waitNanos, buckets, estimatedTokens, prompt);
+        }
+    }
+
+    private static void release(ClientBuckets buckets, long estimatedTokens) {
+        if (buckets.requestBucket != null) {
+            buckets.requestBucket.adjust(1);
+        }
+        if (buckets.tokenBucket != null) {
+            buckets.tokenBucket.adjust(estimatedTokens);
+        }
+    }
+
+    /**
+     * A request without reported usage, such as a failed one, gives all its reserved tokens back.
+     */
+    private static void correctReservation(ClientBuckets buckets, long estimatedTokens, ReviewedCompletionUsage completionUsage, ReviewPrompt prompt) {
+        if (buckets.tokenBucket != null) {
+            long actualTokens = completionUsage != null && completionUsage.getTotalTokens() != null ? completionUsage.getTotalTokens() : 0;
+            buckets.tokenBucket.adjust(estimatedTokens - actualTokens);
+            logger.debug("Token reservation of prompt id {} corrected: estimated {}, actual {}.", prompt.getId(), estimatedTokens, actualTokens);
+        }
+    }
+
+    static long estimateTokens(ReviewPrompt prompt, LlmChatCompletionConfiguration llmChatCompletionConfiguration) {
+        long completionTokens = llmChatCompletionConfiguration != null && llmChatCompletionConfiguration.getMaxCompletionTokens() != null
+                ? llmChatCompletionConfiguration.getMaxCompletionTokens()
+                : 0;
+        return LlmTokenEstimator.estimatePromptTokens(prompt) + completionTokens;
+    }
+
+    private static void sleep(long waitNanos, ClientBuckets buckets, long estimatedTokens, ReviewPrompt prompt) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            // The request is not sent, the permits are left to other requests
+            release(buckets, estimatedTokens);
+            Thread.currentThread().interrupt();
+            throw new TaskExecutorInterruptedException(
+                    String.format("Interrupted while waiting for the rate limit, prompt id: %s", prompt.getId()), e);
+        }
+    }
+
+    private static class ClientBuckets {
+        private final TokenBucket requestBucket;
+        private final TokenBucket tokenBucket;
+
+        private ClientBuckets(LlmRateLimit rateLimit) {
+            this.requestBucket = rateLimit.getRequestsPerMinute() != null ? new TokenBucket(rateLimit.getRequestsPerMinute()) : null;
+            this.tokenBucket = rateLimit.getTokensPerMinute() != null ? new TokenBucket(rateLimit.getTokensPerMinute()) : null;
+        }
+    }
+}
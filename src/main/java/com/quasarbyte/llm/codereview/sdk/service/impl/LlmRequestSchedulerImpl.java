@@ -0,0 +1,187 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.service.LlmRequestScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Start-time fair queuing over a fixed number of request slots, optionally paced by a requests-per-minute limit.
+ * <p>
+ * Each request gets a start tag {@code max(virtualTime, finish tag of the previous request of its flow)} and a finish tag
+ * {@code start tag + cost / weight}. Waiting requests are admitted in start tag order whenever a slot is free, and the virtual
+ * time advances to the start tag of the admitted request. A flow that becomes active later starts at the current virtual time,
+ * so it is served interleaved with flows that queued many requests before it.
+ * <p>
+ * Waiting requests park on a {@link ReentrantLock} condition rather than a monitor, so virtual threads waiting
+ * for a slot do not pin their carrier threads.
+ */
+public class LlmRequestSchedulerImpl implements LlmRequestScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmRequestSchedulerImpl.class);
+
+    private static final Comparator<Waiter> START_TAG_ORDER = Comparator
+            .comparingDouble((Waiter waiter) -> waiter.startTag)
+            .thenComparingLong(waiter -> waiter.sequence);
+
+    private final int maxConcurrentRequests;
+    private final TokenBucket requestBucket;
+
+    private final Map<Object, Flow> flows = new HashMap<>();
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>(START_TAG_ORDER);
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Signalled when a slot frees up or the head of the queue changes
+    private final Condition admissionChanged = lock.newCondition();
+
+    private double virtualTime = 0;
+    private long nextSequence = 0;
+    private int inFlight = 0;
+
+    /**
+     * @param maxConcurrentRequests requests in flight across all flows
+     * @param requestsPerMinute     requests admitted per minute across all flows, {@code null} for no limit
+     */
+    public LlmRequestSchedulerImpl(int maxConcurrentRequests, Integer requestsPerMinute) {
+        if (maxConcurrentRequests < 1) {
+            throw new ValidationException("maxConcurrentRequests cannot be less than 1");
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.requestBucket = requestsPerMinute != null ? new TokenBucket(requestsPerMinute) : null;
+    }
+
+    @Override
+    public void acquire(Object flowKey, double weight, long cost) throws InterruptedException {
+        if (flowKey == null) {
+            throw new ValidationException("flowKey cannot be null");
+        }
+        if (!(weight > 0)) {
+            throw new ValidationException("weight must be greater than 0");
+        }
+
+        lock.lockInterruptibly();
+        try {
+            Flow flow = flows.computeIfAbsent(flowKey, key -> new Flow());
+            double startTag = Math.max(virtualTime, flow.lastFinishTag);
+            flow.lastFinishTag = startTag + Math.max(1, cost) / weight;
+            flow.active++;
+
+            Waiter waiter = new Waiter(startTag, nextSequence++);
+            waiters.add(waiter);
+
+            try {
+                while (waiters.peek() != waiter || inFlight >= maxConcurrentRequests) {
+                    admissionChanged.await();
+                }
+            } catch (InterruptedException e) {
+                waiters.remove(waiter);
+                flow.active--;
+                removeIdleFlows();
+                // The next waiter may be at the head now
+                admissionChanged.signalAll();
+                throw e;
+            }
+
+            waiters.poll();
+            inFlight++;
+            virtualTime = Math.max(virtualTime, startTag);
+            // Lets the next waiter in if there is another free slot
+            admissionChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (requestBucket != null) {
+            long waitNanos = requestBucket.reserve(1);
+            if (waitNanos > 0) {
+                logger.debug("Global request rate reached, delaying request by {} ms.", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    release(flowKey);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void release(Object flowKey) {
+        lock.lock();
+        try {
+            Flow flow = flows.get(flowKey);
+            if (flow == null || flow.active == 0) {
+                logger.warn("Release of a request that was not acquired, flow: {}", flowKey);
+                return;
+            }
+            flow.active--;
+            inFlight--;
+            removeIdleFlows();
+            admissionChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int getWaiting() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forgets flows without requests whose last finish tag has been passed by the virtual time, they would start at the virtual time anyway.
+     */
+    private void removeIdleFlows() {
+        if (inFlight == 0 && waiters.isEmpty()) {
+            // End of a busy period, the virtual time moves past all finish tags
+            for (Flow flow : flows.values()) {
+                virtualTime = Math.max(virtualTime, flow.lastFinishTag);
+            }
+        }
+        Iterator<Flow> iterator = flows.values().iterator();
+        while (iterator.hasNext()) {
+            Flow flow = iterator.next();
+            if (flow.active == 0 && flow.lastFinishTag <= virtualTime) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static final class Flow {
+        private double lastFinishTag = 0;
+        // Requests of the flow waiting or in flight
+        private int active = 0;
+    }
+
+    private static final class Waiter {
+        private final double startTag;
+        private final long sequence;
+
+        private Waiter(double startTag, long sequence) {
+            this.startTag = startTag;
+            this.sequence = sequence;
+        }
+    }
+}
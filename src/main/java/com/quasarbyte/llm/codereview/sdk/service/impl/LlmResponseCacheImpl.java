@@ -0,0 +1,125 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.db.LlmResponseCacheDB;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmResponseCacheParameter;
+import com.quasarbyte.llm.codereview.sdk.model.statistics.LlmResponseCacheStatistics;
+import com.quasarbyte.llm.codereview.sdk.repository.LlmResponseCacheRepository;
+import com.quasarbyte.llm.codereview.sdk.service.LlmResponseCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LlmResponseCacheImpl implements LlmResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmResponseCacheImpl.class);
+
+    private static final int DEFAULT_EVICTION_INTERVAL = 100;
+
+    private final LlmResponseCacheRepository llmResponseCacheRepository;
+
+    // Stored responses, the eviction runs once per eviction interval instead of on every store
+    private final AtomicLong storeCount = new AtomicLong();
+
+    public LlmResponseCacheImpl(LlmResponseCacheRepository llmResponseCacheRepository) {
+        this.llmResponseCacheRepository = Objects.requireNonNull(llmResponseCacheRepository, "llmResponseCacheRepository must not be null");
+    }
+
+    @Override
+    public Optional<String> find(String cacheKey, LlmResponseCacheParameter parameter) {
+        Objects.requireNonNull(parameter, "parameter must not be null");
+
+        Optional<String> response;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<LlmResponseCacheDB> entry = llmResponseCacheRepository.findByCacheKey(cacheKey);
+            if (entry.isPresent() && isExpired(entry.get(), parameter.getTimeToLive(), now)) {
+                // Deleted right away, otherwise the unique key keeps the fresh response from being stored
+                logger.debug("LLM response cache entry expired, key: {}", cacheKey);
+                llmResponseCacheRepository.deleteById(entry.get().getId());
+                response = Optional.empty();
+            } else {
+                response = entry.map(cachedEntry -> {
+                    llmResponseCacheRepository.updateAccessedAt(cachedEntry.getId(), now);
+                    return cachedEntry.getResponse();
+                });
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to read the LLM response cache, the request is sent: {}", e.getMessage(), e);
+            response = Optional.empty();
+        }
+
+        LlmResponseCacheStatistics statistics = parameter.getStatistics();
+        if (response.isPresent()) {
+            logger.info("LLM response cache hit, key: {}", cacheKey);
+            if (statistics != null) {
+                statistics.recordHit();
+            }
+        } else {
+            logger.debug("LLM response cache miss, key: {}", cacheKey);
+            if (statistics != null) {
+                statistics.recordMiss();
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public void put(String cacheKey, String response, LlmResponseCacheParameter parameter) {
+        Objects.requireNonNull(parameter, "parameter must not be null");
+        LlmResponseCacheStatistics statistics = parameter.getStatistics();
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            llmResponseCacheRepository.save(new LlmResponseCacheDB()
+                    .setCacheKey(cacheKey)
+                    .setResponse(response)
+                    .setCreatedAt(now)
+                    .setAccessedAt(now));
+            if (statistics != null) {
+                statistics.recordStore();
+            }
+        } catch (RuntimeException e) {
+            // Usually the same prompt answered by a concurrent review, the unique key keeps the first response
+            logger.debug("LLM response not cached, key: {}, error message: {}", cacheKey, e.getMessage());
+        }
+
+        // Counted also when the store has failed, so that the eviction is not skipped while stores keep failing
+        if (storeCount.getAndIncrement() % resolveEvictionInterval(parameter) != 0) {
+            return;
+        }
+
+        try {
+            int evictedCount = 0;
+            if (parameter.getTimeToLive() != null) {
+                evictedCount += llmResponseCacheRepository.deleteCreatedBefore(LocalDateTime.now().minus(parameter.getTimeToLive()));
+            }
+            if (parameter.getMaxEntries() != null) {
+                evictedCount += llmResponseCacheRepository.deleteLeastRecentlyAccessed(parameter.getMaxEntries());
+            }
+            if (evictedCount > 0) {
+                logger.debug("Evicted {} LLM response cache entries", evictedCount);
+                if (statistics != null) {
+                    statistics.recordEvictions(evictedCount);
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to evict LLM response cache entries: {}", e.getMessage(), e);
+        }
+    }
+
+    private static int resolveEvictionInterval(LlmResponseCacheParameter parameter) {
+        Integer evictionInterval = parameter.getEvictionInterval();
+        return evictionInterval != null && evictionInterval > 0 ? evictionInterval : DEFAULT_EVICTION_INTERVAL;
+    }
+
+    private static boolean isExpired(LlmResponseCacheDB entry, Duration timeToLive, LocalDateTime now) {
+        return timeToLive != null
+                && entry.getCreatedAt() != null
+                && entry.getCreatedAt().plus(timeToLive).isBefore(now);
+    }
+}
@@ -3,18 +3,26 @@ package com.quasarbyte.llm.codereview.sdk.service.impl;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.openai.client.OpenAIClient;
+import com.openai.core.RequestOptions;
+import com.openai.core.http.AsyncStreamResponse;
+import com.openai.models.chat.completions.ChatCompletion;
+import com.openai.models.chat.completions.ChatCompletionChunk;
 import com.openai.models.chat.completions.ChatCompletionCreateParams;
+import com.openai.models.chat.completions.ChatCompletionStreamOptions;
 import com.openai.models.chat.completions.StructuredChatCompletion;
 import com.openai.models.chat.completions.StructuredChatCompletionCreateParams;
 import com.openai.models.chat.completions.StructuredChatCompletionMessage;
 import com.openai.models.completions.CompletionUsage;
 import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorInterruptedException;
 import com.quasarbyte.llm.codereview.sdk.model.FileKey;
 import com.quasarbyte.llm.codereview.sdk.model.RuleKey;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.context.ReviewRunDetails;
 import com.quasarbyte.llm.codereview.sdk.model.llm.*;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmResponseCacheParameter;
 
 import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFile;
 import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
@@ -22,15 +30,32 @@ import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.*;
 import com.quasarbyte.llm.codereview.sdk.service.ChatCompletionCreateParamsFactory;
 import com.quasarbyte.llm.codereview.sdk.service.LlmMessagesMapper;
+import com.quasarbyte.llm.codereview.sdk.service.LlmRequestRateLimiter;
+import com.quasarbyte.llm.codereview.sdk.service.LlmResponseCache;
 import com.quasarbyte.llm.codereview.sdk.service.LlmReviewProcessor;
+import com.quasarbyte.llm.codereview.sdk.service.LlmReviewResultStreamParser;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultListener;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
+import com.quasarbyte.llm.codereview.sdk.service.util.CompletableFutureUtils;
+import com.quasarbyte.llm.codereview.sdk.service.util.HashUtils;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmRequestDeadlineUtils;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmServiceErrorUtils;
+import com.quasarbyte.llm.codereview.sdk.service.util.UnifiedDiffUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toList;
@@ -40,13 +65,45 @@ public class LlmReviewProcessorImpl implements LlmReviewProcessor {
     private static final Logger logger = LoggerFactory.getLogger(LlmReviewProcessorImpl.class);
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
+    // Retries of an OpenAI client built without maxRetries
+    private static final int DEFAULT_CLIENT_MAX_RETRIES = 2;
+
     private final LlmMessagesMapper llmMessagesMapper;
     private final ChatCompletionCreateParamsFactory chatCompletionCreateParamsFactory;
+    private final LlmResponseCache llmResponseCache;
+    private final ReviewRunContext reviewRunContext;
+    private final LlmRequestRateLimiter llmRequestRateLimiter;
 
     public LlmReviewProcessorImpl(LlmMessagesMapper llmMessagesMapper,
                                   ChatCompletionCreateParamsFactory chatCompletionCreateParamsFactory) {
+        this(llmMessagesMapper, chatCompletionCreateParamsFactory, null, null);
+    }
+
+    /**
+     * @param llmResponseCache the response cache, used if the persistence configuration of the review run enables it
+     * @param reviewRunContext provides the persistence configuration of the review run
+     */
+    public LlmReviewProcessorImpl(LlmMessagesMapper llmMessagesMapper,
+                                  ChatCompletionCreateParamsFactory chatCompletionCreateParamsFactory,
+                                  LlmResponseCache llmResponseCache,
+                                  ReviewRunContext reviewRunContext) {
+        this(llmMessagesMapper, chatCompletionCreateParamsFactory, llmResponseCache, reviewRunContext, null);
+    }
+
+    /**
+     * @param llmRequestRateLimiter paces each request sent to the LLM, after the response cache lookup so a cache hit
+     *                              takes no permit, {@code null} to send requests without pacing
+     */
+    public LlmReviewProcessorImpl(LlmMessagesMapper llmMessagesMapper,
+                                  ChatCompletionCreateParamsFactory chatCompletionCreateParamsFactory,
+                                  LlmResponseCache llmResponseCache,
+                                  ReviewRunContext reviewRunContext,
+                                  LlmRequestRateLimiter llmRequestRateLimiter) {
         this.llmMessagesMapper = llmMessagesMapper;
         this.chatCompletionCreateParamsFactory = chatCompletionCreateParamsFactory;
+        this.llmResponseCache = llmResponseCache;
+        this.reviewRunContext = reviewRunContext;
+        this.llmRequestRateLimiter = llmRequestRateLimiter;
     }
 
     @Override
@@ -55,6 +112,560 @@ public class LlmReviewProcessorImpl implements LlmReviewProcessor {
                                       LlmMessagesMapperConfiguration messagesMapperConfiguration,
                                       LlmClient llmClient) {
 
+        LlmMessages llmMessages = mapMessages(prompt, messagesMapperConfiguration);
+
+        if (llmMessages.getMessages().isEmpty()) {
+            logger.info("No LLM messages to process. Returning empty result.");
+            return new ReviewedResultItem().setFiles(Collections.emptyList());
+        }
+
+        LlmResponseCacheParameter cacheParameter = getResponseCacheParameter();
+        String cacheKey = cacheParameter != null ? createCacheKey(llmClient, llmChatCompletionConfiguration, llmMessages, prompt.getUseReasoning()) : null;
+        if (cacheKey != null) {
+            Optional<ReviewedResultItem> cachedResultItem = findCachedResultItem(prompt, cacheKey, cacheParameter);
+            if (cachedResultItem.isPresent()) {
+                return cachedResultItem.get();
+            }
+        }
+
+        StructuredChatCompletionCreateParams<? extends LlmReviewResult> params = createParams(prompt, llmChatCompletionConfiguration, llmMessages);
+
+        OpenAIClient openAIClient = llmClient.getOpenAIClient();
+
+        Instant deadline = LlmRequestDeadlineUtils.getDeadline();
+
+        LlmRequestRateLimiter.Reservation reservation = reserveRequest(prompt, llmChatCompletionConfiguration, llmClient, deadline);
+
+        // Usage of a truncated response, still counted once the split prompt has been reviewed
+        ReviewedCompletionUsage truncatedUsage = null;
+        // Usage reported by the LLM, stays null if the request fails
+        ReviewedCompletionUsage requestUsage = null;
+
+        final RequestOptions requestOptions;
+        try {
+            requestOptions = createRequestOptions(llmClient, deadline);
+        } catch (RuntimeException e) {
+            reservation.complete(null);
+            throw e;
+        }
+
+        try {
+            final CompletionOutcome completionOutcome;
+            if (isStreaming(llmChatCompletionConfiguration)) {
+                logger.info("Calling LLM Provider chat completion API with a streamed response.");
+                StreamedCompletion streamedCompletion = new StreamedCompletion(prompt, params.responseType());
+                // Streamed by the async client, so the interrupted thread can close the stream blocked in a read
+                try (LlmRequestCancellation cancellation = LlmRequestCancellation.open()) {
+                    AsyncStreamResponse<ChatCompletionChunk> streamResponse = openAIClient
+                            .async()
+                            .chat()
+                            .completions()
+                            .createStreaming(withRequestId(toStreamingParams(params), cancellation), requestOptions)
+                            .subscribe(streamedCompletion::onChunk);
+                    cancellation.onCancel(streamResponse::close);
+                    awaitStream(streamResponse, cancellation);
+                }
+                completionOutcome = streamedCompletion;
+            } else {
+                logger.info("Calling LLM Provider chat completion API.");
+                completionOutcome = toCompletionOutcome(openAIClient
+                        .chat()
+                        .completions()
+                        .create(params, requestOptions));
+            }
+
+            logger.info("LLM Provider chat completion API call finished.");
+
+            requestUsage = toReviewedCompletionUsage(completionOutcome.getUsage());
+
+            if (!completionOutcome.isTruncated()) {
+                List<? extends LlmReviewResult> llmReviewResults = completionOutcome.getReviewResults();
+                ReviewedResultItem reviewedResultItem = toReviewedResultItem(prompt, llmReviewResults, completionOutcome.getUsage());
+                if (cacheKey != null) {
+                    putCachedResults(cacheKey, llmReviewResults, cacheParameter);
+                }
+                return reviewedResultItem;
+            }
+            if (!isSplittable(prompt)) {
+                return toReviewedResultItem(prompt, completionOutcome.getReviewResults(), completionOutcome.getUsage());
+            }
+            logger.warn("LLM response was truncated by the completion token limit, splitting the review prompt.");
+            truncatedUsage = toReviewedCompletionUsage(completionOutcome.getUsage());
+        } catch (Exception e) {
+            if (!LlmServiceErrorUtils.isContextLengthExceeded(e) || !isSplittable(prompt)) {
+                logger.error("LLM review processing failed: {}", e.getMessage(), e);
+                throw new LLMCodeReviewRuntimeException("Failed to process review prompt: " + e.getMessage(), e);
+            }
+            logger.warn("Review prompt exceeds the context length of the model, splitting the review prompt: {}", e.getMessage());
+        } finally {
+            // The halves of a split prompt reserve their own requests
+            reservation.complete(requestUsage);
+        }
+
+        // Outside of the try block, so the failures of the halves are not wrapped again
+        List<ReviewedResultItem> reviewedResultItems = new ArrayList<>();
+        for (ReviewPrompt half : splitPrompt(prompt)) {
+            reviewedResultItems.add(process(half, llmChatCompletionConfiguration, messagesMapperConfiguration, llmClient));
+        }
+        return mergeResultItems(reviewedResultItems, truncatedUsage);
+    }
+
+    /**
+     * Waits for the streamed response, the chunks are handled by the threads of the client.
+     * An interrupt cancels the request, which closes the stream and aborts its HTTP call.
+     */
+    private static void awaitStream(AsyncStreamResponse<ChatCompletionChunk> streamResponse, LlmRequestCancellation cancellation) throws Exception {
+        try {
+            streamResponse.onCompleteFuture().get();
+        } catch (InterruptedException e) {
+            cancellation.cancel();
+            Thread.currentThread().interrupt();
+            throw new TaskExecutorInterruptedException("Interrupted while waiting for the streamed LLM Provider response", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw cause instanceof Exception ? (Exception) cause : e;
+        }
+    }
+
+    /**
+     * Sends the request with the async client of {@link OpenAIClient#async()}, the response is mapped on the thread completing the request.
+     * The response cache is read on the calling thread and written by the callback executor.
+     * Cancelling the returned future aborts the HTTP calls of the request, those of the halves of a split prompt included.
+     */
+    @Override
+    public CompletableFuture<ReviewedResultItem> processAsync(ReviewPrompt prompt,
+                                                              LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                                              LlmMessagesMapperConfiguration messagesMapperConfiguration,
+                                                              LlmClient llmClient,
+                                                              Executor callbackExecutor) {
+        LlmRequestCancellation cancellation = LlmRequestCancellation.open();
+        CompletableFuture<ReviewedResultItem> reviewedResultItemFuture = processAsync(prompt, llmChatCompletionConfiguration, messagesMapperConfiguration,
+                llmClient, callbackExecutor, LlmRequestDeadlineUtils.getDeadline(), cancellation);
+        reviewedResultItemFuture.whenComplete((reviewedResultItem, failure) -> {
+            if (reviewedResultItemFuture.isCancelled()) {
+                cancellation.cancel();
+            }
+            cancellation.close();
+        });
+        return reviewedResultItemFuture;
+    }
+
+    /**
+     * @param deadline     the review deadline captured on the thread that called {@link #processAsync}, it is not bound
+     *                     to the callback executor threads sending the halves of a split prompt
+     * @param cancellation the cancellation of the request, shared by the halves of a split prompt
+     */
+    private CompletableFuture<ReviewedResultItem> processAsync(ReviewPrompt prompt,
+                                                               LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                                               LlmMessagesMapperConfiguration messagesMapperConfiguration,
+                                                               LlmClient llmClient,
+                                                               Executor callbackExecutor,
+                                                               Instant deadline,
+                                                               LlmRequestCancellation cancellation) {
+
+        final StructuredChatCompletionCreateParams<? extends LlmReviewResult> params;
+        final LlmResponseCacheParameter cacheParameter;
+        final String cacheKey;
+        final CompletableFuture<?> requestFuture;
+        final CompletableFuture<CompletionOutcome> completionOutcomeFuture;
+        LlmRequestRateLimiter.Reservation reservation = null;
+        try {
+            LlmMessages llmMessages = mapMessages(prompt, messagesMapperConfiguration);
+            if (llmMessages.getMessages().isEmpty()) {
+                logger.info("No LLM messages to process. Returning empty result.");
+                return CompletableFuture.completedFuture(new ReviewedResultItem().setFiles(Collections.emptyList()));
+            }
+            cacheParameter = getResponseCacheParameter();
+            cacheKey = cacheParameter != null ? createCacheKey(llmClient, llmChatCompletionConfiguration, llmMessages, prompt.getUseReasoning()) : null;
+            if (cacheKey != null) {
+                Optional<ReviewedResultItem> cachedResultItem = findCachedResultItem(prompt, cacheKey, cacheParameter);
+                if (cachedResultItem.isPresent()) {
+                    return CompletableFuture.completedFuture(cachedResultItem.get());
+                }
+            }
+            params = createParams(prompt, llmChatCompletionConfiguration, llmMessages);
+            reservation = reserveRequest(prompt, llmChatCompletionConfiguration, llmClient, deadline);
+            RequestOptions requestOptions = createRequestOptions(llmClient, deadline);
+            if (isStreaming(llmChatCompletionConfiguration)) {
+                logger.info("Calling LLM Provider chat completion API asynchronously with a streamed response.");
+                StreamedCompletion streamedCompletion = new StreamedCompletion(prompt, params.responseType());
+                AsyncStreamResponse<ChatCompletionChunk> asyncStreamResponse = llmClient.getOpenAIClient()
+                        .async()
+                        .chat()
+                        .completions()
+                        .createStreaming(withRequestId(toStreamingParams(params), cancellation), requestOptions)
+                        .subscribe(streamedCompletion::onChunk);
+                // Cancelling the future of the stream does not close its connection, the stream is closed explicitly
+                cancellation.onCancel(asyncStreamResponse::close);
+                requestFuture = asyncStreamResponse.onCompleteFuture();
+                completionOutcomeFuture = asyncStreamResponse.onCompleteFuture().thenApply(ignored -> streamedCompletion);
+            } else {
+                logger.info("Calling LLM Provider chat completion API asynchronously.");
+                CompletableFuture<ChatCompletion> chatCompletionFuture = llmClient.getOpenAIClient()
+                        .async()
+                        .chat()
+                        .completions()
+                        .create(withRequestId(params.rawParams(), cancellation), requestOptions);
+                requestFuture = chatCompletionFuture;
+                completionOutcomeFuture = chatCompletionFuture.thenApply(chatCompletion -> toCompletionOutcome(toStructuredChatCompletion(params, chatCompletion)));
+            }
+        } catch (RuntimeException | Error e) {
+            if (reservation != null) {
+                reservation.complete(null);
+            }
+            return CompletableFutureUtils.failedFuture(e);
+        }
+
+        final LlmRequestRateLimiter.Reservation requestReservation = reservation;
+
+        return CompletableFutureUtils.propagateCancellation(requestFuture, completionOutcomeFuture.handle((completionOutcome, failure) -> {
+            // A failed or cancelled request gives its reserved tokens back
+            requestReservation.complete(failure == null ? toReviewedCompletionUsage(completionOutcome.getUsage()) : null);
+            try {
+                if (failure != null) {
+                    Throwable cause = CompletableFutureUtils.unwrap(failure);
+                    if (LlmServiceErrorUtils.isContextLengthExceeded(cause) && isSplittable(prompt)) {
+                        logger.warn("Review prompt exceeds the context length of the model, splitting the review prompt: {}", cause.getMessage());
+                        return processSplitAsync(prompt, llmChatCompletionConfiguration, messagesMapperConfiguration, llmClient, callbackExecutor, deadline, cancellation, null);
+                    }
+                    throw cause;
+                }
+                if (completionOutcome.isTruncated() && isSplittable(prompt)) {
+                    logger.warn("LLM response was truncated by the completion token limit, splitting the review prompt.");
+                    return processSplitAsync(prompt, llmChatCompletionConfiguration, messagesMapperConfiguration, llmClient, callbackExecutor, deadline, cancellation,
+                            toReviewedCompletionUsage(completionOutcome.getUsage()));
+                }
+                List<? extends LlmReviewResult> llmReviewResults = completionOutcome.getReviewResults();
+                ReviewedResultItem reviewedResultItem = toReviewedResultItem(prompt, llmReviewResults, completionOutcome.getUsage());
+                if (cacheKey != null && !completionOutcome.isTruncated()) {
+                    // The database connection of the review is bound to the callback executor threads
+                    callbackExecutor.execute(() -> putCachedResults(cacheKey, llmReviewResults, cacheParameter));
+                }
+                return CompletableFuture.completedFuture(reviewedResultItem);
+            } catch (Throwable e) {
+                logger.error("LLM review processing failed: {}", e.getMessage(), e);
+                throw new LLMCodeReviewRuntimeException("Failed to process review prompt: " + e.getMessage(), e);
+            }
+        }).thenCompose(Function.identity()));
+
+    }
+
+    /**
+     * Reviews the halves of the prompt one after the other, like the synchronous path, so a split prompt does not
+     * take more than its single slot of the dispatcher concurrency. The halves are sent by the callback executor,
+     * it may wait for the rate limit and reads the response cache with the database connection of the review.
+     * The halves are sent with the deadline of the original request.
+     */
+    private CompletableFuture<ReviewedResultItem> processSplitAsync(ReviewPrompt prompt,
+                                                                    LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                                                    LlmMessagesMapperConfiguration messagesMapperConfiguration,
+                                                                    LlmClient llmClient,
+                                                                    Executor callbackExecutor,
+                                                                    Instant deadline,
+                                                                    LlmRequestCancellation cancellation,
+                                                                    ReviewedCompletionUsage truncatedUsage) {
+        CompletableFuture<List<ReviewedResultItem>> reviewedResultItems = CompletableFuture.completedFuture(new ArrayList<>());
+        for (ReviewPrompt half : splitPrompt(prompt)) {
+            reviewedResultItems = reviewedResultItems.thenComposeAsync(items -> processAsync(half, llmChatCompletionConfiguration, messagesMapperConfiguration, llmClient, callbackExecutor, deadline, cancellation)
+                    .thenApply(item -> {
+                        items.add(item);
+                        return items;
+                    }), callbackExecutor);
+        }
+        return reviewedResultItems.thenApply(items -> mergeResultItems(items, truncatedUsage));
+    }
+
+    /**
+     * A response cut off by the completion token limit is not valid JSON, the prompt is reviewed in smaller parts instead.
+     */
+    private static boolean isTruncated(StructuredChatCompletion<? extends LlmReviewResult> chatCompletion) {
+        return chatCompletion.choices()
+                .stream()
+                .anyMatch(choice -> ChatCompletion.Choice.FinishReason.LENGTH.equals(choice.finishReason()));
+    }
+
+    private static boolean isStreaming(LlmChatCompletionConfiguration llmChatCompletionConfiguration) {
+        return llmChatCompletionConfiguration != null && Boolean.TRUE.equals(llmChatCompletionConfiguration.getStream());
+    }
+
+    /**
+     * The structured output parameters with the usage requested in the last chunk of the stream.
+     */
+    private static ChatCompletionCreateParams toStreamingParams(StructuredChatCompletionCreateParams<? extends LlmReviewResult> params) {
+        return params.rawParams()
+                .toBuilder()
+                .streamOptions(ChatCompletionStreamOptions.builder()
+                        .includeUsage(true)
+                        .build())
+                .build();
+    }
+
+    /**
+     * Tags the HTTP calls of the request, so {@link CancellableOkHttpClient} aborts them when the request is cancelled.
+     * Other HTTP clients send the header along.
+     */
+    private static ChatCompletionCreateParams withRequestId(ChatCompletionCreateParams params, LlmRequestCancellation cancellation) {
+        return params.toBuilder()
+                .putAdditionalHeader(LlmRequestCancellation.REQUEST_HEADER, cancellation.getRequestId())
+                .build();
+    }
+
+    private static CompletionOutcome toCompletionOutcome(StructuredChatCompletion<? extends LlmReviewResult> chatCompletion) {
+        return new CompletionOutcome() {
+            @Override
+            public boolean isTruncated() {
+                return LlmReviewProcessorImpl.isTruncated(chatCompletion);
+            }
+
+            @Override
+            public List<? extends LlmReviewResult> getReviewResults() {
+                return LlmReviewProcessorImpl.getReviewResults(chatCompletion);
+            }
+
+            @Override
+            public Optional<CompletionUsage> getUsage() {
+                return chatCompletion.usage();
+            }
+        };
+    }
+
+    /**
+     * Hands a file of a streamed response to the listener of the review run, mapped like the files of the whole response.
+     */
+    private void publishReviewedFile(ReviewPrompt prompt, LlmReviewedFile llmReviewedFile, StreamedResponseAttempt attempt,
+                                     ReviewResultListener reviewResultListener) {
+        try {
+            ReviewedResultItem reviewedResultItem = toReviewedResultItem(prompt,
+                    Collections.singletonList(new LlmReviewResult().setFiles(Collections.singletonList(llmReviewedFile))),
+                    Optional.empty());
+            reviewedResultItem.getFiles().forEach(reviewedFile -> reviewResultListener.onReviewedFile(reviewedFile, attempt));
+        } catch (Exception e) {
+            logger.warn("ReviewResultListener failed on a streamed reviewed file: {}", e.getMessage(), e);
+        }
+    }
+
+    private static boolean isSplittable(ReviewPrompt prompt) {
+        return (prompt.getFiles() != null && prompt.getFiles().size() > 1)
+                || (prompt.getRules() != null && prompt.getRules().size() > 1);
+    }
+
+    /**
+     * Splits the file batch of the prompt in half, or the rule batch if the prompt has a single file.
+     * The halves keep the id of the prompt, so the inference of the prompt stores the merged result.
+     */
+    private static List<ReviewPrompt> splitPrompt(ReviewPrompt prompt) {
+        final List<ReviewPrompt> halves;
+        if (prompt.getFiles() != null && prompt.getFiles().size() > 1) {
+            int middle = prompt.getFiles().size() / 2;
+            halves = Arrays.asList(
+                    copyPrompt(prompt, prompt.getFiles().subList(0, middle), prompt.getRules()),
+                    copyPrompt(prompt, prompt.getFiles().subList(middle, prompt.getFiles().size()), prompt.getRules()));
+        } else {
+            int middle = prompt.getRules().size() / 2;
+            halves = Arrays.asList(
+                    copyPrompt(prompt, prompt.getFiles(), prompt.getRules().subList(0, middle)),
+                    copyPrompt(prompt, prompt.getFiles(), prompt.getRules().subList(middle, prompt.getRules().size())));
+        }
+        logger.info("Split review prompt {}. Files: {} + {}, Rules: {} + {}", prompt.getId(),
+                sizeOf(halves.get(0).getFiles()), sizeOf(halves.get(1).getFiles()),
+                sizeOf(halves.get(0).getRules()), sizeOf(halves.get(1).getRules()));
+        return halves;
+    }
+
+    private static ReviewPrompt copyPrompt(ReviewPrompt prompt, List<PromptFile> files, List<PromptRule> rules) {
+        return new ReviewPrompt()
+                .setId(prompt.getId())
+                .setFileGroupPromptTexts(prompt.getFileGroupPromptTexts())
+                .setReviewTargetPromptTexts(prompt.getReviewTargetPromptTexts())
+                .setReviewPromptTexts(prompt.getReviewPromptTexts())
+                .setSystemPromptTexts(prompt.getSystemPromptTexts())
+                .setRules(rules != null ? new ArrayList<>(rules) : null)
+                .setFiles(files != null ? new ArrayList<>(files) : null)
+                .setUseReasoning(prompt.getUseReasoning());
+    }
+
+    private static int sizeOf(List<?> list) {
+        return list != null ? list.size() : 0;
+    }
+
+    /**
+     * Merges the results of the halves of a split prompt. Comments of a file reviewed in both halves (rule batch split)
+     * are joined into one reviewed file, the token usage of all requests is summed.
+     */
+    private static ReviewedResultItem mergeResultItems(List<ReviewedResultItem> reviewedResultItems, ReviewedCompletionUsage truncatedUsage) {
+        Map<PromptFile, ReviewedFile> reviewedFileMap = new LinkedHashMap<>();
+        List<ThinkStep> thinkSteps = new ArrayList<>();
+        ReviewedCompletionUsage completionUsage = truncatedUsage;
+
+        for (ReviewedResultItem item : reviewedResultItems) {
+            if (item.getFiles() != null) {
+                for (ReviewedFile file : item.getFiles()) {
+                    ReviewedFile mergedFile = reviewedFileMap.get(file.getPromptFile());
+                    if (mergedFile == null) {
+                        reviewedFileMap.put(file.getPromptFile(), new ReviewedFile()
+                                .setPromptFile(file.getPromptFile())
+                                .setComments(new ArrayList<>(file.getComments() != null ? file.getComments() : Collections.emptyList()))
+                                .setReviewedThinkSteps(new ArrayList<>(file.getReviewedThinkSteps() != null ? file.getReviewedThinkSteps() : Collections.emptyList())));
+                    } else {
+                        if (file.getComments() != null) {
+                            mergedFile.getComments().addAll(file.getComments());
+                        }
+                        if (file.getReviewedThinkSteps() != null) {
+                            mergedFile.getReviewedThinkSteps().addAll(file.getReviewedThinkSteps());
+                        }
+                    }
+                }
+            }
+            if (item.getThinkSteps() != null) {
+                thinkSteps.addAll(item.getThinkSteps());
+            }
+            completionUsage = sumUsage(completionUsage, item.getCompletionUsage());
+        }
+
+        logger.info("Merged split review prompt results. Reviewed files: {}", reviewedFileMap.size());
+
+        return new ReviewedResultItem()
+                .setFiles(new ArrayList<>(reviewedFileMap.values()))
+                .setThinkSteps(thinkSteps)
+                .setCompletionUsage(completionUsage);
+    }
+
+    private static ReviewedCompletionUsage sumUsage(ReviewedCompletionUsage first, ReviewedCompletionUsage second) {
+        if (first == null) {
+            return second;
+        }
+        if (second == null) {
+            return first;
+        }
+        return new ReviewedCompletionUsage()
+                .setCompletionTokens(sum(first.getCompletionTokens(), second.getCompletionTokens()))
+                .setPromptTokens(sum(first.getPromptTokens(), second.getPromptTokens()))
+                .setTotalTokens(sum(first.getTotalTokens(), second.getTotalTokens()))
+                .setCachedPromptTokens(first.getCachedPromptTokens() == null && second.getCachedPromptTokens() == null
+                        ? null
+                        : sum(first.getCachedPromptTokens(), second.getCachedPromptTokens()));
+    }
+
+    private static Long sum(Long first, Long second) {
+        return (first != null ? first : 0L) + (second != null ? second : 0L);
+    }
+
+    private static ReviewedCompletionUsage toReviewedCompletionUsage(Optional<CompletionUsage> completionUsageOptional) {
+        return completionUsageOptional
+                .map(completionUsage -> new ReviewedCompletionUsage()
+                        .setCompletionTokens(completionUsage.completionTokens())
+                        .setPromptTokens(completionUsage.promptTokens())
+                        .setTotalTokens(completionUsage.totalTokens())
+                        .setCachedPromptTokens(completionUsage.promptTokensDetails()
+                                .flatMap(CompletionUsage.PromptTokensDetails::cachedTokens)
+                                .orElse(null)))
+                .orElse(null);
+    }
+
+    private LlmRequestRateLimiter.Reservation reserveRequest(ReviewPrompt prompt,
+                                                             LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                                             LlmClient llmClient,
+                                                             Instant deadline) {
+        if (llmRequestRateLimiter == null) {
+            return completionUsage -> {
+            };
+        }
+        return llmRequestRateLimiter.reserve(prompt, llmChatCompletionConfiguration, llmClient, deadline);
+    }
+
+    /**
+     * Limits the request to the time left until the review deadline, the HTTP call is closed when it expires.
+     * The timeout applies to each attempt of the client, so the time left is divided between the first attempt
+     * and the retries. Without a deadline the timeouts of the client apply.
+     */
+    private static RequestOptions createRequestOptions(LlmClient llmClient, Instant deadline) {
+        Duration remainingTimeout = LlmRequestDeadlineUtils.getRemainingTimeout(deadline);
+        if (remainingTimeout == null) {
+            return RequestOptions.none();
+        }
+        int maxRetries = llmClient.getMaxRetries() != null ? Math.max(0, llmClient.getMaxRetries()) : DEFAULT_CLIENT_MAX_RETRIES;
+        Duration attemptTimeout = remainingTimeout.dividedBy(maxRetries + 1);
+        logger.debug("LLM request timeout limited by the review deadline: {} ms per attempt, {} attempts", attemptTimeout.toMillis(), maxRetries + 1);
+        return RequestOptions.builder()
+                .timeout(attemptTimeout)
+                .build();
+    }
+
+    private LlmResponseCacheParameter getResponseCacheParameter() {
+        if (llmResponseCache == null || reviewRunContext == null) {
+            return null;
+        }
+        ReviewRunDetails reviewRunDetails = reviewRunContext.getRunDetails();
+        if (reviewRunDetails == null || reviewRunDetails.getPersistenceConfiguration() == null) {
+            return null;
+        }
+        return reviewRunDetails.getPersistenceConfiguration().getResponseCache();
+    }
+
+    /**
+     * The fingerprint of the request: SHA-256 of the client base URL, the chat completion configuration
+     * (including the model), the reasoning flag and the mapped messages.
+     */
+    private static String createCacheKey(LlmClient llmClient,
+                                         LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                         LlmMessages llmMessages,
+                                         Boolean useReasoning) {
+        try {
+            byte[] fingerprint = objectMapper.writeValueAsBytes(Arrays.asList(
+                    llmClient.getBaseUrl(),
+                    llmChatCompletionConfiguration,
+                    Boolean.TRUE.equals(useReasoning),
+                    llmMessages.getMessages()));
+            return HashUtils.sha256Hex(fingerprint);
+        } catch (JsonProcessingException e) {
+            throw new LLMCodeReviewRuntimeException("Failed to create the LLM response cache key: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * A cached response is mapped like a response of the LLM, without token usage as no request was sent.
+     */
+    private Optional<ReviewedResultItem> findCachedResultItem(ReviewPrompt prompt, String cacheKey, LlmResponseCacheParameter cacheParameter) {
+        Optional<String> cachedResponse = llmResponseCache.find(cacheKey, cacheParameter);
+        if (!cachedResponse.isPresent()) {
+            return Optional.empty();
+        }
+
+        Class<? extends LlmReviewResult> responseType = Boolean.TRUE.equals(prompt.getUseReasoning()) ? LlmReviewWithStepsResult.class : LlmReviewResult.class;
+        final List<? extends LlmReviewResult> llmReviewResults;
+        try {
+            llmReviewResults = objectMapper.readValue(cachedResponse.get(),
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, responseType));
+        } catch (JsonProcessingException e) {
+            logger.warn("Failed to read the cached LLM response, the request is sent: {}", e.getMessage());
+            return Optional.empty();
+        }
+
+        ReviewedResultItem reviewedResultItem = toReviewedResultItem(prompt, llmReviewResults, Optional.empty());
+        return Optional.of(reviewedResultItem.setCompletionUsage(new ReviewedCompletionUsage()
+                .setPromptTokens(0L)
+                .setCompletionTokens(0L)
+                .setTotalTokens(0L)));
+    }
+
+    private void putCachedResults(String cacheKey, List<? extends LlmReviewResult> llmReviewResults, LlmResponseCacheParameter cacheParameter) {
+        try {
+            llmResponseCache.put(cacheKey, objectMapper.writeValueAsString(llmReviewResults), cacheParameter);
+        } catch (JsonProcessingException e) {
+            logger.warn("Failed to cache the LLM response: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Files and rules are numbered by their position in the prompt instead of their database ids, which differ on every review.
+     * The same files and rules map to the same messages, so the response cache can match them. The ids of the response are
+     * mapped back to the prompt files and rules by {@link #toReviewedResultItem}.
+     */
+    private LlmMessages mapMessages(ReviewPrompt prompt, LlmMessagesMapperConfiguration messagesMapperConfiguration) {
+
         logger.info("Processing review prompt. Files: {}, Rules: {}",
                 prompt.getFiles() != null ? prompt.getFiles().size() : 0,
                 prompt.getRules() != null ? prompt.getRules().size() : 0);
@@ -65,23 +676,11 @@ public class LlmReviewProcessorImpl implements LlmReviewProcessor {
         LlmReviewPrompt llmReviewPrompt = new LlmReviewPrompt()
                 .setSystemPromptTexts(prompt.getSystemPromptTexts())
                 .setReviewPromptTexts(prompt.getReviewPromptTexts())
-                .setRules(prompt.getRules())
+                .setRules(toPositionalRules(prompt.getRules()))
                 .setReviewTargetPromptTexts(prompt.getReviewTargetPromptTexts())
                 .setFileGroupPromptTexts(prompt.getFileGroupPromptTexts())
-                .setFiles(promptFiles
-                        .stream()
-                        .map(file -> new LlmFile()
-                                .setId(file.getId())
-                                .setMetadata(new LlmFileMetadata()
-                                        .setFileName(file.getSourceFile().getFileName())
-                                        .setFileNameExtension(file.getSourceFile().getFileNameExtension())
-                                        .setFilePath(file.getSourceFile().getFilePath())
-                                        .setFileSize(file.getSourceFile().getSize())
-                                        .setAccessedAt(file.getSourceFile().getAccessedAt())
-                                        .setCreatedAt(file.getSourceFile().getCreatedAt())
-                                        .setModifiedAt(file.getSourceFile().getModifiedAt())
-                                )
-                                .setContent(new String(file.getSourceFile().getContent(), getCharset(file))))
+                .setFiles(IntStream.range(0, promptFiles.size())
+                        .mapToObj(index -> toLlmFile(promptFiles.get(index), toPositionalId(index)))
                         .collect(toList()));
 
         logger.debug("Mapped LlmReviewPrompt: files = {}, rules = {}",
@@ -92,10 +691,48 @@ public class LlmReviewProcessorImpl implements LlmReviewProcessor {
 
         logger.debug("Mapped {} LLM messages for chat completion.", llmMessages.getMessages().size());
 
-        if (llmMessages.getMessages().isEmpty()) {
-            logger.info("No LLM messages to process. Returning empty result.");
-            return new ReviewedResultItem().setFiles(Collections.emptyList());
+        return llmMessages;
+    }
+
+    private static LlmFile toLlmFile(PromptFile file, Long id) {
+        return new LlmFile()
+                .setId(id)
+                .setMetadata(new LlmFileMetadata()
+                        .setFileName(file.getSourceFile().getFileName())
+                        .setFileNameExtension(file.getSourceFile().getFileNameExtension())
+                        .setFilePath(file.getSourceFile().getFilePath())
+                        .setFileSize(file.getSourceFile().getSize())
+                        .setAccessedAt(file.getSourceFile().getAccessedAt())
+                        .setCreatedAt(file.getSourceFile().getCreatedAt())
+                        .setModifiedAt(file.getSourceFile().getModifiedAt())
+                )
+                .setContent(file.getSourceFile().getDiffHunks() != null
+                        ? UnifiedDiffUtils.toHunksContent(file.getSourceFile().getDiffHunks())
+                        : new String(file.getSourceFile().getContent(), getCharset(file)));
+    }
+
+    private static List<PromptRule> toPositionalRules(List<PromptRule> rules) {
+        if (rules == null) {
+            return null;
         }
+        return IntStream.range(0, rules.size())
+                .mapToObj(index -> {
+                    PromptRule rule = rules.get(index);
+                    return rule == null ? null : new PromptRule()
+                            .setRuleKey(new RuleKey(toPositionalId(index), rule.getRuleKey() != null ? rule.getRuleKey().getCode() : null))
+                            .setDescription(rule.getDescription())
+                            .setSeverity(rule.getSeverity());
+                })
+                .collect(toList());
+    }
+
+    private static Long toPositionalId(int index) {
+        return (long) index + 1;
+    }
+
+    private StructuredChatCompletionCreateParams<? extends LlmReviewResult> createParams(ReviewPrompt prompt,
+                                                                                         LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                                                                         LlmMessages llmMessages) {
 
         final ChatCompletionCreateParams.Builder chatCompletionCreateParamsBuilder = chatCompletionCreateParamsFactory
                 .create(llmChatCompletionConfiguration);
@@ -126,134 +763,140 @@ public class LlmReviewProcessorImpl implements LlmReviewProcessor {
 
         params = paramsBuilder.build();
 
-        OpenAIClient openAIClient = llmClient.getOpenAIClient();
+        return params;
+    }
 
-        try {
-            logger.info("Calling LLM Provider chat completion API.");
-            StructuredChatCompletion<? extends LlmReviewResult> chatCompletion = openAIClient
-                    .chat()
-                    .completions()
-                    .create(params);
-
-            logger.info("Calling LLM Provider chat completion API.");
-
-            logger.debug("Received {} chat completion choices(s) from LLM Provider.", chatCompletion.choices().size());
-
-            List<? extends LlmReviewResult> llmReviewResults = chatCompletion
-                    .choices()
-                    .stream()
-                    .map(StructuredChatCompletion.Choice::message)
-                    .map(StructuredChatCompletionMessage::content)
-                    .filter(Optional::isPresent)
-                    .map(Optional::get)
-                    .collect(toList());
-
-            logger.debug("Received {} review result(s) from LLM Provider.", llmReviewResults.size());
-
-            if (logger.isDebugEnabled()) {
-                try {
-                    logger.debug("llmReviewResults: {}", objectMapper.writeValueAsString(llmReviewResults));
-                } catch (Exception e) {
-                    logger.warn("Failed to serialize llmReviewResults for debug logging: {}", e.getMessage());
-                }
-            }
+    private static <T extends LlmReviewResult> StructuredChatCompletion<T> toStructuredChatCompletion(StructuredChatCompletionCreateParams<T> params,
+                                                                                                   ChatCompletion chatCompletion) {
+        return new StructuredChatCompletion<>(params.responseType(), chatCompletion);
+    }
+
+    private static List<? extends LlmReviewResult> getReviewResults(StructuredChatCompletion<? extends LlmReviewResult> chatCompletion) {
+        logger.debug("Received {} chat completion choices(s) from LLM Provider.", chatCompletion.choices().size());
+
+        List<? extends LlmReviewResult> llmReviewResults = chatCompletion
+                .choices()
+                .stream()
+                .map(StructuredChatCompletion.Choice::message)
+                .map(StructuredChatCompletionMessage::content)
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .collect(toList());
 
-            List<LlmReviewedFile> llmReviewedFiles = llmReviewResults
-                    .stream()
-                    .map(LlmReviewResult::getFiles)
-                    .flatMap(Collection::stream)
-                    .collect(toList());
+        logger.debug("Received {} review result(s) from LLM Provider.", llmReviewResults.size());
 
-            if (llmReviewedFiles.isEmpty()) {
-                logger.info("No reviewed files in LLM Provider response.");
-                return new ReviewedResultItem().setFiles(Collections.emptyList());
+        return llmReviewResults;
+    }
+
+    private ReviewedResultItem toReviewedResultItem(ReviewPrompt prompt,
+                                                    List<? extends LlmReviewResult> llmReviewResults,
+                                                    Optional<CompletionUsage> completionUsageOptional) {
+
+        if (logger.isDebugEnabled()) {
+            try {
+                logger.debug("llmReviewResults: {}", objectMapper.writeValueAsString(llmReviewResults));
+            } catch (Exception e) {
+                logger.warn("Failed to serialize llmReviewResults for debug logging: {}", e.getMessage());
             }
+        }
 
-            List<LlmReviewedFile> mergedFiles = mergeFiles(llmReviewedFiles);
-
-            logger.debug("Merged reviewed files: count = {}", mergedFiles.size());
-
-            Map<RuleKey, PromptRule> ruleMap = prompt.getRules()
-                    .stream()
-                    .filter(Objects::nonNull)
-                    .collect(Collectors.toMap(
-                            PromptRule::getRuleKey,
-                            rule -> rule,
-                            (r1, r2) -> r2 // if codes are the same, take the last one
-                    ));
-
-            Map<FileKey, PromptFile> fileMap = prompt.getFiles()
-                    .stream()
-                    .collect(Collectors.toMap(
-                            (PromptFile file) -> new FileKey(file.getId(), file.getSourceFile().getFileName()),
-                            file -> file,
-                            (fileOne, fileTwo) -> fileTwo // if keys are the same, take the last one
-                    ));
-
-            List<ThinkStep> thinkSteps = llmReviewResults.stream()
-                    .flatMap(this::getThinkSteps)
-                    .collect(toList());
-
-            Map<FileKey, List<ThinkStep>> fileKeyThinkStepMap = thinkSteps.stream()
-                    .filter(thinkStep -> thinkStep.getFileId() != null && thinkStep.getFileName() != null)
-                    .collect(Collectors.groupingBy(ts -> new FileKey(ts.getFileId(), ts.getFileName()), Collectors.toList()));
-
-            List<ReviewedFile> reviewedFiles = mergedFiles.stream()
-                    .map(file -> new ReviewedFile()
-                            .setPromptFile(fileMap.get(new FileKey(file.getFileId(), file.getFileName())))
-                            .setComments(file.getComments()
-                                    .stream()
-                                    .map(comment -> new ReviewedComment()
-                                            .setRule(getRule(comment, ruleMap))
-                                            .setRuleId(comment.getRuleId())
-                                            .setRuleCode(comment.getRuleCode())
-                                            .setLine(comment.getLine())
-                                            .setColumn(comment.getColumn())
-                                            .setMessage(comment.getMessage())
-                                            .setSuggestion(comment.getSuggestion()))
-                                    .collect(toList())
-                            )
-                            .setReviewedThinkSteps(getThinkSteps(file, fileKeyThinkStepMap))
-                    )
-                    .collect(toList());
-
-            Optional<CompletionUsage> completionUsageOptional = chatCompletion.usage();
-
-            completionUsageOptional.ifPresent(usage -> logger.info(
-                    "LLM Provider token usage - prompt: {}, completion: {}, total: {}",
-                    usage.promptTokens(),
-                    usage.completionTokens(),
-                    usage.totalTokens()
-            ));
-
-            logger.info("Processed review prompt successfully. Reviewed files: {}", reviewedFiles.size());
-
-            logger.debug("Think steps size: {}", thinkSteps.size());
-
-            ReviewedResultItem reviewedResultItem = new ReviewedResultItem()
-                    .setFiles(reviewedFiles)
-                    .setThinkSteps(thinkSteps)
-                    .setCompletionUsage(completionUsageOptional
-                            .map(completionUsage -> new ReviewedCompletionUsage()
-                                    .setCompletionTokens(completionUsage.completionTokens())
-                                    .setPromptTokens(completionUsage.promptTokens())
-                                    .setTotalTokens(completionUsage.totalTokens()))
-                            .orElse(null));
-
-            if (logger.isDebugEnabled()) {
-                try {
-                    String reviewedResultItemJson = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(reviewedResultItem);
-                    logger.debug("llmReviewResults received from chat completion:\n{}", reviewedResultItemJson);
-                } catch (JsonProcessingException e) {
-                    logger.trace("Failed to serialize llmReviewResults to JSON", e);
-                }
+        List<LlmReviewedFile> llmReviewedFiles = llmReviewResults
+                .stream()
+                .map(LlmReviewResult::getFiles)
+                .flatMap(Collection::stream)
+                .collect(toList());
+
+        if (llmReviewedFiles.isEmpty()) {
+            logger.info("No reviewed files in LLM Provider response.");
+            return new ReviewedResultItem().setFiles(Collections.emptyList());
+        }
+
+        List<LlmReviewedFile> mergedFiles = mergeFiles(llmReviewedFiles);
+
+        logger.debug("Merged reviewed files: count = {}", mergedFiles.size());
+
+        // The response refers to the files and rules by their position in the prompt, see mapMessages
+        List<PromptRule> promptRules = prompt.getRules() != null ? prompt.getRules() : Collections.emptyList();
+        Map<RuleKey, PromptRule> ruleMap = new HashMap<>();
+        for (int index = 0; index < promptRules.size(); index++) {
+            PromptRule rule = promptRules.get(index);
+            if (rule != null) {
+                // if codes are the same, take the last one
+                ruleMap.put(new RuleKey(toPositionalId(index), rule.getRuleKey() != null ? rule.getRuleKey().getCode() : null), rule);
             }
+        }
 
-            return reviewedResultItem;
-        } catch (Exception e) {
-            logger.error("LLM review processing failed: {}", e.getMessage(), e);
-            throw new LLMCodeReviewRuntimeException("Failed to process review prompt: " + e.getMessage(), e);
+        List<PromptFile> promptFiles = prompt.getFiles() != null ? prompt.getFiles() : Collections.emptyList();
+        Map<FileKey, PromptFile> fileMap = new HashMap<>();
+        for (int index = 0; index < promptFiles.size(); index++) {
+            PromptFile file = promptFiles.get(index);
+            // if keys are the same, take the last one
+            fileMap.put(new FileKey(toPositionalId(index), file.getSourceFile().getFileName()), file);
         }
+
+        List<ThinkStep> llmThinkSteps = llmReviewResults.stream()
+                .flatMap(this::getThinkSteps)
+                .collect(toList());
+
+        Map<FileKey, List<ThinkStep>> fileKeyThinkStepMap = llmThinkSteps.stream()
+                .filter(thinkStep -> thinkStep.getFileId() != null && thinkStep.getFileName() != null)
+                .collect(Collectors.groupingBy(ts -> new FileKey(ts.getFileId(), ts.getFileName()), Collectors.toList()));
+
+        List<ThinkStep> thinkSteps = llmThinkSteps.stream()
+                .map(thinkStep -> new ThinkStep()
+                        .setFileId(getFileId(thinkStep.getFileId(), thinkStep.getFileName(), fileMap))
+                        .setFileName(thinkStep.getFileName())
+                        .setRuleId(getRuleId(thinkStep.getRuleId(), thinkStep.getRuleCode(), ruleMap))
+                        .setRuleCode(thinkStep.getRuleCode())
+                        .setThinkText(thinkStep.getThinkText()))
+                .collect(toList());
+
+        List<ReviewedFile> reviewedFiles = mergedFiles.stream()
+                .map(file -> new ReviewedFile()
+                        .setPromptFile(fileMap.get(new FileKey(file.getFileId(), file.getFileName())))
+                        .setComments(file.getComments()
+                                .stream()
+                                .filter(comment -> isInDiffScope(comment, fileMap.get(new FileKey(file.getFileId(), file.getFileName()))))
+                                .map(comment -> new ReviewedComment()
+                                        .setRule(getRule(comment, ruleMap))
+                                        .setRuleId(getRuleId(comment.getRuleId(), comment.getRuleCode(), ruleMap))
+                                        .setRuleCode(comment.getRuleCode())
+                                        .setLine(comment.getLine())
+                                        .setColumn(comment.getColumn())
+                                        .setMessage(comment.getMessage())
+                                        .setSuggestion(comment.getSuggestion()))
+                                .collect(toList())
+                        )
+                        .setReviewedThinkSteps(getThinkSteps(file, fileKeyThinkStepMap, fileMap, ruleMap))
+                )
+                .collect(toList());
+
+        completionUsageOptional.ifPresent(usage -> logger.info(
+                "LLM Provider token usage - prompt: {}, completion: {}, total: {}",
+                usage.promptTokens(),
+                usage.completionTokens(),
+                usage.totalTokens()
+        ));
+
+        logger.info("Processed review prompt successfully. Reviewed files: {}", reviewedFiles.size());
+
+        logger.debug("Think steps size: {}", thinkSteps.size());
+
+        ReviewedResultItem reviewedResultItem = new ReviewedResultItem()
+                .setFiles(reviewedFiles)
+                .setThinkSteps(thinkSteps)
+                .setCompletionUsage(toReviewedCompletionUsage(completionUsageOptional));
+
+        if (logger.isDebugEnabled()) {
+            try {
+                String reviewedResultItemJson = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(reviewedResultItem);
+                logger.debug("llmReviewResults received from chat completion:\n{}", reviewedResultItemJson);
+            } catch (JsonProcessingException e) {
+                logger.trace("Failed to serialize llmReviewResults to JSON", e);
+            }
+        }
+
+        return reviewedResultItem;
     }
 
     private <T extends LlmReviewResult> Stream<ThinkStep> getThinkSteps(T llmReviewResult) {
@@ -265,22 +908,56 @@ public class LlmReviewProcessorImpl implements LlmReviewProcessor {
         }
     }
 
-    private static List<ReviewedThinkStep> getThinkSteps(LlmReviewedFile file, Map<FileKey, List<ThinkStep>> fileKeyThinkStepMap) {
+    private static List<ReviewedThinkStep> getThinkSteps(LlmReviewedFile file,
+                                                         Map<FileKey, List<ThinkStep>> fileKeyThinkStepMap,
+                                                         Map<FileKey, PromptFile> fileMap,
+                                                         Map<RuleKey, PromptRule> ruleMap) {
         List<ThinkStep> thinkSteps = fileKeyThinkStepMap.get(new FileKey(file.getFileId(), file.getFileName()));
         return thinkSteps != null ? thinkSteps.stream()
                 .map(thinkStep -> new ReviewedThinkStep()
-                        .setFileId(thinkStep.getFileId())
+                        .setFileId(getFileId(thinkStep.getFileId(), thinkStep.getFileName(), fileMap))
                         .setFileName(thinkStep.getFileName())
-                        .setRuleId(thinkStep.getRuleId())
+                        .setRuleId(getRuleId(thinkStep.getRuleId(), thinkStep.getRuleCode(), ruleMap))
                         .setRuleCode(thinkStep.getRuleCode())
                         .setThinkText(thinkStep.getThinkText()))
                 .collect(toList()) : Collections.emptyList();
     }
 
+    /**
+     * Comments of a diff scoped review are kept only on changed lines, the context lines are sent for
+     * understanding only. Comments without a line refer to the whole file and are kept.
+     */
+    private static boolean isInDiffScope(LlmReviewComment comment, PromptFile promptFile) {
+        if (comment.getLine() == null || promptFile == null || promptFile.getSourceFile().getDiffHunks() == null) {
+            return true;
+        }
+        boolean changedLine = UnifiedDiffUtils.isChangedLine(promptFile.getSourceFile().getDiffHunks(), comment.getLine());
+        if (!changedLine) {
+            logger.debug("Dropped comment on unchanged line {} of {}", comment.getLine(), promptFile.getSourceFile().getFilePath());
+        }
+        return changedLine;
+    }
+
     private static PromptRule getRule(LlmReviewComment comment, Map<RuleKey, PromptRule> ruleMap) {
         return ruleMap.get(new RuleKey(comment.getRuleId(), comment.getRuleCode()));
     }
 
+    /**
+     * @return the id of the prompt file at the position, {@code null} if the response refers to an unknown file
+     */
+    private static Long getFileId(Long positionalId, String fileName, Map<FileKey, PromptFile> fileMap) {
+        PromptFile file = fileMap.get(new FileKey(positionalId, fileName));
+        return file != null ? file.getId() : null;
+    }
+
+    /**
+     * @return the id of the prompt rule at the position, {@code null} if the response refers to an unknown rule
+     */
+    private static Long getRuleId(Long positionalId, String ruleCode, Map<RuleKey, PromptRule> ruleMap) {
+        PromptRule rule = ruleMap.get(new RuleKey(positionalId, ruleCode));
+        return rule != null && rule.getRuleKey() != null ? rule.getRuleKey().getId() : null;
+    }
+
     private static List<LlmReviewedFile> mergeFiles(List<LlmReviewedFile> files) {
         Objects.requireNonNull(files);
 
@@ -362,4 +1039,92 @@ public class LlmReviewProcessorImpl implements LlmReviewProcessor {
         String codePage = file.getSourceFile().getCodePage();
         return codePage != null && !codePage.trim().isEmpty() ? Charset.forName(codePage) : StandardCharsets.UTF_8;
     }
+
+    /**
+     * The review results, truncation and token usage of a chat completion, whether it was received at once or streamed.
+     */
+    private interface CompletionOutcome {
+        boolean isTruncated();
+
+        List<? extends LlmReviewResult> getReviewResults();
+
+        Optional<CompletionUsage> getUsage();
+    }
+
+    /**
+     * Collects a streamed chat completion. The content of each choice is parsed while it arrives, the finish reason and
+     * the token usage are taken from the chunks. The listener of the review run is captured on the calling thread,
+     * the chunks of an async stream are handled by the threads of the client. Each instance is a streamed response
+     * attempt of its own, the files it reports carry its attempt id.
+     */
+    private final class StreamedCompletion implements CompletionOutcome {
+        private final ReviewPrompt prompt;
+        private final Class<? extends LlmReviewResult> responseType;
+        private final ReviewResultListener reviewResultListener;
+        private final StreamedResponseAttempt attempt;
+        private final Map<Long, LlmReviewResultStreamParser> parsers = new TreeMap<>();
+        private boolean truncated;
+        private CompletionUsage usage;
+        private List<LlmReviewResult> reviewResults;
+
+        private StreamedCompletion(ReviewPrompt prompt, Class<? extends LlmReviewResult> responseType) {
+            this.prompt = prompt;
+            this.responseType = responseType;
+            this.reviewResultListener = Optional.ofNullable(reviewRunContext)
+                    .map(ReviewRunContext::getRunDetails)
+                    .map(ReviewRunDetails::getReviewResultListener)
+                    .orElse(null);
+            this.attempt = new StreamedResponseAttempt()
+                    .setPromptId(prompt.getId())
+                    .setAttemptId(UUID.randomUUID().toString());
+        }
+
+        private void onChunk(ChatCompletionChunk chunk) {
+            chunk.usage().ifPresent(chunkUsage -> usage = chunkUsage);
+            for (ChatCompletionChunk.Choice choice : chunk.choices()) {
+                choice.delta().content().ifPresent(content -> parsers
+                        .computeIfAbsent(choice.index(), index -> new LlmReviewResultStreamParserImpl(objectMapper, responseType, this::onReviewedFile))
+                        .feed(content));
+                if (choice.finishReason().filter(ChatCompletionChunk.Choice.FinishReason.LENGTH::equals).isPresent()) {
+                    truncated = true;
+                }
+            }
+        }
+
+        private void onReviewedFile(LlmReviewedFile llmReviewedFile) {
+            if (reviewResultListener != null) {
+                publishReviewedFile(prompt, llmReviewedFile, attempt, reviewResultListener);
+            }
+        }
+
+        @Override
+        public boolean isTruncated() {
+            return truncated;
+        }
+
+        /**
+         * The files finished before a truncated response was cut off are kept.
+         */
+        @Override
+        public List<? extends LlmReviewResult> getReviewResults() {
+            if (reviewResults == null) {
+                List<LlmReviewResult> results = new ArrayList<>();
+                for (LlmReviewResultStreamParser parser : parsers.values()) {
+                    LlmReviewResult reviewResult = parser.finish();
+                    if (reviewResult == null && !truncated) {
+                        throw new LLMCodeReviewRuntimeException("Streamed LLM response ended before the review result was complete");
+                    }
+                    results.add(reviewResult != null ? reviewResult : new LlmReviewResult().setFiles(new ArrayList<>(parser.getReviewedFiles())));
+                }
+                logger.debug("Received {} streamed review result(s) from LLM Provider.", results.size());
+                reviewResults = results;
+            }
+            return reviewResults;
+        }
+
+        @Override
+        public Optional<CompletionUsage> getUsage() {
+            return Optional.ofNullable(usage);
+        }
+    }
 }
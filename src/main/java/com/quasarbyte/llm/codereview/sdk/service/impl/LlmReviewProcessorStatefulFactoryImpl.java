@@ -3,6 +3,7 @@ package com.quasarbyte.llm.codereview.sdk.service.impl;
 import com.quasarbyte.llm.codereview.sdk.repository.InferenceRepository;
 import com.quasarbyte.llm.codereview.sdk.service.LlmReviewProcessor;
 import com.quasarbyte.llm.codereview.sdk.service.LlmReviewProcessorStatefulFactory;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultPublisher;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
 import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewedResultItemJsonMapper;
 
@@ -12,17 +13,19 @@ public class LlmReviewProcessorStatefulFactoryImpl implements LlmReviewProcessor
     private final LlmReviewProcessor llmReviewProcessor;
     private final ReviewRunContext reviewRunContext;
     private final ReviewedResultItemJsonMapper reviewedResultItemJsonMapper;
+    private final ReviewResultPublisher reviewResultPublisher;
 
-    public LlmReviewProcessorStatefulFactoryImpl(InferenceRepository inferenceRepository, LlmReviewProcessor llmReviewProcessor, ReviewRunContext reviewRunContext, ReviewedResultItemJsonMapper reviewedResultItemJsonMapper) {
+    public LlmReviewProcessorStatefulFactoryImpl(InferenceRepository inferenceRepository, LlmReviewProcessor llmReviewProcessor, ReviewRunContext reviewRunContext, ReviewedResultItemJsonMapper reviewedResultItemJsonMapper, ReviewResultPublisher reviewResultPublisher) {
         this.inferenceRepository = inferenceRepository;
         this.llmReviewProcessor = llmReviewProcessor;
         this.reviewRunContext = reviewRunContext;
         this.reviewedResultItemJsonMapper = reviewedResultItemJsonMapper;
+        this.reviewResultPublisher = reviewResultPublisher;
     }
 
     @Override
     public LlmReviewProcessor create() {
-        return new LlmReviewProcessorStatefulImpl(inferenceRepository, llmReviewProcessor, reviewRunContext, reviewedResultItemJsonMapper);
+        return new LlmReviewProcessorStatefulImpl(inferenceRepository, llmReviewProcessor, reviewRunContext, reviewedResultItemJsonMapper, reviewResultPublisher);
     }
 
 }
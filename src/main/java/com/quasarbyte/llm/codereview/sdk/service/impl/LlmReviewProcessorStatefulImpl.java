@@ -9,17 +9,25 @@ import com.quasarbyte.llm.codereview.sdk.model.db.InferenceStatusEnum;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
 import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedCompletionUsage;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedFile;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItemJson;
 import com.quasarbyte.llm.codereview.sdk.repository.InferenceRepository;
 import com.quasarbyte.llm.codereview.sdk.service.LlmReviewProcessor;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultPublisher;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
 import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewedResultItemJsonMapper;
+import com.quasarbyte.llm.codereview.sdk.service.util.CompletableFutureUtils;
+import com.quasarbyte.llm.codereview.sdk.service.util.HedgedRequestUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class LlmReviewProcessorStatefulImpl implements LlmReviewProcessor {
 
@@ -29,12 +37,14 @@ public class LlmReviewProcessorStatefulImpl implements LlmReviewProcessor {
     private final LlmReviewProcessor llmReviewProcessor;
     private final ReviewRunContext reviewRunContext;
     private final ReviewedResultItemJsonMapper reviewedResultItemJsonMapper;
+    private final ReviewResultPublisher reviewResultPublisher;
 
-    public LlmReviewProcessorStatefulImpl(InferenceRepository inferenceRepository, LlmReviewProcessor llmReviewProcessor, ReviewRunContext reviewRunContext, ReviewedResultItemJsonMapper reviewedResultItemJsonMapper) {
+    public LlmReviewProcessorStatefulImpl(InferenceRepository inferenceRepository, LlmReviewProcessor llmReviewProcessor, ReviewRunContext reviewRunContext, ReviewedResultItemJsonMapper reviewedResultItemJsonMapper, ReviewResultPublisher reviewResultPublisher) {
         this.inferenceRepository = inferenceRepository;
         this.llmReviewProcessor = llmReviewProcessor;
         this.reviewRunContext = reviewRunContext;
         this.reviewedResultItemJsonMapper = reviewedResultItemJsonMapper;
+        this.reviewResultPublisher = reviewResultPublisher;
     }
 
     @Override
@@ -43,35 +53,148 @@ public class LlmReviewProcessorStatefulImpl implements LlmReviewProcessor {
                                       LlmMessagesMapperConfiguration messagesMapperConfiguration,
                                       LlmClient llmClient) {
         ReviewRunDetails reviewRunDetails = Objects.requireNonNull(reviewRunContext.getRunDetails(), "reviewRunDetails cannot be null");
+
+        ReviewedResultItem reviewedResultItem = null;
+        Exception exception = null;
+
+        try {
+            if (hasOnlyCarriedForwardFiles(prompt)) {
+                reviewedResultItem = withCarriedForwardFiles(prompt, createEmptyResultItem());
+            } else {
+                reviewedResultItem = withCarriedForwardFiles(prompt,
+                        llmReviewProcessor.process(prompt, llmChatCompletionConfiguration, messagesMapperConfiguration, llmClient));
+            }
+        } catch (Exception e) {
+            exception = e;
+        }
+
+        final boolean cancelled = Thread.currentThread().isInterrupted();
+
+        if (isLosingHedgedRequest(exception, cancelled)) {
+            // The prompt keeps the single inference of the request that won the race
+            logger.debug("Request of hedged prompt id '{}' lost the race or was cancelled, its inference is not saved", prompt.getId());
+            if (exception != null) {
+                throw new LLMCodeReviewRuntimeException(String.format("Inference failed, error message: '%s'", exception.getMessage()), exception);
+            }
+            return reviewedResultItem;
+        }
+
+        // A cancelled inference is saved but not published, the dispatcher discards its result
+        return saveInference(reviewRunDetails, prompt, reviewedResultItem, exception, cancelled);
+    }
+
+    /**
+     * A successful request of a hedged prompt loses if the other request has already claimed the result,
+     * a failed one if it was cancelled or the other request has already succeeded.
+     */
+    private static boolean isLosingHedgedRequest(Exception exception, boolean cancelled) {
+        if (!HedgedRequestUtils.isHedged()) {
+            return false;
+        }
+        if (exception == null) {
+            return !HedgedRequestUtils.claimResult();
+        }
+        return cancelled || HedgedRequestUtils.isResultClaimed();
+    }
+
+    /**
+     * The review run details are taken from the calling thread, the inference is saved and published by the callback executor.
+     */
+    @Override
+    public CompletableFuture<ReviewedResultItem> processAsync(ReviewPrompt prompt,
+                                                              LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                                              LlmMessagesMapperConfiguration messagesMapperConfiguration,
+                                                              LlmClient llmClient,
+                                                              Executor callbackExecutor) {
+        ReviewRunDetails reviewRunDetails = Objects.requireNonNull(reviewRunContext.getRunDetails(), "reviewRunDetails cannot be null");
+        Objects.requireNonNull(callbackExecutor, "callbackExecutor cannot be null");
+
+        CompletableFuture<ReviewedResultItem> future;
+        try {
+            future = hasOnlyCarriedForwardFiles(prompt)
+                    ? CompletableFuture.completedFuture(createEmptyResultItem())
+                    : llmReviewProcessor.processAsync(prompt, llmChatCompletionConfiguration, messagesMapperConfiguration, llmClient, callbackExecutor);
+        } catch (RuntimeException e) {
+            future = CompletableFutureUtils.failedFuture(e);
+        }
+
+        return CompletableFutureUtils.propagateCancellation(future, future.handleAsync((reviewedResultItem, failure) -> {
+            if (failure instanceof CancellationException) {
+                logger.debug("Inference of prompt id '{}' was cancelled, it is not saved", prompt.getId());
+                throw (CancellationException) failure;
+            }
+            return saveInference(reviewRunDetails,
+                    prompt,
+                    failure == null ? withCarriedForwardFiles(prompt, reviewedResultItem) : reviewedResultItem,
+                    CompletableFutureUtils.unwrap(failure),
+                    false);
+        }, callbackExecutor));
+    }
+
+    /**
+     * A prompt of an incremental review whose files are all unchanged is not sent to the LLM.
+     */
+    private static boolean hasOnlyCarriedForwardFiles(ReviewPrompt prompt) {
+        return (prompt.getFiles() == null || prompt.getFiles().isEmpty())
+                && prompt.getCarriedForwardFiles() != null
+                && !prompt.getCarriedForwardFiles().isEmpty();
+    }
+
+    private static ReviewedResultItem createEmptyResultItem() {
+        return new ReviewedResultItem()
+                .setFiles(new ArrayList<>())
+                .setThinkSteps(new ArrayList<>())
+                .setCompletionUsage(new ReviewedCompletionUsage()
+                        .setPromptTokens(0L)
+                        .setCompletionTokens(0L)
+                        .setTotalTokens(0L));
+    }
+
+    /**
+     * Adds the carried forward results to the result of the changed files, they are saved and published together.
+     */
+    private static ReviewedResultItem withCarriedForwardFiles(ReviewPrompt prompt, ReviewedResultItem reviewedResultItem) {
+        if (reviewedResultItem == null || prompt.getCarriedForwardFiles() == null || prompt.getCarriedForwardFiles().isEmpty()) {
+            return reviewedResultItem;
+        }
+        List<ReviewedFile> files = new ArrayList<>();
+        if (reviewedResultItem.getFiles() != null) {
+            files.addAll(reviewedResultItem.getFiles());
+        }
+        files.addAll(prompt.getCarriedForwardFiles());
+        return reviewedResultItem.setFiles(files);
+    }
+
+    private ReviewedResultItem saveInference(ReviewRunDetails reviewRunDetails,
+                                             ReviewPrompt prompt,
+                                             ReviewedResultItem reviewedResultItem,
+                                             Throwable exception,
+                                             boolean cancelled) {
         Long reviewId = reviewRunDetails.getReviewId();
 
         boolean reviewIsNew = Objects.requireNonNull(reviewRunDetails.getReviewIsNew(), "reviewIsNew cannot be null");
 
-        ReviewedResultItem reviewedResultItem = null;
-        Exception exception = null;
         ReviewedResultItemJson reviewedResultItemJson;
         InferenceStatusEnum inferenceStatus;
 
-        try {
-            reviewedResultItem = llmReviewProcessor.process(prompt, llmChatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+        if (exception == null) {
             reviewedResultItemJson = reviewedResultItemJsonMapper.toJson(reviewedResultItem);
             inferenceStatus = InferenceStatusEnum.FINISHED;
-        } catch (Exception e) {
-            logger.error("Inference failed, error message: '{}'", e.getMessage(), e);
-            exception = e;
-            
+        } else {
+            logger.error("Inference failed, error message: '{}'", exception.getMessage(), exception);
+
             // Create minimal usage data for failed operations to maintain tracking
             ReviewedCompletionUsage failedUsage = new ReviewedCompletionUsage()
                     .setPromptTokens(0L)
                     .setCompletionTokens(0L)
                     .setTotalTokens(0L);
-            
+
             // Try to extract any partial token usage from the exception or other sources
             if (reviewedResultItem != null && reviewedResultItem.getCompletionUsage() != null) {
                 failedUsage = reviewedResultItem.getCompletionUsage();
                 logger.debug("Captured partial token usage from failed operation: {}", failedUsage);
             }
-            
+
             reviewedResultItemJson = new ReviewedResultItemJson()
                     .setCompletionUsage(failedUsage)
                     .setFiles(new ArrayList<>())
@@ -91,6 +214,11 @@ public class LlmReviewProcessorStatefulImpl implements LlmReviewProcessor {
         logger.debug("Inference saved for inference id '{}'", inferenceId);
 
         if (exception == null) {
+            if (cancelled) {
+                logger.debug("Inference id '{}' was cancelled, its result is not published", inferenceId);
+            } else {
+                reviewResultPublisher.publish(reviewedResultItem);
+            }
             return reviewedResultItem;
         } else {
             logger.error("Rethrowing exception, error message: '{}'", exception.getMessage(), exception);
@@ -0,0 +1,159 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmReviewResult;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmReviewedFile;
+import com.quasarbyte.llm.codereview.sdk.service.LlmReviewResultStreamParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Drives a non-blocking Jackson parser with the content deltas. The tokens of each element of the root {@code files}
+ * array are collected until the element is closed and then mapped, the other root fields (e.g. the think steps)
+ * are collected and mapped once the response is complete.
+ */
+public class LlmReviewResultStreamParserImpl implements LlmReviewResultStreamParser {
+
+    private static final Logger logger = LoggerFactory.getLogger(LlmReviewResultStreamParserImpl.class);
+
+    private static final String FILES_FIELD_NAME = "files";
+
+    private final ObjectMapper objectMapper;
+    private final Class<? extends LlmReviewResult> responseType;
+    private final Consumer<LlmReviewedFile> reviewedFileConsumer;
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final TokenBuffer rootTokens;
+    private final List<LlmReviewedFile> reviewedFiles = new ArrayList<>();
+
+    private TokenBuffer fileTokens;
+    private String rootFieldName;
+    private boolean inFiles;
+    private boolean complete;
+    private int depth;
+
+    /**
+     * @param reviewedFileConsumer receives each reviewed file as soon as it has been parsed
+     */
+    public LlmReviewResultStreamParserImpl(ObjectMapper objectMapper,
+                                           Class<? extends LlmReviewResult> responseType,
+                                           Consumer<LlmReviewedFile> reviewedFileConsumer) {
+        this.objectMapper = objectMapper;
+        this.responseType = responseType;
+        this.reviewedFileConsumer = reviewedFileConsumer;
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new LLMCodeReviewRuntimeException("Failed to create the streaming JSON parser: " + e.getMessage(), e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.rootTokens = new TokenBuffer(objectMapper, false);
+    }
+
+    @Override
+    public void feed(String content) {
+        if (content == null || content.isEmpty()) {
+            return;
+        }
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        try {
+            feeder.feedInput(bytes, 0, bytes.length);
+            parseAvailableTokens();
+        } catch (IOException e) {
+            throw new LLMCodeReviewRuntimeException("Failed to parse the streamed LLM response: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean isComplete() {
+        return complete;
+    }
+
+    @Override
+    public List<LlmReviewedFile> getReviewedFiles() {
+        return Collections.unmodifiableList(reviewedFiles);
+    }
+
+    @Override
+    public LlmReviewResult finish() {
+        feeder.endOfInput();
+        try {
+            parseAvailableTokens();
+        } catch (IOException e) {
+            // A truncated response ends in the middle of a value
+            logger.debug("Streamed LLM response is incomplete: {}", e.getMessage());
+        }
+
+        if (!complete) {
+            return null;
+        }
+
+        try {
+            LlmReviewResult reviewResult = objectMapper.readValue(rootTokens.asParser(objectMapper), responseType);
+            return reviewResult.setFiles(new ArrayList<>(reviewedFiles));
+        } catch (IOException e) {
+            throw new LLMCodeReviewRuntimeException("Failed to read the streamed LLM response: " + e.getMessage(), e);
+        }
+    }
+
+    private void parseAvailableTokens() throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (fileTokens != null) {
+                collectFileToken(token);
+            } else if (inFiles && depth == 2 && token == JsonToken.START_OBJECT) {
+                fileTokens = new TokenBuffer(objectMapper, false);
+                collectFileToken(token);
+            } else {
+                collectRootToken(token);
+            }
+        }
+    }
+
+    private void collectFileToken(JsonToken token) throws IOException {
+        fileTokens.copyCurrentEvent(parser);
+        updateDepth(token);
+        if (depth == 2) {
+            LlmReviewedFile reviewedFile = objectMapper.readValue(fileTokens.asParser(objectMapper), LlmReviewedFile.class);
+            fileTokens = null;
+            reviewedFiles.add(reviewedFile);
+            logger.debug("Parsed streamed review of file {} ({}).", reviewedFile.getFileId(), reviewedFile.getFileName());
+            reviewedFileConsumer.accept(reviewedFile);
+        }
+    }
+
+    private void collectRootToken(JsonToken token) throws IOException {
+        rootTokens.copyCurrentEvent(parser);
+        updateDepth(token);
+        if (depth == 1 && token == JsonToken.FIELD_NAME) {
+            rootFieldName = parser.currentName();
+        } else if (depth == 2 && token == JsonToken.START_ARRAY) {
+            inFiles = FILES_FIELD_NAME.equals(rootFieldName);
+        } else if (depth == 1 && token == JsonToken.END_ARRAY) {
+            inFiles = false;
+        } else if (depth == 0 && token == JsonToken.END_OBJECT) {
+            complete = true;
+        }
+    }
+
+    private void updateDepth(JsonToken token) {
+        if (token.isStructStart()) {
+            depth++;
+        } else if (token.isStructEnd()) {
+            depth--;
+        }
+    }
+}
@@ -2,34 +2,69 @@ package com.quasarbyte.llm.codereview.sdk.service.impl;
 
 import com.quasarbyte.llm.codereview.sdk.exception.*;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.FailedPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.HedgedRequest;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.AdaptiveConcurrencyParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.CircuitBreakerParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.DispatchMode;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.HedgingParameter;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmTokensQuota;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LoadBalancingStrategy;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ParallelExecutionParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.PromptSchedulingPolicy;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RetryParameter;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.TaskExecutorMode;
 import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
 import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilePath;
 import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilesRules;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedCompletionUsage;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
+import com.quasarbyte.llm.codereview.sdk.service.AdaptiveConcurrencyLimiter;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientCircuitBreaker;
 import com.quasarbyte.llm.codereview.sdk.service.LlmReviewProcessor;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerLatencyEwma;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerLeastOutstanding;
 import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRoundRobin;
 import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRandom;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerWeighted;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadTracker;
+import com.quasarbyte.llm.codereview.sdk.service.LlmRequestHedgingPolicy;
+import com.quasarbyte.llm.codereview.sdk.service.LlmRequestScheduler;
 import com.quasarbyte.llm.codereview.sdk.service.MultiThreadTaskDispatcher;
+import com.quasarbyte.llm.codereview.sdk.service.PromptRetryPolicy;
 import com.quasarbyte.llm.codereview.sdk.service.QuotaTracker;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewCancellationToken;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptCreator;
-import com.quasarbyte.llm.codereview.sdk.service.util.LlmTokensQuotaValidator;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptPipeline;
+import com.quasarbyte.llm.codereview.sdk.service.ThreadPerTaskExecutorFactory;
+import com.quasarbyte.llm.codereview.sdk.service.util.CompletableFutureUtils;
+import com.quasarbyte.llm.codereview.sdk.service.util.HedgedRequestUtils;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmRequestDeadlineUtils;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmServiceErrorUtils;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmTokenEstimator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
 
 public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher {
 
@@ -39,15 +74,46 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
     private final ReviewPromptCreator reviewPromptCreator;
     private final LlmClientLoadBalancerRoundRobin roundRobinLoadBalancer;
     private final LlmClientLoadBalancerRandom randomLoadBalancer;
+    private final LlmClientLoadBalancerLeastOutstanding leastOutstandingLoadBalancer;
+    private final LlmClientLoadBalancerLatencyEwma latencyEwmaLoadBalancer;
+    private final LlmClientLoadBalancerWeighted weightedLoadBalancer;
+    private final ThreadPerTaskExecutorFactory threadPerTaskExecutorFactory;
 
     public MultiThreadTaskDispatcherImpl(LlmReviewProcessor llmReviewProcessor, 
                                          ReviewPromptCreator reviewPromptCreator,
                                          LlmClientLoadBalancerRoundRobin roundRobinLoadBalancer,
                                          LlmClientLoadBalancerRandom randomLoadBalancer) {
+        this(llmReviewProcessor, reviewPromptCreator, roundRobinLoadBalancer, randomLoadBalancer,
+                new LlmClientLoadBalancerLeastOutstandingImpl(), new LlmClientLoadBalancerLatencyEwmaImpl(), new LlmClientLoadBalancerWeightedImpl());
+    }
+
+    public MultiThreadTaskDispatcherImpl(LlmReviewProcessor llmReviewProcessor,
+                                         ReviewPromptCreator reviewPromptCreator,
+                                         LlmClientLoadBalancerRoundRobin roundRobinLoadBalancer,
+                                         LlmClientLoadBalancerRandom randomLoadBalancer,
+                                         LlmClientLoadBalancerLeastOutstanding leastOutstandingLoadBalancer,
+                                         LlmClientLoadBalancerLatencyEwma latencyEwmaLoadBalancer,
+                                         LlmClientLoadBalancerWeighted weightedLoadBalancer) {
+        this(llmReviewProcessor, reviewPromptCreator, roundRobinLoadBalancer, randomLoadBalancer,
+                leastOutstandingLoadBalancer, latencyEwmaLoadBalancer, weightedLoadBalancer, new ThreadPerTaskExecutorFactoryImpl());
+    }
+
+    public MultiThreadTaskDispatcherImpl(LlmReviewProcessor llmReviewProcessor,
+                                         ReviewPromptCreator reviewPromptCreator,
+                                         LlmClientLoadBalancerRoundRobin roundRobinLoadBalancer,
+                                         LlmClientLoadBalancerRandom randomLoadBalancer,
+                                         LlmClientLoadBalancerLeastOutstanding leastOutstandingLoadBalancer,
+                                         LlmClientLoadBalancerLatencyEwma latencyEwmaLoadBalancer,
+                                         LlmClientLoadBalancerWeighted weightedLoadBalancer,
+                                         ThreadPerTaskExecutorFactory threadPerTaskExecutorFactory) {
         this.llmReviewProcessor = llmReviewProcessor;
         this.reviewPromptCreator = reviewPromptCreator;
         this.roundRobinLoadBalancer = roundRobinLoadBalancer;
         this.randomLoadBalancer = randomLoadBalancer;
+        this.leastOutstandingLoadBalancer = leastOutstandingLoadBalancer;
+        this.latencyEwmaLoadBalancer = latencyEwmaLoadBalancer;
+        this.weightedLoadBalancer = weightedLoadBalancer;
+        this.threadPerTaskExecutorFactory = threadPerTaskExecutorFactory;
     }
 
     @Override
@@ -63,7 +129,7 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
 
         return processInternal(useReasoning, rulesBatches, resolvedFilePathBatches,
                 llmChatCompletionConfiguration, messagesMapperConfiguration,
-                llmClient, concurrency, null, executorService, null);
+                llmClient, new DispatchOptions(concurrency, executorService));
     }
 
     @Override
@@ -80,7 +146,8 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
 
         return processInternal(useReasoning, rulesBatches, resolvedFilePathBatches,
                 llmChatCompletionConfiguration, messagesMapperConfiguration,
-                llmClient, concurrency, null, executorService, tokensQuota);
+                llmClient, new DispatchOptions(concurrency, executorService)
+                        .setTokensQuota(tokensQuota));
     }
 
     @Override
@@ -97,7 +164,8 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
 
         return processInternal(useReasoning, rulesBatches, resolvedFilePathBatches,
                 llmChatCompletionConfiguration, messagesMapperConfiguration,
-                llmClient, concurrency, timeoutDuration, executorService, null);
+                llmClient, new DispatchOptions(concurrency, executorService)
+                        .setTimeoutDuration(timeoutDuration));
     }
 
     @Override
@@ -115,7 +183,9 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
 
         return processInternal(useReasoning, rulesBatches, resolvedFilePathBatches,
                 llmChatCompletionConfiguration, messagesMapperConfiguration,
-                llmClient, concurrency, timeoutDuration, executorService, tokensQuota);
+                llmClient, new DispatchOptions(concurrency, executorService)
+                        .setTimeoutDuration(timeoutDuration)
+                        .setTokensQuota(tokensQuota));
     }
 
     // New load balancing methods
@@ -133,7 +203,8 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
 
         return processInternalWithLoadBalancing(useReasoning, rulesBatches, resolvedFilePathBatches,
                 llmChatCompletionConfiguration, messagesMapperConfiguration,
-                llmClients, loadBalancingStrategy, concurrency, null, executorService, null);
+                llmClients, new DispatchOptions(concurrency, executorService)
+                        .setLoadBalancingStrategy(loadBalancingStrategy));
     }
 
     @Override
@@ -151,7 +222,9 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
 
         return processInternalWithLoadBalancing(useReasoning, rulesBatches, resolvedFilePathBatches,
                 llmChatCompletionConfiguration, messagesMapperConfiguration,
-                llmClients, loadBalancingStrategy, concurrency, timeoutDuration, executorService, null);
+                llmClients, new DispatchOptions(concurrency, executorService)
+                        .setLoadBalancingStrategy(loadBalancingStrategy)
+                        .setTimeoutDuration(timeoutDuration));
     }
 
     @Override
@@ -169,7 +242,9 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
 
         return processInternalWithLoadBalancing(useReasoning, rulesBatches, resolvedFilePathBatches,
                 llmChatCompletionConfiguration, messagesMapperConfiguration,
-                llmClients, loadBalancingStrategy, concurrency, null, executorService, tokensQuota);
+                llmClients, new DispatchOptions(concurrency, executorService)
+                        .setLoadBalancingStrategy(loadBalancingStrategy)
+                        .setTokensQuota(tokensQuota));
     }
 
     @Override
@@ -188,28 +263,162 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
 
         return processInternalWithLoadBalancing(useReasoning, rulesBatches, resolvedFilePathBatches,
                 llmChatCompletionConfiguration, messagesMapperConfiguration,
-                llmClients, loadBalancingStrategy, concurrency, timeoutDuration, executorService, tokensQuota);
+                llmClients, new DispatchOptions(concurrency, executorService)
+                        .setLoadBalancingStrategy(loadBalancingStrategy)
+                        .setTimeoutDuration(timeoutDuration)
+                        .setTokensQuota(tokensQuota));
     }
 
-    private List<ReviewedResultItem> processInternal(
+    @Override
+    public List<ReviewedResultItem> dispatch(
             Boolean useReasoning,
             List<List<Rule>> rulesBatches,
             List<List<ResolvedFilePath>> resolvedFilePathBatches,
             LlmChatCompletionConfiguration llmChatCompletionConfiguration,
             LlmMessagesMapperConfiguration messagesMapperConfiguration,
             LlmClient llmClient,
-            int concurrency,
+            ParallelExecutionParameter parallelExecutionParameter,
+            Duration timeoutDuration,
+            LlmTokensQuota tokensQuota) {
+
+        Objects.requireNonNull(parallelExecutionParameter, "parallelExecutionParameter must not be null");
+        Objects.requireNonNull(parallelExecutionParameter.getBatchSize(), "batchSize must not be null in parallelExecutionParameter");
+
+        final ReviewCancellationToken cancellationToken = parallelExecutionParameter.getCancellationToken();
+        final ReviewCancellationToken.Registration cancellationRegistration = registerCancellation(cancellationToken);
+        final ExecutorService threadPerTaskExecutorService = createThreadPerTaskExecutorService(parallelExecutionParameter);
+        final RequestFlow requestFlow = createRequestFlow(parallelExecutionParameter);
+
+        try {
+            return processInternal(useReasoning, rulesBatches, resolvedFilePathBatches,
+                    llmChatCompletionConfiguration, messagesMapperConfiguration,
+                    llmClient, createDispatchOptions(parallelExecutionParameter, threadPerTaskExecutorService, requestFlow, timeoutDuration, tokensQuota));
+        } catch (RuntimeException e) {
+            throw toCancellationException(cancellationToken, e);
+        } finally {
+            unregisterCancellation(cancellationToken, cancellationRegistration);
+            if (threadPerTaskExecutorService != null) {
+                threadPerTaskExecutorService.shutdownNow();
+            }
+        }
+    }
+
+    @Override
+    public List<ReviewedResultItem> dispatch(
+            Boolean useReasoning,
+            List<List<Rule>> rulesBatches,
+            List<List<ResolvedFilePath>> resolvedFilePathBatches,
+            LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+            LlmMessagesMapperConfiguration messagesMapperConfiguration,
+            List<LlmClient> llmClients,
+            ParallelExecutionParameter parallelExecutionParameter,
             Duration timeoutDuration,
-            ExecutorService executorService,
             LlmTokensQuota tokensQuota) {
 
+        Objects.requireNonNull(parallelExecutionParameter, "parallelExecutionParameter must not be null");
+        Objects.requireNonNull(parallelExecutionParameter.getBatchSize(), "batchSize must not be null in parallelExecutionParameter");
+
+        final ReviewCancellationToken cancellationToken = parallelExecutionParameter.getCancellationToken();
+        final ReviewCancellationToken.Registration cancellationRegistration = registerCancellation(cancellationToken);
+        final ExecutorService threadPerTaskExecutorService = createThreadPerTaskExecutorService(parallelExecutionParameter);
+        final RequestFlow requestFlow = createRequestFlow(parallelExecutionParameter);
+
+        try {
+            return processInternalWithLoadBalancing(useReasoning, rulesBatches, resolvedFilePathBatches,
+                    llmChatCompletionConfiguration, messagesMapperConfiguration,
+                    llmClients, createDispatchOptions(parallelExecutionParameter, threadPerTaskExecutorService, requestFlow, timeoutDuration, tokensQuota));
+        } catch (RuntimeException e) {
+            throw toCancellationException(cancellationToken, e);
+        } finally {
+            unregisterCancellation(cancellationToken, cancellationRegistration);
+            if (threadPerTaskExecutorService != null) {
+                threadPerTaskExecutorService.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Interrupts the dispatching thread when the review is cancelled. On interruption the dispatch stops submitting prompts
+     * and cancels the tasks in flight: the interrupted workers and the cancelled futures of the review processor abort their
+     * HTTP calls. The inferences that already finished have been saved by the review processor.
+     */
+    private static ReviewCancellationToken.Registration registerCancellation(ReviewCancellationToken cancellationToken) {
+        if (cancellationToken == null) {
+            return null;
+        }
+        if (cancellationToken.isCancelled()) {
+            throw new TaskExecutorCancellationException("Review was cancelled before the dispatch started");
+        }
+        final Thread dispatchThread = Thread.currentThread();
+        return cancellationToken.onCancel(dispatchThread::interrupt);
+    }
+
+    private static void unregisterCancellation(ReviewCancellationToken cancellationToken, ReviewCancellationToken.Registration cancellationRegistration) {
+        if (cancellationRegistration == null) {
+            return;
+        }
+        cancellationRegistration.close();
+        if (cancellationToken.isCancelled()) {
+            // The interrupt was raised by the token, it must not leak into the work of the caller
+            Thread.interrupted();
+        }
+    }
+
+    private static RuntimeException toCancellationException(ReviewCancellationToken cancellationToken, RuntimeException e) {
+        if (cancellationToken == null || !cancellationToken.isCancelled() || e instanceof TaskExecutorCancellationException) {
+            return e;
+        }
+        logger.info("Dispatch stopped, the review was cancelled.");
+        return new TaskExecutorCancellationException("Review was cancelled: " + e.getMessage(), e);
+    }
+
+    private static DispatchOptions createDispatchOptions(ParallelExecutionParameter parallelExecutionParameter,
+                                                         ExecutorService threadPerTaskExecutorService,
+                                                         RequestFlow requestFlow,
+                                                         Duration timeoutDuration,
+                                                         LlmTokensQuota tokensQuota) {
+        return new DispatchOptions(parallelExecutionParameter.getBatchSize(),
+                threadPerTaskExecutorService != null ? threadPerTaskExecutorService : parallelExecutionParameter.getExecutorService())
+                .setDispatchMode(resolveDispatchMode(parallelExecutionParameter))
+                .setLoadBalancingStrategy(parallelExecutionParameter.getLoadBalancingStrategy())
+                .setPromptQueueCapacity(parallelExecutionParameter.getPromptQueueCapacity())
+                .setTimeoutDuration(timeoutDuration)
+                .setTokensQuota(tokensQuota)
+                .setAdaptiveConcurrency(parallelExecutionParameter.getAdaptiveConcurrency())
+                .setCircuitBreaker(parallelExecutionParameter.getCircuitBreaker())
+                .setHedging(parallelExecutionParameter.getHedging())
+                .setRetry(parallelExecutionParameter.getRetry())
+                .setSchedulingPolicy(parallelExecutionParameter.getSchedulingPolicy())
+                .setRequestFlow(requestFlow)
+                .setThreadPerTask(parallelExecutionParameter.getTaskExecutorMode() == TaskExecutorMode.VIRTUAL_THREAD_PER_TASK);
+    }
+
+    private List<ReviewedResultItem> processInternal(
+            Boolean useReasoning,
+            List<List<Rule>> rulesBatches,
+            List<List<ResolvedFilePath>> resolvedFilePathBatches,
+            LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+            LlmMessagesMapperConfiguration messagesMapperConfiguration,
+            LlmClient llmClient,
+            DispatchOptions dispatchOptions) {
+
+        final int concurrency = dispatchOptions.concurrency;
+        final DispatchMode dispatchMode = dispatchOptions.dispatchMode;
+        final Duration timeoutDuration = dispatchOptions.timeoutDuration;
+        final ExecutorService executorService = dispatchOptions.executorService;
+        final LlmTokensQuota tokensQuota = dispatchOptions.tokensQuota;
+        final AdaptiveConcurrencyParameter adaptiveConcurrency = dispatchOptions.adaptiveConcurrency;
+
         Objects.requireNonNull(useReasoning, "useReasoning must not be null");
         Objects.requireNonNull(rulesBatches, "rulesBatches must not be null");
         Objects.requireNonNull(resolvedFilePathBatches, "resolvedFilePathBatches must not be null");
         Objects.requireNonNull(llmChatCompletionConfiguration, "llmChatCompletionConfiguration must not be null");
         Objects.requireNonNull(messagesMapperConfiguration, "messagesMapperConfiguration must not be null");
         Objects.requireNonNull(llmClient, "llmClient must not be null");
-        Objects.requireNonNull(executorService, "executorService must not be null");
+        Objects.requireNonNull(dispatchMode, "dispatchMode must not be null");
+        if (dispatchMode != DispatchMode.ASYNC) {
+            Objects.requireNonNull(executorService, "executorService must not be null");
+        }
 
         if (concurrency < 1) {
             throw new LLMCodeReviewRuntimeException("Thread count cannot be less than 1");
@@ -224,170 +433,65 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
         final QuotaTracker quotaTracker = new ThreadSafeQuotaTrackerImpl();
 
         String logMessage = timeoutDuration == null ?
-                "Starting multi-thread dispatch of {} file batches (concurrency = {}, no timeout)" :
-                "Starting multi-thread dispatch of {} file batches (concurrency = {}, timeout = {} ms)";
+                "Starting multi-thread dispatch of {} file batches (concurrency = {}, mode = {}, no timeout)" :
+                "Starting multi-thread dispatch of {} file batches (concurrency = {}, mode = {}, timeout = {} ms)";
 
         if (tokensQuota != null) {
             logMessage = logMessage.replace("dispatch", "dispatch with thread-safe token quota validation");
         }
 
         if (timeoutDuration == null) {
-            logger.info(logMessage, resolvedFilePathBatches.size(), concurrency);
+            logger.info(logMessage, resolvedFilePathBatches.size(), concurrency, dispatchMode);
         } else {
-            logger.info(logMessage, resolvedFilePathBatches.size(), concurrency, timeoutDuration.toMillis());
-        }
-
-        // Optional: warn if executorService may not have enough threads for desired concurrency
-        if (executorService instanceof ThreadPoolExecutor) {
-            int poolSize = ((ThreadPoolExecutor) executorService).getMaximumPoolSize();
-            if (poolSize < concurrency) {
-                logger.warn("Provided ExecutorService maximum pool size ({}) is less than requested concurrency ({})", poolSize, concurrency);
-            }
+            logger.info(logMessage, resolvedFilePathBatches.size(), concurrency, dispatchMode, timeoutDuration.toMillis());
         }
 
-        List<ReviewedResultItem> results = new ArrayList<>();
-        Instant startTime = Instant.now();
-
-        List<ResolvedFilesRules> resolvedFilesRulesList = new ArrayList<>();
+        warnIfPoolSmallerThanConcurrency(executorService, concurrency, dispatchMode);
 
-        if (rulesBatches.isEmpty()) {
-            logger.info("No rules batches provided. Each file batch will be processed with empty rule set.");
-            resolvedFilePathBatches.forEach(rfp ->
-                    resolvedFilesRulesList.add(new ResolvedFilesRules(rfp, Collections.emptyList()))
-            );
-        } else {
-            logger.info("Preparing Cartesian product of file batches and rule batches.");
-            resolvedFilePathBatches.forEach(rfp ->
-                    rulesBatches.forEach(ruleBatch ->
-                            resolvedFilesRulesList.add(new ResolvedFilesRules(rfp, ruleBatch))
-                    )
-            );
+        if (dispatchMode == DispatchMode.ASYNC && adaptiveConcurrency != null) {
+            throw new ValidationException("Adaptive concurrency is not supported in ASYNC dispatch mode, use SLIDING_WINDOW or remove adaptiveConcurrency");
         }
 
-        logger.info("Prepared {} ResolvedFilesRules batches for processing.", resolvedFilesRulesList.size());
-
-        final List<ReviewPrompt> reviewPrompts = reviewPromptCreator.create(resolvedFilesRulesList, useReasoning);
-
-        int totalBatches = (reviewPrompts.size() + concurrency - 1) / concurrency;
-
-        for (int i = 0, batchNum = 0; i < reviewPrompts.size(); i += concurrency, batchNum++) {
-
-            if (timeoutDuration != null) {
-                Duration elapsed = Duration.between(startTime, Instant.now());
-                Duration remaining = timeoutDuration.minus(elapsed);
-
-                if (remaining.isNegative() || remaining.isZero()) {
-                    logger.warn("Timeout reached before processing batch group #{} of {} batches.", batchNum, totalBatches);
-                    throw new TaskExecutorTimeoutException(
-                            String.format("Timeout after %d ms at batch group #%d of %d batches", timeoutDuration.toMillis(), batchNum, totalBatches)
-                    );
-                }
-            }
+        final Map<LlmClient, AdaptiveConcurrencyLimiter> adaptiveConcurrencyLimiters = adaptiveConcurrency != null ? new ConcurrentHashMap<>() : null;
 
-            logger.info("Processing parallel batch group #{} of {}", batchNum, totalBatches);
+        final PromptRetryPolicy retryPolicy = dispatchOptions.retry != null ? new PromptRetryPolicyImpl(dispatchOptions.retry) : null;
 
-            Instant batchStart = Instant.now();
+        Instant startTime = Instant.now();
+        // Passed down to each request as its timeout, a timed-out review does not leave HTTP calls running
+        final Instant deadline = timeoutDuration != null ? startTime.plus(timeoutDuration) : null;
 
-            List<ReviewPrompt> prompts = reviewPrompts.subList(i, Math.min(i + concurrency, reviewPrompts.size()));
-            List<Callable<ReviewedResultItem>> callables = new ArrayList<>();
+        final List<ReviewedResultItem> results;
+        final int totalPrompts;
 
-            // Prepare tasks for this batch group
-            for (int j = 0; j < prompts.size(); j++) {
-                final int batchIndex = i + j;
-                ReviewPrompt reviewPrompt = prompts.get(j);
-                callables.add(() -> {
-                    logger.debug("Processing batch #{} of {} batches, prompt id: {}", batchIndex, totalBatches, reviewPrompt.getId());
-
-                    // Pre-validation: Check if we've already exceeded quota before making LLM call
-                    if (tokensQuota != null) {
-                        ReviewedCompletionUsage currentUsage = quotaTracker.getCurrentUsage();
-                        LlmTokensQuotaValidator.validateTokenUsage(currentUsage, tokensQuota);
-                    }
+        try (ReviewPromptPipeline reviewPromptPipeline = createReviewPromptPipeline(
+                useReasoning, rulesBatches, resolvedFilePathBatches, resolvePromptQueueCapacity(dispatchOptions.promptQueueCapacity, concurrency),
+                dispatchOptions.schedulingPolicy, createDispatchThreadFactory(dispatchOptions, "review-prompt-producer-"))) {
 
-                    final ReviewedResultItem reviewedResultItem = llmReviewProcessor.process(
-                            reviewPrompt,
-                            llmChatCompletionConfiguration,
-                            messagesMapperConfiguration,
-                            llmClient);
+            totalPrompts = reviewPromptPipeline.size();
 
-                    if (tokensQuota != null) {
-                        // Thread-safe quota tracking after successful LLM call
-                        if (reviewedResultItem.getCompletionUsage() != null) {
-                            quotaTracker.addUsage(reviewedResultItem.getCompletionUsage());
-                        }
-                    }
+            final LlmClientSelector llmClientSelector = (excludedLlmClients, waitForAvailable) -> new LlmClientLease(llmClient, false, null);
 
-                    logger.debug("Processed batch #{} of {} batches, prompt id: {}", batchIndex, totalBatches, reviewPrompt.getId());
-                    return reviewedResultItem;
-                });
-            }
+            final TaskContext taskContext = new TaskContext(getTotalBatches(totalPrompts, concurrency), llmClientSelector,
+                    llmChatCompletionConfiguration, messagesMapperConfiguration, quotaTracker)
+                    .setTokensQuota(tokensQuota)
+                    .setAdaptiveConcurrencyLimiterProvider(createAdaptiveConcurrencyLimiterProvider(adaptiveConcurrencyLimiters, adaptiveConcurrency, concurrency))
+                    .setRequestFlow(dispatchOptions.requestFlow)
+                    .setDeadline(deadline);
 
-            // Submit tasks and collect results
-            List<Future<ReviewedResultItem>> futures;
-            try {
-                if (timeoutDuration != null) {
-                    Duration elapsed = Duration.between(startTime, Instant.now());
-                    Duration remaining = timeoutDuration.minus(elapsed);
-                    futures = executorService.invokeAll(callables, remaining.toMillis(), TimeUnit.MILLISECONDS);
-                } else {
-                    futures = executorService.invokeAll(callables);
-                }
-            } catch (InterruptedException e) {
-                logger.error("Batch group #{} of {} batches interrupted during invokeAll: {}", batchNum, totalBatches, e.getMessage());
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(String.format("Batch group #%d of %d batches interrupted", batchNum, totalBatches), e);
-            }
+            if (dispatchMode == DispatchMode.ASYNC) {
+                results = executeAsync(reviewPromptPipeline, createAsyncTaskFactory(taskContext), concurrency, timeoutDuration, startTime, retryPolicy,
+                        createDispatchThreadFactory(dispatchOptions, "llm-review-callback-"));
+            } else {
+                final TaskFactory taskFactory = createTaskFactory(taskContext);
 
-            // Collect results
-            for (int j = 0; j < futures.size(); j++) {
-                Future<ReviewedResultItem> future = futures.get(j);
-                Instant taskStart = Instant.now();
-                try {
-                    ReviewedResultItem result;
-                    if (timeoutDuration != null) {
-                        result = future.get(0, TimeUnit.MILLISECONDS); // 0 means 'if done'
-                    } else {
-                        result = future.get();
-                    }
-                    results.add(result);
-                    long taskDuration = Duration.between(taskStart, Instant.now()).toMillis();
-                    logger.info("Batch #{} of {} batches (parallel task in group {}) completed successfully. Duration: {} ms.", i + j, totalBatches, batchNum, taskDuration);
-                } catch (CancellationException e) {
-                    logger.warn("Batch #{} of {} batches was cancelled (possibly timed out)", i + j, totalBatches);
-                    // Cancel all remaining futures in this batch
-                    cancelRemainingFutures(futures, j);
-                    throw new TaskExecutorCancellationException(
-                            String.format("Batch #%d of %d batches was cancelled or timed out, error: '%s'", i + j, totalBatches, e.getMessage()), e
-                    );
-                } catch (TimeoutException e) {
-                    logger.error("Batch #{} of {} batches timed out", i + j, totalBatches);
-                    // Cancel all remaining futures in this batch
-                    cancelRemainingFutures(futures, j);
-                    throw new TaskExecutorTimeoutException(
-                            String.format("Batch #%d of %d batches timed out, error: '%s'", i + j, totalBatches, e.getMessage()), e
-                    );
-                } catch (ExecutionException e) {
-                    logger.error("Batch #{} of {} batches failed with exception: '{}'", i + j, totalBatches, e.getMessage(), e);
-                    // Cancel all remaining futures in this batch
-                    cancelRemainingFutures(futures, j);
-                    throw new TaskExecutorException(
-                            String.format("Batch #%d of %d batches failed: %s", i + j, totalBatches, e.getCause()), e.getCause());
-                } catch (InterruptedException e) {
-                    logger.error("Batch #{} of {} batches was interrupted: {}", i + j, totalBatches, e.getMessage());
-                    Thread.currentThread().interrupt();
-                    // Cancel all remaining futures in this batch
-                    cancelRemainingFutures(futures, j);
-                    throw new TaskExecutorInterruptedException(
-                            String.format("Batch #%d of %d batches was interrupted: %s", i + j, totalBatches, e.getMessage()), e);
-                }
+                results = executeTasks(reviewPromptPipeline, taskFactory, concurrency, dispatchMode, timeoutDuration, startTime, executorService, retryPolicy);
             }
-
-            long batchDuration = Duration.between(batchStart, Instant.now()).toMillis();
-            logger.info("Parallel batch group #{} of {} batches ({} tasks) completed. Duration: {} ms.", batchNum, totalBatches, prompts.size(), batchDuration);
         }
 
         long totalDuration = Duration.between(startTime, Instant.now()).toMillis();
 
+        logAdaptiveConcurrencyLimits(adaptiveConcurrencyLimiters);
+
         // Log final quota usage if quota tracking was enabled
         if (tokensQuota != null) {
             ReviewedCompletionUsage finalUsage = quotaTracker.getCurrentUsage();
@@ -396,9 +500,10 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
         }
 
         logger.info(
-                "All batches processed successfully. Total batches: {}. Total prompts: {}. Total reviewed: {}. Total duration: {} ms.",
-                totalBatches,
-                reviewPrompts.size(),
+                "All batches processed successfully. Mode: {}. Total batches: {}. Total prompts: {}. Total reviewed: {}. Total duration: {} ms.",
+                dispatchMode,
+                getTotalBatches(totalPrompts, concurrency),
+                totalPrompts,
                 results.size(),
                 totalDuration
         );
@@ -412,11 +517,14 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
             LlmChatCompletionConfiguration llmChatCompletionConfiguration,
             LlmMessagesMapperConfiguration messagesMapperConfiguration,
             List<LlmClient> llmClients,
-            LoadBalancingStrategy loadBalancingStrategy,
-            int concurrency,
-            Duration timeoutDuration,
-            ExecutorService executorService,
-            LlmTokensQuota tokensQuota) {
+            DispatchOptions dispatchOptions) {
+
+        final int concurrency = dispatchOptions.concurrency;
+        final DispatchMode dispatchMode = dispatchOptions.dispatchMode;
+        final Duration timeoutDuration = dispatchOptions.timeoutDuration;
+        final ExecutorService executorService = dispatchOptions.executorService;
+        final LlmTokensQuota tokensQuota = dispatchOptions.tokensQuota;
+        final AdaptiveConcurrencyParameter adaptiveConcurrency = dispatchOptions.adaptiveConcurrency;
 
         Objects.requireNonNull(useReasoning, "useReasoning must not be null");
         Objects.requireNonNull(rulesBatches, "rulesBatches must not be null");
@@ -424,7 +532,10 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
         Objects.requireNonNull(llmChatCompletionConfiguration, "llmChatCompletionConfiguration must not be null");
         Objects.requireNonNull(messagesMapperConfiguration, "messagesMapperConfiguration must not be null");
         Objects.requireNonNull(llmClients, "llmClients must not be null");
-        Objects.requireNonNull(executorService, "executorService must not be null");
+        Objects.requireNonNull(dispatchMode, "dispatchMode must not be null");
+        if (dispatchMode != DispatchMode.ASYNC) {
+            Objects.requireNonNull(executorService, "executorService must not be null");
+        }
 
         if (concurrency < 1) {
             throw new LLMCodeReviewRuntimeException("Thread count cannot be less than 1");
@@ -436,38 +547,147 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
         }
 
         // Default to ROUND_ROBIN if strategy is null
-        LoadBalancingStrategy strategy = loadBalancingStrategy != null ? loadBalancingStrategy : LoadBalancingStrategy.ROUND_ROBIN;
+        LoadBalancingStrategy strategy = dispatchOptions.loadBalancingStrategy != null ? dispatchOptions.loadBalancingStrategy : LoadBalancingStrategy.ROUND_ROBIN;
         
         // Create state for round-robin if needed
         final AtomicInteger roundRobinState = strategy == LoadBalancingStrategy.ROUND_ROBIN ? new AtomicInteger(0) : null;
 
+        // Create state for smooth weighted round-robin if needed
+        final Map<LlmClient, Long> weightedState = strategy == LoadBalancingStrategy.WEIGHTED ? new IdentityHashMap<>() : null;
+
+        warnIfMaxConcurrencySmallerThanConcurrency(llmClients, concurrency);
+
         // Initialize thread-safe quota tracker
         final QuotaTracker quotaTracker = new ThreadSafeQuotaTrackerImpl();
 
         String logMessage = timeoutDuration == null ?
-                "Starting multi-thread dispatch with load balancing of {} file batches (concurrency = {}, strategy = {}, clients = {}, no timeout)" :
-                "Starting multi-thread dispatch with load balancing of {} file batches (concurrency = {}, strategy = {}, clients = {}, timeout = {} ms)";
+                "Starting multi-thread dispatch with load balancing of {} file batches (concurrency = {}, mode = {}, strategy = {}, clients = {}, no timeout)" :
+                "Starting multi-thread dispatch with load balancing of {} file batches (concurrency = {}, mode = {}, strategy = {}, clients = {}, timeout = {} ms)";
 
         if (tokensQuota != null) {
             logMessage = logMessage.replace("dispatch", "dispatch with thread-safe token quota validation");
         }
 
         if (timeoutDuration == null) {
-            logger.info(logMessage, resolvedFilePathBatches.size(), concurrency, strategy, llmClients.size());
+            logger.info(logMessage, resolvedFilePathBatches.size(), concurrency, dispatchMode, strategy, llmClients.size());
         } else {
-            logger.info(logMessage, resolvedFilePathBatches.size(), concurrency, strategy, llmClients.size(), timeoutDuration.toMillis());
+            logger.info(logMessage, resolvedFilePathBatches.size(), concurrency, dispatchMode, strategy, llmClients.size(), timeoutDuration.toMillis());
         }
 
-        // Optional: warn if executorService may not have enough threads for desired concurrency
-        if (executorService instanceof ThreadPoolExecutor) {
-            int poolSize = ((ThreadPoolExecutor) executorService).getMaximumPoolSize();
-            if (poolSize < concurrency) {
-                logger.warn("Provided ExecutorService maximum pool size ({}) is less than requested concurrency ({})", poolSize, concurrency);
-            }
+        warnIfPoolSmallerThanConcurrency(executorService, concurrency, dispatchMode);
+
+        if (dispatchMode == DispatchMode.ASYNC && adaptiveConcurrency != null) {
+            throw new ValidationException("Adaptive concurrency is not supported in ASYNC dispatch mode, use SLIDING_WINDOW or remove adaptiveConcurrency");
+        }
+
+        final Map<LlmClient, AdaptiveConcurrencyLimiter> adaptiveConcurrencyLimiters = adaptiveConcurrency != null ? new ConcurrentHashMap<>() : null;
+
+        final PromptRetryPolicy retryPolicy = dispatchOptions.retry != null ? new PromptRetryPolicyImpl(dispatchOptions.retry) : null;
+
+        // Created up front for all clients, the map is only read by the workers
+        final Map<LlmClient, LlmClientCircuitBreaker> circuitBreakers = createCircuitBreakers(llmClients, dispatchOptions.circuitBreaker);
+        final int maxFailoverAttempts = resolveMaxFailoverAttempts(llmClients, dispatchOptions.circuitBreaker);
+
+        if (dispatchMode == DispatchMode.ASYNC && dispatchOptions.hedging != null) {
+            throw new ValidationException("Request hedging is not supported in ASYNC dispatch mode, use SLIDING_WINDOW or remove hedging");
         }
 
-        List<ReviewedResultItem> results = new ArrayList<>();
+        final LlmRequestHedgingPolicy hedgingPolicy = createHedgingPolicy(llmClients, dispatchOptions.hedging);
+
         Instant startTime = Instant.now();
+        // Passed down to each request as its timeout, a timed-out review does not leave HTTP calls running
+        final Instant deadline = timeoutDuration != null ? startTime.plus(timeoutDuration) : null;
+
+        // Tracks in-flight requests and latency per client for the load-aware strategies
+        final LlmClientLoadTracker loadTracker = new LlmClientLoadTrackerImpl();
+        final LlmClientAvailability clientAvailability = new LlmClientAvailability();
+
+        // Select LLM client using load balancer, selection and in-flight accounting are atomic so concurrent tasks do not pick the same idle client
+        final LlmClientSelector llmClientSelector = (excludedLlmClients, waitForAvailable) -> {
+            clientAvailability.lock.lock();
+            try {
+                List<LlmClient> availableClients = waitForAvailableLlmClients(llmClients, excludedLlmClients, circuitBreakers, loadTracker, clientAvailability, waitForAvailable);
+                if (availableClients.isEmpty()) {
+                    return null;
+                }
+                LlmClient llmClient = selectLlmClient(strategy, availableClients, roundRobinState, weightedState, loadTracker);
+                loadTracker.onRequestStarted(llmClient);
+                boolean trialCall = circuitBreakers != null && circuitBreakers.get(llmClient).onCallStarted();
+                return new LlmClientLease(llmClient, trialCall, clientAvailability);
+            } finally {
+                clientAvailability.lock.unlock();
+            }
+        };
+
+        // Hedged and primary requests of a hedged prompt run on their own threads, the worker waits for the first response.
+        // The threads inherit the review run context of the dispatching thread like the task threads.
+        final ExecutorService hedgingExecutorService = hedgingPolicy != null ? threadPerTaskExecutorFactory.create("llm-hedged-request-") : null;
+
+        final List<ReviewedResultItem> results;
+        final int totalPrompts;
+
+        try (ReviewPromptPipeline reviewPromptPipeline = createReviewPromptPipeline(
+                useReasoning, rulesBatches, resolvedFilePathBatches, resolvePromptQueueCapacity(dispatchOptions.promptQueueCapacity, concurrency),
+                dispatchOptions.schedulingPolicy, createDispatchThreadFactory(dispatchOptions, "review-prompt-producer-"))) {
+
+            totalPrompts = reviewPromptPipeline.size();
+
+            final TaskContext taskContext = new TaskContext(getTotalBatches(totalPrompts, concurrency), llmClientSelector,
+                    llmChatCompletionConfiguration, messagesMapperConfiguration, quotaTracker)
+                    .setTokensQuota(tokensQuota)
+                    .setAdaptiveConcurrencyLimiterProvider(createAdaptiveConcurrencyLimiterProvider(adaptiveConcurrencyLimiters, adaptiveConcurrency, concurrency))
+                    .setLoadTracker(loadTracker)
+                    .setCircuitBreakers(circuitBreakers, maxFailoverAttempts)
+                    .setHedging(hedgingPolicy, hedgingExecutorService)
+                    .setRequestFlow(dispatchOptions.requestFlow)
+                    .setDeadline(deadline);
+
+            if (dispatchMode == DispatchMode.ASYNC) {
+                results = executeAsync(reviewPromptPipeline, createAsyncTaskFactory(taskContext), concurrency, timeoutDuration, startTime, retryPolicy,
+                        createDispatchThreadFactory(dispatchOptions, "llm-review-callback-"));
+            } else {
+                final TaskFactory taskFactory = createTaskFactory(taskContext);
+
+                results = executeTasks(reviewPromptPipeline, taskFactory, concurrency, dispatchMode, timeoutDuration, startTime, executorService, retryPolicy);
+            }
+        } finally {
+            if (hedgingExecutorService != null) {
+                hedgingExecutorService.shutdownNow();
+            }
+        }
+
+        long totalDuration = Duration.between(startTime, Instant.now()).toMillis();
+
+        logAdaptiveConcurrencyLimits(adaptiveConcurrencyLimiters);
+        logClientLoads(llmClients, loadTracker);
+        logCircuitBreakerStates(llmClients, circuitBreakers);
+        logHedgingStatistics(hedgingPolicy);
+
+        // Log final quota usage if quota tracking was enabled
+        if (tokensQuota != null) {
+            ReviewedCompletionUsage finalUsage = quotaTracker.getCurrentUsage();
+            logger.info("Final cumulative token usage: completion={}, prompt={}, total={}",
+                    finalUsage.getCompletionTokens(), finalUsage.getPromptTokens(), finalUsage.getTotalTokens());
+        }
+
+        logger.info(
+                "All batches processed successfully with load balancing. Strategy: {}. Mode: {}. Total batches: {}. Total prompts: {}. Total reviewed: {}. Total duration: {} ms.",
+                strategy,
+                dispatchMode,
+                getTotalBatches(totalPrompts, concurrency),
+                totalPrompts,
+                results.size(),
+                totalDuration
+        );
+        return results;
+    }
+
+    private ReviewPromptPipeline createReviewPromptPipeline(Boolean useReasoning,
+                                                            List<List<Rule>> rulesBatches,
+                                                            List<List<ResolvedFilePath>> resolvedFilePathBatches,
+                                                            int promptQueueCapacity,
+                                                            PromptSchedulingPolicy schedulingPolicy,
+                                                            ThreadFactory producerThreadFactory) {
 
         List<ResolvedFilesRules> resolvedFilesRulesList = new ArrayList<>();
 
@@ -487,89 +707,704 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
 
         logger.info("Prepared {} ResolvedFilesRules batches for processing.", resolvedFilesRulesList.size());
 
-        final List<ReviewPrompt> reviewPrompts = reviewPromptCreator.create(resolvedFilesRulesList, useReasoning);
+        ReviewPromptPipeline reviewPromptPipeline = reviewPromptCreator.createPipeline(resolvedFilesRulesList, useReasoning, promptQueueCapacity, producerThreadFactory);
 
-        int totalBatches = (reviewPrompts.size() + concurrency - 1) / concurrency;
+        if (schedulingPolicy == null || schedulingPolicy == PromptSchedulingPolicy.PIPELINE_ORDER) {
+            return reviewPromptPipeline;
+        }
 
-        for (int i = 0, batchNum = 0; i < reviewPrompts.size(); i += concurrency, batchNum++) {
+        try {
+            return new ReviewPromptSchedulerImpl(schedulingPolicy).schedule(reviewPromptPipeline);
+        } catch (InterruptedException e) {
+            reviewPromptPipeline.close();
+            logger.error("Interrupted while building review prompts for scheduling: {}", e.getMessage());
+            Thread.currentThread().interrupt();
+            throw new TaskExecutorInterruptedException(
+                    String.format("Interrupted while building review prompts for scheduling: %s", e.getMessage()), e);
+        } catch (RuntimeException e) {
+            reviewPromptPipeline.close();
+            throw e;
+        }
+    }
 
-            if (timeoutDuration != null) {
-                Duration elapsed = Duration.between(startTime, Instant.now());
-                Duration remaining = timeoutDuration.minus(elapsed);
+    private TaskFactory createTaskFactory(TaskContext taskContext) {
 
-                if (remaining.isNegative() || remaining.isZero()) {
-                    logger.warn("Timeout reached before processing batch group #{} of {} batches.", batchNum, totalBatches);
-                    throw new TaskExecutorTimeoutException(
-                            String.format("Timeout after %d ms at batch group #%d of %d batches", timeoutDuration.toMillis(), batchNum, totalBatches)
-                    );
-                }
-            }
+        return (batchIndex, reviewPrompt) -> () -> {
+            logger.debug("Processing batch #{} of {} batches, prompt id: {}", batchIndex, taskContext.totalBatches, reviewPrompt.getId());
 
-            logger.info("Processing parallel batch group #{} of {}", batchNum, totalBatches);
+            // Reserves the estimated tokens before making LLM call, concurrent tasks cannot overshoot the quota
+            final ReviewedCompletionUsage reservedUsage = taskContext.tokensQuota != null
+                    ? taskContext.quotaTracker.reserve(estimateUsage(reviewPrompt, taskContext.llmChatCompletionConfiguration), taskContext.tokensQuota)
+                    : null;
 
-            Instant batchStart = Instant.now();
+            final LlmRequest llmRequest = llmClientLease -> processOnLlmClient(reviewPrompt, llmClientLease, taskContext);
 
-            List<ReviewPrompt> prompts = reviewPrompts.subList(i, Math.min(i + concurrency, reviewPrompts.size()));
-            List<Callable<ReviewedResultItem>> callables = new ArrayList<>();
+            // Clients that already failed this prompt, the failover attempts skip them
+            final List<LlmClient> failedLlmClients = new ArrayList<>();
 
-            // Prepare tasks for this batch group
-            for (int j = 0; j < prompts.size(); j++) {
-                final int batchIndex = i + j;
-                ReviewPrompt reviewPrompt = prompts.get(j);
-                callables.add(() -> {
-                    logger.debug("Processing batch #{} of {} batches, prompt id: {}", batchIndex, totalBatches, reviewPrompt.getId());
-
-                    // Pre-validation: Check if we've already exceeded quota before making LLM call
-                    if (tokensQuota != null) {
-                        ReviewedCompletionUsage currentUsage = quotaTracker.getCurrentUsage();
-                        LlmTokensQuotaValidator.validateTokenUsage(currentUsage, tokensQuota);
-                    }
+            ReviewedResultItem reviewedResultItem = null;
+            try {
+                // Waits for the turn of this review in the shared scheduler before a client is leased
+                if (taskContext.requestFlow != null) {
+                    taskContext.requestFlow.acquire(reviewPrompt);
+                }
 
-                    // Select LLM client using load balancer
-                    LlmClient selectedClient;
-                    if (strategy == LoadBalancingStrategy.ROUND_ROBIN) {
-                        selectedClient = roundRobinLoadBalancer.findLlmClient(llmClients, roundRobinState);
-                    } else {
-                        selectedClient = randomLoadBalancer.findLlmClient(llmClients);
+                try {
+                    boolean processed = false;
+                    while (!processed) {
+                        final LlmClientLease llmClientLease = taskContext.llmClientSelector.select(failedLlmClients, true);
+                        try {
+                            if (taskContext.hedgingPolicy == null) {
+                                reviewedResultItem = llmRequest.process(llmClientLease);
+                            } else {
+                                reviewedResultItem = processWithHedging(reviewPrompt, llmClientLease, failedLlmClients, taskContext.llmClientSelector, llmRequest,
+                                        taskContext.hedgingPolicy, taskContext.hedgingExecutorService, taskContext.tokensQuota != null ? taskContext.quotaTracker : null);
+                            }
+                            processed = true;
+                        } catch (RuntimeException | Error e) {
+                            // No failover once the review deadline has passed, the next client would not get any time left
+                            if (taskContext.circuitBreakers == null || failedLlmClients.size() >= taskContext.maxFailoverAttempts
+                                    || Thread.currentThread().isInterrupted() || !LlmServiceErrorUtils.isEndpointFailure(e, taskContext.deadline)) {
+                                throw e;
+                            }
+                            failedLlmClients.add(llmClientLease.llmClient);
+                            logger.warn("Prompt id {} failed on an LLM client, failover attempt {} of {}, error: '{}'",
+                                    reviewPrompt.getId(), failedLlmClients.size(), taskContext.maxFailoverAttempts, e.getMessage());
+                        }
                     }
+                } finally {
+                    if (taskContext.requestFlow != null) {
+                        taskContext.requestFlow.release();
+                    }
+                }
+            } finally {
+                if (reservedUsage != null) {
+                    // Replaces the estimate by the actual usage, a failed request releases its reservation
+                    taskContext.quotaTracker.reconcile(reservedUsage, reviewedResultItem != null ? reviewedResultItem.getCompletionUsage() : null);
+                }
+            }
 
-                    final ReviewedResultItem reviewedResultItem = llmReviewProcessor.process(
-                            reviewPrompt,
-                            llmChatCompletionConfiguration,
-                            messagesMapperConfiguration,
-                            selectedClient);
+            logger.debug("Processed batch #{} of {} batches, prompt id: {}", batchIndex, taskContext.totalBatches, reviewPrompt.getId());
+            return reviewedResultItem;
+        };
+    }
 
-                    if (tokensQuota != null) {
-                        // Thread-safe quota tracking after successful LLM call
-                        if (reviewedResultItem.getCompletionUsage() != null) {
-                            quotaTracker.addUsage(reviewedResultItem.getCompletionUsage());
-                        }
-                    }
+    /**
+     * Creates tasks that send the request without waiting for the response. The client is selected on the calling thread,
+     * the request outcome and the token usage are recorded when the response arrives. Failed requests are not sent to another client,
+     * use the retry queue for that.
+     */
+    private AsyncTaskFactory createAsyncTaskFactory(TaskContext taskContext) {
 
-                    logger.debug("Processed batch #{} of {} batches, prompt id: {}", batchIndex, totalBatches, reviewPrompt.getId());
-                    return reviewedResultItem;
-                });
-            }
+        return (batchIndex, reviewPrompt, callbackExecutor) -> {
+            logger.debug("Sending batch #{} of {} batches, prompt id: {}", batchIndex, taskContext.totalBatches, reviewPrompt.getId());
 
-            // Submit tasks and collect results
-            List<Future<ReviewedResultItem>> futures;
+            // Reserves the estimated tokens before making LLM call, concurrent tasks cannot overshoot the quota
+            final ReviewedCompletionUsage reservedUsage = taskContext.tokensQuota != null
+                    ? taskContext.quotaTracker.reserve(estimateUsage(reviewPrompt, taskContext.llmChatCompletionConfiguration), taskContext.tokensQuota)
+                    : null;
+
+            final LlmClientLease llmClientLease;
             try {
-                if (timeoutDuration != null) {
-                    Duration elapsed = Duration.between(startTime, Instant.now());
-                    Duration remaining = timeoutDuration.minus(elapsed);
-                    futures = executorService.invokeAll(callables, remaining.toMillis(), TimeUnit.MILLISECONDS);
-                } else {
-                    futures = executorService.invokeAll(callables);
+                if (taskContext.requestFlow != null) {
+                    taskContext.requestFlow.acquire(reviewPrompt);
                 }
-            } catch (InterruptedException e) {
-                logger.error("Batch group #{} of {} batches interrupted during invokeAll: {}", batchNum, totalBatches, e.getMessage());
-                Thread.currentThread().interrupt();
-                throw new RuntimeException(String.format("Batch group #%d of %d batches interrupted", batchNum, totalBatches), e);
+                try {
+                    llmClientLease = taskContext.llmClientSelector.select(Collections.emptyList(), true);
+                } catch (RuntimeException | Error e) {
+                    if (taskContext.requestFlow != null) {
+                        taskContext.requestFlow.release();
+                    }
+                    throw e;
+                }
+            } catch (RuntimeException | Error e) {
+                if (reservedUsage != null) {
+                    taskContext.quotaTracker.reconcile(reservedUsage, null);
+                }
+                throw e;
             }
+            final long requestStartNanos = System.nanoTime();
 
-            // Collect results
-            for (int j = 0; j < futures.size(); j++) {
+            CompletableFuture<ReviewedResultItem> future;
+            // The request is created on this thread, the taskContext.deadline only needs to be bound while it is sent
+            final Instant previousDeadline = LlmRequestDeadlineUtils.setDeadline(taskContext.deadline);
+            try {
+                future = llmReviewProcessor.processAsync(reviewPrompt, taskContext.llmChatCompletionConfiguration, taskContext.messagesMapperConfiguration,
+                        llmClientLease.llmClient, callbackExecutor);
+            } catch (RuntimeException | Error e) {
+                future = CompletableFutureUtils.failedFuture(e);
+            } finally {
+                LlmRequestDeadlineUtils.setDeadline(previousDeadline);
+            }
+
+            return CompletableFutureUtils.propagateCancellation(future, future.whenComplete((reviewedResultItem, failure) -> {
+                if (taskContext.requestFlow != null) {
+                    taskContext.requestFlow.release();
+                }
+                recordRequestOutcome(llmClientLease, System.nanoTime() - requestStartNanos,
+                        failure == null, CompletableFutureUtils.unwrap(failure), taskContext.deadline, taskContext.loadTracker, taskContext.circuitBreakers);
+
+                if (reservedUsage != null) {
+                    // Replaces the estimate by the actual usage, a failed request releases its reservation
+                    taskContext.quotaTracker.reconcile(reservedUsage, failure == null ? reviewedResultItem.getCompletionUsage() : null);
+                }
+
+                logger.debug("Processed batch #{} of {} batches, prompt id: {}", batchIndex, taskContext.totalBatches, reviewPrompt.getId());
+            }));
+        };
+    }
+
+    /**
+     * Estimates the usage of a prompt for the quota reservation: the prompt estimate plus {@code maxCompletionTokens},
+     * the completion tokens are not reserved if the completion is not limited.
+     */
+    private static ReviewedCompletionUsage estimateUsage(ReviewPrompt reviewPrompt, LlmChatCompletionConfiguration llmChatCompletionConfiguration) {
+        long promptTokens = LlmTokenEstimator.estimatePromptTokens(reviewPrompt);
+        long completionTokens = llmChatCompletionConfiguration != null && llmChatCompletionConfiguration.getMaxCompletionTokens() != null
+                ? llmChatCompletionConfiguration.getMaxCompletionTokens()
+                : 0;
+        return new ReviewedCompletionUsage()
+                .setPromptTokens(promptTokens)
+                .setCompletionTokens(completionTokens)
+                .setTotalTokens(promptTokens + completionTokens);
+    }
+
+    /**
+     * Sends a single request to the leased client and records its outcome in the load tracker and the circuit breaker.
+     * The request is limited to the time left until the review deadline.
+     */
+    private ReviewedResultItem processOnLlmClient(ReviewPrompt reviewPrompt,
+                                                  LlmClientLease llmClientLease,
+                                                  TaskContext taskContext) throws InterruptedException {
+
+        final LlmClient llmClient = llmClientLease.llmClient;
+        final long requestStartNanos = System.nanoTime();
+        boolean succeeded = false;
+        Throwable failure = null;
+        final Instant previousDeadline = LlmRequestDeadlineUtils.setDeadline(taskContext.deadline);
+
+        try {
+            final ReviewedResultItem reviewedResultItem;
+            if (taskContext.adaptiveConcurrencyLimiterProvider == null) {
+                reviewedResultItem = llmReviewProcessor.process(reviewPrompt, taskContext.llmChatCompletionConfiguration, taskContext.messagesMapperConfiguration, llmClient);
+            } else {
+                reviewedResultItem = processWithAdaptiveConcurrency(reviewPrompt, taskContext.llmChatCompletionConfiguration, taskContext.messagesMapperConfiguration,
+                        llmClient, taskContext.adaptiveConcurrencyLimiterProvider.apply(llmClient));
+            }
+            succeeded = true;
+            return reviewedResultItem;
+        } catch (RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            LlmRequestDeadlineUtils.setDeadline(previousDeadline);
+            recordRequestOutcome(llmClientLease, System.nanoTime() - requestStartNanos, succeeded, failure, taskContext.deadline,
+                    taskContext.loadTracker, taskContext.circuitBreakers);
+        }
+    }
+
+    private static void recordRequestOutcome(LlmClientLease llmClientLease,
+                                             long latencyNanos,
+                                             boolean succeeded,
+                                             Throwable failure,
+                                             Instant deadline,
+                                             LlmClientLoadTracker loadTracker,
+                                             Map<LlmClient, LlmClientCircuitBreaker> circuitBreakers) {
+        if (loadTracker == null) {
+            return;
+        }
+        final LlmClient llmClient = llmClientLease.llmClient;
+        final LlmClientAvailability clientAvailability = llmClientLease.clientAvailability;
+        clientAvailability.lock.lock();
+        try {
+            loadTracker.onRequestCompleted(llmClient, latencyNanos, succeeded);
+            if (circuitBreakers != null) {
+                if (succeeded) {
+                    circuitBreakers.get(llmClient).onSuccess(llmClientLease.trialCall);
+                } else {
+                    circuitBreakers.get(llmClient).onFailure(llmClientLease.trialCall, failure, deadline);
+                }
+            }
+            // Wakes up tasks waiting for a client below its maxConcurrency or with a closed circuit breaker
+            clientAvailability.changed.signalAll();
+        } finally {
+            clientAvailability.lock.unlock();
+        }
+    }
+
+    /**
+     * Sends the request to the leased client and, if it has not completed within the hedge delay, a duplicate request to another client.
+     * Returns the first successful response and cancels the other request.
+     */
+    private ReviewedResultItem processWithHedging(ReviewPrompt reviewPrompt,
+                                                  LlmClientLease primaryLease,
+                                                  List<LlmClient> failedLlmClients,
+                                                  LlmClientSelector llmClientSelector,
+                                                  LlmRequest llmRequest,
+                                                  LlmRequestHedgingPolicy hedgingPolicy,
+                                                  ExecutorService hedgingExecutorService,
+                                                  QuotaTracker quotaTracker) throws InterruptedException {
+
+        hedgingPolicy.onRequest();
+        final long hedgeDelayNanos = hedgingPolicy.getHedgeDelayNanos();
+        final long primaryStartNanos = System.nanoTime();
+
+        if (hedgeDelayNanos < 0) {
+            // Not enough latency samples to tell a slow request yet
+            ReviewedResultItem reviewedResultItem = llmRequest.process(primaryLease);
+            hedgingPolicy.onRequestSucceeded(System.nanoTime() - primaryStartNanos);
+            return reviewedResultItem;
+        }
+
+        final CompletionService<ReviewedResultItem> completionService = new ExecutorCompletionService<>(hedgingExecutorService);
+        // Shared by both requests, only the request claiming it saves the inference of the prompt
+        final AtomicBoolean resultClaim = new AtomicBoolean();
+        final Future<ReviewedResultItem> primaryFuture = completionService.submit(() -> processClaimingResult(llmRequest, primaryLease, resultClaim));
+        Future<ReviewedResultItem> hedgeFuture = null;
+        LlmClientLease hedgeLease = null;
+        long hedgeStartNanos = 0;
+
+        try {
+            Future<ReviewedResultItem> completedFuture = completionService.poll(hedgeDelayNanos, TimeUnit.NANOSECONDS);
+
+            if (completedFuture == null) {
+                if (hedgingPolicy.tryAcquireHedge()) {
+                    List<LlmClient> excludedLlmClients = new ArrayList<>(failedLlmClients);
+                    excludedLlmClients.add(primaryLease.llmClient);
+                    hedgeLease = llmClientSelector.select(excludedLlmClients, false);
+                    if (hedgeLease == null) {
+                        hedgingPolicy.releaseHedge();
+                    }
+                }
+                if (hedgeLease != null) {
+                    final LlmClientLease lease = hedgeLease;
+                    logger.debug("Prompt id {} has not completed within {} ms, sending a hedged request.",
+                            reviewPrompt.getId(), TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos));
+                    hedgeStartNanos = System.nanoTime();
+                    hedgeFuture = completionService.submit(() -> processClaimingResult(llmRequest, lease, resultClaim));
+                }
+                completedFuture = completionService.take();
+            }
+
+            Future<ReviewedResultItem> winnerFuture = completedFuture;
+            ReviewedResultItem reviewedResultItem;
+            try {
+                reviewedResultItem = completedFuture.get();
+            } catch (ExecutionException e) {
+                if (hedgeFuture == null) {
+                    throw rethrowFailure(e);
+                }
+                // One of both requests failed, the other one may still succeed
+                winnerFuture = completionService.take();
+                try {
+                    reviewedResultItem = winnerFuture.get();
+                } catch (ExecutionException otherException) {
+                    throw rethrowFailure(completedFuture == primaryFuture ? e : otherException);
+                }
+            }
+
+            final boolean hedgeWon = winnerFuture == hedgeFuture;
+            hedgingPolicy.onRequestSucceeded(System.nanoTime() - (hedgeWon ? hedgeStartNanos : primaryStartNanos));
+
+            if (hedgeFuture != null) {
+                Future<ReviewedResultItem> loserFuture = hedgeWon ? primaryFuture : hedgeFuture;
+                loserFuture.cancel(true);
+                hedgingPolicy.onHedgedRequestCompleted(createHedgedRequest(reviewPrompt, primaryLease, hedgeLease,
+                        hedgeDelayNanos, hedgeWon, loserFuture, quotaTracker));
+            }
+
+            return reviewedResultItem;
+        } finally {
+            // No-op after a successful response, otherwise stops the requests that are still in flight
+            primaryFuture.cancel(true);
+            if (hedgeFuture != null) {
+                hedgeFuture.cancel(true);
+            }
+        }
+    }
+
+    private static ReviewedResultItem processClaimingResult(LlmRequest llmRequest,
+                                                            LlmClientLease llmClientLease,
+                                                            AtomicBoolean resultClaim) throws InterruptedException {
+        final AtomicBoolean previousResultClaim = HedgedRequestUtils.setResultClaim(resultClaim);
+        try {
+            return llmRequest.process(llmClientLease);
+        } finally {
+            HedgedRequestUtils.setResultClaim(previousResultClaim);
+        }
+    }
+
+    private static HedgedRequest createHedgedRequest(ReviewPrompt reviewPrompt,
+                                                     LlmClientLease primaryLease,
+                                                     LlmClientLease hedgeLease,
+                                                     long hedgeDelayNanos,
+                                                     boolean hedgeWon,
+                                                     Future<ReviewedResultItem> loserFuture,
+                                                     QuotaTracker quotaTracker) {
+
+        ReviewedCompletionUsage wastedUsage = null;
+        if (loserFuture.isDone() && !loserFuture.isCancelled()) {
+            try {
+                wastedUsage = loserFuture.get().getCompletionUsage();
+            } catch (InterruptedException | ExecutionException e) {
+                // The loser failed, its usage is unknown
+            }
+        }
+
+        final HedgedRequest hedgedRequest = new HedgedRequest()
+                .setPromptId(reviewPrompt.getId())
+                .setPrimaryLlmClient(primaryLease.llmClient)
+                .setHedgeLlmClient(hedgeLease.llmClient)
+                .setHedgeDelayMillis(TimeUnit.NANOSECONDS.toMillis(hedgeDelayNanos))
+                .setHedgeWon(hedgeWon);
+
+        if (wastedUsage != null && wastedUsage.getTotalTokens() != null) {
+            if (quotaTracker != null) {
+                quotaTracker.addUsage(wastedUsage);
+            }
+            hedgedRequest.setWastedTokens(wastedUsage.getTotalTokens()).setWastedTokensEstimated(false);
+        } else {
+            hedgedRequest.setWastedTokens(LlmTokenEstimator.estimatePromptTokens(reviewPrompt)).setWastedTokensEstimated(true);
+        }
+
+        logger.debug("Hedged request of prompt id {} completed, hedge won: {}, wasted tokens: {} (estimated: {})",
+                hedgedRequest.getPromptId(), hedgeWon, hedgedRequest.getWastedTokens(), hedgedRequest.getWastedTokensEstimated());
+        return hedgedRequest;
+    }
+
+    private static RuntimeException rethrowFailure(ExecutionException e) throws InterruptedException {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        if (cause instanceof InterruptedException) {
+            throw (InterruptedException) cause;
+        }
+        throw new LLMCodeReviewRuntimeException(String.format("LLM request failed: %s", cause), cause);
+    }
+
+    /**
+     * Waits for a free slot of the client's adaptive limit and feeds the outcome of the request back to the limiter.
+     */
+    private ReviewedResultItem processWithAdaptiveConcurrency(ReviewPrompt reviewPrompt,
+                                                              LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                                              LlmMessagesMapperConfiguration messagesMapperConfiguration,
+                                                              LlmClient llmClient,
+                                                              AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter) throws InterruptedException {
+
+        final long startNanos = adaptiveConcurrencyLimiter.acquire();
+
+        final ReviewedResultItem reviewedResultItem;
+        try {
+            reviewedResultItem = llmReviewProcessor.process(reviewPrompt, llmChatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+        } catch (RuntimeException | Error e) {
+            adaptiveConcurrencyLimiter.onFailure(startNanos, e);
+            throw e;
+        }
+
+        adaptiveConcurrencyLimiter.onSuccess(startNanos);
+        return reviewedResultItem;
+    }
+
+    private LlmClient selectLlmClient(LoadBalancingStrategy strategy,
+                                      List<LlmClient> llmClients,
+                                      AtomicInteger roundRobinState,
+                                      Map<LlmClient, Long> weightedState,
+                                      LlmClientLoadTracker loadTracker) {
+        switch (strategy) {
+            case ROUND_ROBIN:
+                return roundRobinLoadBalancer.findLlmClient(llmClients, roundRobinState);
+            case LEAST_OUTSTANDING:
+                return leastOutstandingLoadBalancer.findLlmClient(llmClients, loadTracker);
+            case LATENCY_EWMA:
+                return latencyEwmaLoadBalancer.findLlmClient(llmClients, loadTracker);
+            case WEIGHTED:
+                return weightedLoadBalancer.findLlmClient(llmClients, weightedState);
+            default:
+                return randomLoadBalancer.findLlmClient(llmClients);
+        }
+    }
+
+    /**
+     * Returns the clients that are not excluded, below their maxConcurrency and with a circuit breaker letting requests through,
+     * waiting for a request to complete while no client is available unless {@code waitForAvailable} is {@code false}.
+     * Must be called while holding the lock of the client availability.
+     */
+    private static List<LlmClient> waitForAvailableLlmClients(List<LlmClient> llmClients,
+                                                              List<LlmClient> excludedLlmClients,
+                                                              Map<LlmClient, LlmClientCircuitBreaker> circuitBreakers,
+                                                              LlmClientLoadTracker loadTracker,
+                                                              LlmClientAvailability clientAvailability,
+                                                              boolean waitForAvailable) {
+        if (excludedLlmClients.isEmpty() && circuitBreakers == null && llmClients.stream().noneMatch(MultiThreadTaskDispatcherImpl::hasMaxConcurrency)) {
+            return llmClients;
+        }
+
+        while (true) {
+            List<LlmClient> availableClients = new ArrayList<>();
+            // Time until the first open circuit breaker lets a trial request through, 0 if none is open
+            long waitNanos = 0;
+
+            for (LlmClient llmClient : llmClients) {
+                if (excludedLlmClients.contains(llmClient)) {
+                    continue;
+                }
+                if (hasMaxConcurrency(llmClient) && loadTracker.getInFlight(llmClient) >= llmClient.getMaxConcurrency()) {
+                    continue;
+                }
+                if (circuitBreakers != null) {
+                    LlmClientCircuitBreaker circuitBreaker = circuitBreakers.get(llmClient);
+                    if (!circuitBreaker.isCallPermitted()) {
+                        long remainingOpenNanos = circuitBreaker.getRemainingOpenNanos();
+                        if (remainingOpenNanos > 0) {
+                            waitNanos = waitNanos == 0 ? remainingOpenNanos : Math.min(waitNanos, remainingOpenNanos);
+                        }
+                        continue;
+                    }
+                }
+                availableClients.add(llmClient);
+            }
+
+            if (!availableClients.isEmpty() || !waitForAvailable) {
+                return availableClients;
+            }
+
+            logger.debug("No LLM client available (maxConcurrency reached or circuit breaker open), waiting for a request to complete.");
+            try {
+                if (waitNanos > 0) {
+                    clientAvailability.changed.awaitNanos(waitNanos);
+                } else {
+                    clientAvailability.changed.await();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TaskExecutorInterruptedException("Interrupted while waiting for an available LLM client", e);
+            }
+        }
+    }
+
+    private static boolean hasMaxConcurrency(LlmClient llmClient) {
+        return llmClient.getMaxConcurrency() != null && llmClient.getMaxConcurrency() > 0;
+    }
+
+    private static void warnIfMaxConcurrencySmallerThanConcurrency(List<LlmClient> llmClients, int concurrency) {
+        long totalMaxConcurrency = 0;
+        for (LlmClient llmClient : llmClients) {
+            if (!hasMaxConcurrency(llmClient)) {
+                return;
+            }
+            totalMaxConcurrency += llmClient.getMaxConcurrency();
+        }
+        if (totalMaxConcurrency < concurrency) {
+            logger.warn("Total maxConcurrency of LLM clients ({}) is less than requested concurrency ({}), workers will wait for free clients",
+                    totalMaxConcurrency, concurrency);
+        }
+    }
+
+    private static Map<LlmClient, LlmClientCircuitBreaker> createCircuitBreakers(List<LlmClient> llmClients, CircuitBreakerParameter circuitBreaker) {
+        if (circuitBreaker == null) {
+            return null;
+        }
+        Map<LlmClient, LlmClientCircuitBreaker> circuitBreakers = new IdentityHashMap<>();
+        for (LlmClient llmClient : llmClients) {
+            circuitBreakers.put(llmClient, new LlmClientCircuitBreakerImpl(llmClient, circuitBreaker));
+        }
+        return circuitBreakers;
+    }
+
+    private static int resolveMaxFailoverAttempts(List<LlmClient> llmClients, CircuitBreakerParameter circuitBreaker) {
+        if (circuitBreaker == null) {
+            return 0;
+        }
+        int maxFailoverAttempts = Math.max(0, llmClients.size() - 1);
+        return circuitBreaker.getMaxFailoverAttempts() != null ? Math.min(circuitBreaker.getMaxFailoverAttempts(), maxFailoverAttempts) : maxFailoverAttempts;
+    }
+
+    private static LlmRequestHedgingPolicy createHedgingPolicy(List<LlmClient> llmClients, HedgingParameter hedging) {
+        if (hedging == null) {
+            return null;
+        }
+        LlmRequestHedgingPolicy hedgingPolicy = new LlmRequestHedgingPolicyImpl(hedging);
+        if (llmClients.size() < 2) {
+            logger.info("Hedging requires at least two LLM clients, hedged requests are disabled.");
+            return null;
+        }
+        return hedgingPolicy;
+    }
+
+    private static void logHedgingStatistics(LlmRequestHedgingPolicy hedgingPolicy) {
+        if (hedgingPolicy != null) {
+            logger.info("Hedging: {} hedged requests of {} requests, {} won by the hedged request, wasted tokens: {}",
+                    hedgingPolicy.getHedgedRequests(), hedgingPolicy.getRequests(), hedgingPolicy.getHedgeWins(), hedgingPolicy.getWastedTokens());
+        }
+    }
+
+    private static void logCircuitBreakerStates(List<LlmClient> llmClients, Map<LlmClient, LlmClientCircuitBreaker> circuitBreakers) {
+        if (circuitBreakers != null) {
+            List<String> states = new ArrayList<>();
+            llmClients.forEach(llmClient -> states.add(circuitBreakers.get(llmClient).getState().name()));
+            logger.info("Circuit breaker states per LLM client at the end of dispatch: {}", states);
+        }
+    }
+
+    private static void logClientLoads(List<LlmClient> llmClients, LlmClientLoadTracker loadTracker) {
+        for (int i = 0; i < llmClients.size(); i++) {
+            LlmClient llmClient = llmClients.get(i);
+            logger.info("LLM client #{}: {} successful requests, latency EWMA: {} ms",
+                    i, loadTracker.getCompletedRequests(llmClient), loadTracker.getLatencyEwmaMillis(llmClient));
+        }
+    }
+
+    private static Function<LlmClient, AdaptiveConcurrencyLimiter> createAdaptiveConcurrencyLimiterProvider(
+            Map<LlmClient, AdaptiveConcurrencyLimiter> adaptiveConcurrencyLimiters,
+            AdaptiveConcurrencyParameter adaptiveConcurrency,
+            int concurrency) {
+
+        if (adaptiveConcurrencyLimiters == null) {
+            return null;
+        }
+
+        // Fail fast on invalid parameters instead of failing inside the first task
+        new AdaptiveConcurrencyLimiterImpl(null, adaptiveConcurrency, concurrency);
+
+        return llmClient -> adaptiveConcurrencyLimiters.computeIfAbsent(llmClient,
+                client -> new AdaptiveConcurrencyLimiterImpl(client, adaptiveConcurrency, concurrency));
+    }
+
+    private static void logAdaptiveConcurrencyLimits(Map<LlmClient, AdaptiveConcurrencyLimiter> adaptiveConcurrencyLimiters) {
+        if (adaptiveConcurrencyLimiters != null) {
+            List<Integer> limits = new ArrayList<>();
+            adaptiveConcurrencyLimiters.values().forEach(limiter -> limits.add(limiter.getLimit()));
+            logger.info("Adaptive concurrency limits per LLM client at the end of dispatch: {}", limits);
+        }
+    }
+
+    private List<ReviewedResultItem> executeTasks(ReviewPromptPipeline reviewPromptPipeline,
+                                                  TaskFactory taskFactory,
+                                                  int concurrency,
+                                                  DispatchMode dispatchMode,
+                                                  Duration timeoutDuration,
+                                                  Instant startTime,
+                                                  ExecutorService executorService,
+                                                  PromptRetryPolicy retryPolicy) {
+        if (dispatchMode == DispatchMode.SLIDING_WINDOW) {
+            return executeInSlidingWindow(reviewPromptPipeline, new ExecutorTaskCompletionQueue(executorService, taskFactory),
+                    concurrency, timeoutDuration, startTime, retryPolicy);
+        } else {
+            return executeInBatchGroups(reviewPromptPipeline, taskFactory, concurrency, timeoutDuration, startTime, executorService, retryPolicy);
+        }
+    }
+
+    /**
+     * Sliding window of requests sent with the async client, no thread waits for a response.
+     * Responses are persisted and published by a single callback thread started from the calling thread,
+     * so it inherits the review run context and the data source of the review.
+     *
+     * @param callbackThreadFactory creates the callback thread, {@code null} for a daemon platform thread
+     */
+    private List<ReviewedResultItem> executeAsync(ReviewPromptPipeline reviewPromptPipeline,
+                                                  AsyncTaskFactory asyncTaskFactory,
+                                                  int concurrency,
+                                                  Duration timeoutDuration,
+                                                  Instant startTime,
+                                                  PromptRetryPolicy retryPolicy,
+                                                  ThreadFactory callbackThreadFactory) {
+
+        final ThreadPoolExecutor callbackExecutorService = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                callbackThreadFactory != null ? callbackThreadFactory : runnable -> {
+                    Thread thread = new Thread(runnable, "llm-review-callback");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        callbackExecutorService.prestartCoreThread();
+
+        try {
+            return executeInSlidingWindow(reviewPromptPipeline, new AsyncTaskCompletionQueue(asyncTaskFactory, callbackExecutorService),
+                    concurrency, timeoutDuration, startTime, retryPolicy);
+        } finally {
+            // Lets the callbacks of completed requests finish, requests still in flight have been cancelled
+            callbackExecutorService.shutdown();
+        }
+    }
+
+    private List<ReviewedResultItem> executeInBatchGroups(ReviewPromptPipeline reviewPromptPipeline,
+                                                          TaskFactory taskFactory,
+                                                          int concurrency,
+                                                          Duration timeoutDuration,
+                                                          Instant startTime,
+                                                          ExecutorService executorService,
+                                                          PromptRetryPolicy retryPolicy) {
+
+        final int totalTasks = reviewPromptPipeline.size();
+        final ReviewedResultItem[] results = new ReviewedResultItem[totalTasks];
+        final boolean[] failedTasks = new boolean[totalTasks];
+        final PriorityQueue<TaskAttempt> retryQueue = new PriorityQueue<>(TaskAttempt.READY_TIME_ORDER);
+
+        int totalBatches = getTotalBatches(totalTasks, concurrency);
+
+        for (int nextTaskIndex = 0, batchNum = 0; nextTaskIndex < totalTasks || !retryQueue.isEmpty(); ) {
+
+            if (timeoutDuration != null) {
+                Duration elapsed = Duration.between(startTime, Instant.now());
+                Duration remaining = timeoutDuration.minus(elapsed);
+
+                if (remaining.isNegative() || remaining.isZero()) {
+                    logger.warn("Timeout reached before processing batch group #{} of {} batches.", batchNum, totalBatches);
+                    throw new TaskExecutorTimeoutException(
+                            String.format("Timeout after %d ms at batch group #%d of %d batches", timeoutDuration.toMillis(), batchNum, totalBatches)
+                    );
+                }
+            }
+
+            // Retries that are due go first, the group is filled up with the next prompts
+            List<TaskAttempt> taskAttempts = new ArrayList<>();
+            while (taskAttempts.size() < concurrency && isRetryReady(retryQueue)) {
+                taskAttempts.add(retryQueue.poll());
+            }
+            while (taskAttempts.size() < concurrency && nextTaskIndex < totalTasks) {
+                // Take the prompts of this group from the pipeline, the producer keeps building the next ones meanwhile
+                taskAttempts.add(new TaskAttempt(nextTaskIndex, nextReviewPrompt(reviewPromptPipeline, nextTaskIndex), 1));
+                nextTaskIndex++;
+            }
+
+            if (taskAttempts.isEmpty()) {
+                waitForRetry(retryQueue, timeoutDuration, startTime);
+                continue;
+            }
+
+            logger.info("Processing parallel batch group #{} of {}", batchNum, totalBatches);
+
+            Instant batchStart = Instant.now();
+
+            List<Callable<ReviewedResultItem>> callables = new ArrayList<>();
+            for (TaskAttempt taskAttempt : taskAttempts) {
+                callables.add(taskFactory.create(taskAttempt.taskIndex, taskAttempt.reviewPrompt));
+            }
+
+            // Submit tasks and collect results
+            List<Future<ReviewedResultItem>> futures;
+            try {
+                if (timeoutDuration != null) {
+                    Duration elapsed = Duration.between(startTime, Instant.now());
+                    Duration remaining = timeoutDuration.minus(elapsed);
+                    futures = executorService.invokeAll(callables, remaining.toMillis(), TimeUnit.MILLISECONDS);
+                } else {
+                    futures = executorService.invokeAll(callables);
+                }
+            } catch (InterruptedException e) {
+                logger.error("Batch group #{} of {} batches interrupted during invokeAll: {}", batchNum, totalBatches, e.getMessage());
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(String.format("Batch group #%d of %d batches interrupted", batchNum, totalBatches), e);
+            }
+
+            // Collect results
+            for (int j = 0; j < futures.size(); j++) {
                 Future<ReviewedResultItem> future = futures.get(j);
+                TaskAttempt taskAttempt = taskAttempts.get(j);
+                int taskIndex = taskAttempt.taskIndex;
                 Instant taskStart = Instant.now();
                 try {
                     ReviewedResultItem result;
@@ -578,61 +1413,347 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
                     } else {
                         result = future.get();
                     }
-                    results.add(result);
+                    results[taskIndex] = result;
                     long taskDuration = Duration.between(taskStart, Instant.now()).toMillis();
-                    logger.info("Batch #{} of {} batches (parallel task in group {}) completed successfully. Duration: {} ms.", i + j, totalBatches, batchNum, taskDuration);
+                    logger.info("Batch #{} of {} batches (parallel task in group {}) completed successfully. Duration: {} ms.", taskIndex, totalBatches, batchNum, taskDuration);
                 } catch (CancellationException e) {
-                    logger.warn("Batch #{} of {} batches was cancelled (possibly timed out)", i + j, totalBatches);
+                    logger.warn("Batch #{} of {} batches was cancelled (possibly timed out)", taskIndex, totalBatches);
                     // Cancel all remaining futures in this batch
                     cancelRemainingFutures(futures, j);
                     throw new TaskExecutorCancellationException(
-                            String.format("Batch #%d of %d batches was cancelled or timed out, error: '%s'", i + j, totalBatches, e.getMessage()), e
+                            String.format("Batch #%d of %d batches was cancelled or timed out, error: '%s'", taskIndex, totalBatches, e.getMessage()), e
                     );
                 } catch (TimeoutException e) {
-                    logger.error("Batch #{} of {} batches timed out", i + j, totalBatches);
+                    logger.error("Batch #{} of {} batches timed out", taskIndex, totalBatches);
                     // Cancel all remaining futures in this batch
                     cancelRemainingFutures(futures, j);
                     throw new TaskExecutorTimeoutException(
-                            String.format("Batch #%d of %d batches timed out, error: '%s'", i + j, totalBatches, e.getMessage()), e
+                            String.format("Batch #%d of %d batches timed out, error: '%s'", taskIndex, totalBatches, e.getMessage()), e
                     );
                 } catch (ExecutionException e) {
-                    logger.error("Batch #{} of {} batches failed with exception: '{}'", i + j, totalBatches, e.getMessage(), e);
+                    if (retryPolicy != null) {
+                        // The other tasks of the group keep their results
+                        failedTasks[taskIndex] = handleFailedAttempt(taskAttempt, e.getCause(), retryQueue, retryPolicy, totalTasks);
+                        continue;
+                    }
+                    logger.error("Batch #{} of {} batches failed with exception: '{}'", taskIndex, totalBatches, e.getMessage(), e);
                     // Cancel all remaining futures in this batch
                     cancelRemainingFutures(futures, j);
                     throw new TaskExecutorException(
-                            String.format("Batch #%d of %d batches failed: %s", i + j, totalBatches, e.getCause()), e.getCause());
+                            String.format("Batch #%d of %d batches failed: %s", taskIndex, totalBatches, e.getCause()), e.getCause());
                 } catch (InterruptedException e) {
-                    logger.error("Batch #{} of {} batches was interrupted: {}", i + j, totalBatches, e.getMessage());
+                    logger.error("Batch #{} of {} batches was interrupted: {}", taskIndex, totalBatches, e.getMessage());
                     Thread.currentThread().interrupt();
                     // Cancel all remaining futures in this batch
                     cancelRemainingFutures(futures, j);
                     throw new TaskExecutorInterruptedException(
-                            String.format("Batch #%d of %d batches was interrupted: %s", i + j, totalBatches, e.getMessage()), e);
+                            String.format("Batch #%d of %d batches was interrupted: %s", taskIndex, totalBatches, e.getMessage()), e);
                 }
             }
 
             long batchDuration = Duration.between(batchStart, Instant.now()).toMillis();
-            logger.info("Parallel batch group #{} of {} batches ({} tasks) completed. Duration: {} ms.", batchNum, totalBatches, prompts.size(), batchDuration);
+            logger.info("Parallel batch group #{} of {} batches ({} tasks) completed. Duration: {} ms.", batchNum, totalBatches, callables.size(), batchDuration);
+            batchNum++;
         }
 
-        long totalDuration = Duration.between(startTime, Instant.now()).toMillis();
+        return collectResults(reviewPromptPipeline, results, failedTasks);
+    }
 
-        // Log final quota usage if quota tracking was enabled
-        if (tokensQuota != null) {
-            ReviewedCompletionUsage finalUsage = quotaTracker.getCurrentUsage();
-            logger.info("Final cumulative token usage: completion={}, prompt={}, total={}",
-                    finalUsage.getCompletionTokens(), finalUsage.getPromptTokens(), finalUsage.getTotalTokens());
+    /**
+     * Keeps exactly {@code concurrency} tasks in flight and submits the next task as soon as any of them completes.
+     * Results are returned in task order regardless of completion order.
+     */
+    private List<ReviewedResultItem> executeInSlidingWindow(ReviewPromptPipeline reviewPromptPipeline,
+                                                            TaskCompletionQueue completionService,
+                                                            int concurrency,
+                                                            Duration timeoutDuration,
+                                                            Instant startTime,
+                                                            PromptRetryPolicy retryPolicy) {
+
+        final int totalTasks = reviewPromptPipeline.size();
+        final ReviewedResultItem[] results = new ReviewedResultItem[totalTasks];
+        final boolean[] failedTasks = new boolean[totalTasks];
+        final Map<Future<ReviewedResultItem>, TaskAttempt> inFlight = new IdentityHashMap<>();
+        final PriorityQueue<TaskAttempt> retryQueue = new PriorityQueue<>(TaskAttempt.READY_TIME_ORDER);
+
+        int nextTaskIndex = 0;
+        int completed = 0;
+        int failed = 0;
+
+        try {
+            while (nextTaskIndex < totalTasks && inFlight.size() < concurrency) {
+                submitTaskAttempt(completionService, inFlight, new TaskAttempt(nextTaskIndex, nextReviewPrompt(reviewPromptPipeline, nextTaskIndex), 1));
+                nextTaskIndex++;
+            }
+
+            logger.info("Sliding window started: {} tasks in flight, {} tasks total.", inFlight.size(), totalTasks);
+
+            while (completed + failed < totalTasks) {
+                final Future<ReviewedResultItem> future;
+                try {
+                    future = pollCompletedTask(completionService, retryQueue, timeoutDuration, startTime);
+                } catch (InterruptedException e) {
+                    logger.error("Sliding window dispatch interrupted after {} of {} tasks: {}", completed, totalTasks, e.getMessage());
+                    Thread.currentThread().interrupt();
+                    throw new TaskExecutorInterruptedException(
+                            String.format("Sliding window dispatch interrupted after %d of %d tasks: %s", completed, totalTasks, e.getMessage()), e);
+                }
+
+                if (future == null) {
+                    // Otherwise the first queued retry is due
+                    if (timeoutDuration != null && isTimedOut(timeoutDuration, startTime)) {
+                        logger.warn("Timeout reached in sliding window after {} of {} tasks, {} tasks in flight.", completed, totalTasks, inFlight.size());
+                        throw new TaskExecutorTimeoutException(
+                                String.format("Timeout after %d ms, completed %d of %d tasks", timeoutDuration.toMillis(), completed, totalTasks));
+                    }
+                } else {
+                    final TaskAttempt taskAttempt = inFlight.remove(future);
+                    final int taskIndex = taskAttempt.taskIndex;
+
+                    try {
+                        results[taskIndex] = future.get();
+                        completed++;
+                        logger.info("Task #{} of {} tasks completed successfully ({} completed, {} in flight).", taskIndex, totalTasks, completed, inFlight.size());
+                    } catch (CancellationException e) {
+                        logger.warn("Task #{} of {} tasks was cancelled", taskIndex, totalTasks);
+                        throw new TaskExecutorCancellationException(
+                                String.format("Task #%d of %d tasks was cancelled, error: '%s'", taskIndex, totalTasks, e.getMessage()), e);
+                    } catch (ExecutionException e) {
+                        if (retryPolicy == null) {
+                            logger.error("Task #{} of {} tasks failed with exception: '{}'", taskIndex, totalTasks, e.getMessage(), e);
+                            throw new TaskExecutorException(
+                                    String.format("Task #%d of %d tasks failed: %s", taskIndex, totalTasks, e.getCause()), e.getCause());
+                        }
+                        // The other tasks keep running
+                        if (handleFailedAttempt(taskAttempt, e.getCause(), retryQueue, retryPolicy, totalTasks)) {
+                            failedTasks[taskIndex] = true;
+                            failed++;
+                        }
+                    } catch (InterruptedException e) {
+                        logger.error("Task #{} of {} tasks was interrupted: {}", taskIndex, totalTasks, e.getMessage());
+                        Thread.currentThread().interrupt();
+                        throw new TaskExecutorInterruptedException(
+                                String.format("Task #%d of %d tasks was interrupted: %s", taskIndex, totalTasks, e.getMessage()), e);
+                    }
+                }
+
+                // Retries that are due go first, the window is filled up with the next prompts
+                while (inFlight.size() < concurrency && isRetryReady(retryQueue)) {
+                    submitTaskAttempt(completionService, inFlight, retryQueue.poll());
+                }
+                while (inFlight.size() < concurrency && nextTaskIndex < totalTasks) {
+                    submitTaskAttempt(completionService, inFlight, new TaskAttempt(nextTaskIndex, nextReviewPrompt(reviewPromptPipeline, nextTaskIndex), 1));
+                    nextTaskIndex++;
+                }
+            }
+        } finally {
+            // No-op after a successful run, otherwise stops the requests that are still in flight
+            cancelFutures(inFlight);
         }
 
-        logger.info(
-                "All batches processed successfully with load balancing. Strategy: {}. Total batches: {}. Total prompts: {}. Total reviewed: {}. Total duration: {} ms.",
-                strategy,
-                totalBatches,
-                reviewPrompts.size(),
-                results.size(),
-                totalDuration
-        );
-        return results;
+        return collectResults(reviewPromptPipeline, results, failedTasks);
+    }
+
+    private static void submitTaskAttempt(TaskCompletionQueue completionService,
+                                          Map<Future<ReviewedResultItem>, TaskAttempt> inFlight,
+                                          TaskAttempt taskAttempt) {
+        inFlight.put(completionService.submit(taskAttempt.taskIndex, taskAttempt.reviewPrompt), taskAttempt);
+    }
+
+    /**
+     * Waits for the next completed task, or until the first queued retry is due or the timeout is reached.
+     *
+     * @return the completed task, or {@code null} if none completed in time
+     */
+    private static Future<ReviewedResultItem> pollCompletedTask(TaskCompletionQueue completionService,
+                                                                PriorityQueue<TaskAttempt> retryQueue,
+                                                                Duration timeoutDuration,
+                                                                Instant startTime) throws InterruptedException {
+        long waitNanos = Long.MAX_VALUE;
+        if (timeoutDuration != null) {
+            waitNanos = Math.max(0, timeoutDuration.minus(Duration.between(startTime, Instant.now())).toNanos());
+        }
+        if (!retryQueue.isEmpty()) {
+            waitNanos = Math.min(waitNanos, Math.max(0, retryQueue.peek().readyAtNanos - System.nanoTime()));
+        }
+
+        if (waitNanos == Long.MAX_VALUE) {
+            return completionService.take();
+        }
+        return waitNanos == 0 ? completionService.poll() : completionService.poll(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Puts a failed attempt back on the retry queue or reports the prompt as failed.
+     *
+     * @return {@code true} if the prompt is not retried anymore
+     */
+    private static boolean handleFailedAttempt(TaskAttempt taskAttempt,
+                                               Throwable failure,
+                                               PriorityQueue<TaskAttempt> retryQueue,
+                                               PromptRetryPolicy retryPolicy,
+                                               int totalTasks) {
+
+        if (retryPolicy.shouldRetry(taskAttempt.attempt, failure)) {
+            long backoffNanos = retryPolicy.getBackoffNanos(taskAttempt.attempt);
+            logger.warn("Task #{} of {} tasks failed on attempt {}, retrying in {} ms, error: '{}'",
+                    taskAttempt.taskIndex, totalTasks, taskAttempt.attempt, TimeUnit.NANOSECONDS.toMillis(backoffNanos), failure.getMessage());
+            retryQueue.add(new TaskAttempt(taskAttempt.taskIndex, taskAttempt.reviewPrompt, taskAttempt.attempt + 1, System.nanoTime() + backoffNanos));
+            return false;
+        }
+
+        logger.error("Task #{} of {} tasks failed after {} attempts, leaving it out of the review result, error: '{}'",
+                taskAttempt.taskIndex, totalTasks, taskAttempt.attempt, failure.getMessage(), failure);
+        retryPolicy.onPromptFailed(new FailedPrompt()
+                .setReviewPrompt(taskAttempt.reviewPrompt)
+                .setAttempts(taskAttempt.attempt)
+                .setFailure(failure));
+        return true;
+    }
+
+    private static boolean isRetryReady(PriorityQueue<TaskAttempt> retryQueue) {
+        return !retryQueue.isEmpty() && retryQueue.peek().readyAtNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Sleeps until the first queued retry is due, at most until the timeout is reached.
+     */
+    private static void waitForRetry(PriorityQueue<TaskAttempt> retryQueue, Duration timeoutDuration, Instant startTime) {
+        long waitNanos = Math.max(0, retryQueue.peek().readyAtNanos - System.nanoTime());
+        if (timeoutDuration != null) {
+            waitNanos = Math.min(waitNanos, Math.max(0, timeoutDuration.minus(Duration.between(startTime, Instant.now())).toNanos()));
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TaskExecutorInterruptedException("Interrupted while waiting for a prompt retry", e);
+        }
+    }
+
+    private static boolean isTimedOut(Duration timeoutDuration, Instant startTime) {
+        Duration remaining = timeoutDuration.minus(Duration.between(startTime, Instant.now()));
+        return remaining.isNegative() || remaining.isZero();
+    }
+
+    /**
+     * Returns the results of the prompts that did not fail, in the original prompt order.
+     */
+    private static List<ReviewedResultItem> collectResults(ReviewPromptPipeline reviewPromptPipeline, ReviewedResultItem[] results, boolean[] failedTasks) {
+        ReviewedResultItem[] ordered = new ReviewedResultItem[results.length];
+        boolean[] orderedFailed = new boolean[results.length];
+        for (int i = 0; i < results.length; i++) {
+            int resultIndex = reviewPromptPipeline.getResultIndex(i);
+            ordered[resultIndex] = results[i];
+            orderedFailed[resultIndex] = failedTasks[i];
+        }
+
+        List<ReviewedResultItem> collected = new ArrayList<>(results.length);
+        for (int i = 0; i < ordered.length; i++) {
+            if (!orderedFailed[i]) {
+                collected.add(ordered[i]);
+            }
+        }
+        return collected;
+    }
+
+    /**
+     * Takes the next prompt from the pipeline, waiting for the producer if it has not been built yet.
+     */
+    private static ReviewPrompt nextReviewPrompt(ReviewPromptPipeline reviewPromptPipeline, int taskIndex) {
+        try {
+            ReviewPrompt reviewPrompt = reviewPromptPipeline.next();
+            if (reviewPrompt == null) {
+                throw new LLMCodeReviewRuntimeException(
+                        String.format("Review prompt #%d of %d is missing", taskIndex, reviewPromptPipeline.size()));
+            }
+            return reviewPrompt;
+        } catch (InterruptedException e) {
+            logger.error("Interrupted while waiting for review prompt #{}: {}", taskIndex, e.getMessage());
+            Thread.currentThread().interrupt();
+            throw new TaskExecutorInterruptedException(
+                    String.format("Interrupted while waiting for review prompt #%d: %s", taskIndex, e.getMessage()), e);
+        }
+    }
+
+    private static int resolvePromptQueueCapacity(Integer promptQueueCapacity, int concurrency) {
+        return promptQueueCapacity != null ? promptQueueCapacity : 2 * concurrency;
+    }
+
+    private static int getTotalBatches(int taskCount, int concurrency) {
+        return (taskCount + concurrency - 1) / concurrency;
+    }
+
+    /**
+     * @return the executor of the dispatch if a thread per task is requested, otherwise {@code null}
+     */
+    private ExecutorService createThreadPerTaskExecutorService(ParallelExecutionParameter parallelExecutionParameter) {
+        if (parallelExecutionParameter.getTaskExecutorMode() != TaskExecutorMode.VIRTUAL_THREAD_PER_TASK
+                || resolveDispatchMode(parallelExecutionParameter) == DispatchMode.ASYNC) {
+            return null;
+        }
+        if (parallelExecutionParameter.getExecutorService() != null) {
+            logger.warn("executorService is ignored, tasks run on a new thread each (taskExecutorMode = {})", parallelExecutionParameter.getTaskExecutorMode());
+        }
+        if (!threadPerTaskExecutorFactory.isVirtual()) {
+            logger.warn("Virtual threads are not available on this Java runtime, tasks run on a new platform thread each");
+        }
+        return threadPerTaskExecutorFactory.create("llm-review-task-");
+    }
+
+    /**
+     * With {@link TaskExecutorMode#VIRTUAL_THREAD_PER_TASK} the prompt producer and the callback thread of a dispatch
+     * are created like its task threads, in the async dispatch mode too.
+     *
+     * @return the factory of the thread, or {@code null} for a daemon platform thread
+     */
+    private ThreadFactory createDispatchThreadFactory(DispatchOptions dispatchOptions, String threadNamePrefix) {
+        return dispatchOptions.threadPerTask ? threadPerTaskExecutorFactory.createThreadFactory(threadNamePrefix) : null;
+    }
+
+    /**
+     * @return the flow of this dispatch in the shared request scheduler, or {@code null} if no scheduler is set
+     */
+    private static RequestFlow createRequestFlow(ParallelExecutionParameter parallelExecutionParameter) {
+        if (parallelExecutionParameter.getRequestScheduler() == null) {
+            return null;
+        }
+        double weight = parallelExecutionParameter.getRequestSchedulingWeight() != null ? parallelExecutionParameter.getRequestSchedulingWeight() : 1.0;
+        if (!(weight > 0)) {
+            throw new ValidationException("requestSchedulingWeight must be greater than 0");
+        }
+        return new RequestFlow(parallelExecutionParameter.getRequestScheduler(), weight);
+    }
+
+    private static DispatchMode resolveDispatchMode(ParallelExecutionParameter parallelExecutionParameter) {
+        return parallelExecutionParameter.getDispatchMode() != null ? parallelExecutionParameter.getDispatchMode() : DispatchMode.BATCH_GROUP;
+    }
+
+    private static void warnIfPoolSmallerThanConcurrency(ExecutorService executorService, int concurrency, DispatchMode dispatchMode) {
+        if (dispatchMode == DispatchMode.ASYNC) {
+            // Requests do not hold a thread of the executorService
+            return;
+        }
+        // Optional: warn if executorService may not have enough threads for desired concurrency
+        if (executorService instanceof ThreadPoolExecutor) {
+            int poolSize = ((ThreadPoolExecutor) executorService).getMaximumPoolSize();
+            if (poolSize < concurrency) {
+                logger.warn("Provided ExecutorService maximum pool size ({}) is less than requested concurrency ({})", poolSize, concurrency);
+            }
+        }
+    }
+
+    /**
+     * Cancels all in-flight futures of the sliding window
+     */
+    private void cancelFutures(Map<Future<ReviewedResultItem>, TaskAttempt> inFlight) {
+        for (Map.Entry<Future<ReviewedResultItem>, TaskAttempt> entry : inFlight.entrySet()) {
+            if (!entry.getKey().isDone()) {
+                boolean cancelled = entry.getKey().cancel(true);
+                logger.debug("Cancelled in-flight task #{}: {}", entry.getValue().taskIndex, cancelled);
+            }
+        }
+        inFlight.clear();
     }
 
     /**
@@ -647,4 +1768,349 @@ public class MultiThreadTaskDispatcherImpl implements MultiThreadTaskDispatcher
             }
         }
     }
+
+    /**
+     * Options of one dispatch, the features left unset are disabled. Built from the arguments of the legacy overloads
+     * or from the {@link ParallelExecutionParameter}.
+     */
+    private static final class DispatchOptions {
+        private final int concurrency;
+        private final ExecutorService executorService;
+        private DispatchMode dispatchMode = DispatchMode.BATCH_GROUP;
+        private LoadBalancingStrategy loadBalancingStrategy;
+        private Integer promptQueueCapacity;
+        private Duration timeoutDuration;
+        private LlmTokensQuota tokensQuota;
+        private AdaptiveConcurrencyParameter adaptiveConcurrency;
+        private CircuitBreakerParameter circuitBreaker;
+        private HedgingParameter hedging;
+        private RetryParameter retry;
+        private PromptSchedulingPolicy schedulingPolicy;
+        private RequestFlow requestFlow;
+        private boolean threadPerTask;
+
+        private DispatchOptions(int concurrency, ExecutorService executorService) {
+            this.concurrency = concurrency;
+            this.executorService = executorService;
+        }
+
+        private DispatchOptions setDispatchMode(DispatchMode dispatchMode) {
+            this.dispatchMode = dispatchMode;
+            return this;
+        }
+
+        private DispatchOptions setLoadBalancingStrategy(LoadBalancingStrategy loadBalancingStrategy) {
+            this.loadBalancingStrategy = loadBalancingStrategy;
+            return this;
+        }
+
+        private DispatchOptions setPromptQueueCapacity(Integer promptQueueCapacity) {
+            this.promptQueueCapacity = promptQueueCapacity;
+            return this;
+        }
+
+        private DispatchOptions setTimeoutDuration(Duration timeoutDuration) {
+            this.timeoutDuration = timeoutDuration;
+            return this;
+        }
+
+        private DispatchOptions setTokensQuota(LlmTokensQuota tokensQuota) {
+            this.tokensQuota = tokensQuota;
+            return this;
+        }
+
+        private DispatchOptions setAdaptiveConcurrency(AdaptiveConcurrencyParameter adaptiveConcurrency) {
+            this.adaptiveConcurrency = adaptiveConcurrency;
+            return this;
+        }
+
+        private DispatchOptions setCircuitBreaker(CircuitBreakerParameter circuitBreaker) {
+            this.circuitBreaker = circuitBreaker;
+            return this;
+        }
+
+        private DispatchOptions setHedging(HedgingParameter hedging) {
+            this.hedging = hedging;
+            return this;
+        }
+
+        private DispatchOptions setRetry(RetryParameter retry) {
+            this.retry = retry;
+            return this;
+        }
+
+        private DispatchOptions setSchedulingPolicy(PromptSchedulingPolicy schedulingPolicy) {
+            this.schedulingPolicy = schedulingPolicy;
+            return this;
+        }
+
+        private DispatchOptions setRequestFlow(RequestFlow requestFlow) {
+            this.requestFlow = requestFlow;
+            return this;
+        }
+
+        private DispatchOptions setThreadPerTask(boolean threadPerTask) {
+            this.threadPerTask = threadPerTask;
+            return this;
+        }
+    }
+
+    /**
+     * Everything a task needs to send its prompt, shared by all tasks of a dispatch. The load tracker, circuit breakers and
+     * hedging are only set for a load-balanced dispatch.
+     */
+    private static final class TaskContext {
+        private final int totalBatches;
+        private final LlmClientSelector llmClientSelector;
+        private final LlmChatCompletionConfiguration llmChatCompletionConfiguration;
+        private final LlmMessagesMapperConfiguration messagesMapperConfiguration;
+        private final QuotaTracker quotaTracker;
+        private LlmTokensQuota tokensQuota;
+        private Function<LlmClient, AdaptiveConcurrencyLimiter> adaptiveConcurrencyLimiterProvider;
+        private LlmClientLoadTracker loadTracker;
+        private Map<LlmClient, LlmClientCircuitBreaker> circuitBreakers;
+        private int maxFailoverAttempts;
+        private LlmRequestHedgingPolicy hedgingPolicy;
+        private ExecutorService hedgingExecutorService;
+        private RequestFlow requestFlow;
+        private Instant deadline;
+
+        private TaskContext(int totalBatches,
+                            LlmClientSelector llmClientSelector,
+                            LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                            LlmMessagesMapperConfiguration messagesMapperConfiguration,
+                            QuotaTracker quotaTracker) {
+            this.totalBatches = totalBatches;
+            this.llmClientSelector = llmClientSelector;
+            this.llmChatCompletionConfiguration = llmChatCompletionConfiguration;
+            this.messagesMapperConfiguration = messagesMapperConfiguration;
+            this.quotaTracker = quotaTracker;
+        }
+
+        private TaskContext setTokensQuota(LlmTokensQuota tokensQuota) {
+            this.tokensQuota = tokensQuota;
+            return this;
+        }
+
+        private TaskContext setAdaptiveConcurrencyLimiterProvider(Function<LlmClient, AdaptiveConcurrencyLimiter> adaptiveConcurrencyLimiterProvider) {
+            this.adaptiveConcurrencyLimiterProvider = adaptiveConcurrencyLimiterProvider;
+            return this;
+        }
+
+        private TaskContext setLoadTracker(LlmClientLoadTracker loadTracker) {
+            this.loadTracker = loadTracker;
+            return this;
+        }
+
+        private TaskContext setCircuitBreakers(Map<LlmClient, LlmClientCircuitBreaker> circuitBreakers, int maxFailoverAttempts) {
+            this.circuitBreakers = circuitBreakers;
+            this.maxFailoverAttempts = maxFailoverAttempts;
+            return this;
+        }
+
+        private TaskContext setHedging(LlmRequestHedgingPolicy hedgingPolicy, ExecutorService hedgingExecutorService) {
+            this.hedgingPolicy = hedgingPolicy;
+            this.hedgingExecutorService = hedgingExecutorService;
+            return this;
+        }
+
+        private TaskContext setRequestFlow(RequestFlow requestFlow) {
+            this.requestFlow = requestFlow;
+            return this;
+        }
+
+        private TaskContext setDeadline(Instant deadline) {
+            this.deadline = deadline;
+            return this;
+        }
+    }
+
+    /**
+     * Client selected for a request, with whether the request is a trial request of a half-open circuit breaker.
+     */
+    private static final class LlmClientLease {
+        private final LlmClient llmClient;
+        private final boolean trialCall;
+        // null for a single LLM client, it is not load tracked
+        private final LlmClientAvailability clientAvailability;
+
+        private LlmClientLease(LlmClient llmClient, boolean trialCall, LlmClientAvailability clientAvailability) {
+            this.llmClient = llmClient;
+            this.trialCall = trialCall;
+            this.clientAvailability = clientAvailability;
+        }
+    }
+
+    /**
+     * Guards the client selection and the recording of request outcomes of a load-balanced dispatch. Tasks waiting for
+     * an available client park on a condition rather than a monitor, so waiting virtual threads do not pin their carrier threads.
+     */
+    private static final class LlmClientAvailability {
+        private final ReentrantLock lock = new ReentrantLock();
+        // Signalled when a request completes, which may free a client or close its circuit breaker
+        private final Condition changed = lock.newCondition();
+    }
+
+    /**
+     * Attempt of a task, queued for retry until {@code readyAtNanos}.
+     */
+    private static final class TaskAttempt {
+        private static final Comparator<TaskAttempt> READY_TIME_ORDER = (a, b) -> Long.compare(a.readyAtNanos - b.readyAtNanos, 0);
+
+        private final int taskIndex;
+        private final ReviewPrompt reviewPrompt;
+        private final int attempt;
+        private final long readyAtNanos;
+
+        private TaskAttempt(int taskIndex, ReviewPrompt reviewPrompt, int attempt) {
+            this(taskIndex, reviewPrompt, attempt, 0);
+        }
+
+        private TaskAttempt(int taskIndex, ReviewPrompt reviewPrompt, int attempt, long readyAtNanos) {
+            this.taskIndex = taskIndex;
+            this.reviewPrompt = reviewPrompt;
+            this.attempt = attempt;
+            this.readyAtNanos = readyAtNanos;
+        }
+    }
+
+    /**
+     * Requests of one dispatch in the shared request scheduler, the instance is the flow key.
+     */
+    private static final class RequestFlow {
+        private final LlmRequestScheduler requestScheduler;
+        private final double weight;
+
+        private RequestFlow(LlmRequestScheduler requestScheduler, double weight) {
+            this.requestScheduler = requestScheduler;
+            this.weight = weight;
+        }
+
+        private void acquire(ReviewPrompt reviewPrompt) {
+            try {
+                requestScheduler.acquire(this, weight, LlmTokenEstimator.estimatePromptTokens(reviewPrompt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new TaskExecutorInterruptedException(
+                        String.format("Interrupted while waiting for the request scheduler, prompt id: %s", reviewPrompt.getId()), e);
+            }
+        }
+
+        private void release() {
+            requestScheduler.release(this);
+        }
+    }
+
+    @FunctionalInterface
+    private interface LlmClientSelector {
+        /**
+         * @return the selected client, or {@code null} if no client is available and {@code waitForAvailable} is {@code false}
+         */
+        LlmClientLease select(List<LlmClient> excludedLlmClients, boolean waitForAvailable);
+    }
+
+    @FunctionalInterface
+    private interface LlmRequest {
+        ReviewedResultItem process(LlmClientLease llmClientLease) throws InterruptedException;
+    }
+
+    @FunctionalInterface
+    private interface TaskFactory {
+        Callable<ReviewedResultItem> create(int batchIndex, ReviewPrompt reviewPrompt);
+    }
+
+    @FunctionalInterface
+    private interface AsyncTaskFactory {
+        CompletableFuture<ReviewedResultItem> create(int batchIndex, ReviewPrompt reviewPrompt, Executor callbackExecutor);
+    }
+
+    /**
+     * Starts tasks and hands them out in completion order, like a {@link CompletionService}.
+     */
+    private interface TaskCompletionQueue {
+        Future<ReviewedResultItem> submit(int taskIndex, ReviewPrompt reviewPrompt);
+
+        Future<ReviewedResultItem> take() throws InterruptedException;
+
+        Future<ReviewedResultItem> poll();
+
+        Future<ReviewedResultItem> poll(long timeout, TimeUnit unit) throws InterruptedException;
+    }
+
+    /**
+     * Runs each task on a thread of the executor service.
+     */
+    private static final class ExecutorTaskCompletionQueue implements TaskCompletionQueue {
+        private final CompletionService<ReviewedResultItem> completionService;
+        private final TaskFactory taskFactory;
+
+        private ExecutorTaskCompletionQueue(ExecutorService executorService, TaskFactory taskFactory) {
+            this.completionService = new ExecutorCompletionService<>(executorService);
+            this.taskFactory = taskFactory;
+        }
+
+        @Override
+        public Future<ReviewedResultItem> submit(int taskIndex, ReviewPrompt reviewPrompt) {
+            return completionService.submit(taskFactory.create(taskIndex, reviewPrompt));
+        }
+
+        @Override
+        public Future<ReviewedResultItem> take() throws InterruptedException {
+            return completionService.take();
+        }
+
+        @Override
+        public Future<ReviewedResultItem> poll() {
+            return completionService.poll();
+        }
+
+        @Override
+        public Future<ReviewedResultItem> poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return completionService.poll(timeout, unit);
+        }
+    }
+
+    /**
+     * Sends each task as an async request, a task that fails before its request is sent completes exceptionally.
+     */
+    private static final class AsyncTaskCompletionQueue implements TaskCompletionQueue {
+        private final BlockingQueue<Future<ReviewedResultItem>> completedFutures = new LinkedBlockingQueue<>();
+        private final AsyncTaskFactory asyncTaskFactory;
+        private final Executor callbackExecutor;
+
+        private AsyncTaskCompletionQueue(AsyncTaskFactory asyncTaskFactory, Executor callbackExecutor) {
+            this.asyncTaskFactory = asyncTaskFactory;
+            this.callbackExecutor = callbackExecutor;
+        }
+
+        @Override
+        public Future<ReviewedResultItem> submit(int taskIndex, ReviewPrompt reviewPrompt) {
+            CompletableFuture<ReviewedResultItem> createdFuture;
+            try {
+                createdFuture = asyncTaskFactory.create(taskIndex, reviewPrompt, callbackExecutor);
+            } catch (TaskExecutorInterruptedException e) {
+                throw e;
+            } catch (RuntimeException | Error e) {
+                createdFuture = CompletableFutureUtils.failedFuture(e);
+            }
+            final CompletableFuture<ReviewedResultItem> future = createdFuture;
+            future.whenComplete((reviewedResultItem, failure) -> completedFutures.add(future));
+            return future;
+        }
+
+        @Override
+        public Future<ReviewedResultItem> take() throws InterruptedException {
+            return completedFutures.take();
+        }
+
+        @Override
+        public Future<ReviewedResultItem> poll() {
+            return completedFutures.poll();
+        }
+
+        @Override
+        public Future<ReviewedResultItem> poll(long timeout, TimeUnit unit) throws InterruptedException {
+            return completedFutures.poll(timeout, unit);
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.LlmRequestQuotaException;
+import com.quasarbyte.llm.codereview.sdk.exception.LlmTokensQuotaException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorInterruptedException;
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.FailedPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RetryParameter;
+import com.quasarbyte.llm.codereview.sdk.service.FailedPromptListener;
+import com.quasarbyte.llm.codereview.sdk.service.PromptRetryPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Exponential backoff with equal jitter: the backoff is a random value between half and the full exponential delay,
+ * so prompts that failed together are not retried together.
+ */
+public class PromptRetryPolicyImpl implements PromptRetryPolicy {
+
+    private static final Logger logger = LoggerFactory.getLogger(PromptRetryPolicyImpl.class);
+
+    private static final int MAX_CAUSE_DEPTH = 16;
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final double backoffMultiplier;
+    private final FailedPromptListener listener;
+    private final DoubleSupplier random;
+
+    public PromptRetryPolicyImpl(RetryParameter parameter) {
+        this(parameter, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    PromptRetryPolicyImpl(RetryParameter parameter, DoubleSupplier random) {
+        Objects.requireNonNull(parameter, "parameter must not be null");
+        this.random = Objects.requireNonNull(random, "random must not be null");
+
+        this.maxAttempts = parameter.getMaxAttempts() != null ? parameter.getMaxAttempts() : 3;
+        Duration initialBackoff = parameter.getInitialBackoff() != null ? parameter.getInitialBackoff() : Duration.ofSeconds(1);
+        Duration maxBackoff = parameter.getMaxBackoff() != null ? parameter.getMaxBackoff() : Duration.ofSeconds(30);
+        this.backoffMultiplier = parameter.getBackoffMultiplier() != null ? parameter.getBackoffMultiplier() : 2.0;
+        this.listener = parameter.getListener();
+
+        if (maxAttempts < 1) {
+            throw new ValidationException("Retry maxAttempts cannot be less than 1");
+        }
+        if (initialBackoff.isNegative()) {
+            throw new ValidationException("Retry initialBackoff cannot be negative");
+        }
+        if (maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new ValidationException("Retry maxBackoff cannot be less than initialBackoff");
+        }
+        if (backoffMultiplier < 1) {
+            throw new ValidationException("Retry backoffMultiplier cannot be less than 1");
+        }
+
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = maxBackoff.toNanos();
+    }
+
+    @Override
+    public boolean shouldRetry(int attempts, Throwable failure) {
+        return attempts < maxAttempts && isRetryable(failure);
+    }
+
+    @Override
+    public long getBackoffNanos(int attempts) {
+        double backoffNanos = Math.min(maxBackoffNanos, initialBackoffNanos * Math.pow(backoffMultiplier, attempts - 1));
+        return (long) (backoffNanos / 2 + backoffNanos / 2 * random.getAsDouble());
+    }
+
+    @Override
+    public void onPromptFailed(FailedPrompt failedPrompt) {
+        if (listener == null) {
+            return;
+        }
+        try {
+            listener.onPromptFailed(failedPrompt);
+        } catch (Exception e) {
+            logger.warn("Failed prompt listener failed: '{}'", e.getMessage(), e);
+        }
+    }
+
+    private static boolean isRetryable(Throwable failure) {
+        Throwable current = failure;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof LlmTokensQuotaException
+                    || current instanceof LlmRequestQuotaException
+                    || current instanceof ValidationException
+                    || current instanceof TaskExecutorInterruptedException
+                    || current instanceof InterruptedException) {
+                return false;
+            }
+            current = current.getCause();
+        }
+        return true;
+    }
+}
@@ -1,14 +1,20 @@
 package com.quasarbyte.llm.codereview.sdk.service.impl;
 
+import com.quasarbyte.llm.codereview.sdk.exception.CannotReadFileException;
 import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFileGroup;
 import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFileGroupPath;
 import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilePath;
 import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedReviewTarget;
 import com.quasarbyte.llm.codereview.sdk.service.ResolvedFilePathSplitter;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmTokenEstimator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -16,6 +22,19 @@ public class ResolvedFilePathSplitterImpl implements ResolvedFilePathSplitter {
 
     private static final Logger logger = LoggerFactory.getLogger(ResolvedFilePathSplitterImpl.class);
 
+    private final ToLongFunction<String> fileSizeProvider;
+
+    public ResolvedFilePathSplitterImpl() {
+        this(ResolvedFilePathSplitterImpl::getFileSize);
+    }
+
+    /**
+     * @param fileSizeProvider size in bytes of the file at the given resolved path
+     */
+    public ResolvedFilePathSplitterImpl(ToLongFunction<String> fileSizeProvider) {
+        this.fileSizeProvider = Objects.requireNonNull(fileSizeProvider, "fileSizeProvider must not be null");
+    }
+
     @Override
     public List<List<ResolvedFilePath>> split(List<ResolvedReviewTarget> targets) {
         logger.info("Entering split() with {} targets", targets == null ? 0 : targets.size());
@@ -36,16 +55,16 @@ public class ResolvedFilePathSplitterImpl implements ResolvedFilePathSplitter {
         return result;
     }
 
-    private static List<List<ResolvedFilePath>> createPrompts(List<ResolvedFileGroup> resolvedFileGroups) {
+    private List<List<ResolvedFilePath>> createPrompts(List<ResolvedFileGroup> resolvedFileGroups) {
         logger.debug("Creating prompts for {} file groups", resolvedFileGroups.size());
         List<List<ResolvedFilePath>> prompts = resolvedFileGroups.stream()
-                .flatMap(ResolvedFilePathSplitterImpl::createPromptsForFileGroup)
+                .flatMap(this::createPromptsForFileGroup)
                 .collect(Collectors.toList());
         logger.debug("Created {} prompt batches", prompts.size());
         return prompts;
     }
 
-    private static Stream<List<ResolvedFilePath>> createPromptsForFileGroup(ResolvedFileGroup resolvedFileGroup) {
+    private Stream<List<ResolvedFilePath>> createPromptsForFileGroup(ResolvedFileGroup resolvedFileGroup) {
         Integer batchSizeObj = resolvedFileGroup.getFileGroup().getFilesBatchSize();
         int filesBatchSize = (batchSizeObj == null) ? 0 : batchSizeObj;
         logger.debug("File group batch size: {}", filesBatchSize);
@@ -60,6 +79,11 @@ public class ResolvedFilePathSplitterImpl implements ResolvedFilePathSplitter {
 
         logger.debug("Resolved file group contains {} files", allResolvedPaths.size());
 
+        Integer tokenBudgetObj = resolvedFileGroup.getFileGroup().getFilesBatchTokenBudget();
+        if (tokenBudgetObj != null && tokenBudgetObj > 0 && !allResolvedPaths.isEmpty()) {
+            return packByTokenBudget(allResolvedPaths, tokenBudgetObj, filesBatchSize).stream();
+        }
+
         if (filesBatchSize <= 0 || filesBatchSize >= allResolvedPaths.size()) {
             if (filesBatchSize <= 0) {
                 logger.info("Batch size is zero or negative ({}); returning all paths as a single batch", filesBatchSize);
@@ -80,4 +104,88 @@ public class ResolvedFilePathSplitterImpl implements ResolvedFilePathSplitter {
             return batches.stream();
         }
     }
+
+    /**
+     * First-fit-decreasing: files are placed from the largest to the smallest into the first prompt that still has room.
+     * Files within a prompt keep the path order, prompts are ordered by their largest file.
+     */
+    private List<List<ResolvedFilePath>> packByTokenBudget(List<ResolvedFilePath> resolvedPaths, long tokenBudget, int filesBatchSize) {
+        logger.info("Packing {} files into batches of at most {} estimated tokens{}", resolvedPaths.size(), tokenBudget,
+                filesBatchSize > 0 ? " and " + filesBatchSize + " files" : "");
+
+        List<FileTokens> files = new ArrayList<>(resolvedPaths.size());
+        for (ResolvedFilePath resolvedPath : resolvedPaths) {
+            long sizeInBytes = fileSizeProvider.applyAsLong(resolvedPath.getResolvedPath());
+            files.add(new FileTokens(resolvedPath, LlmTokenEstimator.estimateFileTokens(resolvedPath.getResolvedPath(), sizeInBytes)));
+        }
+        // Stable sort, files of the same size keep the path order
+        files.sort((a, b) -> Long.compare(b.tokens, a.tokens));
+
+        List<FileBatch> batches = new ArrayList<>();
+        for (FileTokens file : files) {
+            if (file.tokens > tokenBudget) {
+                logger.warn("File '{}' (~{} tokens) exceeds the prompt token budget of {} tokens and is reviewed in a prompt of its own",
+                        file.resolvedFilePath.getResolvedPath(), file.tokens, tokenBudget);
+                batches.add(new FileBatch(file));
+                continue;
+            }
+            FileBatch target = null;
+            for (FileBatch batch : batches) {
+                if (batch.tokens + file.tokens <= tokenBudget && (filesBatchSize <= 0 || batch.files.size() < filesBatchSize)) {
+                    target = batch;
+                    break;
+                }
+            }
+            if (target == null) {
+                batches.add(new FileBatch(file));
+            } else {
+                target.add(file);
+            }
+        }
+
+        List<List<ResolvedFilePath>> result = new ArrayList<>(batches.size());
+        for (FileBatch batch : batches) {
+            List<ResolvedFilePath> batchPaths = batch.files.stream()
+                    .map(file -> file.resolvedFilePath)
+                    .sorted(Comparator.comparing(ResolvedFilePath::getResolvedPath))
+                    .collect(Collectors.toList());
+            logger.debug("Created batch with {} files (~{} tokens)", batchPaths.size(), batch.tokens);
+            result.add(batchPaths);
+        }
+        logger.info("Packed {} files into {} batches", resolvedPaths.size(), result.size());
+        return result;
+    }
+
+    private static long getFileSize(String resolvedPath) {
+        try {
+            return Files.size(Paths.get(resolvedPath));
+        } catch (IOException e) {
+            logger.error("Failed to read size of file '{}': {}", resolvedPath, e.getMessage(), e);
+            throw new CannotReadFileException(String.format("Cannot read size of file '%s', error: '%s'", resolvedPath, e.getMessage()), e);
+        }
+    }
+
+    private static class FileTokens {
+        private final ResolvedFilePath resolvedFilePath;
+        private final long tokens;
+
+        private FileTokens(ResolvedFilePath resolvedFilePath, long tokens) {
+            this.resolvedFilePath = resolvedFilePath;
+            this.tokens = tokens;
+        }
+    }
+
+    private static class FileBatch {
+        private final List<FileTokens> files = new ArrayList<>();
+        private long tokens;
+
+        private FileBatch(FileTokens file) {
+            add(file);
+        }
+
+        private void add(FileTokens file) {
+            files.add(file);
+            tokens += file.tokens;
+        }
+    }
 }
@@ -9,6 +9,7 @@ import com.quasarbyte.llm.codereview.sdk.model.context.ReviewRunDetails;
 import com.quasarbyte.llm.codereview.sdk.model.db.FileDB;
 import com.quasarbyte.llm.codereview.sdk.model.db.PromptDB;
 import com.quasarbyte.llm.codereview.sdk.model.db.ResolvedFileDB;
+import com.quasarbyte.llm.codereview.sdk.model.diff.FileDiff;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.*;
 import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFile;
 import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
@@ -23,11 +24,14 @@ import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
 import com.quasarbyte.llm.codereview.sdk.service.RuleService;
 import com.quasarbyte.llm.codereview.sdk.service.SourceFileService;
 import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewPromptJsonMapper;
+import com.quasarbyte.llm.codereview.sdk.service.util.HashUtils;
+import com.quasarbyte.llm.codereview.sdk.service.util.UnifiedDiffUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -192,7 +196,8 @@ public class ResolvedFilePathToPromptMapperImpl implements ResolvedFilePathToPro
                 .setFileName(sourceFile.getFileName())
                 .setFileNameExtension(sourceFile.getFileNameExtension())
                 .setFilePath(sourceFile.getFilePath())
-                .setCodePage(sourceFile.getCodePage());
+                .setCodePage(sourceFile.getCodePage())
+                .setContentHash(sourceFile.getContent() != null ? HashUtils.sha256Hex(sourceFile.getContent()) : null);
 
         long id = resolvedFileRepository.save(resolvedFileDB);
 
@@ -210,6 +215,18 @@ public class ResolvedFilePathToPromptMapperImpl implements ResolvedFilePathToPro
         logger.debug("Getting SourceFile for path: {} (codePage: {})", path, codePage);
         final SourceFile sourceFile = sourceFileService.findByPathAndCodePage(path, codePage);
         logger.debug("Got SourceFile for path: {} (codePage: {})", path, codePage);
+
+        Map<String, FileDiff> fileDiffs = resolvedFilePath.getResolvedFileGroupPath()
+                .getResolvedFileGroup()
+                .getResolvedReviewTarget()
+                .getResolvedReviewConfiguration()
+                .getFileDiffs();
+        FileDiff fileDiff = fileDiffs != null ? fileDiffs.get(UnifiedDiffUtils.toFileDiffKey(path)) : null;
+        if (fileDiff != null) {
+            sourceFile.setDiffHunks(fileDiff.getHunks());
+            logger.debug("Only {} changed hunk(s) of {} are reviewed.", sourceFile.getDiffHunks().size(), path);
+        }
+
         return sourceFile;
     }
 
@@ -0,0 +1,66 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.service.ReviewCancellationToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Callbacks are run under the lock of the token, a closed registration is never run afterwards.
+ */
+public class ReviewCancellationTokenImpl implements ReviewCancellationToken {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewCancellationTokenImpl.class);
+
+    private final Set<Runnable> callbacks = new LinkedHashSet<>();
+
+    private volatile boolean cancelled = false;
+
+    @Override
+    public synchronized void cancel() {
+        if (cancelled) {
+            return;
+        }
+        cancelled = true;
+
+        logger.info("Review cancellation requested, notifying {} running dispatch(es).", callbacks.size());
+
+        List<Runnable> registeredCallbacks = new ArrayList<>(callbacks);
+        callbacks.clear();
+        for (Runnable callback : registeredCallbacks) {
+            try {
+                callback.run();
+            } catch (RuntimeException e) {
+                logger.warn("Review cancellation callback failed: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public synchronized Registration onCancel(Runnable callback) {
+        Objects.requireNonNull(callback, "callback must not be null");
+
+        if (cancelled) {
+            callback.run();
+            return () -> {
+            };
+        }
+
+        callbacks.add(callback);
+        return () -> {
+            synchronized (ReviewCancellationTokenImpl.this) {
+                callbacks.remove(callback);
+            }
+        };
+    }
+}
@@ -1,16 +1,20 @@
 package com.quasarbyte.llm.codereview.sdk.service.impl;
 
+import com.quasarbyte.llm.codereview.sdk.model.diff.FileDiff;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewTarget;
 import com.quasarbyte.llm.codereview.sdk.model.resolved.*;
+import com.quasarbyte.llm.codereview.sdk.service.GitDiffService;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewConfigurationResolver;
 import com.quasarbyte.llm.codereview.sdk.service.TargetResolverService;
+import com.quasarbyte.llm.codereview.sdk.service.util.UnifiedDiffUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -19,9 +23,11 @@ public class ReviewConfigurationResolverImpl implements ReviewConfigurationResol
     private static final Logger logger = LoggerFactory.getLogger(ReviewConfigurationResolverImpl.class);
 
     private final TargetResolverService targetResolverService;
+    private final GitDiffService gitDiffService;
 
-    public ReviewConfigurationResolverImpl(TargetResolverService targetResolverService) {
+    public ReviewConfigurationResolverImpl(TargetResolverService targetResolverService, GitDiffService gitDiffService) {
         this.targetResolverService = targetResolverService;
+        this.gitDiffService = gitDiffService;
         logger.debug("ReviewConfigurationResolverImpl initialized with TargetResolverService: {}", targetResolverService);
     }
 
@@ -35,6 +41,10 @@ public class ReviewConfigurationResolverImpl implements ReviewConfigurationResol
         ResolvedReviewConfiguration resolvedReviewConfiguration = new ResolvedReviewConfiguration()
                 .setReviewConfiguration(reviewParameter);
 
+        if (reviewParameter.getDiffScope() != null) {
+            resolvedReviewConfiguration.setFileDiffs(gitDiffService.diff(reviewParameter.getDiffScope()));
+        }
+
         List<ReviewTarget> targets = reviewParameter.getTargets();
         logger.debug("Found {} targets to resolve.", targets.size());
 
@@ -56,7 +66,9 @@ public class ReviewConfigurationResolverImpl implements ReviewConfigurationResol
         logger.debug("Resolving ReviewTarget: {}", reviewTarget);
         Objects.requireNonNull(reviewTarget, "ReviewTarget must not be null");
 
-        ResolvedReviewTarget resolvedReviewTarget = new ResolvedReviewTarget();
+        ResolvedReviewTarget resolvedReviewTarget = new ResolvedReviewTarget()
+                .setResolvedReviewConfiguration(resolvedReviewConfiguration)
+                .setReviewTarget(reviewTarget);
 
         List<FileGroup> fileGroups = reviewTarget.getFileGroups();
         logger.debug("ReviewTarget has {} file groups.", fileGroups != null ? fileGroups.size() : 0);
@@ -67,10 +79,7 @@ public class ReviewConfigurationResolverImpl implements ReviewConfigurationResol
                 .map(fileGroup -> resolveFileGroup(fileGroup, resolvedReviewTarget))
                 .collect(Collectors.toList());
 
-        resolvedReviewTarget
-                .setResolvedReviewConfiguration(resolvedReviewConfiguration)
-                .setReviewTarget(reviewTarget)
-                .setResolvedFileGroups(resolvedFileGroups);
+        resolvedReviewTarget.setResolvedFileGroups(resolvedFileGroups);
 
         logger.debug("Resolved ReviewTarget with {} file groups.", resolvedFileGroups.size());
         return resolvedReviewTarget;
@@ -119,6 +128,14 @@ public class ReviewConfigurationResolverImpl implements ReviewConfigurationResol
         List<String> resolvedPathStrings = targetResolverService.resolve(path, excludePaths);
         logger.debug("TargetResolverService resolved {} file(s) for path '{}'.", resolvedPathStrings.size(), path);
 
+        Map<String, FileDiff> fileDiffs = resolvedFileGroup.getResolvedReviewTarget().getResolvedReviewConfiguration().getFileDiffs();
+        if (fileDiffs != null) {
+            resolvedPathStrings = resolvedPathStrings.stream()
+                    .filter(resolvedPath -> fileDiffs.containsKey(UnifiedDiffUtils.toFileDiffKey(resolvedPath)))
+                    .collect(Collectors.toList());
+            logger.debug("{} file(s) for path '{}' are changed in the diff scope.", resolvedPathStrings.size(), path);
+        }
+
         List<ResolvedFilePath> resolvedPaths = resolvedPathStrings
                 .stream()
                 .map(resolvedPathStr -> new ResolvedFilePath()
@@ -95,7 +95,8 @@ public class ReviewDetailsServiceImpl implements ReviewDetailsService {
             List<Rule> mergedRules = getMergedRules(reviewParameter);
             logger.debug("Merged {} rules for review", mergedRules.size());
 
-            List<List<Rule>> rulesBatches = rulesToBatchesSplitter.split(mergedRules, reviewParameter.getRulesBatchSize());
+            List<List<Rule>> rulesBatches = rulesToBatchesSplitter.split(
+                    mergedRules, reviewParameter.getRulesBatchSize(), reviewParameter.getRulesBatchTokenBudget(), reviewParameter.getRulesBatchGrouping());
             logger.debug("Rules batches created: {}", rulesBatches.size());
 
             if (resolvedFilePathBatches.isEmpty()) {
@@ -203,7 +204,10 @@ public class ReviewDetailsServiceImpl implements ReviewDetailsService {
         Objects.requireNonNull(llmClients, "LlmClients list must not be null");
         Objects.requireNonNull(parallelExecutionParameter, "ParallelExecutionParameter must not be null");
         Objects.requireNonNull(parallelExecutionParameter.getBatchSize(), "BatchSize must not be null in ParallelExecutionParameter");
-        Objects.requireNonNull(parallelExecutionParameter.getExecutorService(), "ExecutorService must not be null in ParallelExecutionParameter");
+        if (parallelExecutionParameter.getDispatchMode() != DispatchMode.ASYNC
+                && parallelExecutionParameter.getTaskExecutorMode() != TaskExecutorMode.VIRTUAL_THREAD_PER_TASK) {
+            Objects.requireNonNull(parallelExecutionParameter.getExecutorService(), "ExecutorService must not be null in ParallelExecutionParameter");
+        }
 
         logger.debug("Resolving review configuration");
         ResolvedReviewConfiguration resolvedReviewConfiguration = reviewConfigurationResolver.resolve(reviewParameter);
@@ -240,7 +244,8 @@ public class ReviewDetailsServiceImpl implements ReviewDetailsService {
             List<Rule> mergedRules = getMergedRules(reviewParameter);
             logger.debug("Merged {} rules for review", mergedRules.size());
 
-            List<List<Rule>> rulesBatches = rulesToBatchesSplitter.split(mergedRules, reviewParameter.getRulesBatchSize());
+            List<List<Rule>> rulesBatches = rulesToBatchesSplitter.split(
+                    mergedRules, reviewParameter.getRulesBatchSize(), reviewParameter.getRulesBatchTokenBudget(), reviewParameter.getRulesBatchGrouping());
             logger.debug("Rules batches created: {}", rulesBatches.size());
 
             if (resolvedFilePathBatches.isEmpty()) {
@@ -262,69 +267,26 @@ public class ReviewDetailsServiceImpl implements ReviewDetailsService {
                         logger.info("Dispatching review tasks using {} with load balancing", reviewParameter.getTimeoutDuration() == null ? "multi-thread dispatcher (no timeout)" : "multi-thread dispatcher (with timeout)");
 
                         boolean useReasoning = reviewParameter.getUseReasoning() != null ? reviewParameter.getUseReasoning() : false;
-                        LoadBalancingStrategy strategy = parallelExecutionParameter.getLoadBalancingStrategy();
 
                         LlmQuota llmQuota = reviewParameter.getLlmQuota();
                         LlmTokensQuota tokensQuota = llmQuota != null ? llmQuota.getTokensQuota() : null;
 
-                        if (reviewParameter.getTimeoutDuration() == null) {
-                            if (tokensQuota != null) {
-                                logger.debug("Using token quota validation for parallel execution with load balancing: completion={}, prompt={}, total={}", 
-                                        tokensQuota.getCompletionTokens(), tokensQuota.getPromptTokens(), tokensQuota.getTotalTokens());
-                                reviewedResultItems = multiThreadTaskDispatcher.dispatch(
-                                        useReasoning,
-                                        rulesBatches,
-                                        resolvedFilePathBatches,
-                                        reviewParameter.getLlmChatCompletionConfiguration(),
-                                        reviewParameter.getLlmMessagesMapperConfiguration(),
-                                        llmClients,
-                                        strategy,
-                                        llmInvocationBatchSize,
-                                        parallelExecutionParameter.getExecutorService(),
-                                        tokensQuota);
-                            } else {
-                                reviewedResultItems = multiThreadTaskDispatcher.dispatch(
-                                        useReasoning,
-                                        rulesBatches,
-                                        resolvedFilePathBatches,
-                                        reviewParameter.getLlmChatCompletionConfiguration(),
-                                        reviewParameter.getLlmMessagesMapperConfiguration(),
-                                        llmClients,
-                                        strategy,
-                                        llmInvocationBatchSize,
-                                        parallelExecutionParameter.getExecutorService());
-                            }
-                        } else {
-                            if (tokensQuota != null) {
-                                logger.debug("Using token quota validation for parallel execution with load balancing and timeout: completion={}, prompt={}, total={}", 
-                                        tokensQuota.getCompletionTokens(), tokensQuota.getPromptTokens(), tokensQuota.getTotalTokens());
-                                reviewedResultItems = multiThreadTaskDispatcher.dispatch(
-                                        useReasoning,
-                                        rulesBatches,
-                                        resolvedFilePathBatches,
-                                        reviewParameter.getLlmChatCompletionConfiguration(),
-                                        reviewParameter.getLlmMessagesMapperConfiguration(),
-                                        llmClients,
-                                        strategy,
-                                        llmInvocationBatchSize,
-                                        reviewParameter.getTimeoutDuration(),
-                                        parallelExecutionParameter.getExecutorService(),
-                                        tokensQuota);
-                            } else {
-                                reviewedResultItems = multiThreadTaskDispatcher.dispatch(
-                                        useReasoning,
-                                        rulesBatches,
-                                        resolvedFilePathBatches,
-                                        reviewParameter.getLlmChatCompletionConfiguration(),
-                                        reviewParameter.getLlmMessagesMapperConfiguration(),
-                                        llmClients,
-                                        strategy,
-                                        llmInvocationBatchSize,
-                                        reviewParameter.getTimeoutDuration(),
-                                        parallelExecutionParameter.getExecutorService());
-                            }
+                        if (tokensQuota != null) {
+                            logger.debug("Using token quota validation for parallel execution with load balancing: completion={}, prompt={}, total={}",
+                                    tokensQuota.getCompletionTokens(), tokensQuota.getPromptTokens(), tokensQuota.getTotalTokens());
                         }
 
+                        reviewedResultItems = multiThreadTaskDispatcher.dispatch(
+                                useReasoning,
+                                rulesBatches,
+                                resolvedFilePathBatches,
+                                reviewParameter.getLlmChatCompletionConfiguration(),
+                                reviewParameter.getLlmMessagesMapperConfiguration(),
+                                llmClients,
+                                parallelExecutionParameter,
+                                reviewParameter.getTimeoutDuration(),
+                                tokensQuota);
+
                     } else {
                         logger.error("Llm invocation batch size is less than 1: {}", llmInvocationBatchSize);
                         throw new LLMCodeReviewRuntimeException("Llm invocation batch size can not be less than 1");
@@ -356,7 +318,10 @@ public class ReviewDetailsServiceImpl implements ReviewDetailsService {
         Objects.requireNonNull(llmClient, "LlmClient must not be null");
         Objects.requireNonNull(parallelExecutionParameter, "ParallelExecutionParameter must not be null");
         Objects.requireNonNull(parallelExecutionParameter.getBatchSize(), "BatchSize must not be null in ParallelExecutionParameter");
-        Objects.requireNonNull(parallelExecutionParameter.getExecutorService(), "ExecutorService must not be null in ParallelExecutionParameter");
+        if (parallelExecutionParameter.getDispatchMode() != DispatchMode.ASYNC
+                && parallelExecutionParameter.getTaskExecutorMode() != TaskExecutorMode.VIRTUAL_THREAD_PER_TASK) {
+            Objects.requireNonNull(parallelExecutionParameter.getExecutorService(), "ExecutorService must not be null in ParallelExecutionParameter");
+        }
 
         logger.debug("Resolving review configuration");
         ResolvedReviewConfiguration resolvedReviewConfiguration = reviewConfigurationResolver.resolve(reviewParameter);
@@ -379,7 +344,8 @@ public class ReviewDetailsServiceImpl implements ReviewDetailsService {
             List<Rule> mergedRules = getMergedRules(reviewParameter);
             logger.debug("Merged {} rules for review", mergedRules.size());
 
-            List<List<Rule>> rulesBatches = rulesToBatchesSplitter.split(mergedRules, reviewParameter.getRulesBatchSize());
+            List<List<Rule>> rulesBatches = rulesToBatchesSplitter.split(
+                    mergedRules, reviewParameter.getRulesBatchSize(), reviewParameter.getRulesBatchTokenBudget(), reviewParameter.getRulesBatchGrouping());
             logger.debug("Rules batches created: {}", rulesBatches.size());
 
             if (resolvedFilePathBatches.isEmpty()) {
@@ -405,60 +371,22 @@ public class ReviewDetailsServiceImpl implements ReviewDetailsService {
                         LlmQuota llmQuota = reviewParameter.getLlmQuota();
                         LlmTokensQuota tokensQuota = llmQuota != null ? llmQuota.getTokensQuota() : null;
 
-                        if (reviewParameter.getTimeoutDuration() == null) {
-                            if (tokensQuota != null) {
-                                logger.debug("Using token quota validation for parallel execution: completion={}, prompt={}, total={}", 
-                                        tokensQuota.getCompletionTokens(), tokensQuota.getPromptTokens(), tokensQuota.getTotalTokens());
-                                reviewedResultItems = multiThreadTaskDispatcher.dispatch(
-                                        useReasoning,
-                                        rulesBatches,
-                                        resolvedFilePathBatches,
-                                        reviewParameter.getLlmChatCompletionConfiguration(),
-                                        reviewParameter.getLlmMessagesMapperConfiguration(),
-                                        llmClient,
-                                        llmInvocationBatchSize,
-                                        parallelExecutionParameter.getExecutorService(),
-                                        tokensQuota);
-                            } else {
-                                reviewedResultItems = multiThreadTaskDispatcher.dispatch(
-                                        useReasoning,
-                                        rulesBatches,
-                                        resolvedFilePathBatches,
-                                        reviewParameter.getLlmChatCompletionConfiguration(),
-                                        reviewParameter.getLlmMessagesMapperConfiguration(),
-                                        llmClient,
-                                        llmInvocationBatchSize,
-                                        parallelExecutionParameter.getExecutorService());
-                            }
-                        } else {
-                            if (tokensQuota != null) {
-                                logger.debug("Using token quota validation for parallel execution with timeout: completion={}, prompt={}, total={}", 
-                                        tokensQuota.getCompletionTokens(), tokensQuota.getPromptTokens(), tokensQuota.getTotalTokens());
-                                reviewedResultItems = multiThreadTaskDispatcher.dispatch(
-                                        useReasoning,
-                                        rulesBatches,
-                                        resolvedFilePathBatches,
-                                        reviewParameter.getLlmChatCompletionConfiguration(),
-                                        reviewParameter.getLlmMessagesMapperConfiguration(),
-                                        llmClient,
-                                        llmInvocationBatchSize,
-                                        reviewParameter.getTimeoutDuration(),
-                                        parallelExecutionParameter.getExecutorService(),
-                                        tokensQuota);
-                            } else {
-                                reviewedResultItems = multiThreadTaskDispatcher.dispatch(
-                                        useReasoning,
-                                        rulesBatches,
-                                        resolvedFilePathBatches,
-                                        reviewParameter.getLlmChatCompletionConfiguration(),
-                                        reviewParameter.getLlmMessagesMapperConfiguration(),
-                                        llmClient,
-                                        llmInvocationBatchSize,
-                                        reviewParameter.getTimeoutDuration(),
-                                        parallelExecutionParameter.getExecutorService());
-                            }
+                        if (tokensQuota != null) {
+                            logger.debug("Using token quota validation for parallel execution: completion={}, prompt={}, total={}",
+                                    tokensQuota.getCompletionTokens(), tokensQuota.getPromptTokens(), tokensQuota.getTotalTokens());
                         }
 
+                        reviewedResultItems = multiThreadTaskDispatcher.dispatch(
+                                useReasoning,
+                                rulesBatches,
+                                resolvedFilePathBatches,
+                                reviewParameter.getLlmChatCompletionConfiguration(),
+                                reviewParameter.getLlmMessagesMapperConfiguration(),
+                                llmClient,
+                                parallelExecutionParameter,
+                                reviewParameter.getTimeoutDuration(),
+                                tokensQuota);
+
                     } else {
                         logger.error("Llm invocation batch size is less than 1: {}", llmInvocationBatchSize);
                         throw new LLMCodeReviewRuntimeException("Llm invocation batch size can not be less than 1");
@@ -1,21 +1,20 @@
 package com.quasarbyte.llm.codereview.sdk.service.impl;
 
 import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.exception.ReviewCancelledException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorCancellationException;
 import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
 import com.quasarbyte.llm.codereview.sdk.exception.db.NotFoundException;
 import com.quasarbyte.llm.codereview.sdk.exception.db.PersistenceRuntimeException;
-import com.quasarbyte.llm.codereview.sdk.model.SourceFile;
-import com.quasarbyte.llm.codereview.sdk.model.aggregated.AggregatedFile;
 import com.quasarbyte.llm.codereview.sdk.model.aggregated.AggregatedResult;
 import com.quasarbyte.llm.codereview.sdk.model.context.ReviewRunDetails;
 import com.quasarbyte.llm.codereview.sdk.model.datasource.DataSourceConfiguration;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmResponseCacheParameter;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.ParallelExecutionParameter;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.PersistenceConfiguration;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.ReviewParameter;
-import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
 import com.quasarbyte.llm.codereview.sdk.model.review.*;
-import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedComment;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedDetailedResult;
 import com.quasarbyte.llm.codereview.sdk.repository.ReviewRepository;
 import com.quasarbyte.llm.codereview.sdk.repository.RunRepository;
@@ -28,6 +27,8 @@ import com.quasarbyte.llm.codereview.sdk.service.db.core.connection.DBConnection
 import com.quasarbyte.llm.codereview.sdk.service.db.core.datasource.DataSourceManager;
 import com.quasarbyte.llm.codereview.sdk.service.db.core.transaction.runner.TransactionRunner;
 import com.quasarbyte.llm.codereview.sdk.service.liquibase.manager.LiquibaseMigrationManager;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewResultItemMapper;
+import com.quasarbyte.llm.codereview.sdk.service.util.ReviewCancellationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +49,7 @@ public class ReviewParallelExecutionServiceImpl implements ReviewParallelExecuti
     private final ReviewDetailsService reviewDetailsService;
     private final ReviewRepository reviewRepository;
     private final ReviewResultAggregator reviewResultAggregator;
+    private final ReviewResultItemMapper reviewResultItemMapper;
     private final ReviewRunContext reviewRunContext;
     private final RunRepository runRepository;
     private final TransactionRunner transactionRunner;
@@ -59,6 +61,7 @@ public class ReviewParallelExecutionServiceImpl implements ReviewParallelExecuti
                                              ReviewDetailsService reviewDetailsService,
                                              ReviewRepository reviewRepository,
                                              ReviewResultAggregator reviewResultAggregator,
+                                             ReviewResultItemMapper reviewResultItemMapper,
                                              ReviewRunContext reviewRunContext,
                                              RunRepository runRepository,
                                              TransactionRunner transactionRunner) {
@@ -69,6 +72,7 @@ public class ReviewParallelExecutionServiceImpl implements ReviewParallelExecuti
         this.reviewDetailsService = reviewDetailsService;
         this.reviewRepository = reviewRepository;
         this.reviewResultAggregator = reviewResultAggregator;
+        this.reviewResultItemMapper = reviewResultItemMapper;
         this.reviewRunContext = reviewRunContext;
         this.runRepository = runRepository;
         this.transactionRunner = transactionRunner;
@@ -140,7 +144,12 @@ public class ReviewParallelExecutionServiceImpl implements ReviewParallelExecuti
                         resolvedPersistenceConfiguration));
 
                 logger.debug("Invoking reviewDetailsService.review(...)");
-                ReviewedDetailedResult reviewedDetailedResult = reviewDetailsService.review(reviewParameter, llmClient, parallelExecutionParameter);
+                final ReviewedDetailedResult reviewedDetailedResult;
+                try {
+                    reviewedDetailedResult = reviewDetailsService.review(reviewParameter, llmClient, parallelExecutionParameter);
+                } catch (TaskExecutorCancellationException e) {
+                    throw ReviewCancellationUtils.toReviewCancelledException(parallelExecutionParameter, reviewIdArr[0], e);
+                }
 
                 logger.debug("Aggregating reviewed result.");
                 AggregatedResult aggregatedResult = reviewResultAggregator.aggregate(reviewedDetailedResult);
@@ -149,7 +158,7 @@ public class ReviewParallelExecutionServiceImpl implements ReviewParallelExecuti
                 List<ReviewResultItem> reviewResultItems = aggregatedResult.getFiles()
                         .stream()
                         .sorted(Comparator.comparing(aggregatedFile -> aggregatedFile.getSourceFile().getFilePath()))
-                        .map(ReviewParallelExecutionServiceImpl::mapAggregatedFileToReviewResultItem)
+                        .map(reviewResultItemMapper::toReviewResultItem)
                         .collect(Collectors.toList());
 
                 logger.info("Parallel review completed: {} files processed.", reviewResultItems.size());
@@ -160,9 +169,12 @@ public class ReviewParallelExecutionServiceImpl implements ReviewParallelExecuti
                                 .setCompletionTokens(aggregatedResult.getCompletionUsage().getCompletionTokens())
                                 .setPromptTokens(aggregatedResult.getCompletionUsage().getPromptTokens())
                                 .setTotalTokens(aggregatedResult.getCompletionUsage().getTotalTokens())
+                                .setCachedPromptTokens(aggregatedResult.getCompletionUsage().getCachedPromptTokens())
                         );
             }
 
+        } catch (ReviewCancelledException e) {
+            throw e;
         } catch (Exception e) {
             throw new LLMCodeReviewRuntimeException(e);
         }
@@ -233,7 +245,12 @@ public class ReviewParallelExecutionServiceImpl implements ReviewParallelExecuti
                         resolvedPersistenceConfiguration));
 
                 logger.debug("Invoking reviewDetailsService.review(...)");
-                ReviewedDetailedResult reviewedDetailedResult = reviewDetailsService.review(reviewParameter, llmClients, parallelExecutionParameter);
+                final ReviewedDetailedResult reviewedDetailedResult;
+                try {
+                    reviewedDetailedResult = reviewDetailsService.review(reviewParameter, llmClients, parallelExecutionParameter);
+                } catch (TaskExecutorCancellationException e) {
+                    throw ReviewCancellationUtils.toReviewCancelledException(parallelExecutionParameter, reviewIdArr[0], e);
+                }
 
                 logger.debug("Aggregating reviewed result.");
                 AggregatedResult aggregatedResult = reviewResultAggregator.aggregate(reviewedDetailedResult);
@@ -242,7 +259,7 @@ public class ReviewParallelExecutionServiceImpl implements ReviewParallelExecuti
                 List<ReviewResultItem> reviewResultItems = aggregatedResult.getFiles()
                         .stream()
                         .sorted(Comparator.comparing(aggregatedFile -> aggregatedFile.getSourceFile().getFilePath()))
-                        .map(ReviewParallelExecutionServiceImpl::mapAggregatedFileToReviewResultItem)
+                        .map(reviewResultItemMapper::toReviewResultItem)
                         .collect(Collectors.toList());
 
                 logger.info("Parallel review completed: {} files processed.", reviewResultItems.size());
@@ -253,62 +270,17 @@ public class ReviewParallelExecutionServiceImpl implements ReviewParallelExecuti
                                 .setCompletionTokens(aggregatedResult.getCompletionUsage().getCompletionTokens())
                                 .setPromptTokens(aggregatedResult.getCompletionUsage().getPromptTokens())
                                 .setTotalTokens(aggregatedResult.getCompletionUsage().getTotalTokens())
+                                .setCachedPromptTokens(aggregatedResult.getCompletionUsage().getCachedPromptTokens())
                         );
             }
 
+        } catch (ReviewCancelledException e) {
+            throw e;
         } catch (Exception e) {
             throw new LLMCodeReviewRuntimeException(e);
         }
     }
 
-    private static ReviewResultItem mapAggregatedFileToReviewResultItem(AggregatedFile aggregatedFile) {
-        logger.debug("Mapping AggregatedFile '{}' to ReviewResultItem.", aggregatedFile.getSourceFile().getFilePath());
-        ReviewFile reviewFile = mapSourceFileToReviewFile(aggregatedFile.getSourceFile());
-        List<ReviewComment> comments = aggregatedFile.getComments().stream()
-                .map(ReviewParallelExecutionServiceImpl::mapAggregatedCommentToReviewComment)
-                .collect(Collectors.toList());
-        logger.debug("Mapped {} comments for file '{}'.", comments.size(), aggregatedFile.getSourceFile().getFilePath());
-        return new ReviewResultItem()
-                .setFile(reviewFile)
-                .setComments(comments);
-    }
-
-    private static ReviewFile mapSourceFileToReviewFile(SourceFile sourceFile) {
-        logger.trace("Mapping SourceFile '{}' to ReviewFile.", sourceFile.getFilePath());
-        return new ReviewFile()
-                .setFileName(sourceFile.getFileName())
-                .setFilePath(sourceFile.getFilePath())
-                .setSize(sourceFile.getSize())
-                .setCreatedAt(sourceFile.getCreatedAt())
-                .setModifiedAt(sourceFile.getModifiedAt())
-                .setAccessedAt(sourceFile.getAccessedAt());
-    }
-
-    private static ReviewComment mapAggregatedCommentToReviewComment(ReviewedComment comment) {
-        if (comment == null) {
-            logger.warn("ReviewedComment is null; returning empty ReviewComment.");
-            return new ReviewComment();
-        }
-        
-        Rule rule = new Rule()
-                .setCode(comment.getRule() != null && comment.getRule().getRuleKey() != null ? 
-                         comment.getRule().getRuleKey().getCode() : null)
-                .setDescription(comment.getRule() != null ? 
-                               comment.getRule().getDescription() : null)
-                .setSeverity(comment.getRule() != null ? 
-                            comment.getRule().getSeverity() : null);
-
-        logger.trace("Mapping ReviewedComment at line {} col {} to ReviewComment.",
-                comment.getLine(), comment.getColumn());
-
-        return new ReviewComment()
-                .setRule(rule)
-                .setLine(comment.getLine())
-                .setColumn(comment.getColumn())
-                .setMessage(comment.getMessage())
-                .setSuggestion(comment.getSuggestion());
-    }
-
     private static PersistenceConfiguration resolvePersistenceConfiguration(PersistenceConfiguration persistenceConfiguration) {
         final PersistenceConfiguration resolvedPersistenceConfiguration;
 
@@ -341,5 +313,16 @@ public class ReviewParallelExecutionServiceImpl implements ReviewParallelExecuti
         if (jdbcUrl == null || jdbcUrl.trim().isEmpty()) {
             throw new ValidationException("JdbcUrl cannot be null or blank");
         }
+
+        LlmResponseCacheParameter responseCache = persistenceConfiguration.getResponseCache();
+        if (responseCache != null) {
+            if (responseCache.getTimeToLive() != null
+                    && (responseCache.getTimeToLive().isNegative() || responseCache.getTimeToLive().isZero())) {
+                throw new ValidationException("Response cache timeToLive must be positive");
+            }
+            if (responseCache.getMaxEntries() != null && responseCache.getMaxEntries() < 1) {
+                throw new ValidationException("Response cache maxEntries cannot be less than 1");
+            }
+        }
     }
 }
@@ -24,34 +24,37 @@ public class ReviewPromptCombiner {
         final List<ReviewPrompt> reviewPrompts = new ArrayList<>();
 
         for (int i = 0; i < resolvedFilesRulesList.size(); i++) {
-            ResolvedFilesRules resolvedFRBatch = resolvedFilesRulesList.get(i);
-            try {
-                logger.debug(
-                        "Preparing review prompt #{}: {} files, {} rules",
-                        i,
-                        resolvedFRBatch.getResolvedFilePaths() != null ? resolvedFRBatch.getResolvedFilePaths().size() : 0,
-                        resolvedFRBatch.getRules() != null ? resolvedFRBatch.getRules().size() : 0
-                );
-                ReviewPrompt reviewPrompt = resolvedFilePathToPromptMapper.map(resolvedFRBatch, useReasoning);
-
-                logger.debug(
-                        "Mapped Review prompt #{}, files count = {}, rules count = {}",
-                        i,
-                        reviewPrompt.getFiles() != null ? reviewPrompt.getFiles().size() : 0,
-                        reviewPrompt.getRules() != null ? reviewPrompt.getRules().size() : 0
-                );
-
-                reviewPrompts.add(reviewPrompt);
-
-                logger.info("Review prompt #{} prepared successfully.", i);
-
-            } catch (Exception e) {
-                logger.error("Review prompt #{} preparation failed with exception: '{}'", i, e.getMessage(), e);
-                throw new LLMCodeReviewRuntimeException(String.format("Review prompt #%d failed: %s", i, e.getMessage()), e);
-            }
+            reviewPrompts.add(create(i, resolvedFilesRulesList.get(i), useReasoning));
         }
 
         return reviewPrompts;
     }
 
+    public ReviewPrompt create(int index, ResolvedFilesRules resolvedFRBatch, boolean useReasoning) {
+        try {
+            logger.debug(
+                    "Preparing review prompt #{}: {} files, {} rules",
+                    index,
+                    resolvedFRBatch.getResolvedFilePaths() != null ? resolvedFRBatch.getResolvedFilePaths().size() : 0,
+                    resolvedFRBatch.getRules() != null ? resolvedFRBatch.getRules().size() : 0
+            );
+            ReviewPrompt reviewPrompt = resolvedFilePathToPromptMapper.map(resolvedFRBatch, useReasoning);
+
+            logger.debug(
+                    "Mapped Review prompt #{}, files count = {}, rules count = {}",
+                    index,
+                    reviewPrompt.getFiles() != null ? reviewPrompt.getFiles().size() : 0,
+                    reviewPrompt.getRules() != null ? reviewPrompt.getRules().size() : 0
+            );
+
+            logger.info("Review prompt #{} prepared successfully.", index);
+
+            return reviewPrompt;
+
+        } catch (Exception e) {
+            logger.error("Review prompt #{} preparation failed with exception: '{}'", index, e.getMessage(), e);
+            throw new LLMCodeReviewRuntimeException(String.format("Review prompt #%d failed: %s", index, e.getMessage()), e);
+        }
+    }
+
 }
@@ -3,6 +3,7 @@ package com.quasarbyte.llm.codereview.sdk.service.impl;
 import com.quasarbyte.llm.codereview.sdk.repository.PromptRepository;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptCreator;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptCreatorFactory;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultCarryForwardFactory;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
 import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewPromptJsonMapper;
 
@@ -11,18 +12,20 @@ public class ReviewPromptCreatorFactoryImpl implements ReviewPromptCreatorFactor
     private final PromptRepository promptRepository;
     private final ReviewPromptCombiner reviewPromptCombiner;
     private final ReviewPromptJsonMapper reviewPromptJsonMapper;
+    private final ReviewResultCarryForwardFactory reviewResultCarryForwardFactory;
     private final ReviewRunContext reviewRunContext;
 
-    public ReviewPromptCreatorFactoryImpl(PromptRepository promptRepository, ReviewPromptCombiner reviewPromptCombiner, ReviewPromptJsonMapper reviewPromptJsonMapper, ReviewRunContext reviewRunContext) {
+    public ReviewPromptCreatorFactoryImpl(PromptRepository promptRepository, ReviewPromptCombiner reviewPromptCombiner, ReviewPromptJsonMapper reviewPromptJsonMapper, ReviewResultCarryForwardFactory reviewResultCarryForwardFactory, ReviewRunContext reviewRunContext) {
         this.promptRepository = promptRepository;
         this.reviewPromptCombiner = reviewPromptCombiner;
         this.reviewPromptJsonMapper = reviewPromptJsonMapper;
+        this.reviewResultCarryForwardFactory = reviewResultCarryForwardFactory;
         this.reviewRunContext = reviewRunContext;
     }
 
     @Override
     public ReviewPromptCreator create() {
-        return new ReviewPromptCreatorImpl(promptRepository, reviewPromptCombiner, reviewPromptJsonMapper, reviewRunContext);
+        return new ReviewPromptCreatorImpl(promptRepository, reviewPromptCombiner, reviewPromptJsonMapper, reviewResultCarryForwardFactory, reviewRunContext);
     }
 
 }
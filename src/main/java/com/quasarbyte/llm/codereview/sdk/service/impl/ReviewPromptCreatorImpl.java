@@ -1,28 +1,49 @@
 package com.quasarbyte.llm.codereview.sdk.service.impl;
 
 import com.quasarbyte.llm.codereview.sdk.model.context.ReviewRunDetails;
+import com.quasarbyte.llm.codereview.sdk.model.db.PromptDB;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.PersistenceConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
 import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPromptJson;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilePath;
 import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilesRules;
 import com.quasarbyte.llm.codereview.sdk.repository.PromptRepository;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptCreator;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptPipeline;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultCarryForward;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultCarryForwardFactory;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
 import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewPromptJsonMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 public class ReviewPromptCreatorImpl implements ReviewPromptCreator {
 
+    private static final Logger logger = LoggerFactory.getLogger(ReviewPromptCreatorImpl.class);
+
     private final PromptRepository promptRepository;
     private final ReviewPromptCombiner reviewPromptCombiner;
     private final ReviewPromptJsonMapper reviewPromptJsonMapper;
+    private final ReviewResultCarryForwardFactory reviewResultCarryForwardFactory;
     private final ReviewRunContext reviewRunContext;
 
-    public ReviewPromptCreatorImpl(PromptRepository promptRepository, ReviewPromptCombiner reviewPromptCombiner, ReviewPromptJsonMapper reviewPromptJsonMapper, ReviewRunContext reviewRunContext) {
+    public ReviewPromptCreatorImpl(PromptRepository promptRepository, ReviewPromptCombiner reviewPromptCombiner, ReviewPromptJsonMapper reviewPromptJsonMapper, ReviewResultCarryForwardFactory reviewResultCarryForwardFactory, ReviewRunContext reviewRunContext) {
         this.promptRepository = promptRepository;
         this.reviewPromptCombiner = reviewPromptCombiner;
         this.reviewPromptJsonMapper = reviewPromptJsonMapper;
+        this.reviewResultCarryForwardFactory = reviewResultCarryForwardFactory;
         this.reviewRunContext = reviewRunContext;
     }
 
@@ -37,18 +58,149 @@ public class ReviewPromptCreatorImpl implements ReviewPromptCreator {
 
         if (reviewIsNew) {
             result = reviewPromptCombiner.create(resolvedFilesRulesList, useReasoning);
-        } else {
-            result = promptRepository.findNotFinishedPromptsByReviewId(reviewId)
+        } else if (isIncrementalReview(reviewRunDetails)) {
+            ReviewResultCarryForward reviewResultCarryForward = reviewResultCarryForwardFactory.create(reviewId);
+            result = reviewPromptCombiner.create(resolvedFilesRulesList, useReasoning)
                     .stream()
-                    .map(promptDB -> {
-                        ReviewPrompt reviewPrompt = reviewPromptJsonMapper.fromJson(promptDB.getReviewPrompt());
-                        reviewPrompt.setId(promptDB.getId());
-                        return reviewPrompt;
-                    })
+                    .map(reviewResultCarryForward::carryForward)
                     .collect(Collectors.toList());
+        } else {
+            result = new ArrayList<>(findNotFinishedPrompts(reviewId));
+            List<PromptDB> persistedPrompts = promptRepository.findByReviewId(reviewId);
+            int persistedPromptCount = persistedPrompts.size();
+            List<ResolvedFilesRules> notPersisted = getNotPersisted(resolvedFilesRulesList, persistedPrompts);
+            for (int i = 0; i < notPersisted.size(); i++) {
+                result.add(reviewPromptCombiner.create(persistedPromptCount + i, notPersisted.get(i), useReasoning));
+            }
         }
 
         return result;
     }
 
+    @Override
+    public ReviewPromptPipeline createPipeline(List<ResolvedFilesRules> resolvedFilesRulesList, boolean useReasoning, int queueCapacity,
+                                               ThreadFactory producerThreadFactory) {
+
+        ReviewRunDetails reviewRunDetails = Objects.requireNonNull(reviewRunContext.getRunDetails(), "reviewRunDetails cannot be null");
+        Long reviewId = reviewRunDetails.getReviewId();
+        boolean reviewIsNew = Objects.requireNonNull(reviewRunDetails.getReviewIsNew(), "reviewIsNew cannot be null");
+
+        if (!reviewIsNew && isIncrementalReview(reviewRunDetails)) {
+            ReviewResultCarryForward reviewResultCarryForward = reviewResultCarryForwardFactory.create(reviewId);
+            return new ReviewPromptProducerPipeline(
+                    reviewPromptCombiner,
+                    Collections.emptyList(),
+                    resolvedFilesRulesList,
+                    0,
+                    useReasoning,
+                    queueCapacity,
+                    reviewResultCarryForward::carryForward,
+                    producerThreadFactory).start();
+        }
+
+        final List<ReviewPrompt> builtReviewPrompts;
+        final List<ResolvedFilesRules> notPersisted;
+        final int firstPromptIndex;
+
+        if (reviewIsNew) {
+            builtReviewPrompts = Collections.emptyList();
+            notPersisted = resolvedFilesRulesList;
+            firstPromptIndex = 0;
+        } else {
+            builtReviewPrompts = findNotFinishedPrompts(reviewId);
+            List<PromptDB> persistedPrompts = promptRepository.findByReviewId(reviewId);
+            firstPromptIndex = persistedPrompts.size();
+            notPersisted = getNotPersisted(resolvedFilesRulesList, persistedPrompts);
+        }
+
+        if (notPersisted.isEmpty()) {
+            return new ReviewPromptListPipeline(builtReviewPrompts);
+        }
+
+        return new ReviewPromptProducerPipeline(
+                reviewPromptCombiner,
+                builtReviewPrompts,
+                notPersisted,
+                firstPromptIndex,
+                useReasoning,
+                queueCapacity,
+                UnaryOperator.identity(),
+                producerThreadFactory).start();
+    }
+
+    /**
+     * An incremental review rebuilds all prompts from the current files instead of resuming the unfinished ones,
+     * unchanged files are carried forward by {@link ReviewResultCarryForward}.
+     */
+    private static boolean isIncrementalReview(ReviewRunDetails reviewRunDetails) {
+        PersistenceConfiguration persistenceConfiguration = reviewRunDetails.getPersistenceConfiguration();
+        return persistenceConfiguration != null && Boolean.TRUE.equals(persistenceConfiguration.getIncrementalReview());
+    }
+
+    private List<ReviewPrompt> findNotFinishedPrompts(Long reviewId) {
+        return promptRepository.findNotFinishedPromptsByReviewId(reviewId)
+                .stream()
+                .map(promptDB -> {
+                    ReviewPrompt reviewPrompt = reviewPromptJsonMapper.fromJson(promptDB.getReviewPrompt());
+                    reviewPrompt.setId(promptDB.getId());
+                    return reviewPrompt;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * A run that stopped while prompts were still being built leaves batches without prompts, these are built when
+     * the review is resumed. Batches are matched to the persisted prompts by their files and rules, not by position,
+     * so a changed order or set of batches does not skip or duplicate prompts.
+     */
+    private static List<ResolvedFilesRules> getNotPersisted(List<ResolvedFilesRules> resolvedFilesRulesList, List<PromptDB> persistedPrompts) {
+        Map<List<List<String>>, Integer> persistedPromptCounts = new HashMap<>();
+        for (PromptDB persistedPrompt : persistedPrompts) {
+            persistedPromptCounts.merge(toPromptKey(persistedPrompt.getReviewPrompt()), 1, Integer::sum);
+        }
+
+        List<ResolvedFilesRules> notPersisted = new ArrayList<>();
+        for (ResolvedFilesRules resolvedFilesRules : resolvedFilesRulesList) {
+            List<List<String>> promptKey = toPromptKey(resolvedFilesRules);
+            Integer persistedPromptCount = persistedPromptCounts.get(promptKey);
+            if (persistedPromptCount != null && persistedPromptCount > 0) {
+                persistedPromptCounts.put(promptKey, persistedPromptCount - 1);
+            } else {
+                notPersisted.add(resolvedFilesRules);
+            }
+        }
+
+        if (!notPersisted.isEmpty()) {
+            logger.info("{} of {} review prompts were persisted by previous runs, building the remaining {}.",
+                    resolvedFilesRulesList.size() - notPersisted.size(), resolvedFilesRulesList.size(), notPersisted.size());
+        }
+        return notPersisted;
+    }
+
+    /**
+     * @return the file paths and rule codes of the batch, in order
+     */
+    private static List<List<String>> toPromptKey(ResolvedFilesRules resolvedFilesRules) {
+        List<String> filePaths = resolvedFilesRules.getResolvedFilePaths() == null ? Collections.emptyList()
+                : resolvedFilesRules.getResolvedFilePaths().stream().map(ResolvedFilePath::getResolvedPath).collect(Collectors.toList());
+        List<String> ruleCodes = resolvedFilesRules.getRules() == null ? Collections.emptyList()
+                : resolvedFilesRules.getRules().stream().map(Rule::getCode).collect(Collectors.toList());
+        return Arrays.asList(filePaths, ruleCodes);
+    }
+
+    /**
+     * @return the file paths and rule codes of the persisted prompt, in order
+     */
+    private static List<List<String>> toPromptKey(ReviewPromptJson reviewPromptJson) {
+        List<String> filePaths = reviewPromptJson == null || reviewPromptJson.getFiles() == null ? Collections.emptyList()
+                : reviewPromptJson.getFiles().stream()
+                .map(file -> file.getSourceFileKey() != null ? file.getSourceFileKey().getFilePath() : null)
+                .collect(Collectors.toList());
+        List<String> ruleCodes = reviewPromptJson == null || reviewPromptJson.getRules() == null ? Collections.emptyList()
+                : reviewPromptJson.getRules().stream()
+                .map(rule -> rule.getRuleKey() != null ? rule.getRuleKey().getCode() : null)
+                .collect(Collectors.toList());
+        return Arrays.asList(filePaths, ruleCodes);
+    }
+
 }
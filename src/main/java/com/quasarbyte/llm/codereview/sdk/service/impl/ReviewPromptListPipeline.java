@@ -0,0 +1,35 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptPipeline;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Pipeline over prompts that are already built.
+ */
+public class ReviewPromptListPipeline implements ReviewPromptPipeline {
+
+    private final List<ReviewPrompt> reviewPrompts;
+    private int nextIndex = 0;
+
+    public ReviewPromptListPipeline(List<ReviewPrompt> reviewPrompts) {
+        this.reviewPrompts = Objects.requireNonNull(reviewPrompts, "reviewPrompts must not be null");
+    }
+
+    @Override
+    public int size() {
+        return reviewPrompts.size();
+    }
+
+    @Override
+    public ReviewPrompt next() {
+        return nextIndex < reviewPrompts.size() ? reviewPrompts.get(nextIndex++) : null;
+    }
+
+    @Override
+    public void close() {
+        // nothing to release
+    }
+}
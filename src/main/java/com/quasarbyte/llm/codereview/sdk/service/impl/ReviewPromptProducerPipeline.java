@@ -0,0 +1,190 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilesRules;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptPipeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * Builds and persists review prompts on a background producer thread and hands them over through a bounded queue.
+ * <p>
+ * Prompts are produced strictly in order, so prompt ids are assigned in the same order as before.
+ * The queue capacity bounds how far the producer can run ahead of the dispatcher.
+ */
+public class ReviewPromptProducerPipeline implements ReviewPromptPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewPromptProducerPipeline.class);
+
+    private static final ReviewPrompt END_OF_PROMPTS = new ReviewPrompt();
+
+    // An interrupt does not abort a prompt that is being built and persisted, the producer stops once it is done
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
+    private final ReviewPromptCombiner reviewPromptCombiner;
+    private final List<ReviewPrompt> builtReviewPrompts;
+    private final List<ResolvedFilesRules> resolvedFilesRulesList;
+    private final int firstPromptIndex;
+    private final boolean useReasoning;
+    private final UnaryOperator<ReviewPrompt> reviewPromptFinisher;
+    private final BlockingQueue<ReviewPrompt> queue;
+    private final ExecutorService producerExecutor;
+
+    private volatile Throwable failure;
+    private boolean finished = false;
+
+    /**
+     * @param reviewPromptCombiner   builds and persists a single prompt
+     * @param builtReviewPrompts     prompts that are already persisted, they are provided first
+     * @param resolvedFilesRulesList batches that still have to be turned into prompts
+     * @param firstPromptIndex       index of the first batch, used for logging only
+     * @param useReasoning           whether prompts are built with reasoning steps
+     * @param queueCapacity          maximum number of built prompts waiting for the dispatcher
+     */
+    public ReviewPromptProducerPipeline(ReviewPromptCombiner reviewPromptCombiner,
+                                        List<ReviewPrompt> builtReviewPrompts,
+                                        List<ResolvedFilesRules> resolvedFilesRulesList,
+                                        int firstPromptIndex,
+                                        boolean useReasoning,
+                                        int queueCapacity) {
+        this(reviewPromptCombiner, builtReviewPrompts, resolvedFilesRulesList, firstPromptIndex, useReasoning, queueCapacity, UnaryOperator.identity());
+    }
+
+    /**
+     * @param reviewPromptFinisher applied to every prompt built by the producer before it is queued
+     */
+    public ReviewPromptProducerPipeline(ReviewPromptCombiner reviewPromptCombiner,
+                                        List<ReviewPrompt> builtReviewPrompts,
+                                        List<ResolvedFilesRules> resolvedFilesRulesList,
+                                        int firstPromptIndex,
+                                        boolean useReasoning,
+                                        int queueCapacity,
+                                        UnaryOperator<ReviewPrompt> reviewPromptFinisher) {
+        this(reviewPromptCombiner, builtReviewPrompts, resolvedFilesRulesList, firstPromptIndex, useReasoning, queueCapacity, reviewPromptFinisher, null);
+    }
+
+    /**
+     * @param producerThreadFactory creates the producer thread, {@code null} for a daemon platform thread
+     */
+    public ReviewPromptProducerPipeline(ReviewPromptCombiner reviewPromptCombiner,
+                                        List<ReviewPrompt> builtReviewPrompts,
+                                        List<ResolvedFilesRules> resolvedFilesRulesList,
+                                        int firstPromptIndex,
+                                        boolean useReasoning,
+                                        int queueCapacity,
+                                        UnaryOperator<ReviewPrompt> reviewPromptFinisher,
+                                        ThreadFactory producerThreadFactory) {
+        this.reviewPromptCombiner = Objects.requireNonNull(reviewPromptCombiner, "reviewPromptCombiner must not be null");
+        this.builtReviewPrompts = Objects.requireNonNull(builtReviewPrompts, "builtReviewPrompts must not be null");
+        this.resolvedFilesRulesList = Objects.requireNonNull(resolvedFilesRulesList, "resolvedFilesRulesList must not be null");
+        this.firstPromptIndex = firstPromptIndex;
+        this.useReasoning = useReasoning;
+        this.reviewPromptFinisher = Objects.requireNonNull(reviewPromptFinisher, "reviewPromptFinisher must not be null");
+
+        if (queueCapacity < 1) {
+            throw new LLMCodeReviewRuntimeException("Prompt queue capacity cannot be less than 1");
+        }
+
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.producerExecutor = Executors.newSingleThreadExecutor(producerThreadFactory != null ? producerThreadFactory : runnable -> {
+            Thread thread = new Thread(runnable, "review-prompt-producer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts the producer. The producer thread is created by the calling thread,
+     * so it inherits the review run and persistence contexts.
+     */
+    public ReviewPromptProducerPipeline start() {
+        logger.info("Starting review prompt producer: {} prompts already built, {} prompts to build, queue capacity {}.",
+                builtReviewPrompts.size(), resolvedFilesRulesList.size(), queue.remainingCapacity());
+        producerExecutor.execute(this::produce);
+        producerExecutor.shutdown();
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return builtReviewPrompts.size() + resolvedFilesRulesList.size();
+    }
+
+    @Override
+    public ReviewPrompt next() throws InterruptedException {
+        if (finished) {
+            return null;
+        }
+
+        ReviewPrompt reviewPrompt = queue.take();
+
+        if (reviewPrompt == END_OF_PROMPTS) {
+            finished = true;
+            if (failure != null) {
+                throw new LLMCodeReviewRuntimeException(String.format("Review prompt production failed: %s", failure.getMessage()), failure);
+            }
+            return null;
+        }
+
+        return reviewPrompt;
+    }
+
+    @Override
+    public void close() {
+        if (!producerExecutor.isTerminated()) {
+            logger.debug("Stopping review prompt producer.");
+            producerExecutor.shutdownNow();
+            try {
+                if (!producerExecutor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    logger.warn("Review prompt producer did not stop within {} seconds.", CLOSE_TIMEOUT_SECONDS);
+                }
+            } catch (InterruptedException e) {
+                logger.warn("Interrupted while waiting for the review prompt producer to stop.");
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void produce() {
+        try {
+            for (ReviewPrompt reviewPrompt : builtReviewPrompts) {
+                queue.put(reviewPrompt);
+            }
+
+            for (int i = 0; i < resolvedFilesRulesList.size(); i++) {
+                if (Thread.currentThread().isInterrupted()) {
+                    logger.info("Review prompt producer stopped after {} of {} prompts.", i, resolvedFilesRulesList.size());
+                    return;
+                }
+                queue.put(reviewPromptFinisher.apply(reviewPromptCombiner.create(firstPromptIndex + i, resolvedFilesRulesList.get(i), useReasoning)));
+            }
+
+            queue.put(END_OF_PROMPTS);
+            logger.debug("Review prompt producer finished.");
+
+        } catch (InterruptedException e) {
+            logger.info("Review prompt producer interrupted.");
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            // Errors included, without the end marker the dispatcher would wait for the next prompt forever
+            logger.error("Review prompt producer failed: '{}'", e.getMessage(), e);
+            failure = e;
+            try {
+                queue.put(END_OF_PROMPTS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
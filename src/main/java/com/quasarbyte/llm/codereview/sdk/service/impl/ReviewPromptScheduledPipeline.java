@@ -0,0 +1,51 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptPipeline;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Pipeline over built prompts in dispatch order, which remembers the original position of every prompt.
+ */
+public class ReviewPromptScheduledPipeline implements ReviewPromptPipeline {
+
+    private final ReviewPromptPipeline sourcePipeline;
+    private final List<ReviewPrompt> reviewPrompts;
+    private final int[] resultIndexes;
+    private int nextIndex = 0;
+
+    /**
+     * @param reviewPrompts prompts in dispatch order
+     * @param resultIndexes original position of each prompt of {@code reviewPrompts}
+     */
+    public ReviewPromptScheduledPipeline(ReviewPromptPipeline sourcePipeline, List<ReviewPrompt> reviewPrompts, int[] resultIndexes) {
+        this.sourcePipeline = Objects.requireNonNull(sourcePipeline, "sourcePipeline must not be null");
+        this.reviewPrompts = Objects.requireNonNull(reviewPrompts, "reviewPrompts must not be null");
+        this.resultIndexes = Objects.requireNonNull(resultIndexes, "resultIndexes must not be null");
+        if (reviewPrompts.size() != resultIndexes.length) {
+            throw new IllegalArgumentException("reviewPrompts and resultIndexes must have the same size");
+        }
+    }
+
+    @Override
+    public int size() {
+        return reviewPrompts.size();
+    }
+
+    @Override
+    public ReviewPrompt next() {
+        return nextIndex < reviewPrompts.size() ? reviewPrompts.get(nextIndex++) : null;
+    }
+
+    @Override
+    public int getResultIndex(int dispatchIndex) {
+        return resultIndexes[dispatchIndex];
+    }
+
+    @Override
+    public void close() {
+        sourcePipeline.close();
+    }
+}
@@ -0,0 +1,106 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.PromptSchedulingPolicy;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RuleSeverityEnum;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptPipeline;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptScheduler;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmTokenEstimator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+public class ReviewPromptSchedulerImpl implements ReviewPromptScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewPromptSchedulerImpl.class);
+
+    private static final int COMPLETION_OVERHEAD_TOKENS = 64;
+    private static final int COMPLETION_TOKENS_PER_FILE_RULE = 64;
+
+    private final PromptSchedulingPolicy schedulingPolicy;
+
+    public ReviewPromptSchedulerImpl(PromptSchedulingPolicy schedulingPolicy) {
+        this.schedulingPolicy = Objects.requireNonNull(schedulingPolicy, "schedulingPolicy must not be null");
+    }
+
+    @Override
+    public ReviewPromptPipeline schedule(ReviewPromptPipeline reviewPromptPipeline) throws InterruptedException {
+        Objects.requireNonNull(reviewPromptPipeline, "reviewPromptPipeline must not be null");
+
+        if (schedulingPolicy == PromptSchedulingPolicy.PIPELINE_ORDER) {
+            return reviewPromptPipeline;
+        }
+
+        List<ReviewPrompt> reviewPrompts = new ArrayList<>(reviewPromptPipeline.size());
+        ReviewPrompt reviewPrompt;
+        while ((reviewPrompt = reviewPromptPipeline.next()) != null) {
+            reviewPrompts.add(reviewPrompt);
+        }
+
+        final long[] costs = new long[reviewPrompts.size()];
+        final int[] severityRanks = new int[reviewPrompts.size()];
+        List<Integer> resultIndexes = new ArrayList<>(reviewPrompts.size());
+        for (int i = 0; i < reviewPrompts.size(); i++) {
+            costs[i] = estimateCost(reviewPrompts.get(i));
+            severityRanks[i] = getSeverityRank(reviewPrompts.get(i));
+            resultIndexes.add(i);
+        }
+
+        Comparator<Integer> longestFirst = (a, b) -> Long.compare(costs[b], costs[a]);
+        if (schedulingPolicy == PromptSchedulingPolicy.CRITICAL_SEVERITY_FIRST) {
+            Comparator<Integer> mostSevereFirst = Comparator.comparingInt(index -> severityRanks[index]);
+            resultIndexes.sort(mostSevereFirst.thenComparing(longestFirst));
+        } else {
+            resultIndexes.sort(longestFirst);
+        }
+
+        List<ReviewPrompt> scheduledReviewPrompts = new ArrayList<>(reviewPrompts.size());
+        int[] scheduledResultIndexes = new int[reviewPrompts.size()];
+        for (int i = 0; i < resultIndexes.size(); i++) {
+            scheduledResultIndexes[i] = resultIndexes.get(i);
+            scheduledReviewPrompts.add(reviewPrompts.get(resultIndexes.get(i)));
+        }
+
+        if (!resultIndexes.isEmpty()) {
+            logger.info("Scheduled {} review prompts ({}), estimated cost of the first prompt: {} tokens, of the last prompt: {} tokens.",
+                    resultIndexes.size(), schedulingPolicy,
+                    costs[resultIndexes.get(0)], costs[resultIndexes.get(resultIndexes.size() - 1)]);
+        }
+
+        return new ReviewPromptScheduledPipeline(reviewPromptPipeline, scheduledReviewPrompts, scheduledResultIndexes);
+    }
+
+    /**
+     * Prompt tokens plus the completion tokens expected for a comment per reviewed file and rule.
+     */
+    @Override
+    public long estimateCost(ReviewPrompt reviewPrompt) {
+        if (reviewPrompt == null) {
+            return 0;
+        }
+        int fileCount = reviewPrompt.getFiles() != null ? reviewPrompt.getFiles().size() : 0;
+        int ruleCount = reviewPrompt.getRules() != null ? Math.max(1, reviewPrompt.getRules().size()) : 1;
+        long completionTokens = COMPLETION_OVERHEAD_TOKENS + (long) fileCount * ruleCount * COMPLETION_TOKENS_PER_FILE_RULE;
+        return LlmTokenEstimator.estimatePromptTokens(reviewPrompt) + completionTokens;
+    }
+
+    /**
+     * Ordinal of the most severe rule of the prompt, prompts without rules rank last.
+     */
+    private static int getSeverityRank(ReviewPrompt reviewPrompt) {
+        int rank = RuleSeverityEnum.values().length;
+        if (reviewPrompt.getRules() != null) {
+            for (PromptRule rule : reviewPrompt.getRules()) {
+                if (rule != null && rule.getSeverity() != null) {
+                    rank = Math.min(rank, rule.getSeverity().ordinal());
+                }
+            }
+        }
+        return rank;
+    }
+}
@@ -71,7 +71,8 @@ public class ReviewResultAggregatorImpl implements ReviewResultAggregator {
         AggregatedCompletionUsage usage = new AggregatedCompletionUsage()
                 .setCompletionTokens(completionUsage.getCompletionTokens())
                 .setPromptTokens(completionUsage.getPromptTokens())
-                .setTotalTokens(completionUsage.getTotalTokens());
+                .setTotalTokens(completionUsage.getTotalTokens())
+                .setCachedPromptTokens(completionUsage.getCachedPromptTokens());
 
         logger.info("Aggregation complete: {} aggregated files, {} unhandled files.",
                 fileMap.size(), unhandledFiles.size());
@@ -95,7 +96,8 @@ public class ReviewResultAggregatorImpl implements ReviewResultAggregator {
                         new ReviewedCompletionUsage()
                                 .setCompletionTokens(0L)
                                 .setPromptTokens(0L)
-                                .setTotalTokens(0L),
+                                .setTotalTokens(0L)
+                                .setCachedPromptTokens(0L),
                         (agg, u) -> {
                             agg.setCompletionTokens(
                                     agg.getCompletionTokens() + (u.getCompletionTokens() != null ? u.getCompletionTokens() : 0L)
@@ -106,6 +108,9 @@ public class ReviewResultAggregatorImpl implements ReviewResultAggregator {
                             agg.setTotalTokens(
                                     agg.getTotalTokens() + (u.getTotalTokens() != null ? u.getTotalTokens() : 0L)
                             );
+                            agg.setCachedPromptTokens(
+                                    agg.getCachedPromptTokens() + (u.getCachedPromptTokens() != null ? u.getCachedPromptTokens() : 0L)
+                            );
                             return agg;
                         }
                 );
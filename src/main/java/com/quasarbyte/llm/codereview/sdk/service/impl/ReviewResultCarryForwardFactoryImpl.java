@@ -0,0 +1,88 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.db.InferenceDB;
+import com.quasarbyte.llm.codereview.sdk.model.db.InferenceStatusEnum;
+import com.quasarbyte.llm.codereview.sdk.model.db.PromptDB;
+import com.quasarbyte.llm.codereview.sdk.model.db.ResolvedFileDB;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedFileJson;
+import com.quasarbyte.llm.codereview.sdk.repository.InferenceRepository;
+import com.quasarbyte.llm.codereview.sdk.repository.PromptRepository;
+import com.quasarbyte.llm.codereview.sdk.repository.ResolvedFileRepository;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultCarryForward;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultCarryForwardFactory;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewPromptJsonMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ReviewResultCarryForwardFactoryImpl implements ReviewResultCarryForwardFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewResultCarryForwardFactoryImpl.class);
+
+    private final InferenceRepository inferenceRepository;
+    private final PromptRepository promptRepository;
+    private final ResolvedFileRepository resolvedFileRepository;
+    private final ReviewPromptJsonMapper reviewPromptJsonMapper;
+
+    public ReviewResultCarryForwardFactoryImpl(InferenceRepository inferenceRepository,
+                                               PromptRepository promptRepository,
+                                               ResolvedFileRepository resolvedFileRepository,
+                                               ReviewPromptJsonMapper reviewPromptJsonMapper) {
+        this.inferenceRepository = inferenceRepository;
+        this.promptRepository = promptRepository;
+        this.resolvedFileRepository = resolvedFileRepository;
+        this.reviewPromptJsonMapper = reviewPromptJsonMapper;
+    }
+
+    /**
+     * Inferences are read in the order they were saved, so the latest result of a file wins.
+     * Files reviewed before content hashes were stored have no hash and are reviewed again.
+     */
+    @Override
+    public ReviewResultCarryForward create(Long reviewId) {
+        Objects.requireNonNull(reviewId, "reviewId must not be null");
+
+        Map<Long, PromptDB> prompts = promptRepository.findByReviewId(reviewId)
+                .stream()
+                .collect(Collectors.toMap(PromptDB::getId, Function.identity()));
+
+        Map<Long, ResolvedFileDB> resolvedFiles = resolvedFileRepository.findByReviewId(reviewId)
+                .stream()
+                .collect(Collectors.toMap(ResolvedFileDB::getId, Function.identity()));
+
+        Map<String, ReviewedFileJson> previousResults = new HashMap<>();
+
+        for (InferenceDB inference : inferenceRepository.findByReviewId(reviewId)) {
+            PromptDB promptDB = prompts.get(inference.getPromptId());
+
+            if (inference.getStatus() != InferenceStatusEnum.FINISHED
+                    || inference.getReviewedResultItem() == null
+                    || inference.getReviewedResultItem().getFiles() == null
+                    || promptDB == null
+                    || promptDB.getReviewPrompt() == null) {
+                continue;
+            }
+
+            ReviewPrompt previousPrompt = reviewPromptJsonMapper.fromJson(promptDB.getReviewPrompt());
+
+            for (ReviewedFileJson reviewedFile : inference.getReviewedResultItem().getFiles()) {
+                ResolvedFileDB resolvedFile = reviewedFile.getPromptFile() != null ? resolvedFiles.get(reviewedFile.getPromptFile().getId()) : null;
+                if (resolvedFile != null && resolvedFile.getContentHash() != null) {
+                    previousResults.put(
+                            ReviewResultCarryForwardImpl.createKey(resolvedFile.getFilePath(), resolvedFile.getContentHash(), previousPrompt),
+                            reviewedFile);
+                }
+            }
+        }
+
+        logger.info("Loaded {} file results of previous runs of review id '{}'.", previousResults.size(), reviewId);
+
+        return new ReviewResultCarryForwardImpl(previousResults);
+    }
+}
@@ -0,0 +1,134 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFile;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedFile;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedFileJson;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedThinkStep;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultCarryForward;
+import com.quasarbyte.llm.codereview.sdk.service.util.HashUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class ReviewResultCarryForwardImpl implements ReviewResultCarryForward {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewResultCarryForwardImpl.class);
+
+    private final Map<String, ReviewedFileJson> previousResults;
+
+    /**
+     * @param previousResults finished results of previous runs by {@link #createKey(String, String, ReviewPrompt)}
+     */
+    public ReviewResultCarryForwardImpl(Map<String, ReviewedFileJson> previousResults) {
+        this.previousResults = Objects.requireNonNull(previousResults, "previousResults must not be null");
+    }
+
+    @Override
+    public ReviewPrompt carryForward(ReviewPrompt reviewPrompt) {
+        Objects.requireNonNull(reviewPrompt, "reviewPrompt must not be null");
+
+        if (previousResults.isEmpty() || reviewPrompt.getFiles() == null || reviewPrompt.getFiles().isEmpty()) {
+            return reviewPrompt;
+        }
+
+        List<PromptFile> changedFiles = new ArrayList<>();
+        List<ReviewedFile> carriedForwardFiles = new ArrayList<>();
+
+        for (PromptFile promptFile : reviewPrompt.getFiles()) {
+            ReviewedFileJson previousResult = findPreviousResult(promptFile, reviewPrompt);
+            if (previousResult == null) {
+                changedFiles.add(promptFile);
+            } else {
+                carriedForwardFiles.add(toReviewedFile(promptFile, previousResult));
+            }
+        }
+
+        if (!carriedForwardFiles.isEmpty()) {
+            logger.info("Review prompt id '{}': {} of {} files are unchanged, their previous results are carried forward.",
+                    reviewPrompt.getId(), carriedForwardFiles.size(), reviewPrompt.getFiles().size());
+            reviewPrompt.setFiles(changedFiles);
+            reviewPrompt.setCarriedForwardFiles(carriedForwardFiles);
+        }
+
+        return reviewPrompt;
+    }
+
+    /**
+     * Identifies the review of a file content: the file path, the content hash, and everything else that is sent
+     * to the LLM with the file. Rules are compared by their code, description and severity,
+     * so a changed rule description invalidates the previous results.
+     */
+    static String createKey(String filePath, String contentHash, ReviewPrompt reviewPrompt) {
+        StringBuilder key = new StringBuilder();
+        append(key, filePath);
+        append(key, contentHash);
+        append(key, String.valueOf(Boolean.TRUE.equals(reviewPrompt.getUseReasoning())));
+        appendTexts(key, reviewPrompt.getSystemPromptTexts());
+        appendTexts(key, reviewPrompt.getReviewPromptTexts());
+        appendTexts(key, reviewPrompt.getReviewTargetPromptTexts());
+        appendTexts(key, reviewPrompt.getFileGroupPromptTexts());
+
+        List<PromptRule> rules = reviewPrompt.getRules() != null ? reviewPrompt.getRules() : Collections.emptyList();
+        append(key, String.valueOf(rules.size()));
+        for (PromptRule rule : rules) {
+            append(key, rule.getRuleKey() != null ? rule.getRuleKey().getCode() : null);
+            append(key, rule.getDescription());
+            append(key, rule.getSeverity() != null ? rule.getSeverity().name() : null);
+        }
+
+        return HashUtils.sha256Hex(key.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ReviewedFileJson findPreviousResult(PromptFile promptFile, ReviewPrompt reviewPrompt) {
+        if (promptFile.getSourceFile() == null || promptFile.getSourceFile().getContent() == null) {
+            return null;
+        }
+        String contentHash = HashUtils.sha256Hex(promptFile.getSourceFile().getContent());
+        return previousResults.get(createKey(promptFile.getSourceFile().getFilePath(), contentHash, reviewPrompt));
+    }
+
+    private static ReviewedFile toReviewedFile(PromptFile promptFile, ReviewedFileJson previousResult) {
+        List<ReviewedThinkStep> thinkSteps = previousResult.getReviewedThinkSteps() != null
+                ? previousResult.getReviewedThinkSteps()
+                .stream()
+                .map(thinkStep -> new ReviewedThinkStep()
+                        .setFileId(promptFile.getId())
+                        .setFileName(thinkStep.getFileName())
+                        .setRuleId(thinkStep.getRuleId())
+                        .setRuleCode(thinkStep.getRuleCode())
+                        .setThinkText(thinkStep.getThinkText()))
+                .collect(Collectors.toList())
+                : new ArrayList<>();
+
+        return new ReviewedFile()
+                .setPromptFile(promptFile)
+                .setComments(previousResult.getComments() != null ? new ArrayList<>(previousResult.getComments()) : new ArrayList<>())
+                .setReviewedThinkSteps(thinkSteps);
+    }
+
+    private static void appendTexts(StringBuilder key, List<String> texts) {
+        List<String> values = texts != null ? texts : Collections.emptyList();
+        append(key, String.valueOf(values.size()));
+        values.forEach(value -> append(key, value));
+    }
+
+    /**
+     * Values are length prefixed, so that different values cannot produce the same key.
+     */
+    private static void append(StringBuilder key, String value) {
+        if (value == null) {
+            key.append("-1:");
+        } else {
+            key.append(value.length()).append(':').append(value);
+        }
+    }
+}
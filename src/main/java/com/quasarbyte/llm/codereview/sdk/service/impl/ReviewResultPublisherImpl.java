@@ -0,0 +1,72 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.aggregated.AggregatedResult;
+import com.quasarbyte.llm.codereview.sdk.model.context.ReviewRunDetails;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResultItem;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedDetailedResult;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedExecutionDetails;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultAggregator;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultListener;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultPublisher;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewResultItemMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Hands the result of every finished inference to the {@link ReviewResultListener} of the current review run, if any.
+ */
+public class ReviewResultPublisherImpl implements ReviewResultPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewResultPublisherImpl.class);
+
+    private final ReviewResultAggregator reviewResultAggregator;
+    private final ReviewResultItemMapper reviewResultItemMapper;
+    private final ReviewRunContext reviewRunContext;
+
+    public ReviewResultPublisherImpl(ReviewResultAggregator reviewResultAggregator, ReviewResultItemMapper reviewResultItemMapper, ReviewRunContext reviewRunContext) {
+        this.reviewResultAggregator = reviewResultAggregator;
+        this.reviewResultItemMapper = reviewResultItemMapper;
+        this.reviewRunContext = reviewRunContext;
+    }
+
+    @Override
+    public void publish(ReviewedResultItem reviewedResultItem) {
+        ReviewResultListener reviewResultListener = Optional.ofNullable(reviewRunContext.getRunDetails())
+                .map(ReviewRunDetails::getReviewResultListener)
+                .orElse(null);
+
+        if (reviewResultListener == null || reviewedResultItem == null) {
+            return;
+        }
+
+        try {
+            reviewResultListener.onReviewedResultItem(reviewedResultItem);
+
+            AggregatedResult aggregatedResult = reviewResultAggregator.aggregate(new ReviewedDetailedResult()
+                    .setExecutionDetails(new ReviewedExecutionDetails()
+                            .setReviewResultItems(Collections.singletonList(reviewedResultItem)))
+                    .setFiles(reviewedResultItem.getFiles() != null ? reviewedResultItem.getFiles() : Collections.emptyList()));
+
+            List<ReviewResultItem> reviewResultItems = aggregatedResult.getFiles()
+                    .stream()
+                    .sorted(Comparator.comparing(aggregatedFile -> aggregatedFile.getSourceFile().getFilePath()))
+                    .map(reviewResultItemMapper::toReviewResultItem)
+                    .collect(Collectors.toList());
+
+            reviewResultListener.onReviewResultItems(reviewResultItems);
+
+            logger.debug("Published {} review result items to listener.", reviewResultItems.size());
+        } catch (Exception e) {
+            logger.warn("Review result listener failed, error message: '{}'", e.getMessage(), e);
+        }
+    }
+
+}
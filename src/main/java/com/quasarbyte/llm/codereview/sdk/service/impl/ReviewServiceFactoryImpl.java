@@ -4,7 +4,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.quasarbyte.llm.codereview.sdk.repository.*;
 import com.quasarbyte.llm.codereview.sdk.repository.impl.InferenceRepositoryFactoryImpl;
+import com.quasarbyte.llm.codereview.sdk.repository.impl.LlmResponseCacheRepositoryFactoryImpl;
 import com.quasarbyte.llm.codereview.sdk.repository.impl.PromptRepositoryFactoryImpl;
+import com.quasarbyte.llm.codereview.sdk.repository.impl.ResolvedFileRepositoryFactoryImpl;
 import com.quasarbyte.llm.codereview.sdk.repository.impl.ReviewTargetRepositoryFactoryImpl;
 import com.quasarbyte.llm.codereview.sdk.repository.impl.ReviewResultRepositoryFactoryImpl;
 import com.quasarbyte.llm.codereview.sdk.repository.impl.ReviewRepositoryFactoryImpl;
@@ -33,9 +35,11 @@ import com.quasarbyte.llm.codereview.sdk.service.liquibase.manager.LiquibaseMigr
 import com.quasarbyte.llm.codereview.sdk.service.liquibase.manager.impl.LiquibaseMigrationManagerFactoryImpl;
 import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewPromptJsonMapper;
 import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewPromptJsonMapperFactory;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewResultItemMapper;
 import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewedResultItemJsonMapper;
 import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewedResultItemJsonMapperFactory;
 import com.quasarbyte.llm.codereview.sdk.service.mapper.impl.ReviewPromptJsonMapperFactoryImpl;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.impl.ReviewResultItemMapperFactoryImpl;
 import com.quasarbyte.llm.codereview.sdk.service.mapper.impl.ReviewedResultItemJsonMapperFactoryImpl;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,9 +58,6 @@ public class ReviewServiceFactoryImpl implements ReviewServiceFactory {
         logger.debug("Instantiating ChatCompletionCreateParamsFactory");
         ChatCompletionCreateParamsFactory chatCompletionCreateParamsFactory = new ChatCompletionCreateParamsFactoryImpl();
 
-        logger.debug("Instantiating LlmReviewProcessor");
-        LlmReviewProcessor llmReviewProcessor = new LlmReviewProcessorImpl(llmMessagesMapper, chatCompletionCreateParamsFactory);
-
         logger.debug("Instantiating DBConnectionContext");
         DBConnectionContext dbConnectionContext = new DBConnectionContextFactoryImpl().create();
 
@@ -94,6 +95,18 @@ public class ReviewServiceFactoryImpl implements ReviewServiceFactory {
         logger.debug("Instantiating ReviewRunContext");
         ReviewRunContext reviewRunContext = reviewRunContextFactory.create();
 
+        logger.debug("Instantiating LlmResponseCacheRepositoryFactory");
+        LlmResponseCacheRepositoryFactory llmResponseCacheRepositoryFactory = new LlmResponseCacheRepositoryFactoryImpl(jdbcTemplate);
+
+        logger.debug("Instantiating LlmResponseCache");
+        LlmResponseCache llmResponseCache = new LlmResponseCacheImpl(llmResponseCacheRepositoryFactory.create());
+
+        logger.debug("Instantiating LlmRequestRateLimiter");
+        LlmRequestRateLimiter llmRequestRateLimiter = new LlmRequestRateLimiterImpl();
+
+        logger.debug("Instantiating LlmReviewProcessor");
+        LlmReviewProcessor llmReviewProcessor = new LlmReviewProcessorImpl(llmMessagesMapper, chatCompletionCreateParamsFactory, llmResponseCache, reviewRunContext, llmRequestRateLimiter);
+
         logger.debug("Instantiating ReviewPromptCombinerFactory");
         ReviewPromptCombinerFactory reviewPromptCombinerFactory = new ReviewPromptCombinerFactoryImpl(dbPojoJsonConvertor, jdbcTemplate, objectMapper, reviewRunContext);
 
@@ -112,26 +125,41 @@ public class ReviewServiceFactoryImpl implements ReviewServiceFactory {
         logger.debug("Instantiating ReviewPromptJsonMapper");
         ReviewPromptJsonMapper reviewPromptJsonMapper = reviewPromptJsonMapperFactory.create();
 
-        logger.debug("Instantiating ReviewPromptCreatorFactory");
-        ReviewPromptCreatorFactory reviewPromptCreatorFactory = new ReviewPromptCreatorFactoryImpl(promptRepository, reviewPromptCombiner, reviewPromptJsonMapper, reviewRunContext);
-
-        logger.debug("Instantiating ReviewPromptCreator");
-        ReviewPromptCreator reviewPromptCreator = reviewPromptCreatorFactory.create();
-
         logger.debug("Instantiating InferenceRepositoryFactory");
         InferenceRepositoryFactory inferenceRepositoryFactory = new InferenceRepositoryFactoryImpl(dbPojoJsonConvertor,  jdbcTemplate);
 
         logger.debug("Instantiating InferenceRepository");
         InferenceRepository inferenceRepository = inferenceRepositoryFactory.create();
 
+        logger.debug("Instantiating ResolvedFileRepositoryFactory");
+        ResolvedFileRepositoryFactory resolvedFileRepositoryFactory = new ResolvedFileRepositoryFactoryImpl(jdbcTemplate);
+
+        logger.debug("Instantiating ReviewResultCarryForwardFactory");
+        ReviewResultCarryForwardFactory reviewResultCarryForwardFactory = new ReviewResultCarryForwardFactoryImpl(inferenceRepository, promptRepository, resolvedFileRepositoryFactory.create(), reviewPromptJsonMapper);
+
+        logger.debug("Instantiating ReviewPromptCreatorFactory");
+        ReviewPromptCreatorFactory reviewPromptCreatorFactory = new ReviewPromptCreatorFactoryImpl(promptRepository, reviewPromptCombiner, reviewPromptJsonMapper, reviewResultCarryForwardFactory, reviewRunContext);
+
+        logger.debug("Instantiating ReviewPromptCreator");
+        ReviewPromptCreator reviewPromptCreator = reviewPromptCreatorFactory.create();
+
         logger.debug("Instantiating ReviewedResultItemJsonMapperFactory");
         ReviewedResultItemJsonMapperFactory reviewedResultItemJsonMapperFactory = new ReviewedResultItemJsonMapperFactoryImpl();
 
         logger.debug("Instantiating ReviewedResultItemJsonMapper");
         ReviewedResultItemJsonMapper reviewedResultItemJsonMapper = reviewedResultItemJsonMapperFactory.create();
 
+        logger.debug("Instantiating ReviewResultAggregator");
+        ReviewResultAggregator reviewResultAggregator = new ReviewResultAggregatorImpl();
+
+        logger.debug("Instantiating ReviewResultItemMapper");
+        ReviewResultItemMapper reviewResultItemMapper = new ReviewResultItemMapperFactoryImpl().create();
+
+        logger.debug("Instantiating ReviewResultPublisher");
+        ReviewResultPublisher reviewResultPublisher = new ReviewResultPublisherImpl(reviewResultAggregator, reviewResultItemMapper, reviewRunContext);
+
         logger.debug("Instantiating LlmReviewProcessorStatefulFactoryImpl");
-        LlmReviewProcessorStatefulFactoryImpl llmReviewProcessorStatefulFactory = new LlmReviewProcessorStatefulFactoryImpl(inferenceRepository, llmReviewProcessor, reviewRunContext, reviewedResultItemJsonMapper);
+        LlmReviewProcessorStatefulFactoryImpl llmReviewProcessorStatefulFactory = new LlmReviewProcessorStatefulFactoryImpl(inferenceRepository, llmReviewProcessor, reviewRunContext, reviewedResultItemJsonMapper, reviewResultPublisher);
 
         logger.debug("Instantiating LlmReviewProcessor");
         LlmReviewProcessor llmReviewProcessorStatefulProcessor = llmReviewProcessorStatefulFactory.create();
@@ -142,11 +170,21 @@ public class ReviewServiceFactoryImpl implements ReviewServiceFactory {
         logger.debug("Instantiating LlmClientLoadBalancerRandom");
         LlmClientLoadBalancerRandom randomLoadBalancer = new LlmClientLoadBalancerRandomImpl();
 
+        logger.debug("Instantiating LlmClientLoadBalancerLeastOutstanding");
+        LlmClientLoadBalancerLeastOutstanding leastOutstandingLoadBalancer = new LlmClientLoadBalancerLeastOutstandingImpl();
+
+        logger.debug("Instantiating LlmClientLoadBalancerLatencyEwma");
+        LlmClientLoadBalancerLatencyEwma latencyEwmaLoadBalancer = new LlmClientLoadBalancerLatencyEwmaImpl();
+
+        logger.debug("Instantiating LlmClientLoadBalancerWeighted");
+        LlmClientLoadBalancerWeighted weightedLoadBalancer = new LlmClientLoadBalancerWeightedImpl();
+        ThreadPerTaskExecutorFactory threadPerTaskExecutorFactory = new ThreadPerTaskExecutorFactoryImpl();
+
         logger.debug("Instantiating SingleThreadTaskDispatcher");
         SingleThreadTaskDispatcher singleThreadTaskDispatcher = new SingleThreadTaskDispatcherImpl(llmReviewProcessorStatefulProcessor, reviewPromptCreator, roundRobinLoadBalancer, randomLoadBalancer);
 
         logger.debug("Instantiating MultiThreadTaskDispatcher");
-        MultiThreadTaskDispatcher multiThreadTaskDispatcher = new MultiThreadTaskDispatcherImpl(llmReviewProcessorStatefulProcessor, reviewPromptCreator, roundRobinLoadBalancer, randomLoadBalancer);
+        MultiThreadTaskDispatcher multiThreadTaskDispatcher = new MultiThreadTaskDispatcherImpl(llmReviewProcessorStatefulProcessor, reviewPromptCreator, roundRobinLoadBalancer, randomLoadBalancer, leastOutstandingLoadBalancer, latencyEwmaLoadBalancer, weightedLoadBalancer, threadPerTaskExecutorFactory);
 
         logger.debug("Instantiating ResolvedFilePathSplitter");
         ResolvedFilePathSplitter resolvedFilePathSplitter = new ResolvedFilePathSplitterImpl();
@@ -163,7 +201,7 @@ public class ReviewServiceFactoryImpl implements ReviewServiceFactory {
                 symlinkResolverService);
 
         logger.debug("Instantiating ReviewConfigurationResolver");
-        ReviewConfigurationResolver reviewConfigurationResolver = new ReviewConfigurationResolverImpl(targetResolverService);
+        ReviewConfigurationResolver reviewConfigurationResolver = new ReviewConfigurationResolverImpl(targetResolverService, new GitDiffServiceImpl());
 
         logger.debug("Instantiating RulesToBatchesSplitter");
         RulesToBatchesSplitter rulesToBatchesSplitter = new RulesToBatchesSplitterImpl();
@@ -192,9 +230,6 @@ public class ReviewServiceFactoryImpl implements ReviewServiceFactory {
                 rulesToBatchesSplitter,
                 singleThreadTaskDispatcher);
 
-        logger.debug("Instantiating ReviewResultAggregator");
-        ReviewResultAggregator reviewResultAggregator = new ReviewResultAggregatorImpl();
-
         LiquibaseMigrationManager liquibaseMigrationManager = new LiquibaseMigrationManagerFactoryImpl(dbConnectionManager).create();
 
         ReviewRepository reviewRepository = new ReviewRepositoryFactoryImpl(jdbcTemplate).create();
@@ -214,6 +249,7 @@ public class ReviewServiceFactoryImpl implements ReviewServiceFactory {
                 reviewDetailsService,
                 reviewRepository,
                 reviewResultAggregator,
+                reviewResultItemMapper,
                 reviewResultRepository,
                 reviewRunContext,
                 runRepository,
@@ -1,27 +1,24 @@
 package com.quasarbyte.llm.codereview.sdk.service.impl;
 
 import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.exception.ReviewCancelledException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorCancellationException;
 import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
 import com.quasarbyte.llm.codereview.sdk.exception.db.NotFoundException;
 import com.quasarbyte.llm.codereview.sdk.exception.db.PersistenceRuntimeException;
-import com.quasarbyte.llm.codereview.sdk.model.RuleKey;
-import com.quasarbyte.llm.codereview.sdk.model.SourceFile;
-import com.quasarbyte.llm.codereview.sdk.model.aggregated.AggregatedFile;
 import com.quasarbyte.llm.codereview.sdk.model.aggregated.AggregatedResult;
 import com.quasarbyte.llm.codereview.sdk.model.context.ReviewRunDetails;
 import com.quasarbyte.llm.codereview.sdk.model.datasource.DataSourceConfiguration;
 import com.quasarbyte.llm.codereview.sdk.model.db.ReviewResultDB;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.*;
-import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
 import com.quasarbyte.llm.codereview.sdk.model.review.*;
-import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedComment;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedDetailedResult;
-import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedThinkStep;
 import com.quasarbyte.llm.codereview.sdk.repository.ReviewRepository;
 import com.quasarbyte.llm.codereview.sdk.repository.ReviewResultRepository;
 import com.quasarbyte.llm.codereview.sdk.repository.RunRepository;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewDetailsService;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewResultAggregator;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultListener;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewService;
 import com.quasarbyte.llm.codereview.sdk.service.db.core.PersistenceConfigurationContext;
@@ -29,17 +26,23 @@ import com.quasarbyte.llm.codereview.sdk.service.db.core.connection.DBConnection
 import com.quasarbyte.llm.codereview.sdk.service.db.core.datasource.DataSourceManager;
 import com.quasarbyte.llm.codereview.sdk.service.db.core.transaction.runner.TransactionRunner;
 import com.quasarbyte.llm.codereview.sdk.service.liquibase.manager.LiquibaseMigrationManager;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewResultItemMapper;
+import com.quasarbyte.llm.codereview.sdk.service.util.ReviewCancellationUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.sql.Connection;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public class ReviewServiceImpl implements ReviewService {
 
     private static final Logger logger = LoggerFactory.getLogger(ReviewServiceImpl.class);
 
+    private static final AtomicInteger asyncReviewCounter = new AtomicInteger();
+
     private final DBConnectionManager dbConnectionManager;
     private final DataSourceManager dataSourceManager;
     private final LiquibaseMigrationManager liquibaseMigrationManager;
@@ -47,6 +50,7 @@ public class ReviewServiceImpl implements ReviewService {
     private final ReviewDetailsService reviewDetailsService;
     private final ReviewRepository reviewRepository;
     private final ReviewResultAggregator reviewResultAggregator;
+    private final ReviewResultItemMapper reviewResultItemMapper;
     private final ReviewResultRepository reviewResultRepository;
     private final ReviewRunContext reviewRunContext;
     private final RunRepository runRepository;
@@ -59,6 +63,7 @@ public class ReviewServiceImpl implements ReviewService {
                              ReviewDetailsService reviewDetailsService,
                              ReviewRepository reviewRepository,
                              ReviewResultAggregator reviewResultAggregator,
+                             ReviewResultItemMapper reviewResultItemMapper,
                              ReviewResultRepository reviewResultRepository,
                              ReviewRunContext reviewRunContext,
                              RunRepository runRepository,
@@ -70,6 +75,7 @@ public class ReviewServiceImpl implements ReviewService {
         this.reviewDetailsService = reviewDetailsService;
         this.reviewRepository = reviewRepository;
         this.reviewResultAggregator = reviewResultAggregator;
+        this.reviewResultItemMapper = reviewResultItemMapper;
         this.reviewResultRepository = reviewResultRepository;
         this.reviewRunContext = reviewRunContext;
         this.runRepository = runRepository;
@@ -80,6 +86,22 @@ public class ReviewServiceImpl implements ReviewService {
     public ReviewResult review(ReviewParameter reviewParameter,
                                LlmClient llmClient,
                                PersistenceConfiguration persistenceConfiguration) {
+        return review(reviewParameter, llmClient, persistenceConfiguration, (ReviewResultListener) null);
+    }
+
+    @Override
+    public ReviewResult review(ReviewParameter reviewParameter,
+                               List<LlmClient> llmClients,
+                               PersistenceConfiguration persistenceConfiguration,
+                               ParallelExecutionParameter parallelExecutionParameter) {
+        return review(reviewParameter, llmClients, persistenceConfiguration, parallelExecutionParameter, null);
+    }
+
+    @Override
+    public ReviewResult review(ReviewParameter reviewParameter,
+                               LlmClient llmClient,
+                               PersistenceConfiguration persistenceConfiguration,
+                               ReviewResultListener reviewResultListener) {
 
         logger.info("Starting review process.");
         Objects.requireNonNull(reviewParameter, "reviewParameter must not be null");
@@ -140,7 +162,8 @@ public class ReviewServiceImpl implements ReviewService {
                         reviewIsNewArr[0],
                         reviewIdArr[0],
                         runIdArr[0],
-                        resolvedPersistenceConfiguration));
+                        resolvedPersistenceConfiguration,
+                        reviewResultListener));
 
                 logger.debug("Invoking reviewDetailsService.review(...)");
                 ReviewedDetailedResult reviewedDetailedResult = reviewDetailsService.review(reviewParameter, llmClient);
@@ -152,7 +175,7 @@ public class ReviewServiceImpl implements ReviewService {
                 List<ReviewResultItem> reviewResultItems = aggregatedResult.getFiles()
                         .stream()
                         .sorted(Comparator.comparing(aggregatedFile -> aggregatedFile.getSourceFile().getFilePath()))
-                        .map(ReviewServiceImpl::mapAggregatedFileToReviewResultItem)
+                        .map(reviewResultItemMapper::toReviewResultItem)
                         .collect(Collectors.toList());
 
                 logger.info("Review completed: {} files processed.", reviewResultItems.size());
@@ -163,6 +186,7 @@ public class ReviewServiceImpl implements ReviewService {
                                 .setCompletionTokens(aggregatedResult.getCompletionUsage().getCompletionTokens())
                                 .setPromptTokens(aggregatedResult.getCompletionUsage().getPromptTokens())
                                 .setTotalTokens(aggregatedResult.getCompletionUsage().getTotalTokens())
+                                .setCachedPromptTokens(aggregatedResult.getCompletionUsage().getCachedPromptTokens())
                         );
 
                 // Save the review result to the database
@@ -196,7 +220,8 @@ public class ReviewServiceImpl implements ReviewService {
     public ReviewResult review(ReviewParameter reviewParameter,
                                List<LlmClient> llmClients,
                                PersistenceConfiguration persistenceConfiguration,
-                               ParallelExecutionParameter parallelExecutionParameter) {
+                               ParallelExecutionParameter parallelExecutionParameter,
+                               ReviewResultListener reviewResultListener) {
 
         logger.info("Starting review process with load balancing.");
         Objects.requireNonNull(reviewParameter, "reviewParameter must not be null");
@@ -205,10 +230,14 @@ public class ReviewServiceImpl implements ReviewService {
 
         final PersistenceConfiguration resolvedPersistenceConfiguration = resolvePersistenceConfiguration(persistenceConfiguration);
 
-        // Handle single client case - use existing single client method
-        if (llmClients.size() == 1) {
+        // Handle single client case - use existing single client method, it does not send requests with the async client,
+        // does not use the shared request scheduler and cannot be cancelled
+        if (llmClients.size() == 1
+                && parallelExecutionParameter.getDispatchMode() != DispatchMode.ASYNC
+                && parallelExecutionParameter.getRequestScheduler() == null
+                && parallelExecutionParameter.getCancellationToken() == null) {
             logger.info("Only one LLM client provided, using single client review method");
-            return review(reviewParameter, llmClients.get(0), resolvedPersistenceConfiguration); // Use existing method with a single client
+            return review(reviewParameter, llmClients.get(0), resolvedPersistenceConfiguration, reviewResultListener); // Use existing method with a single client
         }
 
         try (AutoCloseable pcAutoCloseable = persistenceConfigurationContext.setPersistenceConfiguration(resolvedPersistenceConfiguration)) {
@@ -264,10 +293,16 @@ public class ReviewServiceImpl implements ReviewService {
                         reviewIsNewArr[0],
                         reviewIdArr[0],
                         runIdArr[0],
-                        resolvedPersistenceConfiguration));
+                        resolvedPersistenceConfiguration,
+                        reviewResultListener));
 
                 logger.debug("Invoking reviewDetailsService.review(...) with load balancing");
-                ReviewedDetailedResult reviewedDetailedResult = reviewDetailsService.review(reviewParameter, llmClients, parallelExecutionParameter);
+                final ReviewedDetailedResult reviewedDetailedResult;
+                try {
+                    reviewedDetailedResult = reviewDetailsService.review(reviewParameter, llmClients, parallelExecutionParameter);
+                } catch (TaskExecutorCancellationException e) {
+                    throw ReviewCancellationUtils.toReviewCancelledException(parallelExecutionParameter, reviewIdArr[0], e);
+                }
 
                 logger.debug("Aggregating reviewed result.");
                 AggregatedResult aggregatedResult = reviewResultAggregator.aggregate(reviewedDetailedResult);
@@ -276,7 +311,7 @@ public class ReviewServiceImpl implements ReviewService {
                 List<ReviewResultItem> reviewResultItems = aggregatedResult.getFiles()
                         .stream()
                         .sorted(Comparator.comparing(aggregatedFile -> aggregatedFile.getSourceFile().getFilePath()))
-                        .map(ReviewServiceImpl::mapAggregatedFileToReviewResultItem)
+                        .map(reviewResultItemMapper::toReviewResultItem)
                         .collect(Collectors.toList());
 
                 logger.info("Review with load balancing completed: {} files processed.", reviewResultItems.size());
@@ -287,6 +322,7 @@ public class ReviewServiceImpl implements ReviewService {
                                 .setCompletionTokens(aggregatedResult.getCompletionUsage().getCompletionTokens())
                                 .setPromptTokens(aggregatedResult.getCompletionUsage().getPromptTokens())
                                 .setTotalTokens(aggregatedResult.getCompletionUsage().getTotalTokens())
+                                .setCachedPromptTokens(aggregatedResult.getCompletionUsage().getCachedPromptTokens())
                         );
 
                 // Save the review result to the database
@@ -311,77 +347,80 @@ public class ReviewServiceImpl implements ReviewService {
                 return finalReviewResult;
             }
 
+        } catch (ReviewCancelledException e) {
+            throw e;
         } catch (Exception e) {
             throw new LLMCodeReviewRuntimeException(e);
         }
     }
 
-    private static ReviewResultItem mapAggregatedFileToReviewResultItem(AggregatedFile aggregatedFile) {
-        logger.debug("Mapping AggregatedFile '{}' to ReviewResultItem.", aggregatedFile.getSourceFile().getFilePath());
-        ReviewFile reviewFile = mapSourceFileToReviewFile(aggregatedFile.getSourceFile());
-
-        List<ReviewedComment> reviewedComments = aggregatedFile.getComments() != null ? aggregatedFile.getComments() : Collections.emptyList();
-
-        List<ReviewComment> comments = reviewedComments
-                .stream()
-                .map(ReviewServiceImpl::mapAggregatedCommentToReviewComment)
-                .collect(Collectors.toList());
-
-        List<ReviewedThinkStep> reviewedThinkSteps = aggregatedFile.getReviewedThinkSteps() != null ? aggregatedFile.getReviewedThinkSteps() : Collections.emptyList();
-
-        List<ReviewThinkStep> thinkSteps = reviewedThinkSteps
-                .stream()
-                .map(ss -> new ReviewThinkStep()
-                        .setFileId(ss.getFileId())
-                        .setFileName(ss.getFileName())
-                        .setRuleId(ss.getRuleId())
-                        .setRuleCode(ss.getRuleCode())
-                        .setThinkText(ss.getThinkText()))
-                .collect(Collectors.toList());
-
-        logger.debug("Mapped {} comments for file '{}'.", comments.size(), aggregatedFile.getSourceFile().getFilePath());
-        return new ReviewResultItem()
-                .setFile(reviewFile)
-                .setComments(comments)
-                .setThinkSteps(thinkSteps);
+    @Override
+    public CompletableFuture<ReviewResult> reviewAsync(ReviewParameter reviewParameter,
+                                                       List<LlmClient> llmClients,
+                                                       PersistenceConfiguration persistenceConfiguration,
+                                                       ParallelExecutionParameter parallelExecutionParameter) {
+        return reviewAsync(reviewParameter, llmClients, persistenceConfiguration, parallelExecutionParameter, null);
     }
 
-    private static ReviewFile mapSourceFileToReviewFile(SourceFile sourceFile) {
-        logger.trace("Mapping SourceFile '{}' to ReviewFile.", sourceFile.getFilePath());
-        return new ReviewFile()
-                .setFileName(sourceFile.getFileName())
-                .setFilePath(sourceFile.getFilePath())
-                .setSize(sourceFile.getSize())
-                .setCreatedAt(sourceFile.getCreatedAt())
-                .setModifiedAt(sourceFile.getModifiedAt())
-                .setAccessedAt(sourceFile.getAccessedAt());
+    @Override
+    public CompletableFuture<ReviewResult> reviewAsync(ReviewParameter reviewParameter,
+                                                       List<LlmClient> llmClients,
+                                                       PersistenceConfiguration persistenceConfiguration,
+                                                       ParallelExecutionParameter parallelExecutionParameter,
+                                                       ReviewResultListener reviewResultListener) {
+
+        Objects.requireNonNull(reviewParameter, "reviewParameter must not be null");
+        Objects.requireNonNull(llmClients, "llmClients must not be null");
+        Objects.requireNonNull(parallelExecutionParameter, "parallelExecutionParameter must not be null");
+
+        final ParallelExecutionParameter resolvedParallelExecutionParameter = parallelExecutionParameter.getDispatchMode() != null
+                ? parallelExecutionParameter
+                : copyWithDispatchMode(parallelExecutionParameter, DispatchMode.ASYNC);
+
+        final CompletableFuture<ReviewResult> future = new CompletableFuture<>();
+
+        // The review run context and the data source are thread bound, the whole review runs on a thread of its own
+        final Thread reviewThread = new Thread(() -> {
+            try {
+                future.complete(review(reviewParameter, llmClients, persistenceConfiguration, resolvedParallelExecutionParameter, reviewResultListener));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }, "llm-code-review-async-" + asyncReviewCounter.incrementAndGet());
+        reviewThread.setDaemon(true);
+
+        future.whenComplete((reviewResult, failure) -> {
+            if (future.isCancelled()) {
+                logger.info("Async review cancelled, interrupting thread '{}'.", reviewThread.getName());
+                if (resolvedParallelExecutionParameter.getCancellationToken() != null) {
+                    resolvedParallelExecutionParameter.getCancellationToken().cancel();
+                }
+                reviewThread.interrupt();
+            }
+        });
+
+        logger.info("Starting async review on thread '{}' (mode = {}).", reviewThread.getName(), resolvedParallelExecutionParameter.getDispatchMode());
+        reviewThread.start();
+
+        return future;
     }
 
-    private static ReviewComment mapAggregatedCommentToReviewComment(ReviewedComment comment) {
-        if (comment == null) {
-            logger.warn("ReviewedComment is null; returning empty ReviewComment.");
-            return new ReviewComment();
-        }
-        Optional<ReviewedComment> reviewedCommentOptional = Optional.of(comment);
-        Optional<PromptRule> promptRuleOptional = reviewedCommentOptional.map(ReviewedComment::getRule);
-
-        Rule rule = new Rule()
-                .setCode(promptRuleOptional.map(PromptRule::getRuleKey).map(RuleKey::getCode).orElse(null))
-                .setDescription(promptRuleOptional.map(PromptRule::getDescription).orElse(null))
-                .setSeverity(promptRuleOptional.map(PromptRule::getSeverity).orElse(null));
-
-        logger.trace("Mapping ReviewedComment at line {} col {} to ReviewComment.",
-                reviewedCommentOptional.map(ReviewedComment::getLine).orElse(null),
-                reviewedCommentOptional.map(ReviewedComment::getColumn).orElse(null));
-
-        return new ReviewComment()
-                .setRule(rule)
-                .setRuleId(reviewedCommentOptional.map(ReviewedComment::getRuleId).orElse(null))
-                .setRuleCode(reviewedCommentOptional.map(ReviewedComment::getRuleCode).orElse(null))
-                .setLine(reviewedCommentOptional.map(ReviewedComment::getLine).orElse(null))
-                .setColumn(reviewedCommentOptional.map(ReviewedComment::getColumn).orElse(null))
-                .setMessage(reviewedCommentOptional.map(ReviewedComment::getMessage).orElse(null))
-                .setSuggestion(reviewedCommentOptional.map(ReviewedComment::getSuggestion).orElse(null));
+    private static ParallelExecutionParameter copyWithDispatchMode(ParallelExecutionParameter parallelExecutionParameter, DispatchMode dispatchMode) {
+        return new ParallelExecutionParameter()
+                .setBatchSize(parallelExecutionParameter.getBatchSize())
+                .setExecutorService(parallelExecutionParameter.getExecutorService())
+                .setLoadBalancingStrategy(parallelExecutionParameter.getLoadBalancingStrategy())
+                .setDispatchMode(dispatchMode)
+                .setPromptQueueCapacity(parallelExecutionParameter.getPromptQueueCapacity())
+                .setAdaptiveConcurrency(parallelExecutionParameter.getAdaptiveConcurrency())
+                .setCircuitBreaker(parallelExecutionParameter.getCircuitBreaker())
+                .setHedging(parallelExecutionParameter.getHedging())
+                .setRetry(parallelExecutionParameter.getRetry())
+                .setSchedulingPolicy(parallelExecutionParameter.getSchedulingPolicy())
+                .setTaskExecutorMode(parallelExecutionParameter.getTaskExecutorMode())
+                .setRequestScheduler(parallelExecutionParameter.getRequestScheduler())
+                .setRequestSchedulingWeight(parallelExecutionParameter.getRequestSchedulingWeight())
+                .setCancellationToken(parallelExecutionParameter.getCancellationToken());
     }
 
     private static PersistenceConfiguration resolvePersistenceConfiguration(PersistenceConfiguration persistenceConfiguration) {
@@ -416,6 +455,17 @@ public class ReviewServiceImpl implements ReviewService {
         if (jdbcUrl == null || jdbcUrl.trim().isEmpty()) {
             throw new ValidationException("JdbcUrl cannot be null or blank");
         }
+
+        LlmResponseCacheParameter responseCache = persistenceConfiguration.getResponseCache();
+        if (responseCache != null) {
+            if (responseCache.getTimeToLive() != null
+                    && (responseCache.getTimeToLive().isNegative() || responseCache.getTimeToLive().isZero())) {
+                throw new ValidationException("Response cache timeToLive must be positive");
+            }
+            if (responseCache.getMaxEntries() != null && responseCache.getMaxEntries() < 1) {
+                throw new ValidationException("Response cache maxEntries cannot be less than 1");
+            }
+        }
     }
 
 }
@@ -1,13 +1,17 @@
 package com.quasarbyte.llm.codereview.sdk.service.impl;
 
 import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RulesBatchGrouping;
 import com.quasarbyte.llm.codereview.sdk.service.RulesToBatchesSplitter;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmTokenEstimator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class RulesToBatchesSplitterImpl implements RulesToBatchesSplitter {
 
@@ -39,4 +43,114 @@ public class RulesToBatchesSplitterImpl implements RulesToBatchesSplitter {
         logger.info("Total batches created: {}", batches.size());
         return batches;
     }
+
+    @Override
+    public List<List<Rule>> split(List<Rule> rules, Integer batchSize, Integer tokenBudget, RulesBatchGrouping grouping) {
+        boolean hasTokenBudget = tokenBudget != null && tokenBudget > 0;
+        RulesBatchGrouping actualGrouping = grouping == null ? RulesBatchGrouping.NONE : grouping;
+
+        if (!hasTokenBudget && actualGrouping == RulesBatchGrouping.NONE) {
+            return split(rules, batchSize);
+        }
+
+        logger.info("Splitting rules into batches. Total rules: {}, Requested batch size: {}, token budget: {}, grouping: {}",
+                rules == null ? 0 : rules.size(), batchSize, tokenBudget, actualGrouping);
+
+        if (rules == null || rules.isEmpty()) {
+            logger.warn("Rules list is null or empty, returning empty list.");
+            return Collections.emptyList();
+        }
+
+        Map<String, List<Rule>> groups = new LinkedHashMap<>();
+        for (Rule rule : rules) {
+            groups.computeIfAbsent(getGroupKey(rule, actualGrouping), key -> new ArrayList<>()).add(rule);
+        }
+
+        List<List<Rule>> batches = new ArrayList<>();
+        for (Map.Entry<String, List<Rule>> group : groups.entrySet()) {
+            List<List<Rule>> groupBatches = hasTokenBudget
+                    ? packByTokenBudget(group.getValue(), tokenBudget, batchSize == null ? 0 : batchSize)
+                    : split(group.getValue(), batchSize);
+            logger.debug("Rule group '{}': {} rules in {} batches", group.getKey(), group.getValue().size(), groupBatches.size());
+            batches.addAll(groupBatches);
+        }
+
+        logger.info("Total batches created: {}", batches.size());
+        return batches;
+    }
+
+    /**
+     * First-fit-decreasing: rules are placed from the longest to the shortest into the first batch that still has room.
+     * Rules within a batch keep their original order. A rule longer than the budget gets a batch of its own.
+     */
+    private static List<List<Rule>> packByTokenBudget(List<Rule> rules, long tokenBudget, int batchSize) {
+        List<Integer> ruleIndexes = new ArrayList<>(rules.size());
+        long[] ruleTokens = new long[rules.size()];
+        for (int i = 0; i < rules.size(); i++) {
+            ruleTokens[i] = LlmTokenEstimator.estimateRuleTokens(rules.get(i).getDescription());
+            ruleIndexes.add(i);
+        }
+        ruleIndexes.sort((a, b) -> Long.compare(ruleTokens[b], ruleTokens[a]));
+
+        List<List<Integer>> batchIndexes = new ArrayList<>();
+        List<Long> batchTokens = new ArrayList<>();
+        for (int ruleIndex : ruleIndexes) {
+            if (ruleTokens[ruleIndex] > tokenBudget) {
+                logger.warn("Rule '{}' (~{} tokens) exceeds the rules token budget of {} tokens and gets a batch of its own",
+                        rules.get(ruleIndex).getCode(), ruleTokens[ruleIndex], tokenBudget);
+            }
+            int target = -1;
+            for (int i = 0; i < batchIndexes.size() && ruleTokens[ruleIndex] <= tokenBudget; i++) {
+                if (batchTokens.get(i) + ruleTokens[ruleIndex] <= tokenBudget && (batchSize <= 0 || batchIndexes.get(i).size() < batchSize)) {
+                    target = i;
+                    break;
+                }
+            }
+            if (target < 0) {
+                batchIndexes.add(new ArrayList<>());
+                batchTokens.add(0L);
+                target = batchIndexes.size() - 1;
+            }
+            batchIndexes.get(target).add(ruleIndex);
+            batchTokens.set(target, batchTokens.get(target) + ruleTokens[ruleIndex]);
+        }
+
+        List<List<Rule>> batches = new ArrayList<>(batchIndexes.size());
+        for (int i = 0; i < batchIndexes.size(); i++) {
+            List<Integer> indexes = batchIndexes.get(i);
+            Collections.sort(indexes);
+            List<Rule> batch = new ArrayList<>(indexes.size());
+            for (int ruleIndex : indexes) {
+                batch.add(rules.get(ruleIndex));
+            }
+            logger.debug("Created batch {}: size {}, ~{} tokens", i + 1, batch.size(), batchTokens.get(i));
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private static String getGroupKey(Rule rule, RulesBatchGrouping grouping) {
+        switch (grouping) {
+            case SEVERITY:
+                return String.valueOf(rule.getSeverity());
+            case CODE_PREFIX:
+                return getCodePrefix(rule.getCode());
+            default:
+                return "";
+        }
+    }
+
+    /**
+     * Leading letters of the rule code, {@code SEC} for {@code SEC-001} and {@code SEC001}.
+     */
+    private static String getCodePrefix(String code) {
+        if (code == null) {
+            return "";
+        }
+        int end = 0;
+        while (end < code.length() && Character.isLetter(code.charAt(end))) {
+            end++;
+        }
+        return code.substring(0, end).toUpperCase();
+    }
 }
@@ -1,7 +1,9 @@
 package com.quasarbyte.llm.codereview.sdk.service.impl;
 
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmTokensQuota;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedCompletionUsage;
 import com.quasarbyte.llm.codereview.sdk.service.QuotaTracker;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmTokensQuotaValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,4 +43,21 @@ public class SimpleQuotaTrackerImpl implements QuotaTracker {
                 .setPromptTokens(totalPromptTokens)
                 .setTotalTokens(totalTokens);
     }
+
+    @Override
+    public ReviewedCompletionUsage reserve(ReviewedCompletionUsage estimatedUsage, LlmTokensQuota quota) {
+        LlmTokensQuotaValidator.validateReservation(getCurrentUsage(), estimatedUsage, quota);
+        addUsage(estimatedUsage);
+        return estimatedUsage;
+    }
+
+    @Override
+    public void reconcile(ReviewedCompletionUsage reservedUsage, ReviewedCompletionUsage actualUsage) {
+        if (reservedUsage != null) {
+            totalCompletionTokens -= (reservedUsage.getCompletionTokens() != null ? reservedUsage.getCompletionTokens() : 0);
+            totalPromptTokens -= (reservedUsage.getPromptTokens() != null ? reservedUsage.getPromptTokens() : 0);
+            totalTokens -= (reservedUsage.getTotalTokens() != null ? reservedUsage.getTotalTokens() : 0);
+        }
+        addUsage(actualUsage);
+    }
 }
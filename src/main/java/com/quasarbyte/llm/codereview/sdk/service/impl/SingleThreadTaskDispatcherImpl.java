@@ -1,6 +1,7 @@
 package com.quasarbyte.llm.codereview.sdk.service.impl;
 
 import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorInterruptedException;
 import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorTimeoutException;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperConfiguration;
@@ -18,7 +19,9 @@ import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRoundRobin
 import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRandom;
 import com.quasarbyte.llm.codereview.sdk.service.QuotaTracker;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptCreator;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptPipeline;
 import com.quasarbyte.llm.codereview.sdk.service.SingleThreadTaskDispatcher;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmRequestDeadlineUtils;
 import com.quasarbyte.llm.codereview.sdk.service.util.LlmTokensQuotaValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +38,11 @@ public class SingleThreadTaskDispatcherImpl implements SingleThreadTaskDispatche
 
     private static final Logger logger = LoggerFactory.getLogger(SingleThreadTaskDispatcherImpl.class);
 
+    /**
+     * Number of prompts built ahead while the current prompt is being reviewed.
+     */
+    private static final int PROMPT_QUEUE_CAPACITY = 2;
+
     private final LlmReviewProcessor llmReviewProcessor;
     private final ReviewPromptCreator reviewPromptCreator;
     private final LlmClientLoadBalancerRoundRobin roundRobinLoadBalancer;
@@ -215,6 +223,9 @@ public class SingleThreadTaskDispatcherImpl implements SingleThreadTaskDispatche
 
         List<ReviewedResultItem> results = new ArrayList<>();
         Instant startTime = Instant.now();
+        // Passed down to each request as its timeout, a slow request cannot outlive the review
+        final Instant deadline = timeoutDuration != null ? startTime.plus(timeoutDuration) : null;
+        final int totalPrompts;
 
         List<ResolvedFilesRules> resolvedFilesRulesList = new ArrayList<>();
 
@@ -234,54 +245,58 @@ public class SingleThreadTaskDispatcherImpl implements SingleThreadTaskDispatche
 
         logger.info("Prepared {} ResolvedFilesRules batches for processing.", resolvedFilesRulesList.size());
 
-        final List<ReviewPrompt> reviewPrompts = reviewPromptCreator.create(resolvedFilesRulesList, useReasoning);
+        try (ReviewPromptPipeline reviewPromptPipeline = reviewPromptCreator.createPipeline(resolvedFilesRulesList, useReasoning, PROMPT_QUEUE_CAPACITY)) {
 
-        for (int i = 0; i < reviewPrompts.size(); i++) {
-            if (timeoutDuration != null) {
-                Duration elapsed = Duration.between(startTime, Instant.now());
-                Duration remaining = timeoutDuration.minus(elapsed);
+            totalPrompts = reviewPromptPipeline.size();
 
-                if (remaining.isNegative() || remaining.isZero()) {
-                    logger.warn("Timeout reached before processing prompt #{}", i);
-                    throw new TaskExecutorTimeoutException(
-                            String.format("Timeout after %d ms at prompt #%d", timeoutDuration.toMillis(), i)
-                    );
-                }
-            }
+            for (int i = 0; i < reviewPromptPipeline.size(); i++) {
+                if (timeoutDuration != null) {
+                    Duration elapsed = Duration.between(startTime, Instant.now());
+                    Duration remaining = timeoutDuration.minus(elapsed);
 
-            Instant reviewPromptStart = Instant.now();
-            ReviewPrompt reviewPrompt = reviewPrompts.get(i);
+                    if (remaining.isNegative() || remaining.isZero()) {
+                        logger.warn("Timeout reached before processing prompt #{}", i);
+                        throw new TaskExecutorTimeoutException(
+                                String.format("Timeout after %d ms at prompt #%d", timeoutDuration.toMillis(), i)
+                        );
+                    }
+                }
 
-            try {
-                logger.debug("Processing prompt #{} with id: {}", i, reviewPrompt.getId());
+                Instant reviewPromptStart = Instant.now();
+                ReviewPrompt reviewPrompt = nextReviewPrompt(reviewPromptPipeline, i);
 
-                // Pre-validation: Check if we've already exceeded quota before making LLM call
-                if (tokensQuota != null) {
-                    ReviewedCompletionUsage currentUsage = quotaTracker.getCurrentUsage();
-                    LlmTokensQuotaValidator.validateTokenUsage(currentUsage, tokensQuota);
-                }
+                try {
+                    logger.debug("Processing prompt #{} with id: {}", i, reviewPrompt.getId());
 
-                final ReviewedResultItem reviewedResultItem = llmReviewProcessor.process(
-                        reviewPrompt,
-                        llmChatCompletionConfiguration,
-                        messagesMapperConfiguration,
-                        llmClient);
+                    // Pre-validation: Check if we've already exceeded quota before making LLM call
+                    if (tokensQuota != null) {
+                        ReviewedCompletionUsage currentUsage = quotaTracker.getCurrentUsage();
+                        LlmTokensQuotaValidator.validateTokenUsage(currentUsage, tokensQuota);
+                    }
 
-                if (tokensQuota != null) {
-                    // Track cumulative token usage after successful LLM call
-                    if (reviewedResultItem.getCompletionUsage() != null) {
-                        quotaTracker.addUsage(reviewedResultItem.getCompletionUsage());
+                    final ReviewedResultItem reviewedResultItem = processWithDeadline(
+                            reviewPrompt,
+                            llmChatCompletionConfiguration,
+                            messagesMapperConfiguration,
+                            llmClient,
+                            deadline);
+
+                    if (tokensQuota != null) {
+                        // Track cumulative token usage after successful LLM call
+                        if (reviewedResultItem.getCompletionUsage() != null) {
+                            quotaTracker.addUsage(reviewedResultItem.getCompletionUsage());
+                        }
                     }
-                }
 
-                results.add(reviewedResultItem);
+                    results.add(reviewedResultItem);
 
-                long reviewPromptDuration = Duration.between(reviewPromptStart, Instant.now()).toMillis();
-                logger.info("Prompt #{} with id: {} completed successfully. Duration: {} ms.", i, reviewPrompt.getId(), reviewPromptDuration);
+                    long reviewPromptDuration = Duration.between(reviewPromptStart, Instant.now()).toMillis();
+                    logger.info("Prompt #{} with id: {} completed successfully. Duration: {} ms.", i, reviewPrompt.getId(), reviewPromptDuration);
 
-            } catch (Exception e) {
-                logger.error("Prompt process #{} with id: {} failed with exception: '{}'", i, reviewPrompt.getId(), e.getMessage(), e);
-                throw new LLMCodeReviewRuntimeException(String.format("Prompt #%d with id: %d failed: %s", i, reviewPrompt.getId(), e.getMessage()), e);
+                } catch (Exception e) {
+                    logger.error("Prompt process #{} with id: {} failed with exception: '{}'", i, reviewPrompt.getId(), e.getMessage(), e);
+                    throw new LLMCodeReviewRuntimeException(String.format("Prompt #%d with id: %d failed: %s", i, reviewPrompt.getId(), e.getMessage()), e);
+                }
             }
         }
 
@@ -296,7 +311,7 @@ public class SingleThreadTaskDispatcherImpl implements SingleThreadTaskDispatche
 
         logger.info(
                 "All prompts processed successfully. Total reviewed: {}. Total duration: {} ms.",
-                reviewPrompts.size(),
+                totalPrompts,
                 totalDuration
         );
 
@@ -352,6 +367,9 @@ public class SingleThreadTaskDispatcherImpl implements SingleThreadTaskDispatche
 
         List<ReviewedResultItem> results = new ArrayList<>();
         Instant startTime = Instant.now();
+        // Passed down to each request as its timeout, a slow request cannot outlive the review
+        final Instant deadline = timeoutDuration != null ? startTime.plus(timeoutDuration) : null;
+        final int totalPrompts;
 
         List<ResolvedFilesRules> resolvedFilesRulesList = new ArrayList<>();
 
@@ -371,62 +389,66 @@ public class SingleThreadTaskDispatcherImpl implements SingleThreadTaskDispatche
 
         logger.info("Prepared {} ResolvedFilesRules batches for processing.", resolvedFilesRulesList.size());
 
-        final List<ReviewPrompt> reviewPrompts = reviewPromptCreator.create(resolvedFilesRulesList, useReasoning);
+        try (ReviewPromptPipeline reviewPromptPipeline = reviewPromptCreator.createPipeline(resolvedFilesRulesList, useReasoning, PROMPT_QUEUE_CAPACITY)) {
 
-        for (int i = 0; i < reviewPrompts.size(); i++) {
-            if (timeoutDuration != null) {
-                Duration elapsed = Duration.between(startTime, Instant.now());
-                Duration remaining = timeoutDuration.minus(elapsed);
+            totalPrompts = reviewPromptPipeline.size();
 
-                if (remaining.isNegative() || remaining.isZero()) {
-                    logger.warn("Timeout reached before processing prompt #{}", i);
-                    throw new TaskExecutorTimeoutException(
-                            String.format("Timeout after %d ms at prompt #%d", timeoutDuration.toMillis(), i)
-                    );
-                }
-            }
+            for (int i = 0; i < reviewPromptPipeline.size(); i++) {
+                if (timeoutDuration != null) {
+                    Duration elapsed = Duration.between(startTime, Instant.now());
+                    Duration remaining = timeoutDuration.minus(elapsed);
 
-            Instant reviewPromptStart = Instant.now();
-            ReviewPrompt reviewPrompt = reviewPrompts.get(i);
+                    if (remaining.isNegative() || remaining.isZero()) {
+                        logger.warn("Timeout reached before processing prompt #{}", i);
+                        throw new TaskExecutorTimeoutException(
+                                String.format("Timeout after %d ms at prompt #%d", timeoutDuration.toMillis(), i)
+                        );
+                    }
+                }
 
-            try {
-                logger.debug("Processing prompt #{} with id: {}", i, reviewPrompt.getId());
+                Instant reviewPromptStart = Instant.now();
+                ReviewPrompt reviewPrompt = nextReviewPrompt(reviewPromptPipeline, i);
 
-                // Pre-validation: Check if we've already exceeded quota before making LLM call
-                if (tokensQuota != null) {
-                    ReviewedCompletionUsage currentUsage = quotaTracker.getCurrentUsage();
-                    LlmTokensQuotaValidator.validateTokenUsage(currentUsage, tokensQuota);
-                }
+                try {
+                    logger.debug("Processing prompt #{} with id: {}", i, reviewPrompt.getId());
 
-                // Select LLM client using load balancer
-                LlmClient selectedClient;
-                if (strategy == LoadBalancingStrategy.ROUND_ROBIN) {
-                    selectedClient = roundRobinLoadBalancer.findLlmClient(llmClients, roundRobinState);
-                } else {
-                    selectedClient = randomLoadBalancer.findLlmClient(llmClients);
-                }
+                    // Pre-validation: Check if we've already exceeded quota before making LLM call
+                    if (tokensQuota != null) {
+                        ReviewedCompletionUsage currentUsage = quotaTracker.getCurrentUsage();
+                        LlmTokensQuotaValidator.validateTokenUsage(currentUsage, tokensQuota);
+                    }
 
-                final ReviewedResultItem reviewedResultItem = llmReviewProcessor.process(
-                        reviewPrompt,
-                        llmChatCompletionConfiguration,
-                        messagesMapperConfiguration,
-                        selectedClient);
+                    // Select LLM client using load balancer
+                    LlmClient selectedClient;
+                    if (strategy == LoadBalancingStrategy.ROUND_ROBIN) {
+                        selectedClient = roundRobinLoadBalancer.findLlmClient(llmClients, roundRobinState);
+                    } else {
+                        selectedClient = randomLoadBalancer.findLlmClient(llmClients);
+                    }
 
-                if (tokensQuota != null) {
-                    // Track cumulative token usage after successful LLM call
-                    if (reviewedResultItem.getCompletionUsage() != null) {
-                        quotaTracker.addUsage(reviewedResultItem.getCompletionUsage());
+                    final ReviewedResultItem reviewedResultItem = processWithDeadline(
+                            reviewPrompt,
+                            llmChatCompletionConfiguration,
+                            messagesMapperConfiguration,
+                            selectedClient,
+                            deadline);
+
+                    if (tokensQuota != null) {
+                        // Track cumulative token usage after successful LLM call
+                        if (reviewedResultItem.getCompletionUsage() != null) {
+                            quotaTracker.addUsage(reviewedResultItem.getCompletionUsage());
+                        }
                     }
-                }
 
-                results.add(reviewedResultItem);
+                    results.add(reviewedResultItem);
 
-                long reviewPromptDuration = Duration.between(reviewPromptStart, Instant.now()).toMillis();
-                logger.info("Prompt #{} with id: {} completed successfully. Duration: {} ms.", i, reviewPrompt.getId(), reviewPromptDuration);
+                    long reviewPromptDuration = Duration.between(reviewPromptStart, Instant.now()).toMillis();
+                    logger.info("Prompt #{} with id: {} completed successfully. Duration: {} ms.", i, reviewPrompt.getId(), reviewPromptDuration);
 
-            } catch (Exception e) {
-                logger.error("Prompt process #{} with id: {} failed with exception: '{}'", i, reviewPrompt.getId(), e.getMessage(), e);
-                throw new LLMCodeReviewRuntimeException(String.format("Prompt #%d with id: %d failed: %s", i, reviewPrompt.getId(), e.getMessage()), e);
+                } catch (Exception e) {
+                    logger.error("Prompt process #{} with id: {} failed with exception: '{}'", i, reviewPrompt.getId(), e.getMessage(), e);
+                    throw new LLMCodeReviewRuntimeException(String.format("Prompt #%d with id: %d failed: %s", i, reviewPrompt.getId(), e.getMessage()), e);
+                }
             }
         }
 
@@ -442,10 +464,42 @@ public class SingleThreadTaskDispatcherImpl implements SingleThreadTaskDispatche
         logger.info(
                 "All prompts processed successfully with load balancing. Strategy: {}. Total reviewed: {}. Total duration: {} ms.",
                 strategy,
-                reviewPrompts.size(),
+                totalPrompts,
                 totalDuration
         );
 
         return results;
     }
+
+    /**
+     * Takes the next prompt from the pipeline, waiting for the producer if it has not been built yet.
+     */
+    private static ReviewPrompt nextReviewPrompt(ReviewPromptPipeline reviewPromptPipeline, int index) {
+        try {
+            ReviewPrompt reviewPrompt = reviewPromptPipeline.next();
+            if (reviewPrompt == null) {
+                throw new LLMCodeReviewRuntimeException(
+                        String.format("Review prompt #%d of %d is missing", index, reviewPromptPipeline.size()));
+            }
+            return reviewPrompt;
+        } catch (InterruptedException e) {
+            logger.error("Interrupted while waiting for review prompt #{}: {}", index, e.getMessage());
+            Thread.currentThread().interrupt();
+            throw new TaskExecutorInterruptedException(
+                    String.format("Interrupted while waiting for review prompt #%d: %s", index, e.getMessage()), e);
+        }
+    }
+
+    private ReviewedResultItem processWithDeadline(ReviewPrompt reviewPrompt,
+                                                   LlmChatCompletionConfiguration llmChatCompletionConfiguration,
+                                                   LlmMessagesMapperConfiguration messagesMapperConfiguration,
+                                                   LlmClient llmClient,
+                                                   Instant deadline) {
+        final Instant previousDeadline = LlmRequestDeadlineUtils.setDeadline(deadline);
+        try {
+            return llmReviewProcessor.process(reviewPrompt, llmChatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+        } finally {
+            LlmRequestDeadlineUtils.setDeadline(previousDeadline);
+        }
+    }
 }
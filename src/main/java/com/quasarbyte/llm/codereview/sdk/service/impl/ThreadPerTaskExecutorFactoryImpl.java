@@ -0,0 +1,38 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.service.ThreadPerTaskExecutorFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Java 8 implementation creating platform threads. The multi-release JAR replaces this class
+ * with a virtual thread implementation on Java 21+ runtimes, see {@code src/main/java21}.
+ */
+public class ThreadPerTaskExecutorFactoryImpl implements ThreadPerTaskExecutorFactory {
+
+    @Override
+    public ExecutorService create(String threadNamePrefix) {
+        // Idle threads are not kept, threads are created by the submitting thread and inherit its context
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>(), createThreadFactory(threadNamePrefix));
+    }
+
+    @Override
+    public ThreadFactory createThreadFactory(String threadNamePrefix) {
+        final AtomicLong threadCounter = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadCounter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public boolean isVirtual() {
+        return false;
+    }
+}
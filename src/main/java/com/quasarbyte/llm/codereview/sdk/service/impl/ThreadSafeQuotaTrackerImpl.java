@@ -1,50 +1,113 @@
 package com.quasarbyte.llm.codereview.sdk.service.impl;
 
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmTokensQuota;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedCompletionUsage;
 import com.quasarbyte.llm.codereview.sdk.service.QuotaTracker;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmTokensQuotaValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * Thread-safe quota tracker for parallel execution
+ * <p>
+ * The counters are an immutable snapshot swapped by compare-and-set, so a reservation is checked against
+ * and added to all three counters atomically without blocking the other workers.
  */
 public class ThreadSafeQuotaTrackerImpl implements QuotaTracker {
 
     private static final Logger logger = LoggerFactory.getLogger(ThreadSafeQuotaTrackerImpl.class);
 
-    private long totalCompletionTokens = 0;
-    private long totalPromptTokens = 0;
-    private long totalTokens = 0;
+    private final AtomicReference<Counters> counters = new AtomicReference<>(new Counters(0, 0, 0));
 
     public ThreadSafeQuotaTrackerImpl() {
 
     }
 
     @Override
-    public synchronized void addUsage(ReviewedCompletionUsage usage) {
+    public void addUsage(ReviewedCompletionUsage usage) {
         if (usage == null) {
             return;
         }
 
-        // Extract the values to add, handling null values
-        long completionTokensToAdd = usage.getCompletionTokens() != null ? usage.getCompletionTokens() : 0;
-        long promptTokensToAdd = usage.getPromptTokens() != null ? usage.getPromptTokens() : 0;
-        long totalTokensToAdd = usage.getTotalTokens() != null ? usage.getTotalTokens() : 0;
-
         // Update counters - LLM consumed tokens
-        totalCompletionTokens += completionTokensToAdd;
-        totalPromptTokens += promptTokensToAdd;
-        totalTokens += totalTokensToAdd;
+        Counters updated = counters.accumulateAndGet(Counters.of(usage), Counters::plus);
 
         logger.debug("Updated cumulative token usage: completion={}, prompt={}, total={}",
-                totalCompletionTokens, totalPromptTokens, totalTokens);
+                updated.completionTokens, updated.promptTokens, updated.totalTokens);
+    }
+
+    @Override
+    public ReviewedCompletionUsage getCurrentUsage() {
+        return counters.get().toUsage();
+    }
+
+    @Override
+    public ReviewedCompletionUsage reserve(ReviewedCompletionUsage estimatedUsage, LlmTokensQuota quota) {
+        final Counters reservation = Counters.of(estimatedUsage);
+
+        while (true) {
+            Counters current = counters.get();
+            // Throws without reserving anything, the counters are only replaced below
+            LlmTokensQuotaValidator.validateReservation(current.toUsage(), reservation.toUsage(), quota);
+            if (counters.compareAndSet(current, current.plus(reservation))) {
+                logger.debug("Reserved tokens: completion={}, prompt={}, total={}",
+                        reservation.completionTokens, reservation.promptTokens, reservation.totalTokens);
+                return reservation.toUsage();
+            }
+        }
     }
 
     @Override
-    public synchronized ReviewedCompletionUsage getCurrentUsage() {
-        return new ReviewedCompletionUsage()
-                .setCompletionTokens(totalCompletionTokens)
-                .setPromptTokens(totalPromptTokens)
-                .setTotalTokens(totalTokens);
+    public void reconcile(ReviewedCompletionUsage reservedUsage, ReviewedCompletionUsage actualUsage) {
+        Counters correction = Counters.of(actualUsage).minus(Counters.of(reservedUsage));
+
+        Counters updated = counters.accumulateAndGet(correction, Counters::plus);
+
+        logger.debug("Reconciled token reservation, cumulative token usage: completion={}, prompt={}, total={}",
+                updated.completionTokens, updated.promptTokens, updated.totalTokens);
+    }
+
+    private static final class Counters {
+        private final long completionTokens;
+        private final long promptTokens;
+        private final long totalTokens;
+
+        private Counters(long completionTokens, long promptTokens, long totalTokens) {
+            this.completionTokens = completionTokens;
+            this.promptTokens = promptTokens;
+            this.totalTokens = totalTokens;
+        }
+
+        private static Counters of(ReviewedCompletionUsage usage) {
+            if (usage == null) {
+                return new Counters(0, 0, 0);
+            }
+            // Extract the values, handling null values
+            return new Counters(
+                    usage.getCompletionTokens() != null ? usage.getCompletionTokens() : 0,
+                    usage.getPromptTokens() != null ? usage.getPromptTokens() : 0,
+                    usage.getTotalTokens() != null ? usage.getTotalTokens() : 0);
+        }
+
+        private Counters plus(Counters other) {
+            return new Counters(completionTokens + other.completionTokens,
+                    promptTokens + other.promptTokens,
+                    totalTokens + other.totalTokens);
+        }
+
+        private Counters minus(Counters other) {
+            return new Counters(completionTokens - other.completionTokens,
+                    promptTokens - other.promptTokens,
+                    totalTokens - other.totalTokens);
+        }
+
+        private ReviewedCompletionUsage toUsage() {
+            return new ReviewedCompletionUsage()
+                    .setCompletionTokens(completionTokens)
+                    .setPromptTokens(promptTokens)
+                    .setTotalTokens(totalTokens);
+        }
     }
 }
@@ -0,0 +1,80 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Token bucket that refills {@code capacity} permits per minute.
+ * <p>
+ * Reservations never fail: a reservation larger than the available permits puts the bucket into debt
+ * and returns how long the caller has to wait until the debt is paid off. Later callers queue up behind that debt,
+ * so waiting requests are released in reservation order.
+ */
+public class TokenBucket {
+
+    private static final long NANOS_PER_MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    private final long capacity;
+    private final double permitsPerNano;
+    private final LongSupplier nanoClock;
+
+    private double available;
+    private long lastRefillNanos;
+
+    public TokenBucket(long capacityPerMinute) {
+        this(capacityPerMinute, System::nanoTime);
+    }
+
+    TokenBucket(long capacityPerMinute, LongSupplier nanoClock) {
+        if (capacityPerMinute < 1) {
+            throw new ValidationException("Token bucket capacity per minute cannot be less than 1");
+        }
+        this.capacity = capacityPerMinute;
+        this.permitsPerNano = (double) capacityPerMinute / NANOS_PER_MINUTE;
+        this.nanoClock = Objects.requireNonNull(nanoClock, "nanoClock must not be null");
+        this.available = capacityPerMinute;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Takes the permits out of the bucket.
+     *
+     * @return nanoseconds the caller has to wait before using the permits, 0 if they are available right away
+     */
+    public synchronized long reserve(long permits) {
+        refill();
+        available -= permits;
+        return available >= 0 ? 0 : (long) Math.ceil(-available / permitsPerNano);
+    }
+
+    /**
+     * Returns permits that were reserved but not used, or takes additional permits that were used but not reserved.
+     *
+     * @param permits positive to return permits, negative to take them
+     */
+    public synchronized void adjust(long permits) {
+        refill();
+        available = Math.min(capacity, available + permits);
+    }
+
+    public synchronized long getAvailable() {
+        refill();
+        return (long) Math.floor(available);
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        long elapsed = now - lastRefillNanos;
+        if (elapsed > 0) {
+            available = Math.min(capacity, available + elapsed * permitsPerNano);
+            lastRefillNanos = now;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.quasarbyte.llm.codereview.sdk.service.mapper;
+
+import com.quasarbyte.llm.codereview.sdk.model.aggregated.AggregatedFile;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResultItem;
+
+/**
+ * Maps the aggregated result of a file to the result item of the public API.
+ */
+public interface ReviewResultItemMapper {
+    ReviewResultItem toReviewResultItem(AggregatedFile aggregatedFile);
+}
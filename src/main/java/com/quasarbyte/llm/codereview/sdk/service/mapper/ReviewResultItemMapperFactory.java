@@ -0,0 +1,5 @@
+package com.quasarbyte.llm.codereview.sdk.service.mapper;
+
+public interface ReviewResultItemMapperFactory {
+    ReviewResultItemMapper create();
+}
@@ -0,0 +1,20 @@
+package com.quasarbyte.llm.codereview.sdk.service.mapper.impl;
+
+import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewResultItemMapper;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewResultItemMapperFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of ReviewResultItemMapperFactory
+ */
+public class ReviewResultItemMapperFactoryImpl implements ReviewResultItemMapperFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewResultItemMapperFactoryImpl.class);
+
+    @Override
+    public ReviewResultItemMapper create() {
+        logger.debug("Instantiating ReviewResultItemMapper");
+        return new ReviewResultItemMapperImpl();
+    }
+}
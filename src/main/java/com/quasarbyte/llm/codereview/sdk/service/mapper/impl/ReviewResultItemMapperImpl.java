@@ -0,0 +1,95 @@
+package com.quasarbyte.llm.codereview.sdk.service.mapper.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.RuleKey;
+import com.quasarbyte.llm.codereview.sdk.model.SourceFile;
+import com.quasarbyte.llm.codereview.sdk.model.aggregated.AggregatedFile;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewComment;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewFile;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResultItem;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewThinkStep;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedComment;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedThinkStep;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewResultItemMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ReviewResultItemMapper, shared by the review services and the review result publisher
+ */
+public class ReviewResultItemMapperImpl implements ReviewResultItemMapper {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewResultItemMapperImpl.class);
+
+    @Override
+    public ReviewResultItem toReviewResultItem(AggregatedFile aggregatedFile) {
+        logger.debug("Mapping AggregatedFile '{}' to ReviewResultItem.", aggregatedFile.getSourceFile().getFilePath());
+        ReviewFile reviewFile = mapSourceFileToReviewFile(aggregatedFile.getSourceFile());
+
+        List<ReviewedComment> reviewedComments = aggregatedFile.getComments() != null ? aggregatedFile.getComments() : Collections.emptyList();
+
+        List<ReviewComment> comments = reviewedComments
+                .stream()
+                .map(ReviewResultItemMapperImpl::mapAggregatedCommentToReviewComment)
+                .collect(Collectors.toList());
+
+        List<ReviewedThinkStep> reviewedThinkSteps = aggregatedFile.getReviewedThinkSteps() != null ? aggregatedFile.getReviewedThinkSteps() : Collections.emptyList();
+
+        List<ReviewThinkStep> thinkSteps = reviewedThinkSteps
+                .stream()
+                .map(ss -> new ReviewThinkStep()
+                        .setFileId(ss.getFileId())
+                        .setFileName(ss.getFileName())
+                        .setRuleId(ss.getRuleId())
+                        .setRuleCode(ss.getRuleCode())
+                        .setThinkText(ss.getThinkText()))
+                .collect(Collectors.toList());
+
+        logger.debug("Mapped {} comments for file '{}'.", comments.size(), aggregatedFile.getSourceFile().getFilePath());
+        return new ReviewResultItem()
+                .setFile(reviewFile)
+                .setComments(comments)
+                .setThinkSteps(thinkSteps);
+    }
+
+    private static ReviewFile mapSourceFileToReviewFile(SourceFile sourceFile) {
+        logger.trace("Mapping SourceFile '{}' to ReviewFile.", sourceFile.getFilePath());
+        return new ReviewFile()
+                .setFileName(sourceFile.getFileName())
+                .setFilePath(sourceFile.getFilePath())
+                .setSize(sourceFile.getSize())
+                .setCreatedAt(sourceFile.getCreatedAt())
+                .setModifiedAt(sourceFile.getModifiedAt())
+                .setAccessedAt(sourceFile.getAccessedAt());
+    }
+
+    private static ReviewComment mapAggregatedCommentToReviewComment(ReviewedComment comment) {
+        if (comment == null) {
+            logger.warn("ReviewedComment is null; returning empty ReviewComment.");
+            return new ReviewComment();
+        }
+        Optional<PromptRule> promptRuleOptional = Optional.ofNullable(comment.getRule());
+
+        Rule rule = new Rule()
+                .setCode(promptRuleOptional.map(PromptRule::getRuleKey).map(RuleKey::getCode).orElse(null))
+                .setDescription(promptRuleOptional.map(PromptRule::getDescription).orElse(null))
+                .setSeverity(promptRuleOptional.map(PromptRule::getSeverity).orElse(null));
+
+        logger.trace("Mapping ReviewedComment at line {} col {} to ReviewComment.", comment.getLine(), comment.getColumn());
+
+        return new ReviewComment()
+                .setRule(rule)
+                .setRuleId(comment.getRuleId())
+                .setRuleCode(comment.getRuleCode())
+                .setLine(comment.getLine())
+                .setColumn(comment.getColumn())
+                .setMessage(comment.getMessage())
+                .setSuggestion(comment.getSuggestion());
+    }
+}
@@ -234,6 +234,9 @@ public class CodeReviewReportMarkdownServiceImpl implements CodeReviewReportMark
         report.append("- **Completion Tokens:** ").append(usage.getCompletionTokens()).append("\n");
         report.append("- **Prompt Tokens:** ").append(usage.getPromptTokens()).append("\n");
         report.append("- **Total Tokens:** ").append(usage.getTotalTokens()).append("\n");
+        if (usage.getCachedPromptTokens() != null) {
+            report.append("- **Cached Prompt Tokens:** ").append(usage.getCachedPromptTokens()).append("\n");
+        }
     }
 
     private String getSeverityIcon(Rule rule) {
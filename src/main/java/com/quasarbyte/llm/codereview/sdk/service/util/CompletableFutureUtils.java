@@ -0,0 +1,35 @@
+package com.quasarbyte.llm.codereview.sdk.service.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+public class CompletableFutureUtils {
+
+    public static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    /**
+     * Cancels the source future when the dependent future is cancelled,
+     * {@link CompletableFuture} only propagates completion from the source to its dependents.
+     *
+     * @return the dependent future
+     */
+    public static <T> CompletableFuture<T> propagateCancellation(CompletableFuture<?> source, CompletableFuture<T> dependent) {
+        dependent.whenComplete((result, failure) -> {
+            if (dependent.isCancelled()) {
+                source.cancel(true);
+            }
+        });
+        return dependent;
+    }
+
+    /**
+     * @return the failure the future was completed with, without the {@link CompletionException} wrapper of dependent stages
+     */
+    public static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+}
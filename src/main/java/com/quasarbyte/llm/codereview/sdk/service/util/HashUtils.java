@@ -0,0 +1,34 @@
+package com.quasarbyte.llm.codereview.sdk.service.util;
+
+import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+public class HashUtils {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * @return the SHA-256 digest of the bytes as 64 lower case hex digits
+     */
+    public static String sha256Hex(byte[] bytes) {
+        final MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform implements SHA-256
+            throw new LLMCodeReviewRuntimeException("SHA-256 is not available", e);
+        }
+        return toHex(messageDigest.digest(bytes));
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] chars = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            chars[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+            chars[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0f];
+        }
+        return new String(chars);
+    }
+}
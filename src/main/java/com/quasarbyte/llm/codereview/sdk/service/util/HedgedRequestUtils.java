@@ -0,0 +1,54 @@
+package com.quasarbyte.llm.codereview.sdk.service.util;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Carries the result claim of a hedged prompt from the task dispatcher to the review processor saving the inference.
+ * The primary and the hedged request of a prompt share one claim, only the request claiming it saves its inference,
+ * so a hedged prompt has a single inference even if the losing request completes before it is cancelled.
+ */
+public class HedgedRequestUtils {
+
+    private static final ThreadLocal<AtomicBoolean> resultClaim = new ThreadLocal<>();
+
+    /**
+     * Binds the result claim to the current thread.
+     *
+     * @param claim the claim shared by the requests of a hedged prompt, {@code null} if the request is not hedged
+     * @return the previous claim of the thread, to be restored with this method once the request has completed
+     */
+    public static AtomicBoolean setResultClaim(AtomicBoolean claim) {
+        AtomicBoolean previousClaim = resultClaim.get();
+        if (claim == null) {
+            resultClaim.remove();
+        } else {
+            resultClaim.set(claim);
+        }
+        return previousClaim;
+    }
+
+    /**
+     * @return whether the request of the current thread races another request of the same prompt
+     */
+    public static boolean isHedged() {
+        return resultClaim.get() != null;
+    }
+
+    /**
+     * @return whether another request of the hedged prompt has already claimed its result
+     */
+    public static boolean isResultClaimed() {
+        AtomicBoolean claim = resultClaim.get();
+        return claim != null && claim.get();
+    }
+
+    /**
+     * Claims the result of the prompt for the request of the current thread.
+     *
+     * @return {@code true} if the request is not hedged or is the first one to claim the result, {@code false} if it lost the race
+     */
+    public static boolean claimResult() {
+        AtomicBoolean claim = resultClaim.get();
+        return claim == null || claim.compareAndSet(false, true);
+    }
+}
@@ -0,0 +1,78 @@
+package com.quasarbyte.llm.codereview.sdk.service.util;
+
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorTimeoutException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Carries the review deadline from the task dispatchers to the review processor sending the request.
+ * The deadline is bound to the thread that calls the processor, the request is sent with the remaining time
+ * as its timeout so the HTTP call is closed once the review has timed out. A request continued on another thread,
+ * such as the halves of a split async request, takes the deadline captured by {@link #getDeadline()} along explicitly.
+ */
+public class LlmRequestDeadlineUtils {
+
+    private static final ThreadLocal<Instant> deadline = new ThreadLocal<>();
+
+    /**
+     * Binds the deadline to the current thread.
+     *
+     * @param requestDeadline the deadline of the review, {@code null} for no deadline
+     * @return the previous deadline of the thread, to be restored with this method once the request has been sent
+     */
+    public static Instant setDeadline(Instant requestDeadline) {
+        Instant previousDeadline = deadline.get();
+        if (requestDeadline == null) {
+            deadline.remove();
+        } else {
+            deadline.set(requestDeadline);
+        }
+        return previousDeadline;
+    }
+
+    /**
+     * @return the deadline bound to the current thread, or {@code null} if the thread has no deadline
+     */
+    public static Instant getDeadline() {
+        return deadline.get();
+    }
+
+    /**
+     * @param requestDeadline the deadline of the review, {@code null} for no deadline
+     * @return whether the deadline has passed
+     */
+    public static boolean isExpired(Instant requestDeadline) {
+        return requestDeadline != null && !Instant.now().isBefore(requestDeadline);
+    }
+
+    /**
+     * Returns the time left until the deadline of the current thread.
+     *
+     * @return the remaining time, or {@code null} if the thread has no deadline
+     * @throws TaskExecutorTimeoutException if the deadline has already passed
+     */
+    public static Duration getRemainingTimeout() {
+        return getRemainingTimeout(deadline.get());
+    }
+
+    /**
+     * Returns the time left until the given deadline.
+     *
+     * @param requestDeadline the deadline of the review, {@code null} for no deadline
+     * @return the remaining time, or {@code null} if there is no deadline
+     * @throws TaskExecutorTimeoutException if the deadline has already passed
+     */
+    public static Duration getRemainingTimeout(Instant requestDeadline) {
+        if (requestDeadline == null) {
+            return null;
+        }
+
+        Duration remaining = Duration.between(Instant.now(), requestDeadline);
+        if (remaining.isNegative() || remaining.isZero()) {
+            throw new TaskExecutorTimeoutException(
+                    String.format("Review deadline %s has passed, the LLM request is not sent", requestDeadline));
+        }
+        return remaining;
+    }
+}
@@ -0,0 +1,109 @@
+package com.quasarbyte.llm.codereview.sdk.service.util;
+
+import com.openai.errors.OpenAIIoException;
+import com.openai.errors.OpenAIServiceException;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.CancellationException;
+
+public class LlmServiceErrorUtils {
+
+    private static final int MAX_CAUSE_DEPTH = 16;
+
+    /**
+     * Finds the HTTP status code of the LLM provider response in the cause chain.
+     * The OpenAI client exceptions are usually wrapped by the review processor and the dispatcher.
+     *
+     * @return the status code, or {@code null} if the failure did not come from a provider response
+     */
+    public static Integer findStatusCode(Throwable throwable) {
+        Throwable current = throwable;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof OpenAIServiceException) {
+                return ((OpenAIServiceException) current).statusCode();
+            }
+            current = current.getCause();
+        }
+        return null;
+    }
+
+    public static boolean isRateLimited(Throwable throwable) {
+        Integer statusCode = findStatusCode(throwable);
+        return statusCode != null && statusCode == 429;
+    }
+
+    public static boolean isServerError(Throwable throwable) {
+        Integer statusCode = findStatusCode(throwable);
+        return statusCode != null && statusCode >= 500;
+    }
+
+    /**
+     * Returns whether the failure indicates an unhealthy endpoint rather than a bad request:
+     * an I/O error or timeout without a provider response, or HTTP 408, 429 or 5xx.
+     * A call aborted because its request was cancelled fails with an I/O error too, it is not an endpoint failure.
+     */
+    public static boolean isEndpointFailure(Throwable throwable) {
+        Integer statusCode = findStatusCode(throwable);
+        if (statusCode != null) {
+            return statusCode == 408 || statusCode == 429 || statusCode >= 500;
+        }
+        Throwable current = throwable;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof CancellationException) {
+                return false;
+            }
+            if (current instanceof OpenAIIoException || current instanceof IOException) {
+                return true;
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * Same as {@link #isEndpointFailure(Throwable)}, except that no failure counts once the review deadline has passed.
+     * The requests are limited to the time left until the deadline, a request failing after it has been cut off
+     * by the deadline rather than by the endpoint.
+     *
+     * @param deadline the review deadline, {@code null} for no deadline
+     */
+    public static boolean isEndpointFailure(Throwable throwable, Instant deadline) {
+        return !LlmRequestDeadlineUtils.isExpired(deadline) && isEndpointFailure(throwable);
+    }
+
+    /**
+     * Returns whether the provider rejected the request because the prompt does not fit into the context window
+     * of the model: HTTP 413, or HTTP 400 with the {@code context_length_exceeded} error code or a message about
+     * the context length, as reported by OpenAI compatible providers.
+     */
+    public static boolean isContextLengthExceeded(Throwable throwable) {
+        Throwable current = throwable;
+        for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof OpenAIServiceException) {
+                OpenAIServiceException serviceException = (OpenAIServiceException) current;
+                if (serviceException.statusCode() == 413) {
+                    return true;
+                }
+                if (serviceException.statusCode() != 400) {
+                    return false;
+                }
+                if (serviceException.code().map("context_length_exceeded"::equals).orElse(false)) {
+                    return true;
+                }
+                String message = serviceException.getMessage();
+                if (message == null) {
+                    return false;
+                }
+                String lowerCaseMessage = message.toLowerCase(Locale.ROOT);
+                return lowerCaseMessage.contains("context length")
+                        || lowerCaseMessage.contains("context_length")
+                        || lowerCaseMessage.contains("context window")
+                        || lowerCaseMessage.contains("too many tokens");
+            }
+            current = current.getCause();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,103 @@
+package com.quasarbyte.llm.codereview.sdk.service.util;
+
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFile;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+
+import java.util.List;
+
+/**
+ * Rough token count of a prompt, good enough for pacing and budgeting but not for billing.
+ */
+public class LlmTokenEstimator {
+
+    private static final int CHARACTERS_PER_TOKEN = 4;
+    private static final int FILE_OVERHEAD_TOKENS = 32;
+    private static final int RULE_OVERHEAD_TOKENS = 16;
+    private static final int REQUEST_OVERHEAD_TOKENS = 256;
+
+    /**
+     * Estimates the prompt tokens of a review prompt from its texts, rules and file contents,
+     * including the metadata and JSON structure that the messages mapper wraps around them.
+     */
+    public static long estimatePromptTokens(ReviewPrompt reviewPrompt) {
+        if (reviewPrompt == null) {
+            return 0;
+        }
+
+        long characters = 0;
+        characters += countCharacters(reviewPrompt.getSystemPromptTexts());
+        characters += countCharacters(reviewPrompt.getReviewPromptTexts());
+        characters += countCharacters(reviewPrompt.getReviewTargetPromptTexts());
+        characters += countCharacters(reviewPrompt.getFileGroupPromptTexts());
+
+        long overheadTokens = REQUEST_OVERHEAD_TOKENS;
+
+        if (reviewPrompt.getRules() != null) {
+            for (PromptRule rule : reviewPrompt.getRules()) {
+                if (rule != null && rule.getDescription() != null) {
+                    characters += rule.getDescription().length();
+                }
+                overheadTokens += RULE_OVERHEAD_TOKENS;
+            }
+        }
+
+        if (reviewPrompt.getFiles() != null) {
+            for (PromptFile file : reviewPrompt.getFiles()) {
+                characters += estimateFileCharacters(file);
+                overheadTokens += FILE_OVERHEAD_TOKENS;
+            }
+        }
+
+        return characters / CHARACTERS_PER_TOKEN + overheadTokens;
+    }
+
+    /**
+     * Estimates the tokens of a text.
+     */
+    public static long estimateTokens(String text) {
+        return text == null ? 0 : (text.length() + CHARACTERS_PER_TOKEN - 1) / CHARACTERS_PER_TOKEN;
+    }
+
+    /**
+     * Estimates the prompt tokens of a file that has not been read yet from its path and size in bytes.
+     */
+    public static long estimateFileTokens(String filePath, long sizeInBytes) {
+        long characters = sizeInBytes + (filePath != null ? filePath.length() : 0);
+        return characters / CHARACTERS_PER_TOKEN + FILE_OVERHEAD_TOKENS;
+    }
+
+    /**
+     * Estimates the prompt tokens of a rule.
+     */
+    public static long estimateRuleTokens(String description) {
+        return (description != null ? description.length() : 0) / CHARACTERS_PER_TOKEN + RULE_OVERHEAD_TOKENS;
+    }
+
+    private static long estimateFileCharacters(PromptFile file) {
+        if (file == null || file.getSourceFile() == null) {
+            return 0;
+        }
+        long characters = 0;
+        if (file.getSourceFile().getContent() != null) {
+            // Byte length slightly overestimates non-ASCII content, which is the safe side for pacing
+            characters += file.getSourceFile().getContent().length;
+        }
+        if (file.getSourceFile().getFilePath() != null) {
+            characters += file.getSourceFile().getFilePath().length();
+        }
+        return characters;
+    }
+
+    private static long countCharacters(List<String> texts) {
+        long characters = 0;
+        if (texts != null) {
+            for (String text : texts) {
+                if (text != null) {
+                    characters += text.length();
+                }
+            }
+        }
+        return characters;
+    }
+}
@@ -143,4 +143,49 @@ public class LlmTokensQuotaValidator {
 
         logger.debug("Estimated token usage validation passed");
     }
+
+    /**
+     * Validates if reserving the estimated usage of a request on top of the current usage would exceed quota limits.
+     * Unlike {@link #validateTokenUsage}, a request is rejected before it is sent if it does not fit into the remaining quota.
+     *
+     * @param currentUsage The usage consumed and reserved so far
+     * @param estimatedUsage The estimated token usage of the request
+     * @param quota The configured token quota limits
+     * @throws LlmTokensQuotaException if the reservation would exceed any quota limit
+     */
+    public static void validateReservation(ReviewedCompletionUsage currentUsage, ReviewedCompletionUsage estimatedUsage, LlmTokensQuota quota) {
+        if (quota == null) {
+            return;
+        }
+
+        validateReservation("Completion",
+                currentUsage != null ? currentUsage.getCompletionTokens() : null,
+                estimatedUsage != null ? estimatedUsage.getCompletionTokens() : null,
+                quota.getCompletionTokens());
+        validateReservation("Prompt",
+                currentUsage != null ? currentUsage.getPromptTokens() : null,
+                estimatedUsage != null ? estimatedUsage.getPromptTokens() : null,
+                quota.getPromptTokens());
+        validateReservation("Total",
+                currentUsage != null ? currentUsage.getTotalTokens() : null,
+                estimatedUsage != null ? estimatedUsage.getTotalTokens() : null,
+                quota.getTotalTokens());
+    }
+
+    private static void validateReservation(String tokensName, Long currentTokens, Long estimatedTokens, Long quotaTokens) {
+        if (quotaTokens == null) {
+            return;
+        }
+
+        long current = currentTokens != null ? currentTokens : 0;
+        long estimated = estimatedTokens != null ? estimatedTokens : 0;
+
+        if (current + estimated > quotaTokens) {
+            String message = String.format(
+                "%s tokens quota would be exceeded. Used and reserved: %d, Requested: %d, Quota: %d",
+                tokensName, current, estimated, quotaTokens);
+            logger.error(message);
+            throw new LlmTokensQuotaException(message);
+        }
+    }
 }
@@ -0,0 +1,25 @@
+package com.quasarbyte.llm.codereview.sdk.service.util;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ReviewCancelledException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorCancellationException;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ParallelExecutionParameter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class ReviewCancellationUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReviewCancellationUtils.class);
+
+    /**
+     * A dispatch stopped by the cancellation token fails with the review ID, the finished inferences are saved and the review can be resumed with it.
+     *
+     * @return the {@link ReviewCancelledException} if the token was cancelled, otherwise the given exception
+     */
+    public static RuntimeException toReviewCancelledException(ParallelExecutionParameter parallelExecutionParameter, Long reviewId, TaskExecutorCancellationException e) {
+        if (parallelExecutionParameter.getCancellationToken() == null || !parallelExecutionParameter.getCancellationToken().isCancelled()) {
+            return e;
+        }
+        logger.info("Review ID {} was cancelled, run it again with this review ID to resume it.", reviewId);
+        return new ReviewCancelledException(String.format("Review with ID %d was cancelled", reviewId), reviewId, e);
+    }
+}
@@ -0,0 +1,203 @@
+package com.quasarbyte.llm.codereview.sdk.service.util;
+
+import com.quasarbyte.llm.codereview.sdk.model.diff.DiffHunk;
+import com.quasarbyte.llm.codereview.sdk.model.diff.FileDiff;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class UnifiedDiffUtils {
+
+    private static final Pattern HUNK_HEADER = Pattern.compile("^@@ -\\d+(?:,\\d+)? \\+(\\d+)(?:,(\\d+))? @@.*");
+
+    private static final String NEW_FILE_HEADER = "+++ ";
+    private static final String NO_FILE = "/dev/null";
+
+    /**
+     * Parses the output of {@code git diff --no-prefix}. Files without hunks, e.g. binary files, are left out.
+     *
+     * @param repositoryRoot top level directory of the working tree, the paths of the diff are relative to it
+     * @return the diffs by real file path, see {@link #toFileDiffKey(String)}
+     */
+    public static Map<String, FileDiff> parse(String diff, Path repositoryRoot) {
+        Map<String, FileDiff> fileDiffs = new LinkedHashMap<>();
+
+        String filePath = null;
+        DiffHunk hunk = null;
+        int lineNumber = 0;
+
+        for (String line : diff.split("\r?\n", -1)) {
+            if (line.startsWith("diff ")) {
+                filePath = null;
+                hunk = null;
+            } else if (hunk == null && line.startsWith(NEW_FILE_HEADER)) {
+                filePath = toFilePath(line.substring(NEW_FILE_HEADER.length()), repositoryRoot);
+            } else if (filePath != null && line.startsWith("@@")) {
+                Matcher matcher = HUNK_HEADER.matcher(line);
+                if (!matcher.matches()) {
+                    continue;
+                }
+                int start = Integer.parseInt(matcher.group(1));
+                int count = matcher.group(2) != null ? Integer.parseInt(matcher.group(2)) : 1;
+                // A hunk without lines in the new file starts after the given line
+                lineNumber = count == 0 ? start + 1 : start;
+                hunk = new DiffHunk()
+                        .setStartLine(lineNumber)
+                        .setLines(new ArrayList<>())
+                        .setChangedLines(new TreeSet<>())
+                        .setRemovedLines(new TreeSet<>());
+                fileDiffs.computeIfAbsent(filePath, path -> new FileDiff().setFilePath(path).setHunks(new ArrayList<>()))
+                        .getHunks()
+                        .add(hunk);
+            } else if (hunk != null && !line.isEmpty()) {
+                char type = line.charAt(0);
+                if (type == ' ') {
+                    hunk.getLines().add(line.substring(1));
+                    lineNumber++;
+                } else if (type == '+') {
+                    hunk.getLines().add(line.substring(1));
+                    hunk.getChangedLines().add(lineNumber);
+                    lineNumber++;
+                } else if (type == '-') {
+                    hunk.getRemovedLines().add(lineNumber);
+                }
+            }
+        }
+
+        return fileDiffs;
+    }
+
+    /**
+     * Renders the hunks as the file content sent to the LLM. Every line starts with its line number in the file,
+     * changed lines are marked with {@code +}, so comments refer to the lines of the whole file.
+     * Where lines were removed, an unnumbered {@code -} line is shown.
+     */
+    public static String toHunksContent(List<DiffHunk> hunks) {
+        StringBuilder content = new StringBuilder()
+                .append("Only the changed parts of the file are shown. ")
+                .append("Each line starts with its line number in the file, changed lines are marked with '+', ")
+                .append("lines starting with '-' show where lines were removed.\n");
+
+        for (DiffHunk hunk : hunks) {
+            content.append("@@ line ").append(hunk.getStartLine()).append(" @@\n");
+            for (int i = 0; i <= hunk.getLines().size(); i++) {
+                int lineNumber = hunk.getStartLine() + i;
+                if (isRemovedBefore(hunk, lineNumber)) {
+                    content.append("- (lines removed)\n");
+                }
+                if (i < hunk.getLines().size()) {
+                    content.append(lineNumber)
+                            .append(hunk.getChangedLines().contains(lineNumber) ? " + " : "   ")
+                            .append(hunk.getLines().get(i))
+                            .append('\n');
+                }
+            }
+        }
+
+        return content.toString();
+    }
+
+    /**
+     * @return whether the line is one of the changed lines of the hunks or directly follows removed lines
+     */
+    public static boolean isChangedLine(List<DiffHunk> hunks, int lineNumber) {
+        return hunks.stream()
+                .anyMatch(hunk -> hunk.getChangedLines().contains(lineNumber) || isRemovedBefore(hunk, lineNumber));
+    }
+
+    private static boolean isRemovedBefore(DiffHunk hunk, int lineNumber) {
+        return hunk.getRemovedLines() != null && hunk.getRemovedLines().contains(lineNumber);
+    }
+
+    /**
+     * Key of a file in the diffs returned by {@link #parse}: its real path, so a file reached through a symbolic link
+     * matches its diff. A file that does not exist, e.g. one changed only in the compared commit, keeps its absolute,
+     * normalized path.
+     */
+    public static String toFileDiffKey(String path) {
+        Path filePath = Paths.get(path).toAbsolutePath().normalize();
+        try {
+            return filePath.toRealPath().toString();
+        } catch (IOException e) {
+            return filePath.toString();
+        }
+    }
+
+    private static String toFilePath(String path, Path repositoryRoot) {
+        String filePath;
+        // Git quotes names with special characters and appends a tab to unquoted names with spaces
+        if (path.startsWith("\"")) {
+            filePath = unquote(path);
+        } else {
+            int tabIndex = path.indexOf('\t');
+            filePath = tabIndex >= 0 ? path.substring(0, tabIndex) : path;
+        }
+        if (NO_FILE.equals(filePath)) {
+            return null;
+        }
+        return toFileDiffKey(repositoryRoot.resolve(filePath).toString());
+    }
+
+    /**
+     * Reverses the C-style quoting of git: the name ends at the closing quote, backslash escapes and
+     * octal escaped bytes are decoded, the bytes as UTF-8.
+     */
+    static String unquote(String quoted) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        int i = 1;
+        while (i < quoted.length()) {
+            char c = quoted.charAt(i++);
+            if (c == '"') {
+                break;
+            }
+            if (c != '\\' || i >= quoted.length()) {
+                byte[] encoded = String.valueOf(c).getBytes(StandardCharsets.UTF_8);
+                bytes.write(encoded, 0, encoded.length);
+                continue;
+            }
+            char escaped = quoted.charAt(i++);
+            if (escaped >= '0' && escaped <= '7') {
+                int value = escaped - '0';
+                for (int digits = 1; digits < 3 && i < quoted.length() && quoted.charAt(i) >= '0' && quoted.charAt(i) <= '7'; digits++) {
+                    value = value * 8 + (quoted.charAt(i++) - '0');
+                }
+                bytes.write(value);
+            } else {
+                bytes.write(unescape(escaped));
+            }
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static char unescape(char escaped) {
+        switch (escaped) {
+            case 'a':
+                return 0x07;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'v':
+                return 0x0B;
+            default:
+                // Quote and backslash
+                return escaped;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.service.ThreadPerTaskExecutorFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Java 21 implementation of the multi-release JAR creating a virtual thread per task.
+ */
+public class ThreadPerTaskExecutorFactoryImpl implements ThreadPerTaskExecutorFactory {
+
+    @Override
+    public ExecutorService create(String threadNamePrefix) {
+        // Virtual threads inherit inheritable thread locals by default
+        return Executors.newThreadPerTaskExecutor(createThreadFactory(threadNamePrefix));
+    }
+
+    @Override
+    public ThreadFactory createThreadFactory(String threadNamePrefix) {
+        return Thread.ofVirtual().name(threadNamePrefix, 0).factory();
+    }
+
+    @Override
+    public boolean isVirtual() {
+        return true;
+    }
+}
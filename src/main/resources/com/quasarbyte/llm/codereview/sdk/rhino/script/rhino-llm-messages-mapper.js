@@ -30,8 +30,46 @@ function mapPromptToMessages(prompt) {
     messages.push({ role: 'user', content: 'The code review rules:' });
     messages.push({ role: 'user', content: getRulesAsJson(rules) });
 
-    var files = prompt.getFiles() || [];
+    pushFileMessages(messages, prompt.getFiles() || []);
 
+    return messages;
+}
+
+// Cache friendly layout: the content shared by many requests of a review (system prompts, review prompts, rules)
+// comes first and in a stable order, so providers can reuse the cached prompt prefix. The prompts of the review
+// target and file group follow, the file content comes last.
+function mapPromptToMessagesCacheFriendly(prompt) {
+    var messages = [];
+
+    var systemPrompts = prompt.getSystemPromptTexts() || [];
+    for (var i = 0; i < systemPrompts.length; i++) {
+        messages.push({ role: 'system', content: systemPrompts[i] });
+    }
+
+    var reviewPrompts = prompt.getReviewPromptTexts() || [];
+    for (var i = 0; i < reviewPrompts.length; i++) {
+        messages.push({ role: 'user', content: reviewPrompts[i] });
+    }
+
+    messages.push({ role: 'user', content: 'The code review rules:' });
+    messages.push({ role: 'user', content: getRulesAsJson(getRules(prompt)) });
+
+    var targetPrompts = prompt.getReviewTargetPromptTexts() || [];
+    for (var i = 0; i < targetPrompts.length; i++) {
+        messages.push({ role: 'user', content: targetPrompts[i] });
+    }
+
+    var fileGroupPrompts = prompt.getFileGroupPromptTexts() || [];
+    for (var i = 0; i < fileGroupPrompts.length; i++) {
+        messages.push({ role: 'user', content: fileGroupPrompts[i] });
+    }
+
+    pushFileMessages(messages, prompt.getFiles() || []);
+
+    return messages;
+}
+
+function pushFileMessages(messages, files) {
     if (files.length === 1) {
         messages.push({ role: 'user', content: 'Here is the file, presented as json and a code block:' });
     } else if (files.length > 1) {
@@ -48,8 +86,6 @@ function mapPromptToMessages(prompt) {
             content: '=== FILE METADATA ===\n' + fileInfoJson + '\n\n=== FILE CONTENT ===\n' + fileInfoContent
         });
     }
-
-    return messages;
 }
 
 function getRules(prompt) {
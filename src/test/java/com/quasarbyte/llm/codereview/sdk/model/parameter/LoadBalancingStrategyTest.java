@@ -10,15 +10,21 @@ class LoadBalancingStrategyTest {
     void loadBalancingStrategy_hasExpectedValues() {
         LoadBalancingStrategy[] values = LoadBalancingStrategy.values();
         
-        assertEquals(2, values.length);
+        assertEquals(5, values.length);
         assertEquals(LoadBalancingStrategy.ROUND_ROBIN, values[0]);
         assertEquals(LoadBalancingStrategy.RANDOM, values[1]);
+        assertEquals(LoadBalancingStrategy.LEAST_OUTSTANDING, values[2]);
+        assertEquals(LoadBalancingStrategy.LATENCY_EWMA, values[3]);
+        assertEquals(LoadBalancingStrategy.WEIGHTED, values[4]);
     }
 
     @Test
     void loadBalancingStrategy_valueOf_worksCorrectly() {
         assertEquals(LoadBalancingStrategy.ROUND_ROBIN, LoadBalancingStrategy.valueOf("ROUND_ROBIN"));
         assertEquals(LoadBalancingStrategy.RANDOM, LoadBalancingStrategy.valueOf("RANDOM"));
+        assertEquals(LoadBalancingStrategy.LEAST_OUTSTANDING, LoadBalancingStrategy.valueOf("LEAST_OUTSTANDING"));
+        assertEquals(LoadBalancingStrategy.LATENCY_EWMA, LoadBalancingStrategy.valueOf("LATENCY_EWMA"));
+        assertEquals(LoadBalancingStrategy.WEIGHTED, LoadBalancingStrategy.valueOf("WEIGHTED"));
     }
 
     @Test
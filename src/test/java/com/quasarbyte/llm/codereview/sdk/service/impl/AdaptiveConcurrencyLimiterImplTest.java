@@ -0,0 +1,179 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.openai.errors.OpenAIServiceException;
+import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.AdaptiveConcurrencyAdjustment;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.AdaptiveConcurrencySignal;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.AdaptiveConcurrencyParameter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AdaptiveConcurrencyLimiterImplTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private AtomicLong clock;
+    private List<AdaptiveConcurrencyAdjustment> adjustments;
+    private AdaptiveConcurrencyParameter parameter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(0);
+        adjustments = new ArrayList<>();
+        parameter = new AdaptiveConcurrencyParameter()
+                .setMinLimit(1)
+                .setMaxLimit(8)
+                .setInitialLimit(2)
+                .setListener(adjustments::add);
+    }
+
+    @Test
+    void onSuccess_saturatedWithStableLatency_increasesLimitAdditively() throws InterruptedException {
+        AdaptiveConcurrencyLimiterImpl limiter = new AdaptiveConcurrencyLimiterImpl(null, parameter, 8, clock::get);
+
+        // Each success adds 1 / limit, so two windows at limit 2 add a bit more than 1
+        completeWindow(limiter, 2, 100);
+        completeWindow(limiter, 2, 100);
+
+        assertEquals(3, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(1, adjustments.size());
+        assertEquals(AdaptiveConcurrencySignal.STABLE_LATENCY, adjustments.get(0).getSignal());
+        assertEquals(2, adjustments.get(0).getPreviousLimit());
+        assertEquals(3, adjustments.get(0).getNewLimit());
+    }
+
+    @Test
+    void onSuccess_notSaturated_keepsLimit() throws InterruptedException {
+        AdaptiveConcurrencyLimiterImpl limiter = new AdaptiveConcurrencyLimiterImpl(null, parameter.setInitialLimit(4), 8, clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            long start = limiter.acquire();
+            clock.addAndGet(100 * MILLIS);
+            limiter.onSuccess(start);
+        }
+
+        assertEquals(4, limiter.getLimit());
+        assertTrue(adjustments.isEmpty());
+    }
+
+    @Test
+    void onSuccess_neverExceedsMaxLimit() throws InterruptedException {
+        AdaptiveConcurrencyLimiterImpl limiter = new AdaptiveConcurrencyLimiterImpl(null, parameter, 8, clock::get);
+
+        for (int i = 0; i < 20; i++) {
+            completeWindow(limiter, limiter.getLimit(), 100);
+        }
+
+        assertEquals(8, limiter.getLimit());
+    }
+
+    @Test
+    void onFailure_rateLimited_decreasesLimitOncePerWindow() throws InterruptedException {
+        AdaptiveConcurrencyLimiterImpl limiter = new AdaptiveConcurrencyLimiterImpl(null, parameter.setInitialLimit(8), 8, clock::get);
+
+        long first = limiter.acquire();
+        long second = limiter.acquire();
+        clock.addAndGet(10 * MILLIS);
+
+        limiter.onFailure(first, wrappedServiceException(429));
+        // Started before the decrease, so it does not decrease the limit again
+        limiter.onFailure(second, wrappedServiceException(429));
+
+        assertEquals(4, limiter.getLimit());
+        assertEquals(1, adjustments.size());
+        assertEquals(AdaptiveConcurrencySignal.RATE_LIMITED, adjustments.get(0).getSignal());
+
+        clock.addAndGet(MILLIS);
+        limiter.onFailure(limiter.acquire(), wrappedServiceException(503));
+
+        assertEquals(2, limiter.getLimit());
+        assertEquals(AdaptiveConcurrencySignal.SERVER_ERROR, adjustments.get(1).getSignal());
+    }
+
+    @Test
+    void onFailure_clientError_keepsLimit() throws InterruptedException {
+        AdaptiveConcurrencyLimiterImpl limiter = new AdaptiveConcurrencyLimiterImpl(null, parameter, 8, clock::get);
+
+        limiter.onFailure(limiter.acquire(), wrappedServiceException(400));
+        limiter.onFailure(limiter.acquire(), new IllegalStateException("Invalid response"));
+
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+        assertTrue(adjustments.isEmpty());
+    }
+
+    @Test
+    void onSuccess_latencySpike_decreasesLimitButNotBelowMinimum() throws InterruptedException {
+        AdaptiveConcurrencyLimiterImpl limiter = new AdaptiveConcurrencyLimiterImpl(null, parameter, 8, clock::get);
+
+        completeWindow(limiter, 1, 100);
+        completeWindow(limiter, 1, 1000);
+        completeWindow(limiter, 1, 10000);
+
+        assertEquals(1, limiter.getLimit());
+        assertEquals(1, adjustments.size());
+        assertEquals(AdaptiveConcurrencySignal.HIGH_LATENCY, adjustments.get(0).getSignal());
+        assertEquals(1000, adjustments.get(0).getLatencyMillis());
+    }
+
+    @Test
+    void acquire_limitReached_blocksUntilSlotIsReleased() throws InterruptedException {
+        AdaptiveConcurrencyLimiterImpl limiter = new AdaptiveConcurrencyLimiterImpl(null, parameter.setInitialLimit(1), 8);
+
+        long start = limiter.acquire();
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire();
+                acquired.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        waiter.start();
+
+        assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+
+        limiter.onSuccess(start);
+
+        assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        waiter.join();
+    }
+
+    @Test
+    void constructor_invalidBounds_throwsValidationException() {
+        assertThrows(ValidationException.class,
+                () -> new AdaptiveConcurrencyLimiterImpl(null, new AdaptiveConcurrencyParameter().setMinLimit(4).setMaxLimit(2), 8));
+        assertThrows(ValidationException.class,
+                () -> new AdaptiveConcurrencyLimiterImpl(null, new AdaptiveConcurrencyParameter().setDecreaseFactor(1.0), 8));
+    }
+
+    private void completeWindow(AdaptiveConcurrencyLimiterImpl limiter, int requests, long latencyMillis) throws InterruptedException {
+        long[] starts = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            starts[i] = limiter.acquire();
+        }
+        clock.addAndGet(latencyMillis * MILLIS);
+        for (long start : starts) {
+            limiter.onSuccess(start);
+        }
+    }
+
+    private static RuntimeException wrappedServiceException(int statusCode) {
+        OpenAIServiceException serviceException = mock(OpenAIServiceException.class);
+        when(serviceException.statusCode()).thenReturn(statusCode);
+        return new LLMCodeReviewRuntimeException("LLM request failed", serviceException);
+    }
+}
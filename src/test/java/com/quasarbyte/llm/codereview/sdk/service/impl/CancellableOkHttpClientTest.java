@@ -0,0 +1,202 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.openai.core.RequestOptions;
+import com.openai.core.Timeout;
+import com.openai.core.http.HttpMethod;
+import com.openai.core.http.HttpRequest;
+import com.openai.core.http.HttpResponse;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorInterruptedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CancellableOkHttpClientTest {
+
+    private SilentServer server;
+    private CancellableOkHttpClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new SilentServer();
+        client = new CancellableOkHttpClient("http://127.0.0.1:" + server.getPort() + "/v1",
+                Timeout.builder().request(Duration.ofMinutes(1)).build(), null);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void executeAsync_futureCancelled_closesConnection() throws Exception {
+        CompletableFuture<HttpResponse> future = client.executeAsync(request(null), RequestOptions.none());
+        server.awaitRequest();
+
+        future.cancel(true);
+
+        assertTrue(server.awaitConnectionClosed(), "The call was not aborted");
+    }
+
+    @Test
+    void execute_interrupted_abortsCall() throws Exception {
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                client.execute(request(null), RequestOptions.none());
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+        server.awaitRequest();
+
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+
+        assertInstanceOf(TaskExecutorInterruptedException.class, failure.get());
+        assertTrue(server.awaitConnectionClosed(), "The call was not aborted");
+    }
+
+    @Test
+    void executeAsync_requestCancelled_abortsCallAndSendsNoFurtherCall() throws Exception {
+        LlmRequestCancellation cancellation = LlmRequestCancellation.open();
+        try {
+            CompletableFuture<HttpResponse> future = client.executeAsync(request(cancellation.getRequestId()), RequestOptions.none());
+            server.awaitRequest();
+
+            cancellation.cancel();
+
+            assertThrows(CancellationException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertTrue(server.awaitConnectionClosed(), "The call was not aborted");
+
+            // A retry of the client is not sent
+            CompletableFuture<HttpResponse> retry = client.executeAsync(request(cancellation.getRequestId()), RequestOptions.none());
+            assertThrows(CancellationException.class, () -> retry.get(10, TimeUnit.SECONDS));
+            assertEquals(1, server.getConnectionCount());
+        } finally {
+            cancellation.close();
+        }
+    }
+
+    @Test
+    void executeAsync_requestId_isNotSentToProvider() throws Exception {
+        try (LlmRequestCancellation cancellation = LlmRequestCancellation.open()) {
+            client.executeAsync(request(cancellation.getRequestId()), RequestOptions.none());
+
+            List<String> requestLines = server.awaitRequest();
+
+            assertTrue(requestLines.get(0).startsWith("GET /v1/models "), requestLines.get(0));
+            assertTrue(requestLines.stream().noneMatch(line -> line.toLowerCase().startsWith(LlmRequestCancellation.REQUEST_HEADER.toLowerCase())),
+                    "Unexpected request: " + requestLines);
+            cancellation.cancel();
+        }
+    }
+
+    private static HttpRequest request(String requestId) {
+        HttpRequest.Builder builder = HttpRequest.builder()
+                .method(HttpMethod.GET)
+                .addPathSegment("models");
+        if (requestId != null) {
+            builder.putHeader(LlmRequestCancellation.REQUEST_HEADER, requestId);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Reads the request of each connection and never answers, like a provider taking its time.
+     */
+    private static class SilentServer implements AutoCloseable {
+        private final ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        private final List<Socket> sockets = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch requestReceived = new CountDownLatch(1);
+        private final CountDownLatch connectionClosed = new CountDownLatch(1);
+        private final List<String> requestLines = Collections.synchronizedList(new ArrayList<>());
+        private final Thread acceptThread;
+
+        private SilentServer() throws IOException {
+            acceptThread = new Thread(this::accept, "silent-server");
+            acceptThread.setDaemon(true);
+            acceptThread.start();
+        }
+
+        private int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        private int getConnectionCount() {
+            return sockets.size();
+        }
+
+        private List<String> awaitRequest() throws InterruptedException {
+            assertTrue(requestReceived.await(10, TimeUnit.SECONDS), "No request received");
+            return new ArrayList<>(requestLines);
+        }
+
+        private boolean awaitConnectionClosed() throws InterruptedException {
+            return connectionClosed.await(10, TimeUnit.SECONDS);
+        }
+
+        private void accept() {
+            try {
+                while (!serverSocket.isClosed()) {
+                    Socket socket = serverSocket.accept();
+                    sockets.add(socket);
+                    Thread readThread = new Thread(() -> read(socket), "silent-server-connection");
+                    readThread.setDaemon(true);
+                    readThread.start();
+                }
+            } catch (IOException e) {
+                // Closed by the test
+            }
+        }
+
+        private void read(Socket socket) {
+            try {
+                InputStream inputStream = socket.getInputStream();
+                BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.US_ASCII));
+                String line;
+                while ((line = reader.readLine()) != null && !line.isEmpty()) {
+                    requestLines.add(line);
+                }
+                requestReceived.countDown();
+                while (reader.read() != -1) {
+                    // Waits for the client to close the connection
+                }
+            } catch (IOException e) {
+                // Reset by the client
+            }
+            connectionClosed.countDown();
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+            synchronized (sockets) {
+                for (Socket socket : sockets) {
+                    socket.close();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.GitDiffException;
+import com.quasarbyte.llm.codereview.sdk.model.diff.DiffHunk;
+import com.quasarbyte.llm.codereview.sdk.model.diff.FileDiff;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.DiffScope;
+import com.quasarbyte.llm.codereview.sdk.service.util.UnifiedDiffUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class GitDiffServiceImplTest {
+
+    @TempDir
+    Path repository;
+
+    private final GitDiffServiceImpl gitDiffService = new GitDiffServiceImpl();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        assumeTrue(git(repository.getParent(), "--version"), "git is not installed");
+
+        assertTrue(git(repository, "init", "-q"));
+        write("src/Main.java", "class Main {", "    int a;", "    int b;", "    int c;", "}");
+        write("README.md", "readme");
+        commit("initial");
+    }
+
+    @Test
+    void diff_workingTreeAgainstHead_returnsChangedAndStagedFiles() throws Exception {
+        write("src/Main.java", "class Main {", "    int a;", "    int added;", "    int c;", "}");
+        write("src/New.java", "class New {}");
+        assertTrue(git(repository, "add", "src/New.java"));
+
+        Map<String, FileDiff> fileDiffs = gitDiffService.diff(new DiffScope()
+                .setRepositoryPath(repository.toString())
+                .setContextLines(1));
+
+        assertEquals(2, fileDiffs.size(), fileDiffs.keySet().toString());
+
+        List<DiffHunk> hunks = fileDiffs.get(key("src/Main.java")).getHunks();
+        assertEquals(1, hunks.size());
+        assertEquals(2, hunks.get(0).getStartLine());
+        assertEquals(Arrays.asList("    int a;", "    int added;", "    int c;"), hunks.get(0).getLines());
+        assertEquals(new TreeSet<>(Arrays.asList(3)), hunks.get(0).getChangedLines());
+
+        assertEquals(new TreeSet<>(Arrays.asList(1)), fileDiffs.get(key("src/New.java")).getHunks().get(0).getChangedLines());
+        assertFalse(fileDiffs.containsKey(key("README.md")));
+    }
+
+    @Test
+    void diff_betweenCommits_ignoresWorkingTreeAndDeletedFiles() throws Exception {
+        assertTrue(git(repository, "tag", "base"));
+        write("src/Main.java", "class Main {", "    int a;", "    int c;", "}");
+        Files.delete(repository.resolve("README.md"));
+        commit("second");
+        write("src/Main.java", "class Main {}");
+
+        Map<String, FileDiff> fileDiffs = gitDiffService.diff(new DiffScope()
+                .setRepositoryPath(repository.resolve("src").toString())
+                .setBaseRef("base")
+                .setHeadRef("HEAD"));
+
+        assertEquals(1, fileDiffs.size(), fileDiffs.keySet().toString());
+        DiffHunk hunk = fileDiffs.get(key("src/Main.java")).getHunks().get(0);
+        assertTrue(hunk.getChangedLines().isEmpty());
+        assertEquals(new TreeSet<>(Arrays.asList(3)), hunk.getRemovedLines());
+    }
+
+    @Test
+    void diff_unknownRef_throwsGitDiffException() {
+        DiffScope diffScope = new DiffScope()
+                .setRepositoryPath(repository.toString())
+                .setBaseRef("no-such-ref");
+
+        assertThrows(GitDiffException.class, () -> gitDiffService.diff(diffScope));
+    }
+
+    private String key(String relativePath) {
+        return UnifiedDiffUtils.toFileDiffKey(repository.resolve(relativePath).toString());
+    }
+
+    private void write(String relativePath, String... lines) throws IOException {
+        Path file = repository.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+
+    private void commit(String message) throws Exception {
+        assertTrue(git(repository, "add", "-A"));
+        assertTrue(git(repository,
+                "-c", "user.name=Test", "-c", "user.email=test@example.com", "-c", "commit.gpgsign=false",
+                "commit", "-q", "-m", message));
+    }
+
+    private static boolean git(Path workingDirectory, String... arguments) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(Arrays.asList(arguments));
+        try {
+            Process process = new ProcessBuilder(command)
+                    .directory(workingDirectory.toFile())
+                    .redirectErrorStream(true)
+                    .start();
+            try (InputStream output = process.getInputStream()) {
+                while (output.read() != -1) {
+                    // The output is not needed, only drained
+                }
+            }
+            return process.waitFor(30, TimeUnit.SECONDS) && process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.openai.errors.OpenAIIoException;
+import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.CircuitBreakerState;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.CircuitBreakerStateChange;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.CircuitBreakerParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmServiceErrorUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LlmClientCircuitBreakerImplTest {
+
+    private static final RuntimeException TIMEOUT = new LLMCodeReviewRuntimeException("Inference failed", new OpenAIIoException("Request timed out"));
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private final List<CircuitBreakerStateChange> stateChanges = new ArrayList<>();
+    private final LlmClient llmClient = new LlmClient();
+
+    private LlmClientCircuitBreakerImpl circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new LlmClientCircuitBreakerImpl(llmClient, new CircuitBreakerParameter()
+                .setFailureThreshold(3)
+                .setOpenDuration(Duration.ofSeconds(10))
+                .setListener(stateChanges::add), clock::get);
+    }
+
+    @Test
+    void onFailure_consecutiveEndpointFailures_opensBreaker() {
+        fail(2);
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+        assertTrue(circuitBreaker.isCallPermitted());
+
+        fail(1);
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.isCallPermitted());
+        assertEquals(TimeUnit.SECONDS.toNanos(10), circuitBreaker.getRemainingOpenNanos());
+
+        assertEquals(1, stateChanges.size());
+        assertSame(llmClient, stateChanges.get(0).getLlmClient());
+        assertEquals(CircuitBreakerState.CLOSED, stateChanges.get(0).getPreviousState());
+        assertEquals(CircuitBreakerState.OPEN, stateChanges.get(0).getNewState());
+        assertEquals(3, stateChanges.get(0).getConsecutiveFailures());
+        assertSame(TIMEOUT, stateChanges.get(0).getFailure());
+    }
+
+    @Test
+    void onSuccess_resetsConsecutiveFailures() {
+        fail(2);
+        circuitBreaker.onSuccess(circuitBreaker.onCallStarted());
+        fail(2);
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+        assertTrue(stateChanges.isEmpty());
+    }
+
+    @Test
+    void onFailure_providerRejectedRequest_doesNotCountAsEndpointFailure() {
+        for (int i = 0; i < 5; i++) {
+            circuitBreaker.onFailure(circuitBreaker.onCallStarted(), new IllegalArgumentException("Invalid prompt"));
+        }
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void onFailure_afterReviewDeadline_doesNotCountAsEndpointFailure() {
+        Instant deadline = Instant.now().minusMillis(1);
+        for (int i = 0; i < 5; i++) {
+            circuitBreaker.onFailure(circuitBreaker.onCallStarted(), TIMEOUT, deadline);
+        }
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+        assertFalse(LlmServiceErrorUtils.isEndpointFailure(TIMEOUT, deadline));
+        assertTrue(LlmServiceErrorUtils.isEndpointFailure(TIMEOUT, Instant.now().plusSeconds(30)));
+    }
+
+    @Test
+    void onFailure_trialCallAfterReviewDeadline_letsNextTrialCallThrough() {
+        fail(3);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertTrue(circuitBreaker.isCallPermitted());
+
+        circuitBreaker.onFailure(circuitBreaker.onCallStarted(), TIMEOUT, Instant.now().minusMillis(1));
+
+        assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+        assertTrue(circuitBreaker.isCallPermitted());
+    }
+
+    @Test
+    void isCallPermitted_afterOpenDuration_letsSingleTrialCallThrough() {
+        fail(3);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertTrue(circuitBreaker.isCallPermitted());
+        assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+
+        assertTrue(circuitBreaker.onCallStarted());
+        assertFalse(circuitBreaker.isCallPermitted());
+    }
+
+    @Test
+    void onSuccess_trialCall_closesBreaker() {
+        fail(3);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertTrue(circuitBreaker.isCallPermitted());
+
+        circuitBreaker.onSuccess(circuitBreaker.onCallStarted());
+
+        assertEquals(CircuitBreakerState.CLOSED, circuitBreaker.getState());
+        assertEquals(3, stateChanges.size());
+        assertEquals(CircuitBreakerState.HALF_OPEN, stateChanges.get(1).getNewState());
+        assertEquals(CircuitBreakerState.CLOSED, stateChanges.get(2).getNewState());
+    }
+
+    @Test
+    void onFailure_trialCall_reopensBreaker() {
+        fail(3);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertTrue(circuitBreaker.isCallPermitted());
+
+        fail(1);
+
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+        assertEquals(TimeUnit.SECONDS.toNanos(10), circuitBreaker.getRemainingOpenNanos());
+    }
+
+    @Test
+    void onSuccess_callStartedBeforeBreakerOpened_doesNotCloseHalfOpenBreaker() {
+        boolean staleCall = circuitBreaker.onCallStarted();
+        fail(3);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        assertTrue(circuitBreaker.isCallPermitted());
+
+        circuitBreaker.onSuccess(staleCall);
+
+        assertEquals(CircuitBreakerState.HALF_OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void listenerThrows_doesNotPropagate() {
+        circuitBreaker = new LlmClientCircuitBreakerImpl(llmClient, new CircuitBreakerParameter()
+                .setFailureThreshold(1)
+                .setListener(stateChange -> {
+                    throw new IllegalStateException("Alerting unavailable");
+                }), clock::get);
+
+        assertDoesNotThrow(() -> fail(1));
+        assertEquals(CircuitBreakerState.OPEN, circuitBreaker.getState());
+    }
+
+    @Test
+    void constructor_invalidParameter_throwsValidationException() {
+        assertThrows(ValidationException.class, () ->
+                new LlmClientCircuitBreakerImpl(llmClient, new CircuitBreakerParameter().setFailureThreshold(0)));
+        assertThrows(ValidationException.class, () ->
+                new LlmClientCircuitBreakerImpl(llmClient, new CircuitBreakerParameter().setOpenDuration(Duration.ZERO)));
+        assertThrows(ValidationException.class, () ->
+                new LlmClientCircuitBreakerImpl(llmClient, new CircuitBreakerParameter().setHalfOpenMaxCalls(0)));
+    }
+
+    private void fail(int times) {
+        for (int i = 0; i < times; i++) {
+            circuitBreaker.onFailure(circuitBreaker.onCallStarted(), TIMEOUT);
+        }
+    }
+}
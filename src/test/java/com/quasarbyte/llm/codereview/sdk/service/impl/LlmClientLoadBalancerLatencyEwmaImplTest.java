@@ -0,0 +1,94 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class LlmClientLoadBalancerLatencyEwmaImplTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private LlmClientLoadBalancerLatencyEwmaImpl loadBalancer;
+    private LlmClientLoadTracker loadTracker;
+    private List<LlmClient> llmClients;
+    private LlmClient fastClient, slowClient;
+
+    @BeforeEach
+    void setUp() {
+        loadBalancer = new LlmClientLoadBalancerLatencyEwmaImpl();
+        loadTracker = new LlmClientLoadTrackerImpl();
+        slowClient = mock(LlmClient.class);
+        fastClient = mock(LlmClient.class);
+        llmClients = Arrays.asList(slowClient, fastClient);
+    }
+
+    @Test
+    void findLlmClient_idleClientWithoutSamples_isTriedFirst() {
+        complete(slowClient, 100);
+
+        assertSame(fastClient, loadBalancer.findLlmClient(llmClients, loadTracker));
+    }
+
+    @Test
+    void findLlmClient_sendsMoreRequestsToFasterClient() {
+        complete(slowClient, 4000);
+        complete(fastClient, 1000);
+
+        int[] counts = new int[2];
+        for (int i = 0; i < 5; i++) {
+            LlmClient selected = loadBalancer.findLlmClient(llmClients, loadTracker);
+            loadTracker.onRequestStarted(selected);
+            counts[llmClients.indexOf(selected)]++;
+        }
+
+        // Costs: fast 1000 * (n + 1), slow 4000 * (n + 1), so the slow client gets a request only once the fast one has 3 in flight
+        assertArrayEquals(new int[]{1, 4}, counts);
+    }
+
+    @Test
+    void findLlmClient_latencyAverageDecaysTowardsRecentSamples() {
+        complete(slowClient, 100);
+        complete(fastClient, 200);
+
+        assertSame(slowClient, loadBalancer.findLlmClient(llmClients, loadTracker));
+
+        for (int i = 0; i < 5; i++) {
+            complete(slowClient, 1000);
+        }
+
+        assertSame(fastClient, loadBalancer.findLlmClient(llmClients, loadTracker));
+        assertTrue(loadTracker.getLatencyEwmaMillis(slowClient) > 800);
+    }
+
+    @Test
+    void findLlmClient_failedRequestsDoNotUpdateLatency() {
+        complete(slowClient, 100);
+        loadTracker.onRequestStarted(slowClient);
+        loadTracker.onRequestCompleted(slowClient, 1, false);
+
+        assertEquals(100.0, loadTracker.getLatencyEwmaMillis(slowClient), 0.001);
+        assertEquals(0, loadTracker.getInFlight(slowClient));
+        assertEquals(1, loadTracker.getCompletedRequests(slowClient));
+    }
+
+    @Test
+    void findLlmClient_withNullList_throwsValidationException() {
+        ValidationException exception = assertThrows(ValidationException.class, () ->
+                loadBalancer.findLlmClient(null, loadTracker)
+        );
+        assertEquals("LLM clients list cannot be null or empty", exception.getMessage());
+    }
+
+    private void complete(LlmClient llmClient, long latencyMillis) {
+        loadTracker.onRequestStarted(llmClient);
+        loadTracker.onRequestCompleted(llmClient, latencyMillis * MILLIS, true);
+    }
+}
@@ -0,0 +1,78 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class LlmClientLoadBalancerLeastOutstandingImplTest {
+
+    private LlmClientLoadBalancerLeastOutstandingImpl loadBalancer;
+    private LlmClientLoadTracker loadTracker;
+    private List<LlmClient> llmClients;
+    private LlmClient client1, client2, client3;
+
+    @BeforeEach
+    void setUp() {
+        loadBalancer = new LlmClientLoadBalancerLeastOutstandingImpl();
+        loadTracker = new LlmClientLoadTrackerImpl();
+        client1 = mock(LlmClient.class);
+        client2 = mock(LlmClient.class);
+        client3 = mock(LlmClient.class);
+        llmClients = Arrays.asList(client1, client2, client3);
+    }
+
+    @Test
+    void findLlmClient_allIdle_returnsFirstClient() {
+        assertSame(client1, loadBalancer.findLlmClient(llmClients, loadTracker));
+    }
+
+    @Test
+    void findLlmClient_returnsClientWithFewestInFlightRequests() {
+        loadTracker.onRequestStarted(client1);
+        loadTracker.onRequestStarted(client1);
+        loadTracker.onRequestStarted(client2);
+        loadTracker.onRequestStarted(client3);
+        loadTracker.onRequestStarted(client3);
+
+        assertSame(client2, loadBalancer.findLlmClient(llmClients, loadTracker));
+
+        loadTracker.onRequestCompleted(client1, 1_000_000L, true);
+        loadTracker.onRequestCompleted(client1, 1_000_000L, false);
+
+        assertSame(client1, loadBalancer.findLlmClient(llmClients, loadTracker));
+    }
+
+    @Test
+    void findLlmClient_startingEachSelection_spreadsRequestsEvenly() {
+        int[] counts = new int[3];
+        for (int i = 0; i < 9; i++) {
+            LlmClient selected = loadBalancer.findLlmClient(llmClients, loadTracker);
+            loadTracker.onRequestStarted(selected);
+            counts[llmClients.indexOf(selected)]++;
+        }
+
+        assertArrayEquals(new int[]{3, 3, 3}, counts);
+    }
+
+    @Test
+    void findLlmClient_withEmptyList_throwsValidationException() {
+        ValidationException exception = assertThrows(ValidationException.class, () ->
+                loadBalancer.findLlmClient(Collections.emptyList(), loadTracker)
+        );
+        assertEquals("LLM clients list cannot be null or empty", exception.getMessage());
+    }
+
+    @Test
+    void findLlmClient_withNullLoadTracker_throwsValidationException() {
+        assertThrows(ValidationException.class, () -> loadBalancer.findLlmClient(llmClients, null));
+    }
+}
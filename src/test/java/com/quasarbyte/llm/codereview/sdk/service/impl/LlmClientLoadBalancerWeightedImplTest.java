@@ -0,0 +1,90 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LlmClientLoadBalancerWeightedImplTest {
+
+    private LlmClientLoadBalancerWeightedImpl loadBalancer;
+    private Map<LlmClient, Long> currentWeights;
+    private LlmClient bigClient, smallClient;
+
+    @BeforeEach
+    void setUp() {
+        loadBalancer = new LlmClientLoadBalancerWeightedImpl();
+        currentWeights = new HashMap<>();
+        bigClient = new LlmClient().setWeight(8);
+        smallClient = new LlmClient().setWeight(1);
+    }
+
+    @Test
+    void findLlmClient_distributesRequestsProportionallyToWeights() {
+        List<LlmClient> llmClients = Arrays.asList(bigClient, smallClient);
+
+        int big = 0;
+        int small = 0;
+        for (int i = 0; i < 90; i++) {
+            if (loadBalancer.findLlmClient(llmClients, currentWeights) == bigClient) {
+                big++;
+            } else {
+                small++;
+            }
+        }
+
+        assertEquals(80, big);
+        assertEquals(10, small);
+    }
+
+    @Test
+    void findLlmClient_interleavesSelectionsSmoothly() {
+        LlmClient a = new LlmClient().setWeight(5);
+        LlmClient b = new LlmClient().setWeight(1);
+        LlmClient c = new LlmClient().setWeight(1);
+        List<LlmClient> llmClients = Arrays.asList(a, b, c);
+
+        List<LlmClient> selected = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            selected.add(loadBalancer.findLlmClient(llmClients, currentWeights));
+        }
+
+        // The nginx smooth weighted round-robin sequence for weights 5, 1, 1
+        assertEquals(Arrays.asList(a, a, b, a, c, a, a), selected);
+    }
+
+    @Test
+    void findLlmClient_withoutWeights_behavesLikeRoundRobin() {
+        LlmClient a = new LlmClient();
+        LlmClient b = new LlmClient();
+        List<LlmClient> llmClients = Arrays.asList(a, b);
+
+        assertSame(a, loadBalancer.findLlmClient(llmClients, currentWeights));
+        assertSame(b, loadBalancer.findLlmClient(llmClients, currentWeights));
+        assertSame(a, loadBalancer.findLlmClient(llmClients, currentWeights));
+    }
+
+    @Test
+    void findLlmClient_withInvalidWeight_throwsValidationException() {
+        List<LlmClient> llmClients = Collections.singletonList(new LlmClient().setWeight(0));
+
+        assertThrows(ValidationException.class, () -> loadBalancer.findLlmClient(llmClients, currentWeights));
+    }
+
+    @Test
+    void findLlmClient_withEmptyList_throwsValidationException() {
+        ValidationException exception = assertThrows(ValidationException.class, () ->
+                loadBalancer.findLlmClient(Collections.emptyList(), currentWeights)
+        );
+        assertEquals("LLM clients list cannot be null or empty", exception.getMessage());
+    }
+}
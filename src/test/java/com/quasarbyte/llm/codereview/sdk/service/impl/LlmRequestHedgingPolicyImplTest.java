@@ -0,0 +1,101 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.HedgedRequest;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.HedgingParameter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LlmRequestHedgingPolicyImplTest {
+
+    @Test
+    void getHedgeDelayNanos_notEnoughSamples_returnsMinusOne() {
+        LlmRequestHedgingPolicyImpl policy = new LlmRequestHedgingPolicyImpl(new HedgingParameter().setMinSamples(3));
+
+        policy.onRequestSucceeded(100);
+        policy.onRequestSucceeded(200);
+
+        assertEquals(-1, policy.getHedgeDelayNanos());
+    }
+
+    @Test
+    void getHedgeDelayNanos_returnsLatencyPercentile() {
+        LlmRequestHedgingPolicyImpl policy = new LlmRequestHedgingPolicyImpl(new HedgingParameter()
+                .setMinSamples(10)
+                .setPercentile(0.9));
+
+        // Recorded in reverse order, the percentile does not depend on the order of the samples
+        for (int i = 100; i >= 1; i--) {
+            policy.onRequestSucceeded(i);
+        }
+
+        assertEquals(90, policy.getHedgeDelayNanos());
+    }
+
+    @Test
+    void getHedgeDelayNanos_onlyConsidersLatestSamples() {
+        LlmRequestHedgingPolicyImpl policy = new LlmRequestHedgingPolicyImpl(new HedgingParameter().setPercentile(0.5));
+
+        for (int i = 0; i < 1000; i++) {
+            policy.onRequestSucceeded(1_000);
+        }
+        for (int i = 0; i < 1000; i++) {
+            policy.onRequestSucceeded(10);
+        }
+
+        assertEquals(10, policy.getHedgeDelayNanos());
+    }
+
+    @Test
+    void tryAcquireHedge_respectsBudget() {
+        LlmRequestHedgingPolicyImpl policy = new LlmRequestHedgingPolicyImpl(new HedgingParameter().setMaxExtraRequestRatio(0.1));
+
+        for (int i = 0; i < 19; i++) {
+            policy.onRequest();
+        }
+        assertTrue(policy.tryAcquireHedge());
+        assertFalse(policy.tryAcquireHedge());
+
+        policy.onRequest();
+        assertTrue(policy.tryAcquireHedge());
+        assertFalse(policy.tryAcquireHedge());
+
+        policy.releaseHedge();
+        assertTrue(policy.tryAcquireHedge());
+        assertEquals(2, policy.getHedgedRequests());
+    }
+
+    @Test
+    void onHedgedRequestCompleted_accumulatesStatisticsAndNotifiesListener() {
+        List<HedgedRequest> hedgedRequests = new ArrayList<>();
+        LlmRequestHedgingPolicyImpl policy = new LlmRequestHedgingPolicyImpl(new HedgingParameter().setListener(hedgedRequests::add));
+
+        policy.onHedgedRequestCompleted(new HedgedRequest().setHedgeWon(true).setWastedTokens(300L));
+        policy.onHedgedRequestCompleted(new HedgedRequest().setHedgeWon(false).setWastedTokens(200L));
+
+        assertEquals(1, policy.getHedgeWins());
+        assertEquals(500, policy.getWastedTokens());
+        assertEquals(2, hedgedRequests.size());
+    }
+
+    @Test
+    void onHedgedRequestCompleted_listenerThrows_doesNotPropagate() {
+        LlmRequestHedgingPolicyImpl policy = new LlmRequestHedgingPolicyImpl(new HedgingParameter().setListener(hedgedRequest -> {
+            throw new IllegalStateException("Metrics unavailable");
+        }));
+
+        assertDoesNotThrow(() -> policy.onHedgedRequestCompleted(new HedgedRequest().setHedgeWon(true)));
+        assertEquals(1, policy.getHedgeWins());
+    }
+
+    @Test
+    void constructor_invalidParameter_throwsValidationException() {
+        assertThrows(ValidationException.class, () -> new LlmRequestHedgingPolicyImpl(new HedgingParameter().setPercentile(1.0)));
+        assertThrows(ValidationException.class, () -> new LlmRequestHedgingPolicyImpl(new HedgingParameter().setMinSamples(0)));
+        assertThrows(ValidationException.class, () -> new LlmRequestHedgingPolicyImpl(new HedgingParameter().setMaxExtraRequestRatio(0.0)));
+    }
+}
@@ -0,0 +1,145 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorInterruptedException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorTimeoutException;
+import com.quasarbyte.llm.codereview.sdk.model.SourceFile;
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmRateLimit;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFile;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedCompletionUsage;
+import com.quasarbyte.llm.codereview.sdk.service.LlmRequestRateLimiter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LlmRequestRateLimiterImplTest {
+
+    private LlmRequestRateLimiterImpl rateLimiter;
+    private LlmChatCompletionConfiguration chatCompletionConfiguration;
+    private ReviewPrompt reviewPrompt;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new LlmRequestRateLimiterImpl();
+        chatCompletionConfiguration = new LlmChatCompletionConfiguration().setMaxCompletionTokens(1000L);
+        reviewPrompt = new ReviewPrompt()
+                .setId(1L)
+                .setFiles(Collections.singletonList(new PromptFile()
+                        .setSourceFile(new SourceFile().setContent(new String(new char[4000]).getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    @Test
+    void reserve_withoutRateLimit_doesNotDelayRequests() {
+        LlmClient llmClient = new LlmClient();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.reserve(reviewPrompt, chatCompletionConfiguration, llmClient, null).complete(null);
+        }
+
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+    }
+
+    @Test
+    void reserve_withinRateLimit_doesNotDelayRequests() {
+        LlmClient llmClient = new LlmClient().setRateLimit(new LlmRateLimit().setRequestsPerMinute(600).setTokensPerMinute(1_000_000L));
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.reserve(reviewPrompt, chatCompletionConfiguration, llmClient, null)
+                    .complete(new ReviewedCompletionUsage().setTotalTokens(1500L));
+        }
+
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+    }
+
+    @Test
+    void reserve_actualUsageExhaustsTokensPerMinute_delaysNextRequest() {
+        // 600 000 tokens per minute refill 10 000 tokens per second
+        LlmClient llmClient = new LlmClient().setRateLimit(new LlmRateLimit().setTokensPerMinute(600_000L));
+
+        rateLimiter.reserve(reviewPrompt, chatCompletionConfiguration, llmClient, null)
+                .complete(new ReviewedCompletionUsage().setTotalTokens(600_000L));
+
+        // The reported usage emptied the bucket, so the next request waits for its estimated tokens to refill
+        long start = System.nanoTime();
+        rateLimiter.reserve(reviewPrompt, chatCompletionConfiguration, llmClient, null);
+
+        assertTrue(System.nanoTime() - start >= 150_000_000L);
+    }
+
+    @Test
+    void reserve_failedRequest_givesReservedTokensBack() {
+        // The estimate of about 2100 tokens fits into the bucket once
+        LlmClient llmClient = new LlmClient().setRateLimit(new LlmRateLimit().setTokensPerMinute(3000L));
+
+        rateLimiter.reserve(reviewPrompt, chatCompletionConfiguration, llmClient, null).complete(null);
+
+        long start = System.nanoTime();
+        rateLimiter.reserve(reviewPrompt, chatCompletionConfiguration, llmClient, null);
+
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+    }
+
+    @Test
+    void reserve_rateLimitDelayPastDeadline_failsWithoutWaiting() {
+        LlmClient llmClient = new LlmClient().setRateLimit(new LlmRateLimit().setRequestsPerMinute(1));
+
+        rateLimiter.reserve(reviewPrompt, chatCompletionConfiguration, llmClient, null);
+
+        // The next request permit is a minute away
+        long start = System.nanoTime();
+        Instant deadline = Instant.now().plusSeconds(1);
+        assertThrows(TaskExecutorTimeoutException.class,
+                () -> rateLimiter.reserve(reviewPrompt, chatCompletionConfiguration, llmClient, deadline));
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+    }
+
+    @Test
+    void reserve_interruptedWhileWaiting_givesReservedTokensBack() throws Exception {
+        // 3000 tokens per minute refill 50 tokens per second, the second estimate of about 2100 tokens waits for about 24 seconds
+        LlmClient llmClient = new LlmClient().setRateLimit(new LlmRateLimit().setTokensPerMinute(3000L));
+        LlmRequestRateLimiter.Reservation reservation = rateLimiter.reserve(reviewPrompt, chatCompletionConfiguration, llmClient, null);
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                rateLimiter.reserve(reviewPrompt, chatCompletionConfiguration, llmClient, null);
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(10);
+        }
+        thread.interrupt();
+        thread.join(TimeUnit.SECONDS.toMillis(5));
+
+        assertInstanceOf(TaskExecutorInterruptedException.class, failure.get());
+
+        // With the tokens of the interrupted request given back, the bucket is full again
+        reservation.complete(null);
+        long start = System.nanoTime();
+        rateLimiter.reserve(reviewPrompt, chatCompletionConfiguration, llmClient, Instant.now().plusSeconds(10));
+
+        assertTrue(System.nanoTime() - start < 1_000_000_000L);
+    }
+
+    @Test
+    void estimateTokens_includesPromptContentAndMaxCompletionTokens() {
+        long estimatedTokens = LlmRequestRateLimiterImpl.estimateTokens(reviewPrompt, chatCompletionConfiguration);
+
+        // 4000 characters of content are about 1000 tokens, plus 1000 completion tokens and the request overhead
+        assertTrue(estimatedTokens > 2000 && estimatedTokens < 2500, "Unexpected estimate: " + estimatedTokens);
+    }
+}
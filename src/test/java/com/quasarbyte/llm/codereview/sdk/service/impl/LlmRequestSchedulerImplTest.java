@@ -0,0 +1,167 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LlmRequestSchedulerImplTest {
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void acquire_capsRequestsInFlightAcrossFlows() throws Exception {
+        LlmRequestSchedulerImpl scheduler = new LlmRequestSchedulerImpl(2, null);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            String flowKey = "review-" + (i % 3);
+            futures.add(executorService.submit(() -> {
+                scheduler.acquire(flowKey, 1.0, 100);
+                try {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Thread.sleep(5);
+                    inFlight.decrementAndGet();
+                } finally {
+                    scheduler.release(flowKey);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        assertEquals(2, maxInFlight.get());
+        assertEquals(0, scheduler.getInFlight());
+    }
+
+    @Test
+    void acquire_smallFlowIsServedBetweenRequestsOfLargeFlowQueuedBeforeIt() throws Exception {
+        LlmRequestSchedulerImpl scheduler = new LlmRequestSchedulerImpl(1, null);
+        List<String> admissionOrder = Collections.synchronizedList(new ArrayList<>());
+
+        // Holds the only slot until all requests are queued
+        scheduler.acquire("holder", 1.0, 1);
+
+        for (int i = 0; i < 10; i++) {
+            submitRequest(scheduler, "large", admissionOrder);
+            awaitWaiting(scheduler, i + 1);
+        }
+        for (int i = 0; i < 2; i++) {
+            submitRequest(scheduler, "small", admissionOrder);
+            awaitWaiting(scheduler, 11 + i);
+        }
+
+        scheduler.release("holder");
+        awaitWaiting(scheduler, 0);
+        awaitInFlight(scheduler, 0);
+
+        assertEquals(12, admissionOrder.size());
+        // Without fair queuing the small review would wait for all 10 requests of the large one
+        assertTrue(admissionOrder.lastIndexOf("small") <= 3, "Admission order: " + admissionOrder);
+    }
+
+    @Test
+    void acquire_higherWeightGetsLargerShare() throws Exception {
+        LlmRequestSchedulerImpl scheduler = new LlmRequestSchedulerImpl(1, null);
+        List<String> admissionOrder = Collections.synchronizedList(new ArrayList<>());
+
+        scheduler.acquire("holder", 1.0, 1);
+
+        for (int i = 0; i < 6; i++) {
+            submitRequest(scheduler, "light", 1.0, admissionOrder);
+            awaitWaiting(scheduler, 2 * i + 1);
+            submitRequest(scheduler, "heavy", 3.0, admissionOrder);
+            awaitWaiting(scheduler, 2 * i + 2);
+        }
+
+        scheduler.release("holder");
+        awaitWaiting(scheduler, 0);
+        awaitInFlight(scheduler, 0);
+
+        List<String> firstHalf = admissionOrder.subList(0, 6);
+        assertTrue(Collections.frequency(firstHalf, "heavy") >= 4, "Admission order: " + admissionOrder);
+    }
+
+    @Test
+    void acquire_interruptedWhileWaiting_doesNotTakeSlot() throws Exception {
+        LlmRequestSchedulerImpl scheduler = new LlmRequestSchedulerImpl(1, null);
+        scheduler.acquire("holder", 1.0, 1);
+
+        Future<?> waiting = executorService.submit(() -> {
+            scheduler.acquire("review", 1.0, 1);
+            return null;
+        });
+        awaitWaiting(scheduler, 1);
+
+        waiting.cancel(true);
+        awaitWaiting(scheduler, 0);
+        scheduler.release("holder");
+
+        assertEquals(0, scheduler.getInFlight());
+        // The slot is free for the next request
+        scheduler.acquire("review", 1.0, 1);
+        assertEquals(1, scheduler.getInFlight());
+        scheduler.release("review");
+    }
+
+    @Test
+    void constructor_invalidMaxConcurrentRequests_throwsValidationException() {
+        assertThrows(ValidationException.class, () -> new LlmRequestSchedulerImpl(0, null));
+    }
+
+    @Test
+    void acquire_invalidWeight_throwsValidationException() {
+        LlmRequestSchedulerImpl scheduler = new LlmRequestSchedulerImpl(1, null);
+
+        assertThrows(ValidationException.class, () -> scheduler.acquire("review", 0, 1));
+        assertEquals(0, scheduler.getWaiting());
+    }
+
+    private void submitRequest(LlmRequestSchedulerImpl scheduler, String flowKey, List<String> admissionOrder) {
+        submitRequest(scheduler, flowKey, 1.0, admissionOrder);
+    }
+
+    private void submitRequest(LlmRequestSchedulerImpl scheduler, String flowKey, double weight, List<String> admissionOrder) {
+        executorService.submit(() -> {
+            scheduler.acquire(flowKey, weight, 100);
+            admissionOrder.add(flowKey);
+            scheduler.release(flowKey);
+            return null;
+        });
+    }
+
+    private static void awaitWaiting(LlmRequestSchedulerImpl scheduler, int waiting) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.getWaiting() != waiting) {
+            assertTrue(System.nanoTime() < deadline, "Waiting requests: " + scheduler.getWaiting() + ", expected: " + waiting);
+            Thread.sleep(1);
+        }
+    }
+
+    private static void awaitInFlight(LlmRequestSchedulerImpl scheduler, int inFlight) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.getInFlight() != inFlight) {
+            assertTrue(System.nanoTime() < deadline, "Requests in flight: " + scheduler.getInFlight() + ", expected: " + inFlight);
+            Thread.sleep(1);
+        }
+    }
+}
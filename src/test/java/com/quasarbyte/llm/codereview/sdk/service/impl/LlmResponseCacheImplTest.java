@@ -0,0 +1,195 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.db.PersistenceRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.model.db.LlmResponseCacheDB;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmResponseCacheParameter;
+import com.quasarbyte.llm.codereview.sdk.repository.LlmResponseCacheRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LlmResponseCacheImplTest {
+
+    @Mock private LlmResponseCacheRepository llmResponseCacheRepository;
+
+    private LlmResponseCacheImpl llmResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        llmResponseCache = new LlmResponseCacheImpl(llmResponseCacheRepository);
+    }
+
+    @Test
+    void find_cachedResponse_returnsItAndCountsHit() {
+        LlmResponseCacheParameter parameter = new LlmResponseCacheParameter().setTimeToLive(Duration.ofHours(1));
+        when(llmResponseCacheRepository.findByCacheKey("key"))
+                .thenReturn(Optional.of(entry(LocalDateTime.now().minusMinutes(5))));
+
+        assertEquals(Optional.of("[]"), llmResponseCache.find("key", parameter));
+
+        verify(llmResponseCacheRepository).updateAccessedAt(eq(1L), any());
+        assertEquals(1, parameter.getStatistics().getHitCount());
+        assertEquals(0, parameter.getStatistics().getMissCount());
+    }
+
+    @Test
+    void find_expiredResponse_countsMiss() {
+        LlmResponseCacheParameter parameter = new LlmResponseCacheParameter().setTimeToLive(Duration.ofHours(1));
+        when(llmResponseCacheRepository.findByCacheKey("key"))
+                .thenReturn(Optional.of(entry(LocalDateTime.now().minusHours(2))));
+
+        assertEquals(Optional.empty(), llmResponseCache.find("key", parameter));
+
+        verify(llmResponseCacheRepository, never()).updateAccessedAt(any(), any());
+        verify(llmResponseCacheRepository).deleteById(1L);
+        assertEquals(0, parameter.getStatistics().getHitCount());
+        assertEquals(1, parameter.getStatistics().getMissCount());
+    }
+
+    @Test
+    void find_repositoryFailure_isTreatedAsMiss() {
+        LlmResponseCacheParameter parameter = new LlmResponseCacheParameter();
+        when(llmResponseCacheRepository.findByCacheKey("key")).thenThrow(new PersistenceRuntimeException("no such table"));
+
+        assertEquals(Optional.empty(), llmResponseCache.find("key", parameter));
+        assertEquals(1, parameter.getStatistics().getMissCount());
+    }
+
+    @Test
+    void put_storesResponseAndEvictsExpiredAndLeastRecentlyUsedEntries() {
+        LlmResponseCacheParameter parameter = new LlmResponseCacheParameter()
+                .setTimeToLive(Duration.ofDays(1))
+                .setMaxEntries(100);
+        when(llmResponseCacheRepository.deleteCreatedBefore(any())).thenReturn(2);
+        when(llmResponseCacheRepository.deleteLeastRecentlyAccessed(100)).thenReturn(1);
+
+        llmResponseCache.put("key", "[]", parameter);
+
+        verify(llmResponseCacheRepository).save(argThat(entry -> "key".equals(entry.getCacheKey()) && "[]".equals(entry.getResponse())));
+        assertEquals(1, parameter.getStatistics().getStoreCount());
+        assertEquals(3, parameter.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    void put_evictsOncePerEvictionInterval() {
+        LlmResponseCacheParameter parameter = new LlmResponseCacheParameter()
+                .setTimeToLive(Duration.ofDays(1))
+                .setMaxEntries(100)
+                .setEvictionInterval(3);
+
+        for (int i = 0; i < 7; i++) {
+            llmResponseCache.put("key" + i, "[]", parameter);
+        }
+
+        verify(llmResponseCacheRepository, times(7)).save(any());
+        verify(llmResponseCacheRepository, times(3)).deleteCreatedBefore(any());
+        verify(llmResponseCacheRepository, times(3)).deleteLeastRecentlyAccessed(100);
+    }
+
+    @Test
+    void put_duplicateKey_doesNotFail() {
+        LlmResponseCacheParameter parameter = new LlmResponseCacheParameter();
+        when(llmResponseCacheRepository.save(any())).thenThrow(new PersistenceRuntimeException("unique constraint violated"));
+
+        assertDoesNotThrow(() -> llmResponseCache.put("key", "[]", parameter));
+
+        assertEquals(0, parameter.getStatistics().getStoreCount());
+        verify(llmResponseCacheRepository, never()).deleteLeastRecentlyAccessed(anyInt());
+    }
+
+    @Test
+    void put_failedStore_stillEvicts() {
+        LlmResponseCacheParameter parameter = new LlmResponseCacheParameter()
+                .setTimeToLive(Duration.ofDays(1))
+                .setEvictionInterval(1);
+        when(llmResponseCacheRepository.save(any())).thenThrow(new PersistenceRuntimeException("unique constraint violated"));
+
+        llmResponseCache.put("key", "[]", parameter);
+
+        verify(llmResponseCacheRepository).deleteCreatedBefore(any());
+    }
+
+    @Test
+    void find_expiredResponse_isReplacedByNextPut() {
+        LlmResponseCacheParameter parameter = new LlmResponseCacheParameter().setTimeToLive(Duration.ofHours(1));
+        InMemoryLlmResponseCacheRepository repository = new InMemoryLlmResponseCacheRepository();
+        repository.save(entry(LocalDateTime.now().minusHours(2)).setResponse("[\"stale\"]"));
+        LlmResponseCacheImpl cache = new LlmResponseCacheImpl(repository);
+
+        assertEquals(Optional.empty(), cache.find("key", parameter));
+        cache.put("key", "[\"fresh\"]", parameter);
+
+        assertEquals(Optional.of("[\"fresh\"]"), cache.find("key", parameter));
+        assertEquals(1, parameter.getStatistics().getStoreCount());
+        assertEquals(1, parameter.getStatistics().getHitCount());
+    }
+
+    private static LlmResponseCacheDB entry(LocalDateTime createdAt) {
+        return new LlmResponseCacheDB()
+                .setId(1L)
+                .setCacheKey("key")
+                .setResponse("[]")
+                .setCreatedAt(createdAt)
+                .setAccessedAt(createdAt);
+    }
+
+    /**
+     * Keeps the unique cache key of the llm_response_cache table.
+     */
+    private static class InMemoryLlmResponseCacheRepository implements LlmResponseCacheRepository {
+
+        private final Map<String, LlmResponseCacheDB> entries = new HashMap<>();
+        private long nextId = 1;
+
+        @Override
+        public Optional<LlmResponseCacheDB> findByCacheKey(String cacheKey) {
+            return Optional.ofNullable(entries.get(cacheKey));
+        }
+
+        @Override
+        public Long save(LlmResponseCacheDB llmResponseCacheDB) {
+            if (entries.containsKey(llmResponseCacheDB.getCacheKey())) {
+                throw new PersistenceRuntimeException("unique constraint violated");
+            }
+            entries.put(llmResponseCacheDB.getCacheKey(), llmResponseCacheDB.setId(nextId));
+            return nextId++;
+        }
+
+        @Override
+        public void updateAccessedAt(Long id, LocalDateTime accessedAt) {
+            entries.values().stream().filter(entry -> id.equals(entry.getId())).forEach(entry -> entry.setAccessedAt(accessedAt));
+        }
+
+        @Override
+        public void deleteById(Long id) {
+            entries.values().removeIf(entry -> id.equals(entry.getId()));
+        }
+
+        @Override
+        public int deleteCreatedBefore(LocalDateTime createdAt) {
+            int size = entries.size();
+            entries.values().removeIf(entry -> entry.getCreatedAt().isBefore(createdAt));
+            return size - entries.size();
+        }
+
+        @Override
+        public int deleteLeastRecentlyAccessed(int maxEntries) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,548 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.openai.client.OpenAIClient;
+import com.openai.core.RequestOptions;
+import com.openai.core.http.AsyncStreamResponse;
+import com.openai.errors.OpenAIServiceException;
+import com.openai.models.chat.completions.ChatCompletion;
+import com.openai.models.chat.completions.ChatCompletionChunk;
+import com.openai.models.chat.completions.ChatCompletionCreateParams;
+import com.openai.models.chat.completions.ChatCompletionMessage;
+import com.openai.models.chat.completions.StructuredChatCompletion;
+import com.openai.models.chat.completions.StructuredChatCompletionCreateParams;
+import com.openai.models.completions.CompletionUsage;
+import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.model.RuleKey;
+import com.quasarbyte.llm.codereview.sdk.model.SourceFile;
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.context.ReviewRunDetails;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmMessage;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmMessageRoleEnum;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmMessages;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmResponseCacheParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.PersistenceConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFile;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedComment;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedFile;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.StreamedResponseAttempt;
+import com.quasarbyte.llm.codereview.sdk.service.ChatCompletionCreateParamsFactory;
+import com.quasarbyte.llm.codereview.sdk.service.LlmMessagesMapper;
+import com.quasarbyte.llm.codereview.sdk.service.LlmRequestRateLimiter;
+import com.quasarbyte.llm.codereview.sdk.service.LlmResponseCache;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultListener;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmRequestDeadlineUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LlmReviewProcessorImplTest {
+
+    @Mock private LlmMessagesMapper llmMessagesMapper;
+    @Mock private ChatCompletionCreateParamsFactory chatCompletionCreateParamsFactory;
+    @Mock private LlmMessagesMapperConfiguration messagesMapperConfiguration;
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS) private OpenAIClient openAIClient;
+
+    private final LlmChatCompletionConfiguration chatCompletionConfiguration = new LlmChatCompletionConfiguration();
+    private final List<LlmReviewPrompt> requestedPrompts = new ArrayList<>();
+
+    private LlmReviewProcessorImpl processor;
+    private LlmClient llmClient;
+
+    @BeforeEach
+    void setUp() {
+        processor = new LlmReviewProcessorImpl(llmMessagesMapper, chatCompletionCreateParamsFactory);
+        llmClient = new LlmClient().setOpenAIClient(openAIClient);
+        when(chatCompletionCreateParamsFactory.create(any())).thenAnswer(invocation -> ChatCompletionCreateParams.builder().model("gpt-4o"));
+        when(llmMessagesMapper.map(any(), any())).thenAnswer(invocation -> {
+            requestedPrompts.add(invocation.getArgument(0));
+            return new LlmMessages().setMessages(Collections.singletonList(
+                    new LlmMessage().setRole(LlmMessageRoleEnum.USER).setContent("review")));
+        });
+    }
+
+    @Test
+    void process_truncatedResponse_splitsFileBatchAndMergesComments() {
+        ReviewPrompt prompt = prompt(Arrays.asList(file(1L, "A.java"), file(2L, "B.java")), Collections.singletonList(rule(10L, "R1")));
+        when(openAIClient.chat().completions().create(any(StructuredChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenAnswer(invocation -> completion(invocation.getArgument(0), ChatCompletion.Choice.FinishReason.LENGTH, "{\"files\":[{\"fileId\":1"))
+                .thenAnswer(invocation -> completion(invocation.getArgument(0), ChatCompletion.Choice.FinishReason.STOP, commentsForLastPrompt()))
+                .thenAnswer(invocation -> completion(invocation.getArgument(0), ChatCompletion.Choice.FinishReason.STOP, commentsForLastPrompt()));
+
+        ReviewedResultItem result = processor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+
+        assertEquals(3, requestedPrompts.size());
+        assertEquals(Collections.singletonList("A.java"), fileNames(requestedPrompts.get(1)));
+        assertEquals(Collections.singletonList("B.java"), fileNames(requestedPrompts.get(2)));
+        assertEquals(Arrays.asList("A.java", "B.java"), result.getFiles().stream()
+                .map(file -> file.getPromptFile().getSourceFile().getFileName())
+                .collect(Collectors.toList()));
+        // The truncated response is billed too
+        assertEquals(300L, result.getCompletionUsage().getTotalTokens());
+        assertEquals(60L, result.getCompletionUsage().getCachedPromptTokens());
+    }
+
+    @Test
+    void process_withDeadline_sharesRemainingTimeBetweenAttemptsOfClient() {
+        ReviewPrompt prompt = prompt(Collections.singletonList(file(1L, "A.java")), Collections.singletonList(rule(10L, "R1")));
+        List<RequestOptions> requestOptions = new ArrayList<>();
+        when(openAIClient.chat().completions().create(any(StructuredChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenAnswer(invocation -> {
+                    requestOptions.add(invocation.getArgument(1));
+                    return completion(invocation.getArgument(0), ChatCompletion.Choice.FinishReason.STOP, commentsForLastPrompt());
+                });
+
+        Instant previousDeadline = LlmRequestDeadlineUtils.setDeadline(Instant.now().plus(Duration.ofMinutes(6)));
+        try {
+            processor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient.setMaxRetries(2));
+        } finally {
+            LlmRequestDeadlineUtils.setDeadline(previousDeadline);
+        }
+
+        // The first attempt and two retries fit into the six minutes left
+        Duration attemptTimeout = requestOptions.get(0).getTimeout().request();
+        assertTrue(attemptTimeout.compareTo(Duration.ofMinutes(2)) <= 0, "Unexpected timeout: " + attemptTimeout);
+        assertTrue(attemptTimeout.compareTo(Duration.ofSeconds(100)) > 0, "Unexpected timeout: " + attemptTimeout);
+    }
+
+    @Test
+    void processAsync_truncatedResponse_sendsHalvesWithDeadlineOfOriginalRequest() throws Exception {
+        ReviewPrompt prompt = prompt(Arrays.asList(file(1L, "A.java"), file(2L, "B.java")), Collections.singletonList(rule(10L, "R1")));
+        List<RequestOptions> requestOptions = Collections.synchronizedList(new ArrayList<>());
+        when(openAIClient.async().chat().completions().create(any(ChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenAnswer(invocation -> {
+                    requestOptions.add(invocation.getArgument(1));
+                    return CompletableFuture.completedFuture(chatCompletion(ChatCompletion.Choice.FinishReason.LENGTH, "{\"files\":[{\"fileId\":1"));
+                })
+                .thenAnswer(invocation -> {
+                    requestOptions.add(invocation.getArgument(1));
+                    return CompletableFuture.completedFuture(chatCompletion(ChatCompletion.Choice.FinishReason.STOP, commentsForLastPrompt()));
+                });
+        ExecutorService callbackExecutor = Executors.newSingleThreadExecutor();
+
+        ReviewedResultItem result;
+        try {
+            Instant previousDeadline = LlmRequestDeadlineUtils.setDeadline(Instant.now().plus(Duration.ofMinutes(5)));
+            CompletableFuture<ReviewedResultItem> future;
+            try {
+                future = processor.processAsync(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient, callbackExecutor);
+            } finally {
+                LlmRequestDeadlineUtils.setDeadline(previousDeadline);
+            }
+            result = future.get(5, TimeUnit.SECONDS);
+        } finally {
+            callbackExecutor.shutdownNow();
+        }
+
+        assertEquals(2, result.getFiles().size());
+        assertEquals(3, requestOptions.size());
+        // The halves are sent by the callback executor, which has no deadline of its own
+        requestOptions.forEach(options -> assertNotNull(options.getTimeout()));
+    }
+
+    @Test
+    void process_contextLengthExceeded_splitsRuleBatchOfSingleFile() {
+        ReviewPrompt prompt = prompt(Collections.singletonList(file(1L, "A.java")), Arrays.asList(rule(10L, "R1"), rule(20L, "R2")));
+        OpenAIServiceException contextLengthExceeded = contextLengthExceeded();
+        when(openAIClient.chat().completions().create(any(StructuredChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenThrow(contextLengthExceeded)
+                .thenAnswer(invocation -> completion(invocation.getArgument(0), ChatCompletion.Choice.FinishReason.STOP, commentsForLastPrompt()))
+                .thenAnswer(invocation -> completion(invocation.getArgument(0), ChatCompletion.Choice.FinishReason.STOP, commentsForLastPrompt()));
+
+        ReviewedResultItem result = processor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+
+        assertEquals(3, requestedPrompts.size());
+        assertEquals(1, requestedPrompts.get(1).getRules().size());
+        assertEquals(1, requestedPrompts.get(2).getRules().size());
+        assertEquals(1, result.getFiles().size());
+        ReviewedFile reviewedFile = result.getFiles().get(0);
+        assertEquals(Arrays.asList("R1", "R2"), reviewedFile.getComments().stream()
+                .map(ReviewedComment::getRuleCode)
+                .collect(Collectors.toList()));
+        assertEquals(200L, result.getCompletionUsage().getTotalTokens());
+    }
+
+    @Test
+    void process_contextLengthExceededForSingleFileAndRule_fails() {
+        ReviewPrompt prompt = prompt(Collections.singletonList(file(1L, "A.java")), Collections.singletonList(rule(10L, "R1")));
+        OpenAIServiceException contextLengthExceeded = contextLengthExceeded();
+        when(openAIClient.chat().completions().create(any(StructuredChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenThrow(contextLengthExceeded);
+
+        assertThrows(LLMCodeReviewRuntimeException.class,
+                () -> processor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient));
+        assertEquals(1, requestedPrompts.size());
+    }
+
+    @Test
+    void process_samePromptInAnotherReview_isAnsweredFromResponseCache() {
+        LlmResponseCacheParameter cacheParameter = new LlmResponseCacheParameter();
+        ReviewRunContext reviewRunContext = new ReviewRunContextImpl();
+        reviewRunContext.setReviewRunDetails(new ReviewRunDetails(true, 1L, 1L,
+                new PersistenceConfiguration().setResponseCache(cacheParameter)));
+        LlmReviewProcessorImpl cachingProcessor = new LlmReviewProcessorImpl(
+                llmMessagesMapper, chatCompletionCreateParamsFactory, new InMemoryLlmResponseCache(), reviewRunContext);
+        when(openAIClient.chat().completions().create(any(StructuredChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenAnswer(invocation -> completion(invocation.getArgument(0), ChatCompletion.Choice.FinishReason.STOP, commentsForLastPrompt()));
+
+        // The files and rules of each review have their own database ids
+        ReviewPrompt firstReviewPrompt = prompt(Collections.singletonList(file(101L, "A.java")), Collections.singletonList(rule(501L, "R1")));
+        ReviewPrompt secondReviewPrompt = prompt(Collections.singletonList(file(202L, "A.java")), Collections.singletonList(rule(602L, "R1")));
+
+        ReviewedResultItem first = cachingProcessor.process(firstReviewPrompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+        ReviewedResultItem second = cachingProcessor.process(secondReviewPrompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+
+        verify(openAIClient.chat().completions(), times(1)).create(any(StructuredChatCompletionCreateParams.class), any(RequestOptions.class));
+        assertEquals(1, cacheParameter.getStatistics().getMissCount());
+        assertEquals(1, cacheParameter.getStatistics().getHitCount());
+
+        assertEquals(501L, first.getFiles().get(0).getComments().get(0).getRuleId());
+        ReviewedFile cachedFile = second.getFiles().get(0);
+        assertSame(secondReviewPrompt.getFiles().get(0), cachedFile.getPromptFile());
+        assertEquals(602L, cachedFile.getComments().get(0).getRuleId());
+        assertSame(secondReviewPrompt.getRules().get(0), cachedFile.getComments().get(0).getRule());
+        assertEquals(0L, second.getCompletionUsage().getTotalTokens());
+    }
+
+    @Test
+    void process_samePromptToAnotherEndpoint_isNotAnsweredFromResponseCache() {
+        LlmResponseCacheParameter cacheParameter = new LlmResponseCacheParameter();
+        ReviewRunContext reviewRunContext = new ReviewRunContextImpl();
+        reviewRunContext.setReviewRunDetails(new ReviewRunDetails(true, 1L, 1L,
+                new PersistenceConfiguration().setResponseCache(cacheParameter)));
+        LlmReviewProcessorImpl cachingProcessor = new LlmReviewProcessorImpl(
+                llmMessagesMapper, chatCompletionCreateParamsFactory, new InMemoryLlmResponseCache(), reviewRunContext);
+        when(openAIClient.chat().completions().create(any(StructuredChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenAnswer(invocation -> completion(invocation.getArgument(0), ChatCompletion.Choice.FinishReason.STOP, commentsForLastPrompt()));
+        LlmClient firstEndpoint = new LlmClient().setOpenAIClient(openAIClient).setBaseUrl("https://first.example.com/v1");
+        LlmClient secondEndpoint = new LlmClient().setOpenAIClient(openAIClient).setBaseUrl("https://second.example.com/v1");
+
+        ReviewPrompt prompt = prompt(Collections.singletonList(file(1L, "A.java")), Collections.singletonList(rule(10L, "R1")));
+        cachingProcessor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, firstEndpoint);
+        cachingProcessor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, secondEndpoint);
+
+        verify(openAIClient.chat().completions(), times(2)).create(any(StructuredChatCompletionCreateParams.class), any(RequestOptions.class));
+        assertEquals(2, cacheParameter.getStatistics().getMissCount());
+        assertEquals(0, cacheParameter.getStatistics().getHitCount());
+    }
+
+    @Test
+    void process_failedRequest_completesRateLimitReservationWithoutUsage() {
+        LlmRequestRateLimiter llmRequestRateLimiter = mock(LlmRequestRateLimiter.class);
+        LlmRequestRateLimiter.Reservation reservation = mock(LlmRequestRateLimiter.Reservation.class);
+        when(llmRequestRateLimiter.reserve(any(), any(), any(), any())).thenReturn(reservation);
+        LlmReviewProcessorImpl rateLimitedProcessor = new LlmReviewProcessorImpl(
+                llmMessagesMapper, chatCompletionCreateParamsFactory, null, null, llmRequestRateLimiter);
+        when(openAIClient.chat().completions().create(any(StructuredChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenThrow(new RuntimeException("Service unavailable"));
+
+        ReviewPrompt prompt = prompt(Collections.singletonList(file(1L, "A.java")), Collections.singletonList(rule(10L, "R1")));
+        assertThrows(LLMCodeReviewRuntimeException.class,
+                () -> rateLimitedProcessor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient));
+
+        verify(reservation).complete(null);
+    }
+
+    @Test
+    void process_cacheHit_takesNoRateLimitPermit() {
+        ReviewRunContext reviewRunContext = new ReviewRunContextImpl();
+        reviewRunContext.setReviewRunDetails(new ReviewRunDetails(true, 1L, 1L,
+                new PersistenceConfiguration().setResponseCache(new LlmResponseCacheParameter())));
+        LlmRequestRateLimiter llmRequestRateLimiter = mock(LlmRequestRateLimiter.class);
+        LlmRequestRateLimiter.Reservation reservation = mock(LlmRequestRateLimiter.Reservation.class);
+        when(llmRequestRateLimiter.reserve(any(), any(), any(), any())).thenReturn(reservation);
+        LlmReviewProcessorImpl cachingProcessor = new LlmReviewProcessorImpl(
+                llmMessagesMapper, chatCompletionCreateParamsFactory, new InMemoryLlmResponseCache(), reviewRunContext, llmRequestRateLimiter);
+        when(openAIClient.chat().completions().create(any(StructuredChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenAnswer(invocation -> completion(invocation.getArgument(0), ChatCompletion.Choice.FinishReason.STOP, commentsForLastPrompt()));
+
+        ReviewPrompt prompt = prompt(Collections.singletonList(file(1L, "A.java")), Collections.singletonList(rule(10L, "R1")));
+        cachingProcessor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+        cachingProcessor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+
+        verify(llmRequestRateLimiter, times(1)).reserve(any(), any(), any(), any());
+        verify(reservation).complete(argThat(usage -> usage != null && usage.getTotalTokens() == 100L));
+    }
+
+    @Test
+    void process_streamedResponse_reportsEachFileBeforeTheStreamEnds() {
+        List<String> events = new ArrayList<>();
+        ReviewRunContext reviewRunContext = new ReviewRunContextImpl();
+        reviewRunContext.setReviewRunDetails(new ReviewRunDetails(true, 1L, 1L, new PersistenceConfiguration(), new ReviewResultListener() {
+            @Override
+            public void onReviewedFile(ReviewedFile reviewedFile) {
+                events.add("file " + reviewedFile.getPromptFile().getSourceFile().getFileName());
+            }
+        }));
+        LlmReviewProcessorImpl streamingProcessor = new LlmReviewProcessorImpl(
+                llmMessagesMapper, chatCompletionCreateParamsFactory, null, reviewRunContext);
+        chatCompletionConfiguration.setStream(true);
+        ReviewPrompt prompt = prompt(Arrays.asList(file(1L, "A.java"), file(2L, "B.java")), Collections.singletonList(rule(10L, "R1")));
+        when(openAIClient.async().chat().completions().createStreaming(any(ChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenAnswer(invocation -> streamResponse(chunks(commentsForLastPrompt()), events));
+
+        ReviewedResultItem result = streamingProcessor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+
+        assertEquals(Arrays.asList("file A.java", "file B.java"), events.stream()
+                .filter(event -> event.startsWith("file"))
+                .collect(Collectors.toList()));
+        // The first file is reported while the rest of the response is still arriving
+        assertTrue(events.indexOf("file A.java") < events.lastIndexOf("chunk"));
+        assertEquals(2, result.getFiles().size());
+        assertEquals("R1", result.getFiles().get(1).getComments().get(0).getRuleCode());
+        assertEquals(100L, result.getCompletionUsage().getTotalTokens());
+        assertEquals(20L, result.getCompletionUsage().getCachedPromptTokens());
+    }
+
+    @Test
+    void process_streamedResponseSentAgain_reportsFilesWithAttemptOfEachResponse() {
+        List<StreamedResponseAttempt> attempts = Collections.synchronizedList(new ArrayList<>());
+        ReviewRunContext reviewRunContext = new ReviewRunContextImpl();
+        reviewRunContext.setReviewRunDetails(new ReviewRunDetails(true, 1L, 1L, new PersistenceConfiguration(), new ReviewResultListener() {
+            @Override
+            public void onReviewedFile(ReviewedFile reviewedFile, StreamedResponseAttempt attempt) {
+                attempts.add(attempt);
+            }
+        }));
+        LlmReviewProcessorImpl streamingProcessor = new LlmReviewProcessorImpl(
+                llmMessagesMapper, chatCompletionCreateParamsFactory, null, reviewRunContext);
+        chatCompletionConfiguration.setStream(true);
+        ReviewPrompt prompt = prompt(Arrays.asList(file(1L, "A.java"), file(2L, "B.java")), Collections.singletonList(rule(10L, "R1")));
+        when(openAIClient.async().chat().completions().createStreaming(any(ChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenAnswer(invocation -> streamResponse(chunks(commentsForLastPrompt()), new ArrayList<>()));
+
+        // Sent twice like a retried or hedged prompt
+        streamingProcessor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+        streamingProcessor.process(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient);
+
+        assertEquals(4, attempts.size());
+        assertTrue(attempts.stream().allMatch(attempt -> attempt.getPromptId() == 1L));
+        // The files of a response share its attempt id, the files of the other response have another one
+        assertSame(attempts.get(0), attempts.get(1));
+        assertSame(attempts.get(2), attempts.get(3));
+        assertNotEquals(attempts.get(0).getAttemptId(), attempts.get(2).getAttemptId());
+    }
+
+    @Test
+    void processAsync_cancelled_cancelsHttpCallOfRequest() {
+        ReviewPrompt prompt = prompt(Collections.singletonList(file(1L, "A.java")), Collections.singletonList(rule(10L, "R1")));
+        List<String> cancelledRequests = Collections.synchronizedList(new ArrayList<>());
+        List<String> requestIds = new ArrayList<>();
+        when(openAIClient.async().chat().completions().create(any(ChatCompletionCreateParams.class), any(RequestOptions.class)))
+                .thenAnswer(invocation -> {
+                    ChatCompletionCreateParams params = invocation.getArgument(0);
+                    String requestId = params._headers().values(LlmRequestCancellation.REQUEST_HEADER).get(0);
+                    requestIds.add(requestId);
+                    // Registered like the HTTP client registers its call
+                    LlmRequestCancellation.find(requestId).ifPresent(cancellation -> cancellation.onCancel(() -> cancelledRequests.add(requestId)));
+                    return new CompletableFuture<ChatCompletion>();
+                });
+
+        CompletableFuture<ReviewedResultItem> future = processor.processAsync(prompt, chatCompletionConfiguration, messagesMapperConfiguration, llmClient, Runnable::run);
+        future.cancel(true);
+
+        assertEquals(requestIds, cancelledRequests);
+        // Further attempts of the cancelled request are not sent
+        assertFalse(LlmRequestCancellation.find(requestIds.get(0)).isPresent());
+    }
+
+    /**
+     * Answers with one comment per file and rule of the prompt that has just been mapped.
+     */
+    private String commentsForLastPrompt() {
+        LlmReviewPrompt llmReviewPrompt = requestedPrompts.get(requestedPrompts.size() - 1);
+        return llmReviewPrompt.getFiles().stream()
+                .map(file -> "{\"fileId\":" + file.getId() + ",\"fileName\":\"" + file.getMetadata().getFileName() + "\",\"comments\":["
+                        + llmReviewPrompt.getRules().stream()
+                        .map(rule -> "{\"ruleId\":" + rule.getRuleKey().getId() + ",\"ruleCode\":\"" + rule.getRuleKey().getCode()
+                                + "\",\"line\":1,\"column\":1,\"message\":\"Issue\",\"suggestion\":\"Fix\"}")
+                        .collect(Collectors.joining(","))
+                        + "]}")
+                .collect(Collectors.joining(",", "{\"files\":[", "]}"));
+    }
+
+    private static StructuredChatCompletion<?> completion(StructuredChatCompletionCreateParams<?> params,
+                                                          ChatCompletion.Choice.FinishReason finishReason,
+                                                          String content) {
+        return new StructuredChatCompletion<>(params.responseType(), chatCompletion(finishReason, content));
+    }
+
+    private static ChatCompletion chatCompletion(ChatCompletion.Choice.FinishReason finishReason, String content) {
+        return ChatCompletion.builder()
+                .id("chatcmpl-1")
+                .created(0L)
+                .model("gpt-4o")
+                .addChoice(ChatCompletion.Choice.builder()
+                        .index(0L)
+                        .finishReason(finishReason)
+                        .logprobs((ChatCompletion.Choice.Logprobs) null)
+                        .message(ChatCompletionMessage.builder()
+                                .content(content)
+                                .refusal((String) null)
+                                .build())
+                        .build())
+                .usage(CompletionUsage.builder()
+                        .promptTokens(60L)
+                        .completionTokens(40L)
+                        .totalTokens(100L)
+                        .promptTokensDetails(CompletionUsage.PromptTokensDetails.builder()
+                                .cachedTokens(20L)
+                                .build())
+                        .build())
+                .build();
+    }
+
+    /**
+     * Splits the content into small deltas, followed by a chunk with the finish reason and a chunk with the usage.
+     */
+    private static List<ChatCompletionChunk> chunks(String content) {
+        List<ChatCompletionChunk> chunks = new ArrayList<>();
+        for (int start = 0; start < content.length(); start += 16) {
+            chunks.add(chunk(ChatCompletionChunk.Choice.Delta.builder()
+                    .content(content.substring(start, Math.min(start + 16, content.length())))
+                    .build(), null));
+        }
+        chunks.add(chunk(ChatCompletionChunk.Choice.Delta.builder().build(), ChatCompletionChunk.Choice.FinishReason.STOP));
+        chunks.add(ChatCompletionChunk.builder()
+                .id("chatcmpl-1")
+                .created(0L)
+                .model("gpt-4o")
+                .choices(Collections.emptyList())
+                .usage(CompletionUsage.builder()
+                        .promptTokens(60L)
+                        .completionTokens(40L)
+                        .totalTokens(100L)
+                        .promptTokensDetails(CompletionUsage.PromptTokensDetails.builder()
+                                .cachedTokens(20L)
+                                .build())
+                        .build())
+                .build());
+        return chunks;
+    }
+
+    private static ChatCompletionChunk chunk(ChatCompletionChunk.Choice.Delta delta, ChatCompletionChunk.Choice.FinishReason finishReason) {
+        return ChatCompletionChunk.builder()
+                .id("chatcmpl-1")
+                .created(0L)
+                .model("gpt-4o")
+                .addChoice(ChatCompletionChunk.Choice.builder()
+                        .index(0L)
+                        .delta(delta)
+                        .finishReason(Optional.ofNullable(finishReason))
+                        .build())
+                .build();
+    }
+
+    /**
+     * Hands the chunks to the subscriber on the subscribing thread.
+     */
+    private static AsyncStreamResponse<ChatCompletionChunk> streamResponse(List<ChatCompletionChunk> chunks, List<String> events) {
+        return new AsyncStreamResponse<ChatCompletionChunk>() {
+            private final CompletableFuture<Void> completeFuture = new CompletableFuture<>();
+
+            @Override
+            public AsyncStreamResponse<ChatCompletionChunk> subscribe(Handler<? super ChatCompletionChunk> handler) {
+                return subscribe(handler, Runnable::run);
+            }
+
+            @Override
+            public AsyncStreamResponse<ChatCompletionChunk> subscribe(Handler<? super ChatCompletionChunk> handler, Executor executor) {
+                executor.execute(() -> {
+                    chunks.stream().peek(chunk -> events.add("chunk")).forEach(handler::onNext);
+                    completeFuture.complete(null);
+                });
+                return this;
+            }
+
+            @Override
+            public CompletableFuture<Void> onCompleteFuture() {
+                return completeFuture;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+
+    private static OpenAIServiceException contextLengthExceeded() {
+        OpenAIServiceException serviceException = mock(OpenAIServiceException.class);
+        when(serviceException.statusCode()).thenReturn(400);
+        when(serviceException.code()).thenReturn(Optional.of("context_length_exceeded"));
+        return serviceException;
+    }
+
+    private static List<String> fileNames(LlmReviewPrompt llmReviewPrompt) {
+        return llmReviewPrompt.getFiles().stream().map(file -> file.getMetadata().getFileName()).collect(Collectors.toList());
+    }
+
+    private static class InMemoryLlmResponseCache implements LlmResponseCache {
+        private final Map<String, String> responses = new HashMap<>();
+
+        @Override
+        public Optional<String> find(String cacheKey, LlmResponseCacheParameter parameter) {
+            Optional<String> response = Optional.ofNullable(responses.get(cacheKey));
+            if (response.isPresent()) {
+                parameter.getStatistics().recordHit();
+            } else {
+                parameter.getStatistics().recordMiss();
+            }
+            return response;
+        }
+
+        @Override
+        public void put(String cacheKey, String response, LlmResponseCacheParameter parameter) {
+            responses.put(cacheKey, response);
+        }
+    }
+
+    private static ReviewPrompt prompt(List<PromptFile> files, List<PromptRule> rules) {
+        return new ReviewPrompt()
+                .setId(1L)
+                .setFiles(files)
+                .setRules(rules);
+    }
+
+    private static PromptFile file(Long id, String fileName) {
+        return new PromptFile()
+                .setId(id)
+                .setSourceFile(new SourceFile()
+                        .setFileName(fileName)
+                        .setContent("class A {}".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static PromptRule rule(Long id, String code) {
+        return new PromptRule().setRuleKey(new RuleKey(id, code));
+    }
+}
@@ -0,0 +1,73 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmReviewResult;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmReviewWithStepsResult;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmReviewedFile;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LlmReviewResultStreamParserImplTest {
+
+    private static final String FIRST_FILE = "{\"fileId\":1,\"fileName\":\"A.java\",\"comments\":[{\"ruleId\":1,\"ruleCode\":\"R1\",\"line\":3,\"column\":1,"
+            + "\"message\":\"Unused \\\"import\\\" { [\",\"suggestion\":\"Remove it\"}]}";
+    private static final String SECOND_FILE = "{\"fileId\":2,\"fileName\":\"B.java\",\"comments\":[]}";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<LlmReviewedFile> parsedFiles = new ArrayList<>();
+
+    @Test
+    void feed_smallDeltas_reportsEachFileAsSoonAsItIsClosed() {
+        LlmReviewResultStreamParserImpl parser = new LlmReviewResultStreamParserImpl(objectMapper, LlmReviewResult.class, parsedFiles::add);
+
+        feedInDeltas(parser, "{\"files\":[" + FIRST_FILE);
+        assertEquals(1, parsedFiles.size());
+        assertEquals("Unused \"import\" { [", parsedFiles.get(0).getComments().get(0).getMessage());
+        assertFalse(parser.isComplete());
+
+        feedInDeltas(parser, "," + SECOND_FILE + "]}");
+        assertEquals(2, parsedFiles.size());
+        assertTrue(parser.isComplete());
+
+        LlmReviewResult result = parser.finish();
+        assertNotNull(result);
+        assertEquals(2, result.getFiles().size());
+        assertEquals("B.java", result.getFiles().get(1).getFileName());
+    }
+
+    @Test
+    void finish_resultWithThinkSteps_keepsTheOtherRootFields() {
+        LlmReviewResultStreamParserImpl parser = new LlmReviewResultStreamParserImpl(objectMapper, LlmReviewWithStepsResult.class, parsedFiles::add);
+
+        feedInDeltas(parser, "{\"thinkSteps\":[{\"fileId\":1,\"fileName\":\"A.java\",\"ruleId\":1,\"ruleCode\":\"R1\",\"thinkText\":\"Checked\"}],"
+                + "\"files\":[" + FIRST_FILE + "]}");
+
+        LlmReviewResult result = parser.finish();
+        assertTrue(result instanceof LlmReviewWithStepsResult);
+        assertEquals("Checked", ((LlmReviewWithStepsResult) result).getThinkSteps().get(0).getThinkText());
+        assertEquals(1, result.getFiles().size());
+        assertEquals(1, parsedFiles.size());
+    }
+
+    @Test
+    void finish_truncatedResponse_returnsNullAndKeepsClosedFiles() {
+        LlmReviewResultStreamParserImpl parser = new LlmReviewResultStreamParserImpl(objectMapper, LlmReviewResult.class, parsedFiles::add);
+
+        feedInDeltas(parser, "{\"files\":[" + FIRST_FILE + ",{\"fileId\":2,\"fileName\":\"B.ja");
+
+        assertNull(parser.finish());
+        assertFalse(parser.isComplete());
+        assertEquals(1, parser.getReviewedFiles().size());
+        assertEquals("A.java", parser.getReviewedFiles().get(0).getFileName());
+    }
+
+    private static void feedInDeltas(LlmReviewResultStreamParserImpl parser, String content) {
+        for (int start = 0; start < content.length(); start += 5) {
+            parser.feed(content.substring(start, Math.min(start + 5, content.length())));
+        }
+    }
+}
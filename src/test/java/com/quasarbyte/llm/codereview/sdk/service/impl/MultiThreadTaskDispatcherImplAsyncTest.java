@@ -0,0 +1,244 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorCancellationException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorException;
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.AdaptiveConcurrencyParameter;
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.DispatchMode;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ParallelExecutionParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RetryParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilePath;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRandom;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRoundRobin;
+import com.quasarbyte.llm.codereview.sdk.service.LlmReviewProcessor;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptCreator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MultiThreadTaskDispatcherImplAsyncTest {
+
+    @Mock private LlmReviewProcessor llmReviewProcessor;
+    @Mock private ReviewPromptCreator reviewPromptCreator;
+    @Mock private LlmClientLoadBalancerRoundRobin roundRobinLoadBalancer;
+    @Mock private LlmClientLoadBalancerRandom randomLoadBalancer;
+    @Mock private LlmChatCompletionConfiguration llmChatCompletionConfiguration;
+    @Mock private LlmMessagesMapperConfiguration messagesMapperConfiguration;
+    @Mock private LlmClient llmClient;
+    @Mock private ResolvedFilePath resolvedFilePath;
+    @Mock private Rule rule;
+
+    private MultiThreadTaskDispatcherImpl dispatcher;
+    // Completes the requests, stands in for the threads of the HTTP client
+    private ScheduledExecutorService httpClientExecutorService;
+    private List<ReviewPrompt> reviewPrompts;
+    private List<ReviewedResultItem> reviewedResultItems;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new MultiThreadTaskDispatcherImpl(
+                llmReviewProcessor, reviewPromptCreator, roundRobinLoadBalancer, randomLoadBalancer
+        );
+
+        httpClientExecutorService = Executors.newSingleThreadScheduledExecutor();
+
+        reviewPrompts = new ArrayList<>();
+        reviewedResultItems = new ArrayList<>();
+        for (long i = 0; i < 4; i++) {
+            reviewPrompts.add(new ReviewPrompt().setId(i));
+            reviewedResultItems.add(new ReviewedResultItem());
+        }
+
+        lenient().when(reviewPromptCreator.createPipeline(any(), anyBoolean(), anyInt(), any()))
+                .thenAnswer(invocation -> new ReviewPromptListPipeline(reviewPrompts));
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClientExecutorService.shutdownNow();
+    }
+
+    @Test
+    void dispatch_async_withoutExecutorService_returnsResultsInPromptOrder() {
+        // Later prompts complete first
+        when(llmReviewProcessor.processAsync(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            int index = prompt.getId().intValue();
+            return completeLater(reviewedResultItems.get(index), 10L * (reviewPrompts.size() - index));
+        });
+
+        List<ReviewedResultItem> result = dispatch(null);
+
+        assertEquals(reviewedResultItems, result);
+        verify(llmReviewProcessor, times(4)).processAsync(any(), eq(llmChatCompletionConfiguration), eq(messagesMapperConfiguration), eq(llmClient), notNull());
+        verify(llmReviewProcessor, never()).process(any(), any(), any(), any());
+    }
+
+    @Test
+    void dispatch_async_keepsAtMostBatchSizeRequestsInFlight() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(llmReviewProcessor.processAsync(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            CompletableFuture<ReviewedResultItem> future = new CompletableFuture<>();
+            httpClientExecutorService.schedule(() -> {
+                inFlight.decrementAndGet();
+                future.complete(reviewedResultItems.get(prompt.getId().intValue()));
+            }, 20, TimeUnit.MILLISECONDS);
+            return future;
+        });
+
+        List<ReviewedResultItem> result = dispatch(null);
+
+        assertEquals(reviewedResultItems, result);
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    void dispatch_async_failedRequest_throwsTaskExecutorException() {
+        when(llmReviewProcessor.processAsync(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            if (prompt.getId() == 1L) {
+                CompletableFuture<ReviewedResultItem> future = new CompletableFuture<>();
+                httpClientExecutorService.execute(() -> future.completeExceptionally(new IllegalStateException("LLM failure")));
+                return future;
+            }
+            return completeLater(reviewedResultItems.get(prompt.getId().intValue()), 0);
+        });
+
+        TaskExecutorException exception = assertThrows(TaskExecutorException.class, () -> dispatch(null));
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void dispatch_async_withRetry_resendsFailedPrompt() {
+        Map<Long, AtomicInteger> attempts = new ConcurrentHashMap<>();
+
+        when(llmReviewProcessor.processAsync(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            int attempt = attempts.computeIfAbsent(prompt.getId(), id -> new AtomicInteger()).incrementAndGet();
+            if (prompt.getId() == 2L && attempt == 1) {
+                CompletableFuture<ReviewedResultItem> future = new CompletableFuture<>();
+                httpClientExecutorService.execute(() -> future.completeExceptionally(new IllegalStateException("LLM failure")));
+                return future;
+            }
+            return completeLater(reviewedResultItems.get(prompt.getId().intValue()), 0);
+        });
+
+        List<ReviewedResultItem> result = dispatch(new RetryParameter()
+                .setMaxAttempts(2)
+                .setInitialBackoff(Duration.ofMillis(10)));
+
+        assertEquals(reviewedResultItems, result);
+        assertEquals(2, attempts.get(2L).get());
+    }
+
+    @Test
+    void dispatch_async_cancelled_cancelsRequestsInFlight() {
+        ReviewCancellationTokenImpl cancellationToken = new ReviewCancellationTokenImpl();
+        List<CompletableFuture<ReviewedResultItem>> requests = Collections.synchronizedList(new ArrayList<>());
+
+        when(llmReviewProcessor.processAsync(any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+            // Never answered, cancelling the future aborts the HTTP call of the review processor
+            CompletableFuture<ReviewedResultItem> future = new CompletableFuture<>();
+            requests.add(future);
+            if (requests.size() == 2) {
+                httpClientExecutorService.schedule(cancellationToken::cancel, 20, TimeUnit.MILLISECONDS);
+            }
+            return future;
+        });
+
+        assertThrows(TaskExecutorCancellationException.class, () -> dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                new ParallelExecutionParameter()
+                        .setBatchSize(2)
+                        .setDispatchMode(DispatchMode.ASYNC)
+                        .setCancellationToken(cancellationToken),
+                Duration.ofSeconds(10),
+                null));
+
+        assertEquals(2, requests.size());
+        requests.forEach(request -> assertTrue(request.isCancelled()));
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void dispatch_async_withAdaptiveConcurrency_isRejected() {
+        ParallelExecutionParameter parallelExecutionParameter = new ParallelExecutionParameter()
+                .setBatchSize(2)
+                .setDispatchMode(DispatchMode.ASYNC)
+                .setAdaptiveConcurrency(new AdaptiveConcurrencyParameter());
+
+        assertThrows(ValidationException.class, () -> dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                parallelExecutionParameter,
+                Duration.ofSeconds(10),
+                null));
+        verify(llmReviewProcessor, never()).processAsync(any(), any(), any(), any(), any());
+    }
+
+    private List<ReviewedResultItem> dispatch(RetryParameter retry) {
+        return dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                new ParallelExecutionParameter()
+                        .setBatchSize(2)
+                        .setDispatchMode(DispatchMode.ASYNC)
+                        .setRetry(retry),
+                Duration.ofSeconds(10),
+                null
+        );
+    }
+
+    private CompletableFuture<ReviewedResultItem> completeLater(ReviewedResultItem reviewedResultItem, long delayMillis) {
+        CompletableFuture<ReviewedResultItem> future = new CompletableFuture<>();
+        httpClientExecutorService.schedule(() -> future.complete(reviewedResultItem), delayMillis, TimeUnit.MILLISECONDS);
+        return future;
+    }
+}
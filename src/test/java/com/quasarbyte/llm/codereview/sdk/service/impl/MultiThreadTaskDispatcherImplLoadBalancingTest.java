@@ -1,17 +1,30 @@
 package com.quasarbyte.llm.codereview.sdk.service.impl;
 
+import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.CircuitBreakerState;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.CircuitBreakerStateChange;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.HedgedRequest;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.context.ReviewRunDetails;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.CircuitBreakerParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.DispatchMode;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.HedgingParameter;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.LoadBalancingStrategy;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ParallelExecutionParameter;
 import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
 import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
 import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilePath;
 import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
+import com.quasarbyte.llm.codereview.sdk.repository.InferenceRepository;
 import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRandom;
 import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRoundRobin;
 import com.quasarbyte.llm.codereview.sdk.service.LlmReviewProcessor;
 import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptCreator;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultPublisher;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewedResultItemJsonMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,10 +33,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -62,7 +83,8 @@ class MultiThreadTaskDispatcherImplLoadBalancingTest {
         executorService = Executors.newFixedThreadPool(2);
 
         // Setup mocks - using lenient to avoid unnecessary stubbing errors
-        lenient().when(reviewPromptCreator.create(any(), anyBoolean())).thenReturn(Arrays.asList(reviewPrompt));
+        lenient().when(reviewPromptCreator.createPipeline(any(), anyBoolean(), anyInt(), any()))
+                .thenAnswer(invocation -> new ReviewPromptListPipeline(Arrays.asList(reviewPrompt)));
         lenient().when(reviewPrompt.getId()).thenReturn(1L);
         lenient().when(llmReviewProcessor.process(any(), any(), any(), any())).thenReturn(reviewedResultItem);
     }
@@ -143,7 +165,8 @@ class MultiThreadTaskDispatcherImplLoadBalancingTest {
         ReviewPrompt prompt2 = mock(ReviewPrompt.class);
         when(prompt1.getId()).thenReturn(1L);
         when(prompt2.getId()).thenReturn(2L);
-        when(reviewPromptCreator.create(any(), anyBoolean())).thenReturn(Arrays.asList(prompt1, prompt2));
+        when(reviewPromptCreator.createPipeline(any(), anyBoolean(), anyInt(), any()))
+                .thenAnswer(invocation -> new ReviewPromptListPipeline(Arrays.asList(prompt1, prompt2)));
         
         when(roundRobinLoadBalancer.findLlmClient(eq(llmClients), any(AtomicInteger.class)))
                 .thenReturn(llmClient1, llmClient2);
@@ -165,6 +188,228 @@ class MultiThreadTaskDispatcherImplLoadBalancingTest {
         verify(roundRobinLoadBalancer, times(2)).findLlmClient(eq(llmClients), any(AtomicInteger.class));
     }
 
+    @Test
+    void dispatch_withWeightedStrategyAndMaxConcurrency_neverExceedsClientMaxConcurrency() {
+        when(llmClient1.getWeight()).thenReturn(3);
+        when(llmClient1.getMaxConcurrency()).thenReturn(2);
+        when(llmClient2.getWeight()).thenReturn(1);
+        when(llmClient2.getMaxConcurrency()).thenReturn(1);
+        List<LlmClient> weightedClients = Arrays.asList(llmClient1, llmClient2);
+
+        List<ReviewPrompt> reviewPrompts = new ArrayList<>();
+        for (long i = 0; i < 8; i++) {
+            reviewPrompts.add(new ReviewPrompt().setId(i));
+        }
+        when(reviewPromptCreator.createPipeline(any(), anyBoolean(), anyInt(), any()))
+                .thenAnswer(invocation -> new ReviewPromptListPipeline(reviewPrompts));
+
+        Map<LlmClient, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+        Map<LlmClient, AtomicInteger> maxInFlight = new ConcurrentHashMap<>();
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            LlmClient llmClient = invocation.getArgument(3);
+            int current = inFlight.computeIfAbsent(llmClient, c -> new AtomicInteger()).incrementAndGet();
+            maxInFlight.computeIfAbsent(llmClient, c -> new AtomicInteger()).accumulateAndGet(current, Math::max);
+            Thread.sleep(20);
+            inFlight.get(llmClient).decrementAndGet();
+            return reviewedResultItem;
+        });
+
+        ExecutorService wideExecutorService = Executors.newFixedThreadPool(4);
+        try {
+            List<ReviewedResultItem> result = new MultiThreadTaskDispatcherImpl(llmReviewProcessor, reviewPromptCreator,
+                    new LlmClientLoadBalancerRoundRobinImpl(), new LlmClientLoadBalancerRandomImpl()).dispatch(
+                    true,
+                    Arrays.asList(Arrays.asList(rule)),
+                    Arrays.asList(Arrays.asList(resolvedFilePath)),
+                    llmChatCompletionConfiguration,
+                    messagesMapperConfiguration,
+                    weightedClients,
+                    new ParallelExecutionParameter()
+                            .setBatchSize(4)
+                            .setExecutorService(wideExecutorService)
+                            .setDispatchMode(DispatchMode.SLIDING_WINDOW)
+                            .setLoadBalancingStrategy(LoadBalancingStrategy.WEIGHTED),
+                    null,
+                    null
+            );
+
+            assertEquals(8, result.size());
+            assertTrue(maxInFlight.get(llmClient1).get() <= 2);
+            assertTrue(maxInFlight.get(llmClient2).get() <= 1);
+        } finally {
+            wideExecutorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void dispatch_withCircuitBreaker_failsOverToHealthyClientAndOpensBreaker() {
+        // Round-robin picks the first available client, so the failed client must be skipped on the retry
+        when(roundRobinLoadBalancer.findLlmClient(anyList(), any(AtomicInteger.class)))
+                .thenAnswer(invocation -> ((List<LlmClient>) invocation.getArgument(0)).get(0));
+        when(llmReviewProcessor.process(any(), any(), any(), eq(llmClient1)))
+                .thenThrow(new LLMCodeReviewRuntimeException("Inference failed", new SocketTimeoutException("timeout")));
+
+        List<CircuitBreakerStateChange> stateChanges = new CopyOnWriteArrayList<>();
+
+        List<ReviewedResultItem> result = dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClients,
+                new ParallelExecutionParameter()
+                        .setBatchSize(1)
+                        .setExecutorService(executorService)
+                        .setCircuitBreaker(new CircuitBreakerParameter()
+                                .setFailureThreshold(1)
+                                .setListener(stateChanges::add)),
+                null,
+                null
+        );
+
+        assertEquals(Collections.singletonList(reviewedResultItem), result);
+        verify(llmReviewProcessor).process(any(), any(), any(), eq(llmClient1));
+        verify(llmReviewProcessor).process(any(), any(), any(), eq(llmClient2));
+        assertEquals(1, stateChanges.size());
+        assertSame(llmClient1, stateChanges.get(0).getLlmClient());
+        assertEquals(CircuitBreakerState.OPEN, stateChanges.get(0).getNewState());
+    }
+
+    @Test
+    void dispatch_withCircuitBreaker_doesNotFailOverOnBadRequest() {
+        when(roundRobinLoadBalancer.findLlmClient(anyList(), any(AtomicInteger.class))).thenReturn(llmClient1);
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenThrow(new IllegalArgumentException("Invalid prompt"));
+
+        assertThrows(RuntimeException.class, () -> dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClients,
+                new ParallelExecutionParameter()
+                        .setBatchSize(1)
+                        .setExecutorService(executorService)
+                        .setCircuitBreaker(new CircuitBreakerParameter()),
+                null,
+                null
+        ));
+
+        verify(llmReviewProcessor, times(1)).process(any(), any(), any(), any());
+    }
+
+    @Test
+    void dispatch_withHedging_slowRequestIsHedgedOnOtherClient() {
+        ReviewPrompt fastPrompt = new ReviewPrompt().setId(1L);
+        ReviewPrompt slowPrompt = new ReviewPrompt().setId(2L);
+        when(reviewPromptCreator.createPipeline(any(), anyBoolean(), anyInt(), any()))
+                .thenAnswer(invocation -> new ReviewPromptListPipeline(Arrays.asList(fastPrompt, slowPrompt)));
+        when(roundRobinLoadBalancer.findLlmClient(anyList(), any(AtomicInteger.class)))
+                .thenAnswer(invocation -> ((List<LlmClient>) invocation.getArgument(0)).get(0));
+
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        when(llmReviewProcessor.process(eq(slowPrompt), any(), any(), eq(llmClient1))).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                primaryCancelled.countDown();
+                throw e;
+            }
+            return reviewedResultItem;
+        });
+
+        List<HedgedRequest> hedgedRequests = new CopyOnWriteArrayList<>();
+
+        List<ReviewedResultItem> result = dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Arrays.asList(Collections.singletonList(resolvedFilePath), Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClients,
+                new ParallelExecutionParameter()
+                        .setBatchSize(1)
+                        .setExecutorService(executorService)
+                        .setHedging(new HedgingParameter()
+                                .setMinSamples(1)
+                                .setMaxExtraRequestRatio(1.0)
+                                .setListener(hedgedRequests::add)),
+                null,
+                null
+        );
+
+        assertEquals(Arrays.asList(reviewedResultItem, reviewedResultItem), result);
+        verify(llmReviewProcessor).process(eq(slowPrompt), any(), any(), eq(llmClient2));
+        assertEquals(1, hedgedRequests.size());
+        assertEquals(2L, hedgedRequests.get(0).getPromptId());
+        assertSame(llmClient1, hedgedRequests.get(0).getPrimaryLlmClient());
+        assertSame(llmClient2, hedgedRequests.get(0).getHedgeLlmClient());
+        assertTrue(hedgedRequests.get(0).getHedgeWon());
+        assertTrue(hedgedRequests.get(0).getWastedTokensEstimated());
+        assertDoesNotThrow(() -> assertTrue(primaryCancelled.await(5, TimeUnit.SECONDS), "Losing request was not cancelled"));
+    }
+
+    @Test
+    void dispatch_withHedging_savesSingleInferencePerHedgedPrompt() throws InterruptedException {
+        InferenceRepository inferenceRepository = mock(InferenceRepository.class);
+        ReviewRunContext reviewRunContext = mock(ReviewRunContext.class);
+        when(reviewRunContext.getRunDetails()).thenReturn(new ReviewRunDetails(true, 1L, 1L, null));
+        MultiThreadTaskDispatcherImpl statefulDispatcher = new MultiThreadTaskDispatcherImpl(
+                new LlmReviewProcessorStatefulImpl(inferenceRepository, llmReviewProcessor, reviewRunContext,
+                        mock(ReviewedResultItemJsonMapper.class), mock(ReviewResultPublisher.class)),
+                reviewPromptCreator, roundRobinLoadBalancer, randomLoadBalancer);
+
+        ReviewPrompt fastPrompt = new ReviewPrompt().setId(1L);
+        ReviewPrompt slowPrompt = new ReviewPrompt().setId(2L);
+        when(reviewPromptCreator.createPipeline(any(), anyBoolean(), anyInt(), any()))
+                .thenAnswer(invocation -> new ReviewPromptListPipeline(Arrays.asList(fastPrompt, slowPrompt)));
+        when(roundRobinLoadBalancer.findLlmClient(anyList(), any(AtomicInteger.class)))
+                .thenAnswer(invocation -> ((List<LlmClient>) invocation.getArgument(0)).get(0));
+
+        // The losing request ignores the cancellation and still completes successfully
+        CountDownLatch primaryCompleted = new CountDownLatch(1);
+        when(llmReviewProcessor.process(eq(slowPrompt), any(), any(), eq(llmClient1))).thenAnswer(invocation -> {
+            long endNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+            boolean interrupted = false;
+            while (System.nanoTime() < endNanos) {
+                try {
+                    Thread.sleep(Math.max(1, TimeUnit.NANOSECONDS.toMillis(endNanos - System.nanoTime())));
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            primaryCompleted.countDown();
+            return reviewedResultItem;
+        });
+
+        List<ReviewedResultItem> result = statefulDispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Arrays.asList(Collections.singletonList(resolvedFilePath), Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClients,
+                new ParallelExecutionParameter()
+                        .setBatchSize(1)
+                        .setExecutorService(executorService)
+                        .setHedging(new HedgingParameter()
+                                .setMinSamples(1)
+                                .setMaxExtraRequestRatio(1.0)),
+                null,
+                null
+        );
+
+        assertEquals(2, result.size());
+        verify(llmReviewProcessor).process(eq(slowPrompt), any(), any(), eq(llmClient2));
+        assertTrue(primaryCompleted.await(5, TimeUnit.SECONDS), "Losing request did not complete");
+        verify(inferenceRepository, after(200).times(1)).save(argThat(inference -> Long.valueOf(2L).equals(inference.getPromptId())));
+        verify(inferenceRepository, times(1)).save(argThat(inference -> Long.valueOf(1L).equals(inference.getPromptId())));
+    }
+
     @Test
     void dispatch_withEmptyFilePathBatches_returnsEmptyList() {
         List<ReviewedResultItem> result = dispatcher.dispatch(
@@ -0,0 +1,208 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.LlmTokensQuotaException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorException;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.FailedPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.DispatchMode;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ParallelExecutionParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RetryParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilePath;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRandom;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRoundRobin;
+import com.quasarbyte.llm.codereview.sdk.service.LlmReviewProcessor;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptCreator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MultiThreadTaskDispatcherImplRetryTest {
+
+    @Mock private LlmReviewProcessor llmReviewProcessor;
+    @Mock private ReviewPromptCreator reviewPromptCreator;
+    @Mock private LlmClientLoadBalancerRoundRobin roundRobinLoadBalancer;
+    @Mock private LlmClientLoadBalancerRandom randomLoadBalancer;
+    @Mock private LlmChatCompletionConfiguration llmChatCompletionConfiguration;
+    @Mock private LlmMessagesMapperConfiguration messagesMapperConfiguration;
+    @Mock private LlmClient llmClient;
+    @Mock private ResolvedFilePath resolvedFilePath;
+    @Mock private Rule rule;
+
+    private MultiThreadTaskDispatcherImpl dispatcher;
+    private ExecutorService executorService;
+    private List<ReviewPrompt> reviewPrompts;
+    private List<ReviewedResultItem> reviewedResultItems;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new MultiThreadTaskDispatcherImpl(
+                llmReviewProcessor, reviewPromptCreator, roundRobinLoadBalancer, randomLoadBalancer
+        );
+
+        executorService = Executors.newFixedThreadPool(2);
+
+        reviewPrompts = new ArrayList<>();
+        reviewedResultItems = new ArrayList<>();
+        for (long i = 0; i < 4; i++) {
+            reviewPrompts.add(new ReviewPrompt().setId(i));
+            reviewedResultItems.add(new ReviewedResultItem());
+        }
+
+        lenient().when(reviewPromptCreator.createPipeline(any(), anyBoolean(), anyInt(), any()))
+                .thenAnswer(invocation -> new ReviewPromptListPipeline(reviewPrompts));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void dispatch_batchGroup_withRetry_failedPromptIsRetriedAndOtherPromptsKeepTheirResults() {
+        assertWithRetry_failedPromptIsRetriedAndOtherPromptsKeepTheirResults(DispatchMode.BATCH_GROUP);
+    }
+
+    @Test
+    void dispatch_slidingWindow_withRetry_failedPromptIsRetriedAndOtherPromptsKeepTheirResults() {
+        assertWithRetry_failedPromptIsRetriedAndOtherPromptsKeepTheirResults(DispatchMode.SLIDING_WINDOW);
+    }
+
+    @Test
+    void dispatch_batchGroup_withRetry_exhaustedPromptIsReportedAndLeftOut() {
+        assertWithRetry_exhaustedPromptIsReportedAndLeftOut(DispatchMode.BATCH_GROUP);
+    }
+
+    @Test
+    void dispatch_slidingWindow_withRetry_exhaustedPromptIsReportedAndLeftOut() {
+        assertWithRetry_exhaustedPromptIsReportedAndLeftOut(DispatchMode.SLIDING_WINDOW);
+    }
+
+    @Test
+    void dispatch_batchGroup_withRetry_quotaExceededIsNotRetried() {
+        assertWithRetry_quotaExceededIsNotRetried(DispatchMode.BATCH_GROUP);
+    }
+
+    @Test
+    void dispatch_slidingWindow_withRetry_quotaExceededIsNotRetried() {
+        assertWithRetry_quotaExceededIsNotRetried(DispatchMode.SLIDING_WINDOW);
+    }
+
+    @Test
+    void dispatch_batchGroup_withoutRetry_failedPromptFailsDispatch() {
+        assertWithoutRetry_failedPromptFailsDispatch(DispatchMode.BATCH_GROUP);
+    }
+
+    @Test
+    void dispatch_slidingWindow_withoutRetry_failedPromptFailsDispatch() {
+        assertWithoutRetry_failedPromptFailsDispatch(DispatchMode.SLIDING_WINDOW);
+    }
+
+    private void assertWithRetry_failedPromptIsRetriedAndOtherPromptsKeepTheirResults(DispatchMode dispatchMode) {
+        AtomicInteger failures = new AtomicInteger();
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            if (prompt.getId() == 1L && failures.getAndIncrement() < 2) {
+                throw new IllegalStateException("Invalid JSON response");
+            }
+            return reviewedResultItems.get(prompt.getId().intValue());
+        });
+
+        List<ReviewedResultItem> result = dispatch(dispatchMode, new RetryParameter()
+                .setMaxAttempts(3)
+                .setInitialBackoff(Duration.ofMillis(10)));
+
+        assertEquals(reviewedResultItems, result);
+        verify(llmReviewProcessor, times(3)).process(eq(reviewPrompts.get(1)), any(), any(), any());
+        verify(llmReviewProcessor, times(6)).process(any(), any(), any(), any());
+    }
+
+    private void assertWithRetry_exhaustedPromptIsReportedAndLeftOut(DispatchMode dispatchMode) {
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            if (prompt.getId() == 2L) {
+                throw new IllegalStateException("Invalid JSON response");
+            }
+            return reviewedResultItems.get(prompt.getId().intValue());
+        });
+
+        List<FailedPrompt> failedPrompts = new ArrayList<>();
+
+        List<ReviewedResultItem> result = dispatch(dispatchMode, new RetryParameter()
+                .setMaxAttempts(2)
+                .setInitialBackoff(Duration.ofMillis(10))
+                .setListener(failedPrompts::add));
+
+        assertEquals(Arrays.asList(reviewedResultItems.get(0), reviewedResultItems.get(1), reviewedResultItems.get(3)), result);
+        assertEquals(1, failedPrompts.size());
+        assertSame(reviewPrompts.get(2), failedPrompts.get(0).getReviewPrompt());
+        assertEquals(2, failedPrompts.get(0).getAttempts());
+        assertInstanceOf(IllegalStateException.class, failedPrompts.get(0).getFailure());
+    }
+
+    private void assertWithRetry_quotaExceededIsNotRetried(DispatchMode dispatchMode) {
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            if (prompt.getId() == 0L) {
+                throw new LlmTokensQuotaException("Token quota exceeded");
+            }
+            return reviewedResultItems.get(prompt.getId().intValue());
+        });
+
+        List<FailedPrompt> failedPrompts = new ArrayList<>();
+
+        List<ReviewedResultItem> result = dispatch(dispatchMode, new RetryParameter().setListener(failedPrompts::add));
+
+        assertEquals(3, result.size());
+        assertEquals(1, failedPrompts.get(0).getAttempts());
+        verify(llmReviewProcessor, times(1)).process(eq(reviewPrompts.get(0)), any(), any(), any());
+    }
+
+    private void assertWithoutRetry_failedPromptFailsDispatch(DispatchMode dispatchMode) {
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenThrow(new IllegalStateException("Invalid JSON response"));
+
+        assertThrows(TaskExecutorException.class, () -> dispatch(dispatchMode, null));
+    }
+
+    private List<ReviewedResultItem> dispatch(DispatchMode dispatchMode, RetryParameter retryParameter) {
+        return dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                new ParallelExecutionParameter()
+                        .setBatchSize(2)
+                        .setExecutorService(executorService)
+                        .setDispatchMode(dispatchMode)
+                        .setRetry(retryParameter),
+                null,
+                null
+        );
+    }
+}
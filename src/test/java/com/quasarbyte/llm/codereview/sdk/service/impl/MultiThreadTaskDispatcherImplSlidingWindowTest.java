@@ -0,0 +1,354 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorCancellationException;
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorException;
+import com.quasarbyte.llm.codereview.sdk.model.SourceFile;
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmChatCompletionConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperConfiguration;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.DispatchMode;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmClient;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.ParallelExecutionParameter;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.PromptSchedulingPolicy;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.TaskExecutorMode;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFile;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilePath;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRandom;
+import com.quasarbyte.llm.codereview.sdk.service.LlmClientLoadBalancerRoundRobin;
+import com.quasarbyte.llm.codereview.sdk.service.LlmReviewProcessor;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptCreator;
+import com.quasarbyte.llm.codereview.sdk.service.util.LlmRequestDeadlineUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class MultiThreadTaskDispatcherImplSlidingWindowTest {
+
+    @Mock private LlmReviewProcessor llmReviewProcessor;
+    @Mock private ReviewPromptCreator reviewPromptCreator;
+    @Mock private LlmClientLoadBalancerRoundRobin roundRobinLoadBalancer;
+    @Mock private LlmClientLoadBalancerRandom randomLoadBalancer;
+    @Mock private LlmChatCompletionConfiguration llmChatCompletionConfiguration;
+    @Mock private LlmMessagesMapperConfiguration messagesMapperConfiguration;
+    @Mock private LlmClient llmClient;
+    @Mock private ResolvedFilePath resolvedFilePath;
+    @Mock private Rule rule;
+
+    private MultiThreadTaskDispatcherImpl dispatcher;
+    private ExecutorService executorService;
+    private List<ReviewPrompt> reviewPrompts;
+    private List<ReviewedResultItem> reviewedResultItems;
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new MultiThreadTaskDispatcherImpl(
+                llmReviewProcessor, reviewPromptCreator, roundRobinLoadBalancer, randomLoadBalancer
+        );
+
+        executorService = Executors.newFixedThreadPool(2);
+
+        reviewPrompts = new ArrayList<>();
+        reviewedResultItems = new ArrayList<>();
+        for (long i = 0; i < 4; i++) {
+            reviewPrompts.add(new ReviewPrompt().setId(i));
+            reviewedResultItems.add(new ReviewedResultItem());
+        }
+
+        lenient().when(reviewPromptCreator.createPipeline(any(), anyBoolean(), anyInt(), any()))
+                .thenAnswer(invocation -> new ReviewPromptListPipeline(reviewPrompts));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void dispatch_slidingWindow_startsNextPromptWhileSlowPromptIsStillRunning() {
+        // The first prompt completes only after all other prompts have completed.
+        // In BATCH_GROUP mode prompts #2 and #3 would wait for prompt #0, so this only passes with a sliding window.
+        CountDownLatch othersCompleted = new CountDownLatch(3);
+
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            int index = prompt.getId().intValue();
+            if (index == 0) {
+                assertTrue(othersCompleted.await(5, TimeUnit.SECONDS), "Other prompts did not complete while prompt #0 was in flight");
+            } else {
+                othersCompleted.countDown();
+            }
+            return reviewedResultItems.get(index);
+        });
+
+        List<ReviewedResultItem> result = dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                new ParallelExecutionParameter()
+                        .setBatchSize(2)
+                        .setExecutorService(executorService)
+                        .setDispatchMode(DispatchMode.SLIDING_WINDOW),
+                null,
+                null
+        );
+
+        // Results are returned in prompt order, not in completion order
+        assertEquals(reviewedResultItems, result);
+        verify(llmReviewProcessor, times(4)).process(any(), eq(llmChatCompletionConfiguration), eq(messagesMapperConfiguration), eq(llmClient));
+    }
+
+    @Test
+    void dispatch_slidingWindow_failedPrompt_throwsTaskExecutorException() {
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            if (prompt.getId() == 1L) {
+                throw new IllegalStateException("LLM failure");
+            }
+            return reviewedResultItems.get(prompt.getId().intValue());
+        });
+
+        ParallelExecutionParameter parallelExecutionParameter = new ParallelExecutionParameter()
+                .setBatchSize(2)
+                .setExecutorService(executorService)
+                .setDispatchMode(DispatchMode.SLIDING_WINDOW);
+
+        TaskExecutorException exception = assertThrows(TaskExecutorException.class, () -> dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Arrays.asList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                parallelExecutionParameter,
+                null,
+                null
+        ));
+
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void dispatch_longestFirst_dispatchesLargestPromptFirstAndReturnsResultsInPipelineOrder() {
+        for (int i = 0; i < reviewPrompts.size(); i++) {
+            // Prompt #3 is the largest, prompt #0 the smallest
+            reviewPrompts.get(i).setFiles(Collections.singletonList(new PromptFile()
+                    .setSourceFile(new SourceFile().setContent(new byte[1_000 * (i + 1)]))));
+        }
+
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            return reviewedResultItems.get(prompt.getId().intValue());
+        });
+
+        List<ReviewedResultItem> result = dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                new ParallelExecutionParameter()
+                        .setBatchSize(1)
+                        .setExecutorService(executorService)
+                        .setDispatchMode(DispatchMode.SLIDING_WINDOW)
+                        .setSchedulingPolicy(PromptSchedulingPolicy.LONGEST_FIRST),
+                null,
+                null
+        );
+
+        assertEquals(reviewedResultItems, result);
+
+        InOrder inOrder = inOrder(llmReviewProcessor);
+        for (int i = reviewPrompts.size() - 1; i >= 0; i--) {
+            inOrder.verify(llmReviewProcessor).process(eq(reviewPrompts.get(i)), any(), any(), any());
+        }
+    }
+
+    @Test
+    void dispatch_threadPerTask_runsWithoutExecutorService() {
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            assertTrue(Thread.currentThread().getName().startsWith("llm-review-task-"));
+            return reviewedResultItems.get(prompt.getId().intValue());
+        });
+
+        List<ReviewedResultItem> result = dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                new ParallelExecutionParameter()
+                        .setBatchSize(4)
+                        .setDispatchMode(DispatchMode.SLIDING_WINDOW)
+                        .setTaskExecutorMode(TaskExecutorMode.VIRTUAL_THREAD_PER_TASK),
+                null,
+                null
+        );
+
+        assertEquals(reviewedResultItems, result);
+
+        // The prompt producer runs on a thread of the thread-per-task factory too
+        ArgumentCaptor<ThreadFactory> producerThreadFactory = ArgumentCaptor.forClass(ThreadFactory.class);
+        verify(reviewPromptCreator).createPipeline(any(), anyBoolean(), anyInt(), producerThreadFactory.capture());
+        assertTrue(producerThreadFactory.getValue().newThread(() -> { }).getName().startsWith("review-prompt-producer-"));
+    }
+
+    @Test
+    void dispatch_withRequestScheduler_capsRequestsInFlightBelowBatchSize() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            inFlight.decrementAndGet();
+            return reviewedResultItems.get(prompt.getId().intValue());
+        });
+
+        List<ReviewedResultItem> result = dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                new ParallelExecutionParameter()
+                        .setBatchSize(2)
+                        .setExecutorService(executorService)
+                        .setDispatchMode(DispatchMode.SLIDING_WINDOW)
+                        .setRequestScheduler(new LlmRequestSchedulerImpl(1, null)),
+                null,
+                null
+        );
+
+        assertEquals(reviewedResultItems, result);
+        assertEquals(1, maxInFlight.get());
+    }
+
+    @Test
+    void dispatch_withTimeout_limitsEachRequestToRemainingReviewTime() {
+        List<Duration> requestTimeouts = Collections.synchronizedList(new ArrayList<>());
+
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            requestTimeouts.add(LlmRequestDeadlineUtils.getRemainingTimeout());
+            return reviewedResultItems.get(prompt.getId().intValue());
+        });
+
+        List<ReviewedResultItem> result = dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                new ParallelExecutionParameter()
+                        .setBatchSize(2)
+                        .setExecutorService(executorService)
+                        .setDispatchMode(DispatchMode.SLIDING_WINDOW),
+                Duration.ofSeconds(30),
+                null
+        );
+
+        assertEquals(reviewedResultItems, result);
+        assertEquals(4, requestTimeouts.size());
+        for (Duration requestTimeout : requestTimeouts) {
+            assertNotNull(requestTimeout);
+            assertTrue(requestTimeout.compareTo(Duration.ofSeconds(30)) <= 0, "Request timeout: " + requestTimeout);
+        }
+    }
+
+    @Test
+    void dispatch_cancelled_stopsDispatchingAndAbandonsRequestsInFlight() {
+        ReviewCancellationTokenImpl cancellationToken = new ReviewCancellationTokenImpl();
+
+        when(llmReviewProcessor.process(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ReviewPrompt prompt = invocation.getArgument(0);
+            if (prompt.getId() == 0L) {
+                cancellationToken.cancel();
+            }
+            // Stands in for a slow request, the worker is interrupted when the dispatch stops
+            Thread.sleep(5_000);
+            return reviewedResultItems.get(prompt.getId().intValue());
+        });
+
+        long startNanos = System.nanoTime();
+        assertThrows(TaskExecutorCancellationException.class, () -> dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                new ParallelExecutionParameter()
+                        .setBatchSize(2)
+                        .setExecutorService(executorService)
+                        .setDispatchMode(DispatchMode.SLIDING_WINDOW)
+                        .setCancellationToken(cancellationToken),
+                null,
+                null
+        ));
+
+        assertTrue(System.nanoTime() - startNanos < TimeUnit.SECONDS.toNanos(4), "Dispatch waited for the requests in flight");
+        // Only the first window was sent
+        verify(llmReviewProcessor, atMost(2)).process(any(), any(), any(), any());
+        assertFalse(Thread.currentThread().isInterrupted());
+    }
+
+    @Test
+    void dispatch_alreadyCancelled_sendsNoRequest() {
+        ReviewCancellationTokenImpl cancellationToken = new ReviewCancellationTokenImpl();
+        cancellationToken.cancel();
+
+        assertThrows(TaskExecutorCancellationException.class, () -> dispatcher.dispatch(
+                true,
+                Collections.singletonList(Collections.singletonList(rule)),
+                Collections.singletonList(Collections.singletonList(resolvedFilePath)),
+                llmChatCompletionConfiguration,
+                messagesMapperConfiguration,
+                llmClient,
+                new ParallelExecutionParameter()
+                        .setBatchSize(2)
+                        .setExecutorService(executorService)
+                        .setDispatchMode(DispatchMode.SLIDING_WINDOW)
+                        .setCancellationToken(cancellationToken),
+                null,
+                null
+        ));
+
+        verify(llmReviewProcessor, never()).process(any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,78 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.exception.LlmTokensQuotaException;
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import com.quasarbyte.llm.codereview.sdk.model.concurrency.FailedPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RetryParameter;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PromptRetryPolicyImplTest {
+
+    @Test
+    void shouldRetry_belowMaxAttempts_returnsTrue() {
+        PromptRetryPolicyImpl retryPolicy = new PromptRetryPolicyImpl(new RetryParameter().setMaxAttempts(3));
+
+        assertTrue(retryPolicy.shouldRetry(1, new IllegalStateException("Invalid JSON response")));
+        assertTrue(retryPolicy.shouldRetry(2, new IllegalStateException("Invalid JSON response")));
+        assertFalse(retryPolicy.shouldRetry(3, new IllegalStateException("Invalid JSON response")));
+    }
+
+    @Test
+    void shouldRetry_quotaExceeded_returnsFalse() {
+        PromptRetryPolicyImpl retryPolicy = new PromptRetryPolicyImpl(new RetryParameter());
+
+        assertFalse(retryPolicy.shouldRetry(1, new LlmTokensQuotaException("Token quota exceeded")));
+        assertFalse(retryPolicy.shouldRetry(1, new LLMCodeReviewRuntimeException("Inference failed", new InterruptedException())));
+    }
+
+    @Test
+    void getBackoffNanos_growsExponentiallyUpToMaxBackoff() {
+        RetryParameter parameter = new RetryParameter()
+                .setInitialBackoff(Duration.ofSeconds(1))
+                .setMaxBackoff(Duration.ofSeconds(5))
+                .setBackoffMultiplier(2.0);
+
+        // Upper bound of the jitter
+        PromptRetryPolicyImpl retryPolicy = new PromptRetryPolicyImpl(parameter, () -> 1.0);
+        assertEquals(TimeUnit.SECONDS.toNanos(1), retryPolicy.getBackoffNanos(1));
+        assertEquals(TimeUnit.SECONDS.toNanos(2), retryPolicy.getBackoffNanos(2));
+        assertEquals(TimeUnit.SECONDS.toNanos(4), retryPolicy.getBackoffNanos(3));
+        assertEquals(TimeUnit.SECONDS.toNanos(5), retryPolicy.getBackoffNanos(4));
+
+        // Lower bound of the jitter
+        retryPolicy = new PromptRetryPolicyImpl(parameter, () -> 0.0);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), retryPolicy.getBackoffNanos(1));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(2500), retryPolicy.getBackoffNanos(4));
+    }
+
+    @Test
+    void onPromptFailed_notifiesListenerAndIgnoresItsExceptions() {
+        List<FailedPrompt> failedPrompts = new ArrayList<>();
+        new PromptRetryPolicyImpl(new RetryParameter().setListener(failedPrompts::add))
+                .onPromptFailed(new FailedPrompt().setAttempts(3));
+
+        assertEquals(1, failedPrompts.size());
+
+        PromptRetryPolicyImpl retryPolicy = new PromptRetryPolicyImpl(new RetryParameter().setListener(failedPrompt -> {
+            throw new IllegalStateException("Report unavailable");
+        }));
+        assertDoesNotThrow(() -> retryPolicy.onPromptFailed(new FailedPrompt()));
+    }
+
+    @Test
+    void constructor_invalidParameter_throwsValidationException() {
+        assertThrows(ValidationException.class, () -> new PromptRetryPolicyImpl(new RetryParameter().setMaxAttempts(0)));
+        assertThrows(ValidationException.class, () -> new PromptRetryPolicyImpl(new RetryParameter().setBackoffMultiplier(0.5)));
+        assertThrows(ValidationException.class, () -> new PromptRetryPolicyImpl(new RetryParameter()
+                .setInitialBackoff(Duration.ofSeconds(10))
+                .setMaxBackoff(Duration.ofSeconds(1))));
+    }
+}
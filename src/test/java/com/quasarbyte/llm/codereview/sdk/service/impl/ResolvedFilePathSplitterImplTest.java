@@ -0,0 +1,77 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.FileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFileGroup;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFileGroupPath;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilePath;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedReviewTarget;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResolvedFilePathSplitterImplTest {
+
+    // Estimated tokens: (size + 1 path character) / 4 + 32 file overhead
+    private static final Map<String, Long> FILE_SIZES = new HashMap<>();
+
+    static {
+        FILE_SIZES.put("a", 4_000L);  // 1032 tokens
+        FILE_SIZES.put("b", 4_000L);  // 1032 tokens
+        FILE_SIZES.put("c", 2_000L);  // 532 tokens
+        FILE_SIZES.put("d", 400L);    // 132 tokens
+        FILE_SIZES.put("e", 12_000L); // 3032 tokens
+    }
+
+    private final ResolvedFilePathSplitterImpl splitter = new ResolvedFilePathSplitterImpl(FILE_SIZES::get);
+
+    @Test
+    void split_withFilesBatchSize_splitsByFileCount() {
+        List<List<String>> batches = split(new FileGroup().setFilesBatchSize(2));
+
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), Arrays.asList("c", "d"), Collections.singletonList("e")), batches);
+    }
+
+    @Test
+    void split_withTokenBudget_packsFilesFirstFitDecreasing() {
+        List<List<String>> batches = split(new FileGroup().setFilesBatchTokenBudget(2_100));
+
+        // "e" exceeds the budget and gets a prompt of its own, "d" does not fit next to "a" and "b"
+        assertEquals(Arrays.asList(Collections.singletonList("e"), Arrays.asList("a", "b"), Arrays.asList("c", "d")), batches);
+    }
+
+    @Test
+    void split_withTokenBudgetAndFilesBatchSize_respectsBothLimits() {
+        List<List<String>> batches = split(new FileGroup().setFilesBatchTokenBudget(10_000).setFilesBatchSize(2));
+
+        assertEquals(Arrays.asList(Arrays.asList("a", "e"), Arrays.asList("b", "c"), Collections.singletonList("d")), batches);
+    }
+
+    @Test
+    void split_withLargeTokenBudget_returnsSingleBatch() {
+        List<List<String>> batches = split(new FileGroup().setFilesBatchTokenBudget(100_000));
+
+        assertEquals(Collections.singletonList(Arrays.asList("a", "b", "c", "d", "e")), batches);
+    }
+
+    private List<List<String>> split(FileGroup fileGroup) {
+        List<ResolvedFilePath> resolvedFilePaths = Arrays.asList("d", "b", "e", "a", "c").stream()
+                .map(path -> new ResolvedFilePath().setResolvedPath(path))
+                .collect(Collectors.toList());
+
+        ResolvedFileGroup resolvedFileGroup = new ResolvedFileGroup()
+                .setFileGroup(fileGroup)
+                .setResolvedFileGroupPaths(Collections.singletonList(new ResolvedFileGroupPath().setResolvedPaths(resolvedFilePaths)));
+
+        return splitter.split(Collections.singletonList(new ResolvedReviewTarget().setResolvedFileGroups(Collections.singletonList(resolvedFileGroup))))
+                .stream()
+                .map(batch -> batch.stream().map(ResolvedFilePath::getResolvedPath).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,47 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.service.ReviewCancellationToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewCancellationTokenImplTest {
+
+    @Test
+    void cancel_runsRegisteredCallbacksOnce() {
+        ReviewCancellationTokenImpl cancellationToken = new ReviewCancellationTokenImpl();
+        AtomicInteger calls = new AtomicInteger();
+        cancellationToken.onCancel(calls::incrementAndGet);
+
+        cancellationToken.cancel();
+        cancellationToken.cancel();
+
+        assertTrue(cancellationToken.isCancelled());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void cancel_closedRegistration_isNotRun() {
+        ReviewCancellationTokenImpl cancellationToken = new ReviewCancellationTokenImpl();
+        AtomicInteger calls = new AtomicInteger();
+        ReviewCancellationToken.Registration registration = cancellationToken.onCancel(calls::incrementAndGet);
+
+        registration.close();
+        cancellationToken.cancel();
+
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void onCancel_alreadyCancelled_runsCallbackRightAway() {
+        ReviewCancellationTokenImpl cancellationToken = new ReviewCancellationTokenImpl();
+        cancellationToken.cancel();
+        AtomicInteger calls = new AtomicInteger();
+
+        cancellationToken.onCancel(calls::incrementAndGet);
+
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,112 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.RuleKey;
+import com.quasarbyte.llm.codereview.sdk.model.SourceFileKey;
+import com.quasarbyte.llm.codereview.sdk.model.context.ReviewRunDetails;
+import com.quasarbyte.llm.codereview.sdk.model.db.PromptDB;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFileJson;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPromptJson;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilePath;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilesRules;
+import com.quasarbyte.llm.codereview.sdk.repository.PromptRepository;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewPromptJsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewPromptCreatorImplTest {
+
+    private static final Long REVIEW_ID = 7L;
+
+    @Mock
+    private PromptRepository promptRepository;
+
+    @Mock
+    private ReviewPromptCombiner reviewPromptCombiner;
+
+    @Mock
+    private ReviewPromptJsonMapper reviewPromptJsonMapper;
+
+    @Mock
+    private ReviewRunContext reviewRunContext;
+
+    private ReviewPromptCreatorImpl reviewPromptCreator;
+
+    @BeforeEach
+    void setUp() {
+        when(reviewRunContext.getRunDetails()).thenReturn(new ReviewRunDetails(false, REVIEW_ID, 2L, null));
+        when(promptRepository.findNotFinishedPromptsByReviewId(REVIEW_ID)).thenReturn(Collections.emptyList());
+        reviewPromptCreator = new ReviewPromptCreatorImpl(promptRepository, reviewPromptCombiner, reviewPromptJsonMapper, null, reviewRunContext);
+    }
+
+    @Test
+    void create_resumedReview_buildsOnlyBatchesWithoutPersistedPrompt() {
+        ResolvedFilesRules first = batch("A.java", "R1");
+        ResolvedFilesRules second = batch("B.java", "R1");
+        ResolvedFilesRules third = batch("C.java", "R1");
+
+        // The batches are resolved in another order than in the interrupted run
+        when(promptRepository.findByReviewId(REVIEW_ID)).thenReturn(Arrays.asList(
+                persistedPrompt("C.java", "R1"),
+                persistedPrompt("A.java", "R1")));
+        ReviewPrompt built = new ReviewPrompt();
+        when(reviewPromptCombiner.create(anyInt(), eq(second), anyBoolean())).thenReturn(built);
+
+        List<ReviewPrompt> reviewPrompts = reviewPromptCreator.create(Arrays.asList(first, second, third), false);
+
+        assertEquals(Collections.singletonList(built), reviewPrompts);
+        verify(reviewPromptCombiner).create(2, second, false);
+        verify(reviewPromptCombiner, never()).create(anyInt(), eq(first), anyBoolean());
+        verify(reviewPromptCombiner, never()).create(anyInt(), eq(third), anyBoolean());
+    }
+
+    @Test
+    void create_resumedReview_countsBatchesWithSameFilesAndRules() {
+        ResolvedFilesRules first = batch("A.java", "R1");
+        ResolvedFilesRules duplicate = batch("A.java", "R1");
+        ResolvedFilesRules otherRule = batch("A.java", "R2");
+
+        when(promptRepository.findByReviewId(REVIEW_ID)).thenReturn(Collections.singletonList(persistedPrompt("A.java", "R1")));
+        when(reviewPromptCombiner.create(anyInt(), eq(duplicate), anyBoolean())).thenReturn(new ReviewPrompt());
+        when(reviewPromptCombiner.create(anyInt(), eq(otherRule), anyBoolean())).thenReturn(new ReviewPrompt());
+
+        List<ReviewPrompt> reviewPrompts = reviewPromptCreator.create(Arrays.asList(first, duplicate, otherRule), false);
+
+        assertEquals(2, reviewPrompts.size());
+        verify(reviewPromptCombiner).create(1, duplicate, false);
+        verify(reviewPromptCombiner).create(2, otherRule, false);
+    }
+
+    private static ResolvedFilesRules batch(String filePath, String ruleCode) {
+        return new ResolvedFilesRules(
+                Collections.singletonList(new ResolvedFilePath().setResolvedPath(filePath)),
+                Collections.singletonList(new Rule().setCode(ruleCode)));
+    }
+
+    private static PromptDB persistedPrompt(String filePath, String ruleCode) {
+        return new PromptDB()
+                .setReviewId(REVIEW_ID)
+                .setReviewPrompt(new ReviewPromptJson()
+                        .setFiles(Collections.singletonList(new PromptFileJson().setSourceFileKey(new SourceFileKey().setFilePath(filePath))))
+                        .setRules(Collections.singletonList(new PromptRule().setRuleKey(new RuleKey(null, ruleCode)))));
+    }
+}
@@ -0,0 +1,138 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.LLMCodeReviewRuntimeException;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.resolved.ResolvedFilesRules;
+import com.quasarbyte.llm.codereview.sdk.service.ResolvedFilePathToPromptMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewPromptProducerPipelineTest {
+
+    @Mock private ResolvedFilePathToPromptMapper resolvedFilePathToPromptMapper;
+
+    private ReviewPromptCombiner reviewPromptCombiner;
+    private List<ResolvedFilesRules> resolvedFilesRulesList;
+
+    @BeforeEach
+    void setUp() {
+        reviewPromptCombiner = new ReviewPromptCombiner(resolvedFilePathToPromptMapper);
+        resolvedFilesRulesList = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            resolvedFilesRulesList.add(new ResolvedFilesRules(Collections.emptyList(), Collections.emptyList()));
+        }
+    }
+
+    @Test
+    void next_returnsBuiltPromptsFirstThenProducedPromptsInOrder() throws InterruptedException {
+        AtomicLong ids = new AtomicLong(100);
+        when(resolvedFilePathToPromptMapper.map(any(), anyBoolean()))
+                .thenAnswer(invocation -> new ReviewPrompt().setId(ids.getAndIncrement()));
+
+        List<ReviewPrompt> builtReviewPrompts = Collections.singletonList(new ReviewPrompt().setId(1L));
+
+        List<Long> producedIds = new ArrayList<>();
+        try (ReviewPromptProducerPipeline pipeline = new ReviewPromptProducerPipeline(
+                reviewPromptCombiner, builtReviewPrompts, resolvedFilesRulesList, 0, false, 1).start()) {
+
+            assertEquals(6, pipeline.size());
+
+            ReviewPrompt reviewPrompt;
+            while ((reviewPrompt = pipeline.next()) != null) {
+                producedIds.add(reviewPrompt.getId());
+            }
+            assertNull(pipeline.next());
+        }
+
+        assertEquals(Arrays.asList(1L, 100L, 101L, 102L, 103L, 104L), producedIds);
+    }
+
+    @Test
+    void next_producerFails_throwsAfterAlreadyProducedPrompts() throws InterruptedException {
+        when(resolvedFilePathToPromptMapper.map(any(), anyBoolean()))
+                .thenReturn(new ReviewPrompt().setId(1L))
+                .thenThrow(new IllegalStateException("File not readable"));
+
+        try (ReviewPromptProducerPipeline pipeline = new ReviewPromptProducerPipeline(
+                reviewPromptCombiner, Collections.emptyList(), resolvedFilesRulesList, 0, false, 2).start()) {
+
+            assertEquals(1L, pipeline.next().getId());
+
+            LLMCodeReviewRuntimeException exception = assertThrows(LLMCodeReviewRuntimeException.class, pipeline::next);
+            assertTrue(exception.getMessage().contains("File not readable"));
+        }
+    }
+
+    @Test
+    void next_producerThrowsError_failsInsteadOfBlocking() {
+        when(resolvedFilePathToPromptMapper.map(any(), anyBoolean()))
+                .thenThrow(new OutOfMemoryError("Java heap space"));
+
+        try (ReviewPromptProducerPipeline pipeline = new ReviewPromptProducerPipeline(
+                reviewPromptCombiner, Collections.emptyList(), resolvedFilesRulesList, 0, false, 2).start()) {
+
+            LLMCodeReviewRuntimeException exception = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                    () -> assertThrows(LLMCodeReviewRuntimeException.class, pipeline::next));
+            assertInstanceOf(OutOfMemoryError.class, exception.getCause());
+        }
+    }
+
+    @Test
+    void close_stopsProducerBeforeAllPromptsAreBuilt() throws InterruptedException {
+        when(resolvedFilePathToPromptMapper.map(any(), anyBoolean()))
+                .thenAnswer(invocation -> new ReviewPrompt().setId(1L));
+
+        ReviewPromptProducerPipeline pipeline = new ReviewPromptProducerPipeline(
+                reviewPromptCombiner, Collections.emptyList(), resolvedFilesRulesList, 0, false, 1).start();
+
+        assertNotNull(pipeline.next());
+        pipeline.close();
+
+        // The bounded queue keeps the producer at most one prompt ahead of the consumer
+        Thread.sleep(100);
+        verify(resolvedFilePathToPromptMapper, atMost(3)).map(any(), anyBoolean());
+    }
+
+    @Test
+    void close_waitsForProducerBuildingPromptToStop() throws InterruptedException {
+        CountDownLatch building = new CountDownLatch(1);
+        AtomicBoolean built = new AtomicBoolean(false);
+        when(resolvedFilePathToPromptMapper.map(any(), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    building.countDown();
+                    // Persisting a prompt is not interruptible
+                    long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(200);
+                    while (System.nanoTime() < end) {
+                        Thread.yield();
+                    }
+                    built.set(true);
+                    return new ReviewPrompt().setId(1L);
+                });
+
+        ReviewPromptProducerPipeline pipeline = new ReviewPromptProducerPipeline(
+                reviewPromptCombiner, Collections.emptyList(), resolvedFilesRulesList, 0, false, 1).start();
+
+        assertTrue(building.await(5, TimeUnit.SECONDS));
+        pipeline.close();
+
+        assertTrue(built.get());
+    }
+}
@@ -0,0 +1,90 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.SourceFile;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.PromptSchedulingPolicy;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RuleSeverityEnum;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFile;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewPromptPipeline;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewPromptSchedulerImplTest {
+
+    @Test
+    void schedule_pipelineOrder_returnsSamePipeline() throws InterruptedException {
+        ReviewPromptPipeline reviewPromptPipeline = new ReviewPromptListPipeline(Collections.singletonList(prompt(0L, 100)));
+
+        assertSame(reviewPromptPipeline, new ReviewPromptSchedulerImpl(PromptSchedulingPolicy.PIPELINE_ORDER).schedule(reviewPromptPipeline));
+    }
+
+    @Test
+    void schedule_longestFirst_ordersByEstimatedCostAndKeepsResultIndexes() throws InterruptedException {
+        List<ReviewPrompt> reviewPrompts = Arrays.asList(prompt(0L, 100), prompt(1L, 10_000), prompt(2L, 1_000), prompt(3L, 1_000));
+
+        ReviewPromptPipeline scheduled = new ReviewPromptSchedulerImpl(PromptSchedulingPolicy.LONGEST_FIRST)
+                .schedule(new ReviewPromptListPipeline(reviewPrompts));
+
+        // Prompts of the same cost keep their pipeline order
+        assertEquals(Arrays.asList(1L, 2L, 3L, 0L), drainIds(scheduled));
+        assertEquals(1, scheduled.getResultIndex(0));
+        assertEquals(2, scheduled.getResultIndex(1));
+        assertEquals(3, scheduled.getResultIndex(2));
+        assertEquals(0, scheduled.getResultIndex(3));
+    }
+
+    @Test
+    void schedule_criticalSeverityFirst_ordersBySeverityThenCost() throws InterruptedException {
+        List<ReviewPrompt> reviewPrompts = Arrays.asList(
+                prompt(0L, 10_000, RuleSeverityEnum.INFO),
+                prompt(1L, 100, RuleSeverityEnum.WARNING, RuleSeverityEnum.CRITICAL),
+                prompt(2L, 1_000),
+                prompt(3L, 1_000, RuleSeverityEnum.CRITICAL));
+
+        ReviewPromptPipeline scheduled = new ReviewPromptSchedulerImpl(PromptSchedulingPolicy.CRITICAL_SEVERITY_FIRST)
+                .schedule(new ReviewPromptListPipeline(reviewPrompts));
+
+        assertEquals(Arrays.asList(3L, 1L, 0L, 2L), drainIds(scheduled));
+    }
+
+    @Test
+    void estimateCost_growsWithFilesAndRules() {
+        ReviewPromptSchedulerImpl scheduler = new ReviewPromptSchedulerImpl(PromptSchedulingPolicy.LONGEST_FIRST);
+
+        long oneRule = scheduler.estimateCost(prompt(0L, 100, RuleSeverityEnum.INFO));
+        long twoRules = scheduler.estimateCost(prompt(0L, 100, RuleSeverityEnum.INFO, RuleSeverityEnum.INFO));
+
+        assertTrue(twoRules > oneRule);
+        assertTrue(scheduler.estimateCost(prompt(0L, 1_000)) > scheduler.estimateCost(prompt(0L, 100)));
+        assertEquals(0, scheduler.estimateCost(null));
+    }
+
+    private static List<Long> drainIds(ReviewPromptPipeline reviewPromptPipeline) throws InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        ReviewPrompt reviewPrompt;
+        while ((reviewPrompt = reviewPromptPipeline.next()) != null) {
+            ids.add(reviewPrompt.getId());
+        }
+        return ids;
+    }
+
+    private static ReviewPrompt prompt(Long id, int contentLength, RuleSeverityEnum... severities) {
+        List<PromptRule> rules = new ArrayList<>();
+        for (RuleSeverityEnum severity : severities) {
+            rules.add(new PromptRule().setDescription("Rule").setSeverity(severity));
+        }
+        return new ReviewPrompt()
+                .setId(id)
+                .setRules(rules)
+                .setFiles(Collections.singletonList(new PromptFile().setSourceFile(new SourceFile()
+                        .setFilePath("src/File" + id + ".java")
+                        .setContent(new byte[contentLength]))));
+    }
+}
@@ -0,0 +1,157 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.RuleKey;
+import com.quasarbyte.llm.codereview.sdk.model.SourceFile;
+import com.quasarbyte.llm.codereview.sdk.model.db.InferenceDB;
+import com.quasarbyte.llm.codereview.sdk.model.db.InferenceStatusEnum;
+import com.quasarbyte.llm.codereview.sdk.model.db.PromptDB;
+import com.quasarbyte.llm.codereview.sdk.model.db.ResolvedFileDB;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RuleSeverityEnum;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFile;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFileJson;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.ReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedComment;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedFile;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedFileJson;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItemJson;
+import com.quasarbyte.llm.codereview.sdk.repository.InferenceRepository;
+import com.quasarbyte.llm.codereview.sdk.repository.PromptRepository;
+import com.quasarbyte.llm.codereview.sdk.repository.ResolvedFileRepository;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultCarryForward;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.ReviewPromptJsonMapper;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.impl.ReviewPromptJsonMapperImpl;
+import com.quasarbyte.llm.codereview.sdk.service.util.HashUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReviewResultCarryForwardImplTest {
+
+    private static final Long REVIEW_ID = 1L;
+    private static final Long PREVIOUS_PROMPT_ID = 10L;
+
+    @Mock private InferenceRepository inferenceRepository;
+    @Mock private PromptRepository promptRepository;
+    @Mock private ResolvedFileRepository resolvedFileRepository;
+
+    private final ReviewPromptJsonMapper reviewPromptJsonMapper = new ReviewPromptJsonMapperImpl();
+
+    private ReviewResultCarryForwardFactoryImpl reviewResultCarryForwardFactory;
+
+    @BeforeEach
+    void setUp() {
+        reviewResultCarryForwardFactory = new ReviewResultCarryForwardFactoryImpl(
+                inferenceRepository, promptRepository, resolvedFileRepository, reviewPromptJsonMapper);
+    }
+
+    @Test
+    void carryForward_unchangedFile_takesPreviousResultAndKeepsChangedFile() {
+        givenPreviousRun("Rule description", InferenceStatusEnum.FINISHED);
+        ReviewResultCarryForward carryForward = reviewResultCarryForwardFactory.create(REVIEW_ID);
+
+        ReviewPrompt prompt = prompt("Rule description", file(3L, "A.java", "a"), file(4L, "B.java", "b changed"));
+        PromptFile unchangedFile = prompt.getFiles().get(0);
+        PromptFile changedFile = prompt.getFiles().get(1);
+
+        ReviewPrompt result = carryForward.carryForward(prompt);
+
+        assertEquals(Collections.singletonList(changedFile), result.getFiles());
+        assertEquals(1, result.getCarriedForwardFiles().size());
+        ReviewedFile carriedForwardFile = result.getCarriedForwardFiles().get(0);
+        assertSame(unchangedFile, carriedForwardFile.getPromptFile());
+        assertEquals("Issue in A", carriedForwardFile.getComments().get(0).getMessage());
+    }
+
+    @Test
+    void carryForward_changedRule_reviewsAllFilesAgain() {
+        givenPreviousRun("Rule description", InferenceStatusEnum.FINISHED);
+        ReviewResultCarryForward carryForward = reviewResultCarryForwardFactory.create(REVIEW_ID);
+
+        ReviewPrompt result = carryForward.carryForward(prompt("Changed rule description", file(3L, "A.java", "a"), file(4L, "B.java", "b")));
+
+        assertEquals(2, result.getFiles().size());
+        assertNull(result.getCarriedForwardFiles());
+    }
+
+    @Test
+    void carryForward_failedPreviousInference_reviewsAllFilesAgain() {
+        givenPreviousRun("Rule description", InferenceStatusEnum.FAILED);
+        ReviewResultCarryForward carryForward = reviewResultCarryForwardFactory.create(REVIEW_ID);
+
+        ReviewPrompt result = carryForward.carryForward(prompt("Rule description", file(3L, "A.java", "a"), file(4L, "B.java", "b")));
+
+        assertEquals(2, result.getFiles().size());
+        assertNull(result.getCarriedForwardFiles());
+    }
+
+    /**
+     * The previous run reviewed A.java with content "a" and B.java with content "b" in prompt 10.
+     */
+    private void givenPreviousRun(String ruleDescription, InferenceStatusEnum status) {
+        ReviewPrompt previousPrompt = prompt(ruleDescription, file(1L, "A.java", "a"), file(2L, "B.java", "b"));
+
+        when(promptRepository.findByReviewId(REVIEW_ID)).thenReturn(Collections.singletonList(new PromptDB()
+                .setId(PREVIOUS_PROMPT_ID)
+                .setReviewId(REVIEW_ID)
+                .setReviewPrompt(reviewPromptJsonMapper.toJson(previousPrompt))));
+
+        when(resolvedFileRepository.findByReviewId(REVIEW_ID)).thenReturn(Arrays.asList(
+                resolvedFile(1L, "A.java", "a"),
+                resolvedFile(2L, "B.java", "b")));
+
+        when(inferenceRepository.findByReviewId(REVIEW_ID)).thenReturn(Collections.singletonList(new InferenceDB()
+                .setId(100L)
+                .setReviewId(REVIEW_ID)
+                .setPromptId(PREVIOUS_PROMPT_ID)
+                .setStatus(status)
+                .setReviewedResultItem(new ReviewedResultItemJson().setFiles(Arrays.asList(
+                        reviewedFile(1L, Collections.singletonList(new ReviewedComment().setRuleId(5L).setMessage("Issue in A"))),
+                        reviewedFile(2L, Collections.emptyList()))))));
+    }
+
+    private static ReviewPrompt prompt(String ruleDescription, PromptFile... files) {
+        return new ReviewPrompt()
+                .setUseReasoning(false)
+                .setSystemPromptTexts(Collections.singletonList("System prompt"))
+                .setRules(Collections.singletonList(new PromptRule()
+                        .setRuleKey(new RuleKey(5L, "R1"))
+                        .setDescription(ruleDescription)
+                        .setSeverity(RuleSeverityEnum.WARNING)))
+                .setFiles(Arrays.asList(files));
+    }
+
+    private static PromptFile file(Long id, String filePath, String content) {
+        return new PromptFile()
+                .setId(id)
+                .setSourceFile(new SourceFile()
+                        .setFileName(filePath)
+                        .setFilePath(filePath)
+                        .setContent(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static ResolvedFileDB resolvedFile(Long id, String filePath, String content) {
+        return new ResolvedFileDB()
+                .setId(id)
+                .setReviewId(REVIEW_ID)
+                .setFilePath(filePath)
+                .setContentHash(HashUtils.sha256Hex(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static ReviewedFileJson reviewedFile(Long promptFileId, List<ReviewedComment> comments) {
+        return new ReviewedFileJson()
+                .setPromptFile(new PromptFileJson().setId(promptFileId))
+                .setComments(comments);
+    }
+}
@@ -0,0 +1,90 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.SourceFile;
+import com.quasarbyte.llm.codereview.sdk.model.context.ReviewRunDetails;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptFile;
+import com.quasarbyte.llm.codereview.sdk.model.review.ReviewResultItem;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedComment;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedFile;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedResultItem;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewResultListener;
+import com.quasarbyte.llm.codereview.sdk.service.ReviewRunContext;
+import com.quasarbyte.llm.codereview.sdk.service.mapper.impl.ReviewResultItemMapperImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewResultPublisherImplTest {
+
+    private ReviewRunContext reviewRunContext;
+    private ReviewResultPublisherImpl publisher;
+
+    @BeforeEach
+    void setUp() {
+        reviewRunContext = new ReviewRunContextImpl();
+        publisher = new ReviewResultPublisherImpl(new ReviewResultAggregatorImpl(), new ReviewResultItemMapperImpl(), reviewRunContext);
+    }
+
+    @Test
+    void publish_withListener_emitsRawItemAndCommentsAggregatedPerFile() {
+        List<ReviewedResultItem> reviewedResultItems = new ArrayList<>();
+        List<ReviewResultItem> reviewResultItems = new ArrayList<>();
+
+        reviewRunContext.setReviewRunDetails(new ReviewRunDetails(true, 1L, 1L, null, new ReviewResultListener() {
+            @Override
+            public void onReviewedResultItem(ReviewedResultItem reviewedResultItem) {
+                reviewedResultItems.add(reviewedResultItem);
+            }
+
+            @Override
+            public void onReviewResultItems(List<ReviewResultItem> items) {
+                reviewResultItems.addAll(items);
+            }
+        }));
+
+        ReviewedResultItem reviewedResultItem = new ReviewedResultItem().setFiles(Arrays.asList(
+                reviewedFile("src/B.java", "b1"),
+                reviewedFile("src/A.java", "a1"),
+                reviewedFile("src/A.java", "a2")));
+
+        publisher.publish(reviewedResultItem);
+
+        assertEquals(Collections.singletonList(reviewedResultItem), reviewedResultItems);
+        assertEquals(2, reviewResultItems.size());
+        assertEquals("src/A.java", reviewResultItems.get(0).getFile().getFilePath());
+        assertEquals(2, reviewResultItems.get(0).getComments().size());
+        assertEquals("src/B.java", reviewResultItems.get(1).getFile().getFilePath());
+        assertEquals("b1", reviewResultItems.get(1).getComments().get(0).getMessage());
+    }
+
+    @Test
+    void publish_listenerThrows_doesNotPropagate() {
+        reviewRunContext.setReviewRunDetails(new ReviewRunDetails(true, 1L, 1L, null, new ReviewResultListener() {
+            @Override
+            public void onReviewedResultItem(ReviewedResultItem reviewedResultItem) {
+                throw new IllegalStateException("PR system unavailable");
+            }
+        }));
+
+        assertDoesNotThrow(() -> publisher.publish(new ReviewedResultItem().setFiles(Collections.emptyList())));
+    }
+
+    @Test
+    void publish_withoutListener_doesNothing() {
+        reviewRunContext.setReviewRunDetails(new ReviewRunDetails(true, 1L, 1L, null));
+
+        assertDoesNotThrow(() -> publisher.publish(new ReviewedResultItem()));
+    }
+
+    private static ReviewedFile reviewedFile(String filePath, String message) {
+        return new ReviewedFile()
+                .setPromptFile(new PromptFile().setSourceFile(new SourceFile().setFilePath(filePath)))
+                .setComments(Collections.singletonList(new ReviewedComment().setMessage(message)));
+    }
+}
@@ -1,17 +1,24 @@
 package com.quasarbyte.llm.codereview.sdk.service.impl;
 
+import com.quasarbyte.llm.codereview.sdk.model.RuleKey;
 import com.quasarbyte.llm.codereview.sdk.model.configuration.LlmMessagesMapperConfigurationRhino;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmFile;
+import com.quasarbyte.llm.codereview.sdk.model.llm.LlmFileMetadata;
 import com.quasarbyte.llm.codereview.sdk.model.llm.LlmMessage;
 import com.quasarbyte.llm.codereview.sdk.model.llm.LlmMessageRoleEnum;
 import com.quasarbyte.llm.codereview.sdk.model.llm.LlmMessages;
 import com.quasarbyte.llm.codereview.sdk.model.llm.LlmReviewPrompt;
+import com.quasarbyte.llm.codereview.sdk.model.prompt.PromptRule;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class RhinoLlmMessagesMapperImplTest {
 
@@ -63,4 +70,39 @@ class RhinoLlmMessagesMapperImplTest {
         assertEquals(LlmMessageRoleEnum.USER, messages.get(3).getRole());
         assertEquals("User: UserText2", messages.get(3).getContent());
     }
+
+    @Test
+    void testMap_withCacheFriendlyConfiguration_putsSharedContentFirstAndFilesLast() {
+        LlmMessagesMapperConfigurationRhino rhinoConfig = new LlmMessMapperRhinoConfigRepositoryFactoryImpl()
+                .create()
+                .findCacheFriendlyConfiguration();
+
+        LlmReviewPrompt prompt = new LlmReviewPrompt()
+                .setSystemPromptTexts(Collections.singletonList("System"))
+                .setReviewPromptTexts(Collections.singletonList("Review"))
+                .setReviewTargetPromptTexts(Collections.singletonList("Target"))
+                .setFileGroupPromptTexts(Collections.singletonList("FileGroup"))
+                .setRules(Collections.singletonList(new PromptRule()
+                        .setRuleKey(new RuleKey(1L, "R1"))
+                        .setDescription("Rule")))
+                .setFiles(Collections.singletonList(new LlmFile()
+                        .setId(1L)
+                        .setMetadata(new LlmFileMetadata().setFileName("Main.java").setFileNameExtension("java"))
+                        .setContent("class Main {}")));
+
+        RhinoLlmMessagesMapperImpl service = new RhinoLlmMessagesMapperImpl();
+
+        List<String> contents = service.map(prompt, rhinoConfig).getMessages().stream()
+                .map(LlmMessage::getContent)
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList("System", "Review", "The code review rules:", "[{\"id\":1,\"code\":\"R1\",\"description\":\"Rule\"}]",
+                "Target", "FileGroup"), contents.subList(0, 6));
+        assertTrue(contents.get(contents.size() - 1).contains("class Main {}"));
+
+        // The same prompt is mapped to the same bytes
+        assertEquals(contents, service.map(prompt, rhinoConfig).getMessages().stream()
+                .map(LlmMessage::getContent)
+                .collect(Collectors.toList()));
+    }
 }
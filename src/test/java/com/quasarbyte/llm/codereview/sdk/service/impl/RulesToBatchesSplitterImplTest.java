@@ -0,0 +1,69 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.model.parameter.Rule;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RuleSeverityEnum;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.RulesBatchGrouping;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RulesToBatchesSplitterImplTest {
+
+    private final RulesToBatchesSplitterImpl splitter = new RulesToBatchesSplitterImpl();
+
+    // Estimated tokens: description length / 4 + 16 rule overhead
+    private final List<Rule> rules = Arrays.asList(
+            rule("SEC-1", RuleSeverityEnum.CRITICAL, 400),  // 116 tokens
+            rule("STY-1", RuleSeverityEnum.INFO, 40),       // 26 tokens
+            rule("SEC-2", RuleSeverityEnum.WARNING, 800),   // 216 tokens
+            rule("STY-2", RuleSeverityEnum.INFO, 40),       // 26 tokens
+            rule("PERF1", RuleSeverityEnum.CRITICAL, 2000)  // 516 tokens
+    );
+
+    @Test
+    void split_withBatchSizeOnly_splitsByCount() {
+        assertEquals(Arrays.asList(Arrays.asList("SEC-1", "STY-1"), Arrays.asList("SEC-2", "STY-2"), Collections.singletonList("PERF1")),
+                codes(splitter.split(rules, 2, null, null)));
+    }
+
+    @Test
+    void split_withTokenBudget_packsRulesFirstFitDecreasingAndKeepsRuleOrder() {
+        // PERF1 exceeds the budget, SEC-1 does not fit next to SEC-2, the short rules fill the batch of SEC-2
+        assertEquals(Arrays.asList(Collections.singletonList("PERF1"), Arrays.asList("STY-1", "SEC-2", "STY-2"), Collections.singletonList("SEC-1")),
+                codes(splitter.split(rules, null, 300, RulesBatchGrouping.NONE)));
+    }
+
+    @Test
+    void split_withTokenBudgetAndSeverityGrouping_neverMixesSeverities() {
+        assertEquals(Arrays.asList(Collections.singletonList("PERF1"), Collections.singletonList("SEC-1"), Arrays.asList("STY-1", "STY-2"), Collections.singletonList("SEC-2")),
+                codes(splitter.split(rules, null, 300, RulesBatchGrouping.SEVERITY)));
+    }
+
+    @Test
+    void split_withCodePrefixGrouping_groupsRulesByCodePrefix() {
+        assertEquals(Arrays.asList(Arrays.asList("SEC-1", "SEC-2"), Arrays.asList("STY-1", "STY-2"), Collections.singletonList("PERF1")),
+                codes(splitter.split(rules, null, null, RulesBatchGrouping.CODE_PREFIX)));
+    }
+
+    @Test
+    void split_emptyRules_returnsEmptyList() {
+        assertTrue(splitter.split(Collections.emptyList(), null, 300, RulesBatchGrouping.SEVERITY).isEmpty());
+    }
+
+    private static List<List<String>> codes(List<List<Rule>> batches) {
+        return batches.stream()
+                .map(batch -> batch.stream().map(Rule::getCode).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+    }
+
+    private static Rule rule(String code, RuleSeverityEnum severity, int descriptionLength) {
+        char[] description = new char[descriptionLength];
+        Arrays.fill(description, 'x');
+        return new Rule().setCode(code).setSeverity(severity).setDescription(new String(description));
+    }
+}
@@ -0,0 +1,99 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ThreadPerTaskExecutorFactoryImplTest {
+
+    private final ThreadPerTaskExecutorFactoryImpl factory = new ThreadPerTaskExecutorFactoryImpl();
+
+    @Test
+    void create_runsConcurrentTasksOnThreadsOfTheirOwn() throws Exception {
+        ExecutorService executorService = factory.create("test-task-");
+        try {
+            int taskCount = 8;
+            CountDownLatch allStarted = new CountDownLatch(taskCount);
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+            for (int i = 0; i < taskCount; i++) {
+                executorService.execute(() -> {
+                    threadNames.add(Thread.currentThread().getName());
+                    allStarted.countDown();
+                    try {
+                        // Blocks until all tasks run at the same time, so no thread is reused
+                        allStarted.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            assertTrue(allStarted.await(5, TimeUnit.SECONDS));
+            assertEquals(taskCount, threadNames.size());
+            assertTrue(threadNames.stream().allMatch(name -> name.startsWith("test-task-")));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void create_threadsInheritInheritableThreadLocals() throws Exception {
+        InheritableThreadLocal<String> reviewContext = new InheritableThreadLocal<>();
+        reviewContext.set("review-1");
+
+        ExecutorService executorService = factory.create("test-task-");
+        try {
+            Future<String> future = executorService.submit(reviewContext::get);
+            assertEquals("review-1", future.get(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+            reviewContext.remove();
+        }
+    }
+
+    @Test
+    void createThreadFactory_createsNamedThreadsInheritingInheritableThreadLocals() throws Exception {
+        InheritableThreadLocal<String> reviewContext = new InheritableThreadLocal<>();
+        reviewContext.set("review-1");
+
+        try {
+            AtomicReference<String> inheritedContext = new AtomicReference<>();
+            Thread thread = factory.createThreadFactory("test-producer-").newThread(() -> inheritedContext.set(reviewContext.get()));
+            thread.start();
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+
+            assertTrue(thread.getName().startsWith("test-producer-"));
+            assertTrue(thread.isDaemon());
+            assertEquals("review-1", inheritedContext.get());
+        } finally {
+            reviewContext.remove();
+        }
+    }
+
+    /**
+     * Run by the test-java21 execution of the multi-release-java21 profile, which puts the Java 21 classes first.
+     */
+    @Test
+    void create_onJava21Layer_runsTasksOnVirtualThreads() throws Exception {
+        assumeTrue(Boolean.getBoolean("test.java21.layer"), "Java 21 layer of the multi-release JAR not built");
+
+        ExecutorService executorService = factory.create("test-task-");
+        try {
+            Future<Boolean> future = executorService.submit(() -> (Boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+            assertTrue(factory.isVirtual());
+            assertTrue(future.get(5, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
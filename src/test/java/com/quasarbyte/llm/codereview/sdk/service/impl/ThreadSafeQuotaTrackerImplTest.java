@@ -0,0 +1,116 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.LlmTokensQuotaException;
+import com.quasarbyte.llm.codereview.sdk.model.parameter.LlmTokensQuota;
+import com.quasarbyte.llm.codereview.sdk.model.reviewed.ReviewedCompletionUsage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ThreadSafeQuotaTrackerImplTest {
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(16);
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void reserve_withinQuota_addsEstimateToCurrentUsage() {
+        ThreadSafeQuotaTrackerImpl quotaTracker = new ThreadSafeQuotaTrackerImpl();
+
+        quotaTracker.reserve(usage(100, 50), new LlmTokensQuota().setTotalTokens(1_000L));
+
+        assertUsage(quotaTracker.getCurrentUsage(), 100, 50);
+    }
+
+    @Test
+    void reserve_exceedingQuota_throwsAndReservesNothing() {
+        ThreadSafeQuotaTrackerImpl quotaTracker = new ThreadSafeQuotaTrackerImpl();
+        LlmTokensQuota quota = new LlmTokensQuota().setTotalTokens(1_000L);
+        quotaTracker.reserve(usage(600, 0), quota);
+
+        assertThrows(LlmTokensQuotaException.class, () -> quotaTracker.reserve(usage(300, 200), quota));
+
+        assertUsage(quotaTracker.getCurrentUsage(), 600, 0);
+    }
+
+    @Test
+    void reconcile_replacesReservationByActualUsage() {
+        ThreadSafeQuotaTrackerImpl quotaTracker = new ThreadSafeQuotaTrackerImpl();
+        ReviewedCompletionUsage reservedUsage = quotaTracker.reserve(usage(500, 400), new LlmTokensQuota().setTotalTokens(1_000L));
+
+        quotaTracker.reconcile(reservedUsage, usage(450, 120));
+
+        assertUsage(quotaTracker.getCurrentUsage(), 450, 120);
+    }
+
+    @Test
+    void reconcile_withoutActualUsage_releasesReservation() {
+        ThreadSafeQuotaTrackerImpl quotaTracker = new ThreadSafeQuotaTrackerImpl();
+        LlmTokensQuota quota = new LlmTokensQuota().setTotalTokens(1_000L);
+        ReviewedCompletionUsage reservedUsage = quotaTracker.reserve(usage(900, 0), quota);
+
+        quotaTracker.reconcile(reservedUsage, null);
+
+        assertUsage(quotaTracker.getCurrentUsage(), 0, 0);
+        // The released tokens are available for the next request
+        assertDoesNotThrow(() -> quotaTracker.reserve(usage(900, 0), quota));
+    }
+
+    @Test
+    void reserve_concurrentRequests_neverExceedQuota() throws Exception {
+        ThreadSafeQuotaTrackerImpl quotaTracker = new ThreadSafeQuotaTrackerImpl();
+        LlmTokensQuota quota = new LlmTokensQuota().setTotalTokens(10_000L);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            futures.add(executorService.submit(() -> {
+                start.await();
+                try {
+                    quotaTracker.reserve(usage(700, 300), quota);
+                    reserved.incrementAndGet();
+                } catch (LlmTokensQuotaException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+
+        // Checking the accumulated usage only would have let all 64 requests through
+        assertEquals(10, reserved.get());
+        assertEquals(54, rejected.get());
+        assertEquals(10_000L, quotaTracker.getCurrentUsage().getTotalTokens());
+    }
+
+    private static ReviewedCompletionUsage usage(long promptTokens, long completionTokens) {
+        return new ReviewedCompletionUsage()
+                .setPromptTokens(promptTokens)
+                .setCompletionTokens(completionTokens)
+                .setTotalTokens(promptTokens + completionTokens);
+    }
+
+    private static void assertUsage(ReviewedCompletionUsage usage, long promptTokens, long completionTokens) {
+        assertEquals(promptTokens, usage.getPromptTokens());
+        assertEquals(completionTokens, usage.getCompletionTokens());
+        assertEquals(promptTokens + completionTokens, usage.getTotalTokens());
+    }
+}
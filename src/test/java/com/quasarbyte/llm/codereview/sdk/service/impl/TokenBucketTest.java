@@ -0,0 +1,71 @@
+package com.quasarbyte.llm.codereview.sdk.service.impl;
+
+import com.quasarbyte.llm.codereview.sdk.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenBucketTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    void reserve_withinCapacity_doesNotWait() {
+        TokenBucket bucket = new TokenBucket(60, clock::get);
+
+        for (int i = 0; i < 60; i++) {
+            assertEquals(0, bucket.reserve(1));
+        }
+        assertEquals(0, bucket.getAvailable());
+    }
+
+    @Test
+    void reserve_overCapacity_waitsForRefill() {
+        TokenBucket bucket = new TokenBucket(60, clock::get);
+
+        bucket.reserve(60);
+
+        // 60 per minute refills one permit per second
+        assertEquals(TimeUnit.SECONDS.toNanos(1), bucket.reserve(1), 1000);
+        // The next caller queues up behind the previous debt
+        assertEquals(TimeUnit.SECONDS.toNanos(2), bucket.reserve(1), 1000);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertEquals(0, bucket.reserve(0));
+    }
+
+    @Test
+    void adjust_returnsUnusedPermitsButNeverAboveCapacity() {
+        TokenBucket bucket = new TokenBucket(1000, clock::get);
+
+        bucket.reserve(800);
+        bucket.adjust(300);
+        assertEquals(500, bucket.getAvailable());
+
+        bucket.adjust(10_000);
+        assertEquals(1000, bucket.getAvailable());
+
+        bucket.adjust(-1500);
+        assertTrue(bucket.reserve(1) > 0);
+    }
+
+    @Test
+    void getAvailable_refillsUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(120, clock::get);
+
+        bucket.reserve(120);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(15));
+        assertEquals(30, bucket.getAvailable());
+
+        clock.addAndGet(TimeUnit.MINUTES.toNanos(5));
+        assertEquals(120, bucket.getAvailable());
+    }
+
+    @Test
+    void constructor_zeroCapacity_throwsValidationException() {
+        assertThrows(ValidationException.class, () -> new TokenBucket(0));
+    }
+}
@@ -0,0 +1,60 @@
+package com.quasarbyte.llm.codereview.sdk.service.util;
+
+import com.quasarbyte.llm.codereview.sdk.exception.TaskExecutorTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LlmRequestDeadlineUtilsTest {
+
+    @AfterEach
+    void tearDown() {
+        LlmRequestDeadlineUtils.setDeadline(null);
+    }
+
+    @Test
+    void getRemainingTimeout_withoutDeadline_returnsNull() {
+        assertNull(LlmRequestDeadlineUtils.getRemainingTimeout());
+    }
+
+    @Test
+    void getRemainingTimeout_withDeadline_returnsTimeLeft() {
+        LlmRequestDeadlineUtils.setDeadline(Instant.now().plusSeconds(30));
+
+        Duration remaining = LlmRequestDeadlineUtils.getRemainingTimeout();
+
+        assertNotNull(remaining);
+        assertTrue(remaining.compareTo(Duration.ofSeconds(30)) <= 0);
+        assertTrue(remaining.compareTo(Duration.ofSeconds(25)) > 0);
+    }
+
+    @Test
+    void getRemainingTimeout_deadlinePassed_throwsTaskExecutorTimeoutException() {
+        LlmRequestDeadlineUtils.setDeadline(Instant.now().minusMillis(1));
+
+        assertThrows(TaskExecutorTimeoutException.class, LlmRequestDeadlineUtils::getRemainingTimeout);
+    }
+
+    @Test
+    void isExpired_onlyOnceTheDeadlineHasPassed() {
+        assertFalse(LlmRequestDeadlineUtils.isExpired(null));
+        assertFalse(LlmRequestDeadlineUtils.isExpired(Instant.now().plusSeconds(30)));
+        assertTrue(LlmRequestDeadlineUtils.isExpired(Instant.now().minusMillis(1)));
+    }
+
+    @Test
+    void setDeadline_returnsPreviousDeadlineForRestore() {
+        Instant outerDeadline = Instant.now().plusSeconds(60);
+        LlmRequestDeadlineUtils.setDeadline(outerDeadline);
+
+        Instant previousDeadline = LlmRequestDeadlineUtils.setDeadline(Instant.now().plusSeconds(10));
+        LlmRequestDeadlineUtils.setDeadline(previousDeadline);
+
+        assertEquals(outerDeadline, previousDeadline);
+        assertTrue(LlmRequestDeadlineUtils.getRemainingTimeout().compareTo(Duration.ofSeconds(10)) > 0);
+    }
+}
@@ -0,0 +1,145 @@
+package com.quasarbyte.llm.codereview.sdk.service.util;
+
+import com.quasarbyte.llm.codereview.sdk.model.diff.DiffHunk;
+import com.quasarbyte.llm.codereview.sdk.model.diff.FileDiff;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UnifiedDiffUtilsTest {
+
+    private static final Path REPOSITORY_ROOT = Paths.get("repo").toAbsolutePath().normalize();
+
+    private static final String DIFF = String.join("\n",
+            "diff --git src/Main.java src/Main.java",
+            "index 1111111..2222222 100644",
+            "--- src/Main.java",
+            "+++ src/Main.java",
+            "@@ -1,4 +1,5 @@",
+            " package demo;",
+            "-import java.util.List;",
+            "+import java.util.ArrayList;",
+            "+import java.util.List;",
+            " ",
+            " class Main {",
+            "@@ -10,3 +11,2 @@ class Main {",
+            "     void run() {",
+            "-        log();",
+            "     }",
+            "\\ No newline at end of file",
+            "diff --git old.txt old.txt",
+            "deleted file mode 100644",
+            "--- old.txt",
+            "+++ /dev/null",
+            "@@ -1 +0,0 @@",
+            "-gone",
+            "diff --git logo.png logo.png",
+            "Binary files logo.png and logo.png differ",
+            "");
+
+    @Test
+    void parse_mapsHunksToNewFileLines() {
+        Map<String, FileDiff> fileDiffs = UnifiedDiffUtils.parse(DIFF, REPOSITORY_ROOT);
+
+        String path = REPOSITORY_ROOT.resolve("src/Main.java").toString();
+        assertEquals(1, fileDiffs.size());
+        assertEquals(path, fileDiffs.get(path).getFilePath());
+
+        DiffHunk first = fileDiffs.get(path).getHunks().get(0);
+        assertEquals(1, first.getStartLine());
+        assertEquals(Arrays.asList("package demo;", "import java.util.ArrayList;", "import java.util.List;", "", "class Main {"), first.getLines());
+        assertEquals(new TreeSet<>(Arrays.asList(2, 3)), first.getChangedLines());
+        assertEquals(new TreeSet<>(Arrays.asList(2)), first.getRemovedLines());
+
+        // The removed line is recorded before the line that took its place, which itself is unchanged
+        DiffHunk second = fileDiffs.get(path).getHunks().get(1);
+        assertEquals(11, second.getStartLine());
+        assertEquals(Arrays.asList("    void run() {", "    }"), second.getLines());
+        assertTrue(second.getChangedLines().isEmpty());
+        assertEquals(new TreeSet<>(Arrays.asList(12)), second.getRemovedLines());
+    }
+
+    @Test
+    void parse_quotedPathWithTab_isUnquoted() {
+        String diff = String.join("\n",
+                "+++ \"dir/my file.txt\"\t",
+                "@@ -0,0 +1 @@",
+                "+hello");
+
+        Map<String, FileDiff> fileDiffs = UnifiedDiffUtils.parse(diff, REPOSITORY_ROOT);
+
+        assertTrue(fileDiffs.containsKey(REPOSITORY_ROOT.resolve("dir/my file.txt").toString()));
+    }
+
+    @Test
+    void parse_quotedPathWithEscapes_isUnescaped() {
+        String diff = String.join("\n",
+                "+++ \"dir/a\\tb \\\"c\\\" \\\\.txt\"",
+                "@@ -0,0 +1 @@",
+                "+hello");
+
+        Map<String, FileDiff> fileDiffs = UnifiedDiffUtils.parse(diff, REPOSITORY_ROOT);
+
+        assertTrue(fileDiffs.containsKey(REPOSITORY_ROOT.resolve("dir/a\tb \"c\" \\.txt").toString()), fileDiffs.keySet().toString());
+    }
+
+    @Test
+    void unquote_octalEscapedBytes_areDecodedAsUtf8() {
+        assertEquals("dir/\u00e4.txt", UnifiedDiffUtils.unquote("\"dir/\\303\\244.txt\""));
+    }
+
+    @Test
+    void parse_repositoryReachedThroughSymlink_isKeyedByRealPath(@TempDir Path tempDir) throws IOException {
+        Path repository = Files.createDirectories(tempDir.resolve("repository"));
+        Files.write(repository.resolve("Main.java"), "class Main {}".getBytes());
+        Path link = Files.createSymbolicLink(tempDir.resolve("link"), repository);
+        String diff = String.join("\n",
+                "+++ Main.java",
+                "@@ -0,0 +1 @@",
+                "+class Main {}");
+
+        Map<String, FileDiff> fileDiffs = UnifiedDiffUtils.parse(diff, link);
+
+        // The review target may name the file through the link or directly
+        assertTrue(fileDiffs.containsKey(UnifiedDiffUtils.toFileDiffKey(link.resolve("Main.java").toString())));
+        assertTrue(fileDiffs.containsKey(UnifiedDiffUtils.toFileDiffKey(repository.resolve("Main.java").toString())));
+    }
+
+    @Test
+    void toHunksContent_marksRemovalWithoutMarkingFollowingLineAsChanged() {
+        DiffHunk hunk = new DiffHunk()
+                .setStartLine(11)
+                .setLines(Arrays.asList("    void run() {", "    }"))
+                .setChangedLines(new TreeSet<>())
+                .setRemovedLines(new TreeSet<>(Arrays.asList(12, 13)));
+
+        String content = UnifiedDiffUtils.toHunksContent(Arrays.asList(hunk));
+
+        assertTrue(content.contains("@@ line 11 @@\n11       void run() {\n- (lines removed)\n12       }\n- (lines removed)\n"), content);
+        assertTrue(UnifiedDiffUtils.isChangedLine(Arrays.asList(hunk), 12));
+        assertFalse(UnifiedDiffUtils.isChangedLine(Arrays.asList(hunk), 11));
+    }
+
+    @Test
+    void toHunksContent_prefixesLinesWithLineNumbersAndMarksChangedLines() {
+        DiffHunk hunk = new DiffHunk()
+                .setStartLine(7)
+                .setLines(Arrays.asList("a", "b"))
+                .setChangedLines(new TreeSet<>(Arrays.asList(8)));
+
+        String content = UnifiedDiffUtils.toHunksContent(Arrays.asList(hunk));
+
+        assertTrue(content.contains("@@ line 7 @@\n7   a\n8 + b\n"), content);
+        assertTrue(UnifiedDiffUtils.isChangedLine(Arrays.asList(hunk), 8));
+        assertFalse(UnifiedDiffUtils.isChangedLine(Arrays.asList(hunk), 7));
+    }
+}